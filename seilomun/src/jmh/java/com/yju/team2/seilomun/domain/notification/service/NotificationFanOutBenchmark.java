@@ -0,0 +1,159 @@
+package com.yju.team2.seilomun.domain.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.yju.team2.seilomun.domain.notification.dto.NotificationDto;
+import com.yju.team2.seilomun.domain.notification.dto.NotificationMessage;
+import com.yju.team2.seilomun.domain.notification.entity.Notification;
+import com.yju.team2.seilomun.domain.notification.repository.NotificationBulkRepository;
+import com.yju.team2.seilomun.domain.notification.repository.NotificationReplayBuffer;
+import com.yju.team2.seilomun.domain.notification.repository.SseEmitterRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수신자 10,000명 알림 팬아웃 비교
+ * - 저장: 한 건씩 INSERT(IDENTITY saveAll과 같은 방식) vs JDBC 배치 일괄 저장 (H2 메모리 DB, MySQL 모드)
+ * - 발행: 공용 채널에 수신자마다 메시지 1개(기존, 모든 서버가 받음) vs 연결 서버 채널별로 묶은 메시지 (서버 3대에 고르게 연결된 상태)
+ * 발행 벤치마크는 로컬 Redis가 필요함 (-Dredis.host, -Dredis.port 로 변경 가능)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationFanOutBenchmark {
+
+    private static final int RECIPIENTS = 10_000;
+    private static final int SERVERS = 3;
+    private static final String BROADCAST_CHANNEL = "notification:channel";
+    private static final String INSERT_SQL = "INSERT INTO notifications " +
+            "(content, is_visible, recipient_type, recipient_id, sender_type, sender_id, is_read, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private JdbcTemplate jdbcTemplate;
+    private NotificationBulkRepository notificationBulkRepository;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private NotificationService notificationService;
+    private List<Notification> notifications;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:fanout;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE notifications (no_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "content VARCHAR(255) NOT NULL, is_visible CHAR(1) NOT NULL, recipient_type CHAR(1) NOT NULL, " +
+                "recipient_id BIGINT NOT NULL, sender_type CHAR(1) NOT NULL, sender_id BIGINT NOT NULL, " +
+                "is_read CHAR(1) NOT NULL, created_at TIMESTAMP NOT NULL)");
+        notificationBulkRepository = new NotificationBulkRepository(jdbcTemplate);
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                System.getProperty("redis.host", "localhost"), Integer.getInteger("redis.port", 6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(StringRedisSerializer.UTF_8);
+        redisTemplate.afterPropertiesSet();
+
+        notificationService = new NotificationService(new SseEmitterRepository(redisTemplate), null, null,
+                redisTemplate, objectMapper, null, notificationBulkRepository, null, new NotificationReplayBuffer(redisTemplate));
+
+        notifications = new ArrayList<>(RECIPIENTS);
+        for (long recipientId = 1; recipientId <= RECIPIENTS; recipientId++) {
+            notifications.add(Notification.builder()
+                    .id(recipientId)
+                    .content("관심 상품 '마감 도시락'의 상태가 변경되었습니다.")
+                    .isVisible('Y')
+                    .recipientType('C')
+                    .recipientId(recipientId)
+                    .senderType('S')
+                    .senderId(1L)
+                    .isRead('N')
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (long recipientId = 1; recipientId <= RECIPIENTS; recipientId++) {
+                connection.hashCommands().hSet(StringRedisSerializer.UTF_8.serialize("sse:user:C:" + recipientId),
+                        StringRedisSerializer.UTF_8.serialize("tab-1"),
+                        StringRedisSerializer.UTF_8.serialize("server-" + recipientId % SERVERS));
+            }
+            return null;
+        });
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE notifications");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        notificationService.shutdown();
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public long insertPerRow() {
+        long lastId = 0;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (Notification notification : notifications) {
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(INSERT_SQL, new String[]{"no_id"});
+                ps.setString(1, notification.getContent());
+                ps.setString(2, "Y");
+                ps.setString(3, "C");
+                ps.setLong(4, notification.getRecipientId());
+                ps.setString(5, "S");
+                ps.setLong(6, notification.getSenderId());
+                ps.setString(7, "N");
+                ps.setTimestamp(8, now);
+                return ps;
+            }, keyHolder);
+            lastId = keyHolder.getKey().longValue();
+        }
+        return lastId;
+    }
+
+    @Benchmark
+    public List<Notification> insertBulk() {
+        return notificationBulkRepository.insertAll(notifications);
+    }
+
+    @Benchmark
+    public int publishPerRecipient() throws Exception {
+        for (Notification notification : notifications) {
+            redisTemplate.convertAndSend(BROADCAST_CHANNEL, objectMapper.writeValueAsString(NotificationMessage.builder()
+                    .customerId(notification.getRecipientId())
+                    .notification(NotificationDto.fromEntity(notification))
+                    .build()));
+        }
+        return notifications.size();
+    }
+
+    @Benchmark
+    public int publishGroupedByServer() {
+        notificationService.publish(notifications);
+        return notifications.size();
+    }
+}
@@ -0,0 +1,40 @@
+package com.yju.team2.seilomun.domain.order.generator;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 SecureRandom 방식과 Snowflake 방식 주문번호 생성 비교 (32 스레드)
+ * 기존 방식은 여기에 DB 중복 확인(existsByOrderNumber) 한 번이 더 붙는다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class OrderNumberGeneratorBenchmark {
+
+    private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final SnowflakeOrderNumberGenerator snowflakeGenerator = new SnowflakeOrderNumberGenerator(1);
+
+    @Benchmark
+    public String secureRandom() {
+        StringBuilder stringBuilder = new StringBuilder(14);
+        for (int i = 0; i < 14; i++) {
+            stringBuilder.append(CHARACTERS.charAt(RANDOM.nextInt(CHARACTERS.length())));
+        }
+        return stringBuilder.toString();
+    }
+
+    @Benchmark
+    public String snowflake() {
+        return snowflakeGenerator.generate();
+    }
+}
@@ -0,0 +1,122 @@
+package com.yju.team2.seilomun.domain.product.service;
+
+import com.yju.team2.seilomun.domain.product.dto.ProductPricingRow;
+import com.yju.team2.seilomun.domain.product.repository.ProductRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 할인율 조회 비교: 기존 Redis 캐시(GET / 목록 MGET) vs 메모리 가격 스냅샷(단건 / priceAll)
+ * 목록 한 페이지는 상품 20개 기준
+ * Redis 벤치마크는 로컬 Redis가 필요함 (-Dredis.host, -Dredis.port 로 변경 가능)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class DiscountPricingBenchmark {
+
+    private static final int PRODUCTS = 10_000;
+    private static final int PAGE_SIZE = 20;
+    private static final String DISCOUNT_RATE_KEY = "discount:rate:";
+
+    private DiscountPricingEngine engine;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ProductPricingRow> rows = new ArrayList<>(PRODUCTS);
+        for (long id = 1; id <= PRODUCTS; id++) {
+            rows.add(new ProductPricingRow(id, now.minusDays(id % 10), now.plusDays(id % 14 + 1),
+                    10, 60, 1000 + (int) id));
+        }
+        engine = new DiscountPricingEngine(repositoryReturning(rows));
+        engine.reload();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                System.getProperty("redis.host", "localhost"), Integer.getInteger("redis.port", 6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(StringRedisSerializer.UTF_8);
+        redisTemplate.afterPropertiesSet();
+
+        Map<String, String> cached = new HashMap<>();
+        for (long id = 1; id <= PRODUCTS; id++) {
+            cached.put(DISCOUNT_RATE_KEY + id, String.valueOf(engine.discountRate(id)));
+        }
+        redisTemplate.opsForValue().multiSet(cached);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @State(Scope.Thread)
+    public static class Page {
+        long[] productIds = new long[PAGE_SIZE];
+        List<String> keys = new ArrayList<>(PAGE_SIZE);
+        int[] discountRates = new int[PAGE_SIZE];
+        int[] discountedPrices = new int[PAGE_SIZE];
+
+        @Setup(Level.Invocation)
+        public void next() {
+            keys.clear();
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                productIds[i] = ThreadLocalRandom.current().nextLong(1, PRODUCTS + 1);
+                keys.add(DISCOUNT_RATE_KEY + productIds[i]);
+            }
+        }
+    }
+
+    @Benchmark
+    public int redisGet(Page page) {
+        return Integer.parseInt(redisTemplate.opsForValue().get(page.keys.get(0)));
+    }
+
+    @Benchmark
+    public int engineRate(Page page) {
+        return engine.discountRate(page.productIds[0]);
+    }
+
+    @Benchmark
+    public List<String> redisMultiGetPage(Page page) {
+        return redisTemplate.opsForValue().multiGet(page.keys);
+    }
+
+    @Benchmark
+    public int[] enginePriceAllPage(Page page) {
+        engine.priceAll(page.productIds, page.discountRates, page.discountedPrices);
+        return page.discountedPrices;
+    }
+
+    // 스냅샷 적재에 필요한 조회만 응답하는 저장소
+    private static ProductRepository repositoryReturning(List<ProductPricingRow> rows) {
+        return (ProductRepository) Proxy.newProxyInstance(ProductRepository.class.getClassLoader(),
+                new Class<?>[]{ProductRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findPricingRows")) {
+                        return rows;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,54 @@
+package com.yju.team2.seilomun.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+// 커서 기반 페이지 응답, 전체 개수(COUNT)는 조회하지 않음
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageDto<T> {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private List<T> content;
+    private boolean hasNext;
+    // 다음 페이지 요청 시 그대로 넘겨줄 토큰, 마지막 페이지면 null
+    private String nextCursor;
+
+    // 요청한 페이지 크기를 1 ~ 100개로 제한 (size + 1개를 조회하므로 큰 값이 그대로 DB까지 가지 않게)
+    public static int clampSize(int size) {
+        return Math.clamp(size, 1, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * size + 1개를 조회한 결과로 페이지 생성
+     * 한 개가 더 있으면 다음 페이지가 있는 것이고, 마지막 행의 (created_at, id)가 다음 커서가 된다.
+     */
+    public static <E, T> CursorPageDto<T> of(List<E> rows, int size,
+                                             Function<E, LocalDateTime> createdAt,
+                                             Function<E, Long> id,
+                                             Function<List<E>, List<T>> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            E last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new CursorToken(createdAt.apply(last), id.apply(last)).encode();
+        }
+
+        return CursorPageDto.<T>builder()
+                .content(mapper.apply(pageRows))
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.yju.team2.seilomun.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션의 이어보기 토큰 (created_at, id)
+ * 클라이언트는 내용을 해석하지 않고 다음 요청에 그대로 돌려보내기만 하면 된다.
+ * 생성일이 없는 목록(위시리스트)은 id만 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorToken {
+
+    // 첫 페이지는 모든 행보다 뒤에 있는 가상의 위치에서 시작
+    private static final CursorToken FIRST = new CursorToken(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static CursorToken first() {
+        return FIRST;
+    }
+
+    public String encode() {
+        String raw = (createdAt == null ? "" : createdAt.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 첫 페이지
+    public static CursorToken decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            String createdAt = raw.substring(0, separatorIndex);
+            return new CursorToken(createdAt.isEmpty() ? FIRST.createdAt : LocalDateTime.parse(createdAt),
+                    Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
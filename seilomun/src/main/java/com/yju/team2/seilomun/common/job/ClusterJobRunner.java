@@ -0,0 +1,199 @@
+package com.yju.team2.seilomun.common.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * 여러 서버에 같은 스케줄러가 떠 있어도 작업이 한 번만 실행되도록 리스로 조율하는 실행기
+ * - runExclusive: 리스를 잡은 서버 한 곳만 실행
+ * - runSharded: ID 구간을 나눈 샤드마다 리스를 잡아서 여러 서버가 나눠 실행
+ * 리스는 lockAtMostFor 뒤 자동 만료되고(서버가 죽어도 풀림), 실행 중에는 주기적으로 연장한다.
+ * 작업이 lockAtLeastFor보다 빨리 끝나면 남은 시간 동안 리스를 유지해서, 조금 늦게 깨어난 서버가 같은 회차를 다시 실행하지 않게 한다.
+ * 지표: job.duration(작업/샤드 실행 시간), job.rows(처리 건수), job.skipped(다른 서버가 실행 중이라 건너뜀),
+ *       job.lag.seconds(클러스터 전체 기준 마지막 성공 이후 경과 시간)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterJobRunner {
+
+    private static final String LEASE_KEY = "job:lease:";
+
+    private final JobLeaseStore jobLeaseStore;
+    private final MeterRegistry meterRegistry;
+
+    private final String instanceId = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    private final Map<String, AtomicLong> lagSeconds = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService leaseRenewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-lease-renewer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 리스를 잡은 경우에만 실행, 실행했으면 true
+    public boolean runExclusive(String jobName, Duration lockAtMostFor, Duration lockAtLeastFor, IntSupplier job) {
+        updateLag(jobName);
+        Integer rows = runLeased(jobName, LEASE_KEY + jobName, lockAtMostFor, lockAtLeastFor, job);
+        if (rows == null) {
+            skipped(jobName);
+            return false;
+        }
+        recordSuccess(jobName);
+        log.info("작업 완료: job={}, rows={}, instance={}", jobName, rows, instanceId);
+        return true;
+    }
+
+    /**
+     * ID 구간을 shardCount개로 나눠 리스를 잡은 샤드만 실행, 이 서버에서 처리한 건수를 반환
+     * 서버마다 시작 샤드를 다르게 해서 동시에 깨어나도 서로 다른 샤드부터 잡는다.
+     * 샤드 경계는 idRange로 정해지므로 서버마다 같은 구간을 넘겨야 한다.
+     * (실행 중에 늘어나지 않는 구간이거나, 구간이 겹쳐 다시 처리해도 결과가 같은 작업에 사용)
+     */
+    public int runSharded(String jobName, IdRange idRange, int shardCount,
+                          Duration lockAtMostFor, Duration lockAtLeastFor, ToIntFunction<IdRange> shardJob) {
+        updateLag(jobName);
+        List<IdRange> shards = idRange.split(shardCount);
+        if (shards.isEmpty()) {
+            recordSuccess(jobName);
+            return 0;
+        }
+
+        int offset = Math.floorMod(instanceId.hashCode(), shards.size());
+        int rows = 0;
+        int processedShards = 0;
+        for (int i = 0; i < shards.size(); i++) {
+            int shard = (offset + i) % shards.size();
+            IdRange range = shards.get(shard);
+            Integer shardRows = runLeased(jobName, LEASE_KEY + jobName + ":shard:" + shard,
+                    lockAtMostFor, lockAtLeastFor, () -> shardJob.applyAsInt(range));
+            if (shardRows != null) {
+                rows += shardRows;
+                processedShards++;
+            }
+        }
+
+        if (processedShards == 0) {
+            skipped(jobName);
+            return 0;
+        }
+        recordSuccess(jobName);
+        log.info("샤드 작업 완료: job={}, shards={}/{}, rows={}, instance={}",
+                jobName, processedShards, shards.size(), rows, instanceId);
+        return rows;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        leaseRenewer.shutdownNow();
+    }
+
+    // 리스를 못 잡으면 null, 작업이 실패하면 리스를 바로 풀고 예외를 그대로 던짐
+    private Integer runLeased(String jobName, String leaseKey, Duration lockAtMostFor, Duration lockAtLeastFor, IntSupplier job) {
+        if (!jobLeaseStore.tryAcquire(leaseKey, instanceId, lockAtMostFor)) {
+            return null;
+        }
+
+        long renewPeriod = Math.max(1, lockAtMostFor.toMillis() / 3);
+        ScheduledFuture<?> renewal = leaseRenewer.scheduleAtFixedRate(
+                () -> renew(leaseKey, lockAtMostFor), renewPeriod, renewPeriod, TimeUnit.MILLISECONDS);
+        long startedAt = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            int rows = job.getAsInt();
+            Counter.builder("job.rows")
+                    .description("작업에서 처리한 건수")
+                    .tag("job", jobName)
+                    .register(meterRegistry)
+                    .increment(rows);
+            succeeded = true;
+            return rows;
+        } finally {
+            renewal.cancel(false);
+            long elapsedNanos = System.nanoTime() - startedAt;
+            Timer.builder("job.duration")
+                    .description("작업 실행 시간 (샤드 작업은 샤드 단위)")
+                    .tag("job", jobName)
+                    .tag("outcome", succeeded ? "success" : "failure")
+                    .register(meterRegistry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+            Duration keepFor = succeeded ? lockAtLeastFor.minusNanos(elapsedNanos) : Duration.ZERO;
+            jobLeaseStore.release(leaseKey, instanceId, keepFor);
+        }
+    }
+
+    private void renew(String leaseKey, Duration lockAtMostFor) {
+        try {
+            if (!jobLeaseStore.renew(leaseKey, instanceId, lockAtMostFor)) {
+                log.warn("작업 리스 연장 실패 (이미 만료됨): lease={}, instance={}", leaseKey, instanceId);
+            }
+        } catch (Exception e) {
+            log.warn("작업 리스 연장 중 오류: lease={}", leaseKey, e);
+        }
+    }
+
+    private void skipped(String jobName) {
+        Counter.builder("job.skipped")
+                .description("다른 서버가 리스를 들고 있어 건너뛴 횟수")
+                .tag("job", jobName)
+                .register(meterRegistry)
+                .increment();
+        log.debug("다른 서버에서 실행 중이라 건너뜀: job={}", jobName);
+    }
+
+    private void recordSuccess(String jobName) {
+        jobLeaseStore.recordSuccess(jobName, Instant.now());
+        lag(jobName).set(0);
+    }
+
+    // 작업이 예정될 때마다 마지막 성공 이후 경과 시간 갱신, 건너뛴 서버에서도 클러스터 기준 값이 보임
+    private void updateLag(String jobName) {
+        try {
+            Instant lastSuccess = jobLeaseStore.lastSuccess(jobName);
+            if (lastSuccess != null) {
+                lag(jobName).set(Duration.between(lastSuccess, Instant.now()).toSeconds());
+            }
+        } catch (Exception e) {
+            log.warn("작업 지연 시간 조회 실패: job={}", jobName, e);
+        }
+    }
+
+    private AtomicLong lag(String jobName) {
+        return lagSeconds.computeIfAbsent(jobName, name -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder("job.lag.seconds", value, AtomicLong::get)
+                    .description("마지막 성공 이후 경과 시간")
+                    .tag("job", name)
+                    .register(meterRegistry);
+            return value;
+        });
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
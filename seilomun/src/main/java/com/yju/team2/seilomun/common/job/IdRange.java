@@ -0,0 +1,29 @@
+package com.yju.team2.seilomun.common.job;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 샤드 작업의 ID 구간 (양 끝 포함)
+ * 테이블이 비어 있으면 MIN/MAX가 null이라 빈 구간이 된다.
+ */
+public record IdRange(Long fromId, Long toId) {
+
+    public boolean isEmpty() {
+        return fromId == null || toId == null || fromId > toId;
+    }
+
+    // 최대 count개의 연속된 구간으로 나눔 (구간이 count보다 좁으면 그만큼 적게)
+    public List<IdRange> split(int count) {
+        List<IdRange> shards = new ArrayList<>();
+        if (isEmpty()) {
+            return shards;
+        }
+        long total = toId - fromId + 1;
+        long width = Math.max(1, (total + count - 1) / count);
+        for (long start = fromId; start <= toId; start += width) {
+            shards.add(new IdRange(start, Math.min(toId, start + width - 1)));
+        }
+        return shards;
+    }
+}
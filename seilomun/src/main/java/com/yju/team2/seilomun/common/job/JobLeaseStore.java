@@ -0,0 +1,22 @@
+package com.yju.team2.seilomun.common.job;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// 작업 리스(여러 서버 중 한 곳만 실행할 권한)와 마지막 성공 시각 저장소
+public interface JobLeaseStore {
+
+    // 비어 있을 때만 owner로 잡고 ttl 뒤 자동 만료
+    boolean tryAcquire(String leaseKey, String owner, Duration ttl);
+
+    // owner가 아직 들고 있을 때만 만료 시간 연장
+    boolean renew(String leaseKey, String owner, Duration ttl);
+
+    // owner가 들고 있을 때만 해제, keepFor가 남아 있으면 그 시간 동안은 유지 후 만료
+    void release(String leaseKey, String owner, Duration keepFor);
+
+    void recordSuccess(String jobName, Instant finishedAt);
+
+    // 한 번도 성공한 적 없으면 null
+    Instant lastSuccess(String jobName);
+}
@@ -0,0 +1,64 @@
+package com.yju.team2.seilomun.common.job;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Redis 기반 작업 리스
+ * 잡기는 SET NX PX 한 번, 연장/해제는 값(소유자)을 확인하고 처리하는 Lua 스크립트 한 번이라
+ * 리스가 만료된 뒤 다른 서버가 잡은 리스를 늦게 끝난 서버가 지우는 일이 없다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisJobLeaseStore implements JobLeaseStore {
+
+    private static final String LAST_SUCCESS_KEY = "job:last-success:";
+
+    private static final RedisScript<Long> RENEW = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "return 0", Long.class);
+
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "if tonumber(ARGV[2]) > 0 then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "return redis.call('DEL', KEYS[1]) end " +
+            "return 0", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public boolean tryAcquire(String leaseKey, String owner, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(leaseKey, owner, ttl));
+    }
+
+    @Override
+    public boolean renew(String leaseKey, String owner, Duration ttl) {
+        Long renewed = redisTemplate.execute(RENEW, List.of(leaseKey), owner, String.valueOf(ttl.toMillis()));
+        return renewed != null && renewed == 1;
+    }
+
+    @Override
+    public void release(String leaseKey, String owner, Duration keepFor) {
+        long keepMillis = Math.max(0, keepFor.toMillis());
+        redisTemplate.execute(RELEASE, List.of(leaseKey), owner, String.valueOf(keepMillis));
+    }
+
+    @Override
+    public void recordSuccess(String jobName, Instant finishedAt) {
+        redisTemplate.opsForValue().set(LAST_SUCCESS_KEY + jobName, String.valueOf(finishedAt.toEpochMilli()));
+    }
+
+    @Override
+    public Instant lastSuccess(String jobName) {
+        String value = redisTemplate.opsForValue().get(LAST_SUCCESS_KEY + jobName);
+        return value == null ? null : Instant.ofEpochMilli(Long.parseLong(value));
+    }
+}
@@ -2,6 +2,8 @@ package com.yju.team2.seilomun.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yju.team2.seilomun.domain.chat.service.RedisSubscriber;
+import com.yju.team2.seilomun.domain.notification.repository.SseEmitterRepository;
+import com.yju.team2.seilomun.domain.notification.service.NotificationService;
 import com.yju.team2.seilomun.domain.notification.service.NotificationSubscriber;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -60,13 +62,15 @@ public class RedisConfig {
         return new ChannelTopic("chatroom");
     }
 
-    // sse 메세지 리스너
+    // sse 메세지 리스너 (이 서버에 연결된 사용자 알림만 오는 서버별 채널 구독)
     @Bean
     public RedisMessageListenerContainer notificationListenerContainer(RedisConnectionFactory connectionFactory,
-                                                                       NotificationSubscriber subscriber) {
+                                                                       NotificationSubscriber subscriber,
+                                                                       SseEmitterRepository sseEmitterRepository) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
-        container.addMessageListener(new MessageListenerAdapter(subscriber), new ChannelTopic("notification:channel"));
+        container.addMessageListener(new MessageListenerAdapter(subscriber),
+                new ChannelTopic(NotificationService.serverChannel(sseEmitterRepository.getCurrentServerId())));
         return container;
     }
 }
\ No newline at end of file
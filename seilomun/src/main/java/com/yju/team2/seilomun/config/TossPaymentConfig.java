@@ -20,4 +20,28 @@ public class TossPaymentConfig {
     private String failUrl;
 
     public static final String URL = "https://api.tosspayments.com/v1/payments/";
+
+    // 테스트에서 로컬 스텁 서버로 바꿀 수 있도록 설정으로 분리
+    @Value("${payment.toss.base-url:" + URL + "}")
+    private String baseUrl;
+
+    @Value("${payment.toss.connect-timeout-millis:3000}")
+    private long connectTimeoutMillis;
+
+    @Value("${payment.toss.read-timeout-millis:10000}")
+    private long readTimeoutMillis;
+
+    // 타임아웃/5xx 응답 시 최대 시도 횟수 (멱등키로 중복 승인 방지)
+    @Value("${payment.toss.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${payment.toss.retry-backoff-millis:200}")
+    private long retryBackoffMillis;
+
+    // 연속 실패가 이 횟수를 넘으면 일정 시간 동안 요청 차단
+    @Value("${payment.toss.circuit-failure-threshold:5}")
+    private int circuitFailureThreshold;
+
+    @Value("${payment.toss.circuit-open-seconds:30}")
+    private long circuitOpenSeconds;
 }
@@ -0,0 +1,36 @@
+package com.yju.team2.seilomun.domain.cart.scheduler;
+
+import com.yju.team2.seilomun.common.job.ClusterJobRunner;
+import com.yju.team2.seilomun.domain.cart.service.CartService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CartIndexScheduler {
+
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST = Duration.ofMinutes(1);
+
+    private final CartService cartService;
+    private final ClusterJobRunner clusterJobRunner;
+
+    /**
+     * 서버 시작 시 역색인 도입 전의 장바구니를 상품별 역색인에 등록 (이관 완료 후에는 바로 끝남, 여러 서버 중 한 곳에서만)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateProductIndex() {
+        try {
+            clusterJobRunner.runExclusive("cart-product-index-migration", LOCK_AT_MOST, LOCK_AT_LEAST,
+                    cartService::migrateProductIndex);
+        } catch (Exception e) {
+            log.error("장바구니 상품 역색인 이관 실패", e);
+        }
+    }
+}
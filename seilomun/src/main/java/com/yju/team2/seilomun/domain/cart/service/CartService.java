@@ -3,19 +3,59 @@ package com.yju.team2.seilomun.domain.cart.service;
 import com.yju.team2.seilomun.domain.product.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * 장바구니 (cart:{고객ID} 해시, 필드는 상품ID, 값은 수량)
+ * - 상품별로 담은 고객을 역색인(product:carts:{상품ID} 셋)으로 함께 관리해서
+ *   상품 상태 변경 알림 대상을 SMEMBERS 한 번으로 찾음 (장바구니 키 전체를 훑지 않음)
+ * - 장바구니 해시와 역색인은 Lua 스크립트로 함께 바꾸므로 어느 한쪽만 반영되는 일이 없음
+ * - 비우기/이관 스크립트는 상품ID로 역색인 키를 스크립트 안에서 만들기 때문에 두 키가 같은 Redis 노드에 있어야 함
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CartService {
 
     private static final String CART_KEY = "cart:";
+    private static final String PRODUCT_CARTS_KEY = "product:carts:";
+    private static final String MIGRATED_KEY = "migration:cart-product-index";
+    private static final int SCAN_COUNT = 500;
+
+    // 수량 저장 + 역색인 등록
+    private static final RedisScript<Long> PUT_ITEM = new DefaultRedisScript<>(
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+            "redis.call('SADD', KEYS[2], ARGV[3]) " +
+            "return 1", Long.class);
+
+    // 상품 제거 + 역색인 제거, 제거된 필드 수를 반환
+    private static final RedisScript<Long> REMOVE_ITEM = new DefaultRedisScript<>(
+            "local removed = redis.call('HDEL', KEYS[1], ARGV[1]) " +
+            "redis.call('SREM', KEYS[2], ARGV[2]) " +
+            "return removed", Long.class);
+
+    // 장바구니에 담긴 상품들의 역색인에서 고객을 빼고 장바구니 삭제, 담겨 있던 상품 수를 반환
+    private static final RedisScript<Long> CLEAR_CART = new DefaultRedisScript<>(
+            "local productIds = redis.call('HKEYS', KEYS[1]) " +
+            "for _, productId in ipairs(productIds) do redis.call('SREM', ARGV[1] .. productId, ARGV[2]) end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return #productIds", Long.class);
+
+    // 기존 장바구니 하나를 역색인에 등록 (이관용), 등록한 상품 수를 반환
+    private static final RedisScript<Long> INDEX_CART = new DefaultRedisScript<>(
+            "local productIds = redis.call('HKEYS', KEYS[1]) " +
+            "for _, productId in ipairs(productIds) do redis.call('SADD', ARGV[1] .. productId, ARGV[2]) end " +
+            "return #productIds", Long.class);
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final ProductService productService;
@@ -75,7 +115,7 @@ public class CartService {
             }
 
             // 장바구니에 상품 추가/업데이트
-            redisTemplate.opsForHash().put(cartKey, productId.toString(), String.valueOf(newQuantity));
+            putItem(userId, productId, newQuantity);
 
             log.info("상품이 장바구니에 추가되었습니다. userId={}, productId={}, quantity={}, totalQuantity={}",
                     userId, productId, quantity, newQuantity);
@@ -115,7 +155,7 @@ public class CartService {
             }
 
             // 장바구니에 상품 수량 업데이트
-            redisTemplate.opsForHash().put(cartKey, productId.toString(), quantity.toString());
+            putItem(userId, productId, quantity);
             log.info("장바구니 상품 수량이 업데이트되었습니다. userId={}, productId={}, quantity={}",
                     userId, productId, quantity);
         } catch (Exception e) {
@@ -186,9 +226,10 @@ public class CartService {
                 return false;
             }
 
-            Long deleted = redisTemplate.opsForHash().delete(cartKey, productId.toString());
+            Long deleted = redisTemplate.execute(REMOVE_ITEM, List.of(cartKey, getProductCartsKey(productId)),
+                    productId.toString(), userId.toString());
 
-            if (deleted > 0) {
+            if (deleted != null && deleted > 0) {
                 log.info("상품이 장바구니에서 제거되었습니다: userId={}, productId={}", userId, productId);
                 return true;
             } else {
@@ -207,8 +248,8 @@ public class CartService {
         String key = getCartKey(userId);
 
         try {
-            if (redisTemplate.hasKey(key)) {
-                redisTemplate.delete(key);
+            Long cleared = redisTemplate.execute(CLEAR_CART, List.of(key), PRODUCT_CARTS_KEY, userId.toString());
+            if (cleared != null && cleared > 0) {
                 log.info("장바구니가 비워졌습니다. userId={}", userId);
             }
         } catch (Exception e) {
@@ -217,10 +258,48 @@ public class CartService {
         }
     }
 
+    /**
+     * 역색인 도입 전에 담긴 장바구니를 역색인에 등록 (한 번만), 등록한 장바구니 수를 반환
+     * KEYS 대신 SCAN으로 나눠 읽어 Redis를 오래 막지 않고, 장바구니마다 스크립트 한 번으로 등록
+     */
+    public int migrateProductIndex() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(MIGRATED_KEY))) {
+            return 0;
+        }
+
+        int migrated = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(CART_KEY + "*").count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String cartKey = cursor.next();
+                String userId = cartKey.substring(CART_KEY.length());
+                if (userId.isEmpty() || !userId.chars().allMatch(Character::isDigit)) {
+                    continue;
+                }
+                redisTemplate.execute(INDEX_CART, List.of(cartKey), PRODUCT_CARTS_KEY, userId);
+                migrated++;
+            }
+        }
+
+        redisTemplate.opsForValue().set(MIGRATED_KEY, String.valueOf(System.currentTimeMillis()));
+        log.info("장바구니 상품 역색인 이관 완료: 장바구니 {}개", migrated);
+        return migrated;
+    }
+
+    private void putItem(Long userId, Long productId, Integer quantity) {
+        redisTemplate.execute(PUT_ITEM, List.of(getCartKey(userId), getProductCartsKey(productId)),
+                productId.toString(), quantity.toString(), userId.toString());
+    }
+
     private static String getCartKey(Long userId) {
         return CART_KEY + userId;
     }
 
+    // 상품을 장바구니에 담은 고객ID 셋
+    public static String getProductCartsKey(Long productId) {
+        return PRODUCT_CARTS_KEY + productId;
+    }
+
     // 수량 파싱 헬퍼 메서드
     private int parseQuantity(Object value) {
         if (value instanceof Integer) {
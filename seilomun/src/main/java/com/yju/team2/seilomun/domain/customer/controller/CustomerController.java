@@ -99,6 +99,18 @@ public class CustomerController {
         }
     }
 
+    // 위시리스트 커서 기반 조회 (cursor가 없으면 첫 페이지)
+    @GetMapping("/wishes/cursor")
+    public ResponseEntity<ApiResponseJson> getCustomerWishesByCursor(
+            @AuthenticationPrincipal JwtUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(new ApiResponseJson(HttpStatus.OK, Map.of(
+                "wishes", customerService.getWishedProductsByCursor(userDetails.getId(), cursor, size),
+                "message", "위시리스트가 조회되었습니다."
+        )));
+    }
+
     @GetMapping("/wishes")
     public ResponseEntity<ApiResponseJson> getCustomerWishes(
             @AuthenticationPrincipal JwtUserDetails userDetails,
@@ -180,6 +192,19 @@ public class CustomerController {
         ))));
     }
 
+    // 주문목록 커서 기반 조회 (cursor가 없으면 첫 페이지)
+    @GetMapping("/orders/cursor")
+    public ResponseEntity<ApiResponseJson> getOrdersByCursor(
+            @AuthenticationPrincipal JwtUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String storeName) {
+        return ResponseEntity.ok(new ApiResponseJson(HttpStatus.OK, Map.of(
+                "orders", customerService.getOrderListByCursor(userDetails.getId(), cursor, size, storeName),
+                "message", "주문 목록이 조회되었습니다."
+        )));
+    }
+
     // 주문목록 보기
     @GetMapping("/orders")
     public ResponseEntity<ApiResponseJson> getOrders(
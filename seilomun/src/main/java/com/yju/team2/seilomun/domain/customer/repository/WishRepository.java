@@ -6,6 +6,8 @@ import com.yju.team2.seilomun.domain.product.entity.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,7 +19,19 @@ public interface WishRepository extends JpaRepository<Wish, Long> {
 
     Page<Wish> findByCustomer(Customer customer, Pageable pageable);
 
+    // 커서 기반 페이지네이션 (생성일이 없으므로 id 내림차순), COUNT 쿼리 없이 size + 1개만 조회
+    // 응답에 쓰이는 상품과 판매자는 같은 쿼리에서 함께 가져옴
+    @Query("SELECT w FROM Wish w " +
+            "JOIN FETCH w.product p " +
+            "JOIN FETCH p.seller " +
+            "WHERE w.customer = :customer AND w.id < :id " +
+            "ORDER BY w.id DESC")
+    List<Wish> findByCustomerAndIdLessThanOrderByIdDesc(@Param("customer") Customer customer, @Param("id") Long id,
+                                                       Pageable pageable);
+
     Optional<Wish> findByCustomerAndProduct(Customer customer, Product product);
 
     List<Wish> findByProduct(Product product);
+
+    List<Wish> findByProductId(Long productId);
 }
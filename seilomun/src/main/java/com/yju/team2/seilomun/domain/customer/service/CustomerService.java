@@ -1,21 +1,23 @@
 package com.yju.team2.seilomun.domain.customer.service;
 
+import com.yju.team2.seilomun.common.CursorPageDto;
+import com.yju.team2.seilomun.common.CursorToken;
 import com.yju.team2.seilomun.domain.auth.service.RefreshTokenService;
 import com.yju.team2.seilomun.domain.customer.dto.*;
 import com.yju.team2.seilomun.domain.customer.entity.*;
 import com.yju.team2.seilomun.domain.customer.repository.*;
 import com.yju.team2.seilomun.domain.order.dto.OrderItemDto;
+import com.yju.team2.seilomun.domain.order.dto.OrderReadModel;
 import com.yju.team2.seilomun.domain.order.entity.Order;
-import com.yju.team2.seilomun.domain.order.entity.OrderItem;
-import com.yju.team2.seilomun.domain.order.repository.OrderItemRepository;
 import com.yju.team2.seilomun.domain.order.repository.OrderRepository;
+import com.yju.team2.seilomun.domain.order.service.OrderReadModelAssembler;
+import com.yju.team2.seilomun.domain.product.dto.DiscountInfo;
+import com.yju.team2.seilomun.domain.product.dto.ProductPricingRow;
 import com.yju.team2.seilomun.domain.product.entity.Product;
-import com.yju.team2.seilomun.domain.product.entity.ProductPhoto;
 import com.yju.team2.seilomun.domain.product.repository.ProductPhotoRepository;
 import com.yju.team2.seilomun.domain.product.repository.ProductRepository;
+import com.yju.team2.seilomun.domain.product.service.ProductDiscountService;
 import com.yju.team2.seilomun.domain.product.service.ProductService;
-import com.yju.team2.seilomun.domain.review.entity.Review;
-import com.yju.team2.seilomun.domain.review.repository.ReviewRepository;
 import com.yju.team2.seilomun.domain.seller.entity.Seller;
 import com.yju.team2.seilomun.domain.seller.repository.SellerRepository;
 import com.yju.team2.seilomun.domain.upload.service.AWSS3UploadService;
@@ -56,7 +58,6 @@ public class CustomerService {
     private final ProductRepository productRepository;
     private final FavoriteRepository favoriteRepository;
     private final ProductPhotoRepository productPhotoRepository;
-    private final OrderItemRepository orderItemRepository;
     private final OrderRepository orderRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
@@ -64,12 +65,13 @@ public class CustomerService {
     private final SmsUtil smsUtil;
     private final ValidationUtil validationUtil;
     private final RedisTemplate<String, String> redisTemplate;
-    private final ReviewRepository reviewRepository;
     private final PointHistoryRepository pointHistoryRepository;
     private final AWSS3UploadService awsS3UploadService;
 
     private final ProductService productService;
+    private final ProductDiscountService productDiscountService;
     private final AddressRepository addressRepository;
+    private final OrderReadModelAssembler orderReadModelAssembler;
 
     public Customer registerCustomer(CustomerRegisterDto customerRegisterDto) {
         String key = customerRegisterDto.getPhone();
@@ -267,40 +269,68 @@ public class CustomerService {
         Pageable pageable = PageRequest.of(page, size);
         Page<Wish> wishPage = wishRepository.findByCustomer(customer, pageable);
 
-        List<WishProductDto> wishProductDtoList = new ArrayList<>();
-        for (Wish wish : wishPage.getContent()) {
-            Product product = wish.getProduct();
-            Seller seller = product.getSeller();
-            Integer currentDiscountRate = productService.getCurrentDiscountRate(product.getId());
-            // 할인된 가격
-            Integer discountPrice = product.getOriginalPrice() * (100 - currentDiscountRate) / 100;
-            // 첫 번째 사진 URL 가져오기
-            String photoUrl = productPhotoRepository.findTopByProductOrderById(product)
-                    .map(ProductPhoto::getPhotoUrl)
-                    .orElse(null);
-            wishProductDtoList.add(new WishProductDto(
-                    product.getSeller().getId(),
-                    product.getId(),
-                    wish.getId(),
-                    product.getName(),
-                    product.getDescription(),
-                    product.getOriginalPrice(),
-                    discountPrice,
-                    currentDiscountRate,
-                    product.getExpiryDate(),
-                    seller.getAddressDetail(),
-                    photoUrl,
-                    product.getStatus()
-            ));
-        }
-
         return WishPaginationDto.builder()
-                .wishes(wishProductDtoList)
+                .wishes(toWishProductDtos(wishPage.getContent()))
                 .hasNext(wishPage.hasNext())
                 .totalElements(wishPage.getTotalElements())
                 .build();
     }
 
+    // 좋아요한 상품 조회 (커서 기반, 최근에 좋아요한 순서)
+    public CursorPageDto<WishProductDto> getWishedProductsByCursor(Long customerId, String cursor, int size) {
+        Customer customer = customerRepository.findById(customerId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 소비자 입니다."));
+        CursorToken cursorToken = CursorToken.decode(cursor);
+        int pageSize = CursorPageDto.clampSize(size);
+
+        List<Wish> wishes = wishRepository.findByCustomerAndIdLessThanOrderByIdDesc(
+                customer, cursorToken.getId(), PageRequest.of(0, pageSize + 1));
+
+        return CursorPageDto.of(wishes, pageSize, wish -> null, Wish::getId, this::toWishProductDtos);
+    }
+
+    // 좋아요 목록 응답 조립, 상품 수와 관계없이 할인 정보와 첫 번째 사진을 각각 한 번에 조회
+    // 할인 정보는 이미 조회된 상품 값으로 계산하므로 캐시에 없어도 상품을 다시 읽지 않음
+    private List<WishProductDto> toWishProductDtos(List<Wish> wishes) {
+        if (wishes.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Product> products = wishes.stream().map(Wish::getProduct).distinct().toList();
+        Map<Long, DiscountInfo> discountInfos = productDiscountService.getDiscountInfosOfRows(
+                products.stream().map(ProductPricingRow::of).toList());
+        Map<Long, String> photoUrls = new HashMap<>();
+        for (Object[] row : productPhotoRepository.findFirstPhotoUrlsByProductIdIn(
+                products.stream().map(Product::getId).toList())) {
+            photoUrls.put((Long) row[0], (String) row[1]);
+        }
+        return wishes.stream()
+                .map(wish -> toWishProductDto(wish, discountInfos.get(wish.getProduct().getId()),
+                        photoUrls.get(wish.getProduct().getId())))
+                .collect(Collectors.toList());
+    }
+
+    private WishProductDto toWishProductDto(Wish wish, DiscountInfo discountInfo, String photoUrl) {
+        Product product = wish.getProduct();
+        Seller seller = product.getSeller();
+        Integer currentDiscountRate = discountInfo.getDiscountRate();
+        // 할인된 가격
+        Integer discountPrice = product.getOriginalPrice() * (100 - currentDiscountRate) / 100;
+        return new WishProductDto(
+                product.getSeller().getId(),
+                product.getId(),
+                wish.getId(),
+                product.getName(),
+                product.getDescription(),
+                product.getOriginalPrice(),
+                discountPrice,
+                currentDiscountRate,
+                product.getExpiryDate(),
+                seller.getAddressDetail(),
+                photoUrl,
+                product.getStatus()
+        );
+    }
+
     //상품 좋아요 취소
     public void wishDelete(String email, Long id) {
         Optional<Customer> optionalCustomer = customerRepository.findByEmail(email);
@@ -339,40 +369,12 @@ public class CustomerService {
             orderPage = orderRepository.findByCustomerIdWithPagination(customerId, pageable);
         }
 
+        // 아이템/사진/리뷰 여부는 페이지 단위로 한 번에 조회
+        OrderReadModel readModel = orderReadModelAssembler.assemble(orderPage.getContent());
         List<OrderListResponseDto> orderListResponseDtoList = new ArrayList<>();
 
         for (Order order : orderPage.getContent()) {
-            List<String> productNames = new ArrayList<>();
-            List<OrderItem> orderItemList = orderItemRepository.findByOrder(order);
-
-            for (OrderItem orderItem : orderItemList) {
-                productNames.add(orderItem.getProduct().getName());
-            }
-
-            boolean isReview = false;
-            Optional<Review> optionalReview = reviewRepository.findByOrder(order);
-            if (optionalReview.isPresent()) {
-                isReview = true;
-            }
-
-            // 판매자의 첫 번째 사진 가져오기
-            String sellerPhotoUrl = null;
-            Seller seller = order.getSeller();
-            if (seller != null && !seller.getSellerPhotos().isEmpty()) {
-                sellerPhotoUrl = seller.getSellerPhotos().get(0).getPhotoUrl();
-            }
-
-            OrderListResponseDto orderListResponseDto = OrderListResponseDto.builder()
-                    .orderId(order.getId())
-                    .sellerName(order.getSeller().getStoreName())
-                    .totalAmount(order.getTotalAmount())
-                    .orderDate(order.getCreatedAt())
-                    .photoUrl(sellerPhotoUrl) // photoUrl
-                    .orderStatus(order.getOrderStatus())
-                    .orderItems(productNames)
-                    .isReview(isReview)
-                    .build();
-            orderListResponseDtoList.add(orderListResponseDto);
+            orderListResponseDtoList.add(toOrderListResponseDto(order, readModel));
         }
 
         return OrderPaginationDto.builder()
@@ -382,6 +384,40 @@ public class CustomerService {
                 .build();
     }
 
+    // 주문 목록 보기 (커서 기반, 이력이 길어도 일정한 속도로 조회)
+    public CursorPageDto<OrderListResponseDto> getOrderListByCursor(Long customerId, String cursor, int size, String storeName) {
+        if (!customerRepository.existsById(customerId)) {
+            throw new IllegalArgumentException("존재하지 않는 소비자 입니다.");
+        }
+        CursorToken cursorToken = CursorToken.decode(cursor);
+        int pageSize = CursorPageDto.clampSize(size);
+        String keyword = storeName != null && !storeName.trim().isEmpty() ? storeName.trim() : null;
+
+        List<Order> orders = orderRepository.findByCustomerIdBeforeCursor(customerId, keyword,
+                cursorToken.getCreatedAt(), cursorToken.getId(), PageRequest.of(0, pageSize + 1));
+
+        return CursorPageDto.of(orders, pageSize, Order::getCreatedAt, Order::getId,
+                pageOrders -> {
+                    OrderReadModel readModel = orderReadModelAssembler.assemble(pageOrders);
+                    return pageOrders.stream()
+                            .map(order -> toOrderListResponseDto(order, readModel))
+                            .collect(Collectors.toList());
+                });
+    }
+
+    private OrderListResponseDto toOrderListResponseDto(Order order, OrderReadModel readModel) {
+        return OrderListResponseDto.builder()
+                .orderId(order.getId())
+                .sellerName(order.getSeller().getStoreName())
+                .totalAmount(order.getTotalAmount())
+                .orderDate(order.getCreatedAt())
+                .photoUrl(readModel.getSellerPhotoUrl(order.getSeller())) // 판매자의 첫 번째 사진
+                .orderStatus(order.getOrderStatus())
+                .orderItems(readModel.getProductNames(order))
+                .isReview(readModel.isReviewed(order))
+                .build();
+    }
+
 
     // 상세 주문 보기
     public OrderDetailResponseDto getOrderDetail(Long customerId, Long orderId) {
@@ -394,28 +430,8 @@ public class CustomerService {
             throw new IllegalArgumentException("존재하지 않는 주문 입니다.");
         }
         Order order = optionalOrder.get();
-        List<OrderItem> orderItemList = orderItemRepository.findByOrder(order);
-        // 상품 정보 가져오기
-        List<OrderItemDto> orderItemDtos = new ArrayList<>();
-        for (OrderItem item : orderItemList) {
-            Product product = item.getProduct();
-            String photoUrl = null;
-            List<ProductPhoto> photos = productPhotoRepository.findByProduct(product);
-
-            if (!photos.isEmpty()) {
-                photoUrl = photos.get(0).getPhotoUrl();
-            }
-
-            OrderItemDto dto = OrderItemDto.builder()
-                    .productName(product.getName())
-                    .expiryDate(product.getExpiryDate())
-                    .quantity(item.getQuantity())
-                    .unitPrice(item.getUnitPrice())
-                    .discountRate(item.getDiscountRate())
-                    .photoUrl(photoUrl)
-                    .build();
-            orderItemDtos.add(dto);
-        }
+        // 상품 정보와 사진은 아이템 수와 상관없이 한 번에 조회
+        List<OrderItemDto> orderItemDtos = orderReadModelAssembler.assemble(List.of(order)).getOrderItemDtos(order);
         return OrderDetailResponseDto.builder().
                 storeName(order.getSeller().getStoreName()).
                 orderDate(order.getCreatedAt()).
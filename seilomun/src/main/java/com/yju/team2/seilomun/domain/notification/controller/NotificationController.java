@@ -25,9 +25,10 @@ public class NotificationController {
 
     private final NotificationService notificationService;
 
-    // SSE 연결 - 고객용
+    // SSE 연결 - 고객용 (재연결이면 Last-Event-ID 이후 놓친 알림을 먼저 받음)
     @GetMapping(value = "/customer/connect", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter connect(@AuthenticationPrincipal JwtUserDetails userDetails) {
+    public SseEmitter connect(@AuthenticationPrincipal JwtUserDetails userDetails,
+                              @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         Long userId = userDetails.getId();
         String userType = userDetails.getUserType();
 
@@ -36,12 +37,13 @@ public class NotificationController {
         }
 
         log.info("SSE 연결 요청: customerId={}", userId);
-        return notificationService.connect(userId);
+        return notificationService.connect(userId, lastEventId);
     }
 
     // SSE 연결 - 판매자용 (새로 추가)
     @GetMapping(value = "/seller/connect", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter connectSeller(@AuthenticationPrincipal JwtUserDetails userDetails) {
+    public SseEmitter connectSeller(@AuthenticationPrincipal JwtUserDetails userDetails,
+                                    @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         Long userId = userDetails.getId();
         String userType = userDetails.getUserType();
 
@@ -50,7 +52,7 @@ public class NotificationController {
         }
 
         log.info("판매자 SSE 연결 요청: sellerId={}", userId);
-        return notificationService.connectSeller(userId);
+        return notificationService.connectSeller(userId, lastEventId);
     }
 
     // 알림 읽음 처리
@@ -77,6 +79,16 @@ public class NotificationController {
                 "count", notificationList.size())));
     }
 
+    // 알림 목록 커서 기반 출력 (cursor가 없으면 첫 페이지)
+    @GetMapping("/list/cursor")
+    public ResponseEntity<ApiResponseJson> getNotificationsByCursor(@AuthenticationPrincipal JwtUserDetails userDetails,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(new ApiResponseJson(HttpStatus.OK, Map.of(
+                "notifications", notificationService.getNotificationsByCursor(
+                        userDetails.getId(), userDetails.getUserType(), cursor, size))));
+    }
+
     // 읽지 않은 알림 개수 조회
     @GetMapping("/unread/count")
     public ResponseEntity<ApiResponseJson> getUnreadCount(@AuthenticationPrincipal JwtUserDetails userDetails) {
@@ -0,0 +1,20 @@
+package com.yju.team2.seilomun.domain.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 한 서버에 연결된 수신자들의 알림을 묶어 한 번에 발행하는 메시지
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationBatchMessage {
+
+    private String serverId;
+    private List<NotificationMessage> notifications;
+
+}
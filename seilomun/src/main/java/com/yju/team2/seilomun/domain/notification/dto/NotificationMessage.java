@@ -12,6 +12,10 @@ import lombok.NoArgsConstructor;
 public class NotificationMessage {
 
     private Long customerId;
+    // 수신자 유형 (C: 고객, S: 판매자), 같은 ID의 고객과 판매자를 구분
+    private Character recipientType;
+    // SSE 이벤트 ID (재연결 버퍼 항목 ID), 버퍼에 기록하지 않은 알림은 null
+    private String eventId;
     private NotificationDto notification;
 
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.yju.team2.seilomun.domain.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 상품 상태 변경 알림을 아웃박스에 기록할 때 남기는 변경 당시의 값
+// 릴레이 시점에 상품 상태가 다시 바뀌었거나 상품이 삭제됐어도 이 값으로 알림을 만든다
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductStatusPayload {
+
+    private Long productId;
+    private String productName;
+    private Long sellerId;
+    private Character oldStatus;
+    private Character newStatus;
+
+}
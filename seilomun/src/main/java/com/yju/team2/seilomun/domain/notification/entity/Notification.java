@@ -15,7 +15,9 @@ import java.time.LocalDateTime;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_recipient_created", columnList = "recipient_id, recipient_type, created_at, no_id")
+})
 public class Notification {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -51,4 +53,9 @@ public class Notification {
     public void updateIsRead(Character isRead) {
         this.isRead = isRead;
     }
+
+    // JDBC 일괄 저장 후 생성된 ID와 생성 시각을 채운 알림
+    public Notification withGeneratedId(Long id, LocalDateTime createdAt) {
+        return new Notification(id, content, isVisible, recipientType, recipientId, senderType, senderId, isRead, createdAt);
+    }
 }
@@ -0,0 +1,70 @@
+package com.yju.team2.seilomun.domain.notification.entity;
+
+import com.yju.team2.seilomun.domain.notification.enums.NotificationType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// 비즈니스 변경과 같은 트랜잭션에서 기록되는 알림 이벤트, 릴레이가 배치로 꺼내서 알림을 생성/발행함
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_notification_outbox_status", columnList = "status, nob_id")
+})
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "nob_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private NotificationType eventType;
+
+    @Column(name = "event_id", nullable = false, length = 100)
+    private String eventId;
+
+    // 이벤트 대상 엔티티 ID (상품/주문/환불/리뷰/결제, 종류는 event_type으로 구분)
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    // 대상 엔티티만으로 복원할 수 없는 이벤트 값 (상품 상태 변경의 이전/새 상태 등), JSON
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+
+    /**
+     *  대기 : 'P'
+     *  발행 완료 : 'S'
+     *  실패 (재시도 초과) : 'F'
+     * */
+    @Column(name = "status", nullable = false, length = 1)
+    private Character status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    // 처리 실패 시 재시도 횟수 증가, 최대 횟수에 도달하면 실패로 종료
+    public void recordFailure(int maxAttempts) {
+        this.attempts++;
+        if (this.attempts >= maxAttempts) {
+            this.status = 'F';
+            this.processedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -20,7 +20,7 @@ public class ProductStatusChangedEvent implements NotificationEvent {
 
     @Override
     public NotificationType getType() {
-        return NotificationType.LIKE_PRODUCT_STATUS_CHANGED;
+        return NotificationType.PRODUCT_STATUS_CHANGED;
     }
 
     @Override
@@ -0,0 +1,83 @@
+package com.yju.team2.seilomun.domain.notification.repository;
+
+import com.yju.team2.seilomun.domain.notification.entity.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 일괄 저장
+ * IDENTITY 키라서 JPA saveAll은 한 건씩 INSERT 하므로, JDBC 배치로 묶어서 보내고 생성된 키를 받아온다.
+ * (MySQL은 rewriteBatchedStatements=true이면 배치가 다중 행 INSERT 한 번으로 바뀜)
+ * 호출한 쪽의 트랜잭션에 참여한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBulkRepository {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String INSERT_SQL = "INSERT INTO notifications " +
+            "(content, is_visible, recipient_type, recipient_id, sender_type, sender_id, is_read, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 저장 후 ID와 생성 시각이 채워진 알림을 같은 순서로 반환
+    public List<Notification> insertAll(List<Notification> notifications) {
+        List<Notification> saved = new ArrayList<>(notifications.size());
+        for (int from = 0; from < notifications.size(); from += BATCH_SIZE) {
+            saved.addAll(insertBatch(notifications.subList(from, Math.min(from + BATCH_SIZE, notifications.size()))));
+        }
+        return saved;
+    }
+
+    private List<Notification> insertBatch(List<Notification> batch) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, new String[]{"no_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Notification notification = batch.get(i);
+                        ps.setString(1, notification.getContent());
+                        ps.setString(2, String.valueOf(notification.getIsVisible()));
+                        ps.setString(3, String.valueOf(notification.getRecipientType()));
+                        ps.setLong(4, notification.getRecipientId());
+                        ps.setString(5, String.valueOf(notification.getSenderType()));
+                        ps.setLong(6, notification.getSenderId());
+                        ps.setString(7, String.valueOf(notification.getIsRead()));
+                        ps.setTimestamp(8, timestamp);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != batch.size()) {
+            throw new IllegalStateException("알림 저장 후 생성된 키 수가 맞지 않습니다: " + keys.size() + "/" + batch.size());
+        }
+
+        List<Notification> saved = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Number id = (Number) keys.get(i).values().iterator().next();
+            saved.add(batch.get(i).withGeneratedId(id.longValue(), createdAt));
+        }
+        return saved;
+    }
+}
@@ -0,0 +1,29 @@
+package com.yju.team2.seilomun.domain.notification.repository;
+
+import com.yju.team2.seilomun.domain.notification.entity.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 대기 중인 이벤트를 오래된 순서로 잠금, 다른 서버의 릴레이가 잡은 행은 건너뜀
+    @Query(value = "SELECT * FROM notification_outbox WHERE status = 'P' ORDER BY nob_id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationOutbox> findPendingForUpdate(@Param("limit") int limit);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE NotificationOutbox o SET o.status = 'S', o.processedAt = :processedAt WHERE o.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("processedAt") LocalDateTime processedAt);
+
+    // 발행 완료된 오래된 이벤트 정리
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.status = 'S' AND o.processedAt < :cutoffDate")
+    int deleteSentBefore(@Param("cutoffDate") LocalDateTime cutoffDate);
+}
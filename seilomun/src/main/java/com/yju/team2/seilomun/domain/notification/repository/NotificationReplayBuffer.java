@@ -0,0 +1,125 @@
+package com.yju.team2.seilomun.domain.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SSE 재연결 시 놓친 알림을 다시 보내기 위한 사용자별 최근 이벤트 버퍼 (Redis 스트림, 최근 MAX_LENGTH개 정도만 보관)
+ * - 스트림 항목 ID를 SSE 이벤트 ID로 쓰고, 재연결할 때 브라우저가 보내는 Last-Event-ID 다음 항목부터 다시 보낸다.
+ * - 연결 중이거나 최근에 연결했던 사용자(스트림이 남아 있는 사용자)만 기록해서, 접속한 적 없는 사용자의 알림은 쌓지 않는다.
+ * - 연결할 때 connect 항목을 남겨서 연결 후 알림이 하나도 없었어도 끊긴 동안의 알림이 기록되게 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationReplayBuffer {
+
+    public static final String CONNECT = "connect";
+    public static final String NOTIFICATION = "notification";
+
+    private static final String REPLAY_KEY_PREFIX = "sse:replay:";
+    private static final int MAX_LENGTH = 100;
+    private static final long REPLAY_TTL_SECONDS = 2 * 60 * 60; // SSE 연결 시간(60분)보다 길게
+
+    // 연결 중이거나 버퍼가 남아 있을 때만 추가하고 만료 시간 연장, 추가한 항목 ID를 반환 (추가하지 않으면 nil)
+    private static final String APPEND_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 0 and redis.call('EXISTS', KEYS[2]) == 0 then return false end " +
+            "local id = redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], '*', 'type', ARGV[2], 'data', ARGV[3]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+            "return id";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    // 보낸 항목 하나 (type: connect/notification, data: 알림 JSON)
+    public record Entry(String id, String type, String data) {
+    }
+
+    // 한 사용자의 버퍼에 추가, 추가한 항목 ID를 반환 (기록 대상이 아니면 null)
+    public String append(String userKey, String type, String data) {
+        return appendAll(List.of(userKey), type, List.of(data)).get(0);
+    }
+
+    // 여러 사용자의 버퍼에 파이프라인 한 번으로 추가, userKeys와 같은 순서로 항목 ID를 반환
+    public List<String> appendAll(List<String> userKeys, String type, List<String> data) {
+        byte[] script = serialize(APPEND_SCRIPT);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < userKeys.size(); i++) {
+                connection.scriptingCommands().eval(script, ReturnType.VALUE, 2,
+                        serialize(REPLAY_KEY_PREFIX + userKeys.get(i)),
+                        serialize(SseEmitterRepository.presenceKey(userKeys.get(i))),
+                        serialize(String.valueOf(MAX_LENGTH)),
+                        serialize(type),
+                        serialize(data.get(i)),
+                        serialize(String.valueOf(REPLAY_TTL_SECONDS)));
+            }
+            return null;
+        });
+
+        List<String> ids = new ArrayList<>(userKeys.size());
+        for (Object result : results) {
+            ids.add(result == null ? null : result.toString());
+        }
+        return ids;
+    }
+
+    /**
+     * lastEventId 다음에 기록된 알림 (connect 항목 제외)
+     * 버퍼가 없거나 lastEventId 이후 항목이 이미 잘려 나갔으면 빠짐없이 돌려줄 수 없으므로 null
+     */
+    public List<Entry> readAfter(String userKey, String lastEventId) {
+        RecordId lastId;
+        try {
+            lastId = RecordId.of(lastEventId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (lastId.shouldBeAutoGenerated()) {
+            return null;
+        }
+
+        String key = REPLAY_KEY_PREFIX + userKey;
+        List<MapRecord<String, Object, Object>> oldest = redisTemplate.opsForStream()
+                .range(key, Range.unbounded(), Limit.limit().count(1));
+        if (oldest == null || oldest.isEmpty() || isAfter(oldest.get(0).getId(), lastId)) {
+            return null;
+        }
+
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .range(key, Range.rightUnbounded(Range.Bound.inclusive(lastEventId)), Limit.limit().count(MAX_LENGTH * 2));
+        List<Entry> entries = new ArrayList<>();
+        if (records == null) {
+            return entries;
+        }
+        for (MapRecord<String, Object, Object> record : records) {
+            String type = String.valueOf(record.getValue().get("type"));
+            if (record.getId().getValue().equals(lastEventId) || !NOTIFICATION.equals(type)) {
+                continue;
+            }
+            entries.add(new Entry(record.getId().getValue(), type, String.valueOf(record.getValue().get("data"))));
+        }
+        return entries;
+    }
+
+    private static boolean isAfter(RecordId id, RecordId other) {
+        if (id.getTimestamp() != other.getTimestamp()) {
+            return id.getTimestamp() > other.getTimestamp();
+        }
+        return id.getSequence() > other.getSequence();
+    }
+
+    private static byte[] serialize(String value) {
+        return StringRedisSerializer.UTF_8.serialize(value);
+    }
+}
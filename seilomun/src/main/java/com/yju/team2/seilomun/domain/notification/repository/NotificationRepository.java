@@ -1,10 +1,12 @@
 package com.yju.team2.seilomun.domain.notification.repository;
 
 import com.yju.team2.seilomun.domain.notification.entity.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
@@ -30,6 +32,17 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
                                                               @Param("offset") int offset,
                                                               @Param("limit") int limit);
 
+    // 커서 기반 페이지네이션 (created_at, id 내림차순), OFFSET 없이 이전 페이지 마지막 알림 다음부터 조회
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.recipientId = :userId AND n.recipientType = :userType " +
+            "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findByRecipientBeforeCursor(@Param("userId") Long userId,
+                                                   @Param("userType") Character userType,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
+
     // 특정 기간 이전의 알림 조회
     @Query("SELECT n FROM Notification n WHERE n.createdAt < :cutoffDate")
     List<Notification> findNotificationsOlderThan(@Param("cutoffDate") java.time.LocalDateTime cutoffDate);
@@ -0,0 +1,103 @@
+package com.yju.team2.seilomun.domain.notification.repository;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * SSE 연결 하나 (탭 하나)
+ * 보낼 이벤트는 연결마다 크기가 정해진 대기열에 넣고, 대기열에 이벤트가 있을 때만 가상 스레드 하나가 순서대로 보낸다.
+ * 느린 클라이언트는 자기 가상 스레드만 막고, 대기열이 가득 차면 연결을 끊어서 메모리가 계속 쌓이지 않게 한다.
+ */
+@Slf4j
+@Getter
+public class SseConnection {
+
+    private final String userKey;
+    private final String connectionId;
+    private final SseEmitter emitter;
+
+    private final BlockingQueue<SseEmitter.SseEventBuilder> sendQueue;
+    private final Executor sendExecutor;
+    private final Consumer<SseConnection> onClose;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    public SseConnection(String userKey, String connectionId, SseEmitter emitter, int queueCapacity,
+                         Executor sendExecutor, Consumer<SseConnection> onClose) {
+        this.userKey = userKey;
+        this.connectionId = connectionId;
+        this.emitter = emitter;
+        this.sendQueue = new ArrayBlockingQueue<>(queueCapacity);
+        this.sendExecutor = sendExecutor;
+        this.onClose = onClose;
+    }
+
+    // 서버별 연결 목록에 저장하는 값
+    public String getId() {
+        return userKey + ":" + connectionId;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    // 보낼 이벤트를 대기열에 넣음 (호출한 스레드는 기다리지 않음), 닫혔거나 대기열이 가득 차면 false
+    public boolean send(SseEmitter.SseEventBuilder event) {
+        if (closed.get()) {
+            return false;
+        }
+        if (!sendQueue.offer(event)) {
+            log.warn("SSE 전송 대기열 초과로 연결 종료: userKey={}, connectionId={}", userKey, connectionId);
+            close();
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    // 연결 종료, 여러 번 불려도 한 번만 처리
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        sendQueue.clear();
+        try {
+            emitter.complete();
+        } catch (Exception e) {
+            log.debug("SSE 연결 종료 중 오류: userKey={}, connectionId={}", userKey, connectionId, e);
+        }
+        onClose.accept(this);
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            sendExecutor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!closed.get() && (event = sendQueue.poll()) != null) {
+                emitter.send(event);
+            }
+        } catch (Exception e) {
+            log.debug("SSE 전송 실패로 연결 종료: userKey={}, connectionId={}", userKey, connectionId, e);
+            close();
+        } finally {
+            draining.set(false);
+        }
+
+        // 끝내는 사이에 들어온 이벤트가 있으면 다시 보냄
+        if (!closed.get() && !sendQueue.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+}
@@ -1,16 +1,32 @@
 package com.yju.team2.seilomun.domain.notification.repository;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.Map;
-import java.util.Set;
+import java.time.Duration;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+/**
+ * SSE 연결 저장소
+ * - 연결은 (회원 유형, 회원ID, 연결ID)로 구분해서 같은 사용자가 탭을 여러 개 열어도 서로 덮어쓰지 않고,
+ *   고객 7번과 판매자 7번도 다른 사용자로 다룬다. (userKey = "C:7", "S:7")
+ * - Redis에는 사용자별 해시(sse:user:{userKey}, 연결ID -> "서버ID|갱신 시각")로 어느 서버에 연결이 있는지 기록한다.
+ *   키 만료는 해시 전체에만 걸리므로 같은 사용자의 다른 탭이 살아 있으면 죽은 서버의 필드가 남는데,
+ *   필드마다 갱신 시각을 두어 조회할 때는 만료 시간보다 오래된 필드를 무시하고, 하트비트와 조회에서 지운다.
+ * - 하트비트는 필드가 남아 있을 때만 갱신(HEXISTS 후 HSET, Lua)하므로 그 사이 삭제된 연결을 되살리지 않고,
+ *   Redis에서 사라진 연결은 닫아서 클라이언트가 다시 연결하게 한다.
+ * - 전송은 연결마다 가상 스레드에서 비동기로 처리한다. (SseConnection 참고)
+ */
 @Repository
 @RequiredArgsConstructor
 @Slf4j
@@ -18,83 +34,267 @@ public class SseEmitterRepository {
 
     private final RedisTemplate<String, Object> redisTemplate;
 
-    // 로컬 메모리에 실제 SseEmitter 객체 저장
-    private final Map<Long, SseEmitter> localEmitters = new ConcurrentHashMap<>();
+    // 회원 유형:회원ID -> 연결ID -> 연결
+    private final Map<String, Map<String, SseConnection>> localConnections = new ConcurrentHashMap<>();
+
+    // 연결마다 보낼 이벤트가 있을 때만 가상 스레드 하나를 사용
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     // Redis 키 프리픽스
     private static final String SSE_CONNECTION_PREFIX = "sse:connection:";
     private static final String SSE_USER_KEY_PREFIX = "sse:user:";
-    private static final long SSE_CONNECTION_TTL = 3600; // 1시간
+    private static final Duration SSE_CONNECTION_TTL = Duration.ofSeconds(90); // 하트비트 주기의 3배
+    private static final int SEND_QUEUE_CAPACITY = 100;
+    private static final String PRESENCE_SEPARATOR = "|";
+
+    /**
+     * 사용자 해시 하나의 하트비트
+     * 남아 있는 연결 필드만 새 갱신 시각으로 바꾸고 없는 연결ID를 반환, 갱신 시각이 오래된 필드(죽은 서버)는 삭제
+     * KEYS[1] = 사용자 해시, ARGV[1] = 새 값, ARGV[2] = 만료(초), ARGV[3] = 이 시각(ms) 전에 갱신된 필드는 삭제, ARGV[4..] = 연결ID
+     */
+    private static final String HEARTBEAT_SCRIPT =
+            "local missing = {} " +
+            "for i = 4, #ARGV do " +
+            "  if redis.call('HEXISTS', KEYS[1], ARGV[i]) == 1 then redis.call('HSET', KEYS[1], ARGV[i], ARGV[1]) " +
+            "  else table.insert(missing, ARGV[i]) end " +
+            "end " +
+            "local entries = redis.call('HGETALL', KEYS[1]) " +
+            "for i = 1, #entries, 2 do " +
+            "  local separator = string.find(entries[i + 1], '|', 1, true) " +
+            "  local updatedAt = separator and tonumber(string.sub(entries[i + 1], separator + 1)) or 0 " +
+            "  if updatedAt < tonumber(ARGV[3]) then redis.call('HDEL', KEYS[1], entries[i]) end " +
+            "end " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('EXPIRE', KEYS[1], ARGV[2]) end " +
+            "return missing";
 
     // 서버 식별자
-    private final String serverId = java.util.UUID.randomUUID().toString();
+    private final String serverId = UUID.randomUUID().toString();
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
+    }
+
+    public static String userKey(Character userType, Long userId) {
+        return userType + ":" + userId;
+    }
+
+    // 사용자가 어느 서버에 연결되어 있는지 기록하는 해시 (연결ID -> 서버ID)
+    public static String presenceKey(String userKey) {
+        return SSE_USER_KEY_PREFIX + userKey;
+    }
+
+    public SseConnection save(Character userType, Long userId, SseEmitter emitter) {
+        String userKey = userKey(userType, userId);
+        SseConnection connection = new SseConnection(userKey, UUID.randomUUID().toString(), emitter,
+                SEND_QUEUE_CAPACITY, sendExecutor, this::delete);
 
-    public void save(Long customerId, SseEmitter emitter) {
         // 로컬 메모리에 저장
-        localEmitters.put(customerId, emitter);
+        localConnections.computeIfAbsent(userKey, key -> new ConcurrentHashMap<>())
+                .put(connection.getConnectionId(), connection);
 
-        // Redis에 연결 정보 저장 (사용자ID -> 서버ID 매핑)
-        String userKey = SSE_USER_KEY_PREFIX + customerId;
-        redisTemplate.opsForValue().set(userKey, serverId, SSE_CONNECTION_TTL, TimeUnit.SECONDS);
+        // Redis에 연결 정보 저장 (연결ID -> 서버ID|갱신 시각)
+        String presenceKey = SSE_USER_KEY_PREFIX + userKey;
+        redisTemplate.opsForHash().put(presenceKey, connection.getConnectionId(), presenceValue(System.currentTimeMillis()));
+        redisTemplate.expire(presenceKey, SSE_CONNECTION_TTL);
 
         // 서버별 연결 목록에 추가
         String connectionKey = SSE_CONNECTION_PREFIX + serverId;
-        redisTemplate.opsForSet().add(connectionKey, customerId.toString());
-        redisTemplate.expire(connectionKey, SSE_CONNECTION_TTL, TimeUnit.SECONDS);
+        redisTemplate.opsForSet().add(connectionKey, connection.getId());
+        redisTemplate.expire(connectionKey, SSE_CONNECTION_TTL);
 
-        log.info("SSE 연결 저장: customerId={}, serverId={}", customerId, serverId);
+        log.info("SSE 연결 저장: userKey={}, connectionId={}, serverId={}", userKey, connection.getConnectionId(), serverId);
+        return connection;
     }
 
-    public SseEmitter findLocalEmitter(Long customerId) {
-        return localEmitters.get(customerId);
+    // 현재 서버에 있는 사용자의 연결 (탭 여러 개)
+    public Collection<SseConnection> findLocalConnections(Character userType, Long userId) {
+        Map<String, SseConnection> connections = localConnections.get(userKey(userType, userId));
+        return connections == null ? List.of() : connections.values();
     }
 
-    public void deleteById(Long customerId) {
-        // 로컬 메모리에서 삭제
-        localEmitters.remove(customerId);
+    public int countLocalConnections() {
+        return localConnections.values().stream().mapToInt(Map::size).sum();
+    }
 
-        // Redis에서 삭제
-        String userKey = SSE_USER_KEY_PREFIX + customerId;
-        Object storedServerId = redisTemplate.opsForValue().get(userKey);
+    // 연결 삭제 (연결이 닫힐 때 호출됨, 여러 번 불려도 한 번만 처리)
+    public void delete(SseConnection connection) {
+        boolean[] removed = new boolean[1];
+        localConnections.computeIfPresent(connection.getUserKey(), (key, connections) -> {
+            removed[0] = connections.remove(connection.getConnectionId()) != null;
+            return connections.isEmpty() ? null : connections;
+        });
+        if (!removed[0]) {
+            return;
+        }
 
-        if (storedServerId != null) {
-            redisTemplate.delete(userKey);
+        try {
+            redisTemplate.opsForHash().delete(SSE_USER_KEY_PREFIX + connection.getUserKey(), connection.getConnectionId());
+            redisTemplate.opsForSet().remove(SSE_CONNECTION_PREFIX + serverId, connection.getId());
+        } catch (Exception e) {
+            log.error("SSE 연결 정보 삭제 실패: userKey={}, connectionId={}", connection.getUserKey(), connection.getConnectionId(), e);
+        }
+        log.info("SSE 연결 삭제: userKey={}, connectionId={}", connection.getUserKey(), connection.getConnectionId());
+    }
 
-            // 서버별 연결 목록에서 제거
-            String connectionKey = SSE_CONNECTION_PREFIX + storedServerId;
-            redisTemplate.opsForSet().remove(connectionKey, customerId.toString());
+    /**
+     * 모든 연결에 하트비트 주석을 보내고 닫힌 연결을 정리, 정리한 연결 수를 반환
+     * 하트비트 전송이 실패하거나 대기열이 밀린 연결은 SseConnection이 스스로 닫으므로 다음 주기에 정리된다.
+     * 살아 있는 연결의 Redis 연결 정보는 사용자 해시마다 스크립트 한 번(파이프라인 한 번)으로 갱신하고,
+     * Redis에서 이미 지워진 연결(만료, 다른 경로로 삭제)은 되살리지 않고 닫는다.
+     */
+    public int heartbeat() {
+        List<SseConnection> dead = new ArrayList<>();
+        Map<String, Map<String, SseConnection>> alive = new LinkedHashMap<>();
+        for (Map<String, SseConnection> connections : localConnections.values()) {
+            for (SseConnection connection : connections.values()) {
+                if (connection.isClosed() || !connection.send(SseEmitter.event().comment("heartbeat"))) {
+                    dead.add(connection);
+                } else {
+                    alive.computeIfAbsent(SSE_USER_KEY_PREFIX + connection.getUserKey(), key -> new LinkedHashMap<>())
+                            .put(connection.getConnectionId(), connection);
+                }
+            }
         }
+        dead.forEach(this::delete);
 
-        log.info("SSE 연결 삭제: customerId={}", customerId);
-    }
+        long now = System.currentTimeMillis();
+        byte[] script = serialize(HEARTBEAT_SCRIPT);
+        byte[] value = serialize(presenceValue(now));
+        byte[] ttl = serialize(String.valueOf(SSE_CONNECTION_TTL.getSeconds()));
+        byte[] staleBefore = serialize(String.valueOf(now - SSE_CONNECTION_TTL.toMillis()));
+        List<String> presenceKeys = new ArrayList<>(alive.keySet());
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String presenceKey : presenceKeys) {
+                Set<String> connectionIds = alive.get(presenceKey).keySet();
+                byte[][] keysAndArgs = new byte[4 + connectionIds.size()][];
+                keysAndArgs[0] = serialize(presenceKey);
+                keysAndArgs[1] = value;
+                keysAndArgs[2] = ttl;
+                keysAndArgs[3] = staleBefore;
+                int i = 4;
+                for (String connectionId : connectionIds) {
+                    keysAndArgs[i++] = serialize(connectionId);
+                }
+                connection.scriptingCommands().eval(script, ReturnType.MULTI, 1, keysAndArgs);
+            }
+            connection.keyCommands().expire(serialize(SSE_CONNECTION_PREFIX + serverId), SSE_CONNECTION_TTL.getSeconds());
+            return null;
+        });
 
-    // 특정 사용자가 어느 서버에 연결되어 있는지 확인
-    public String findServerIdByCustomerId(Long customerId) {
-        String userKey = SSE_USER_KEY_PREFIX + customerId;
-        return (String) redisTemplate.opsForValue().get(userKey);
+        int removed = 0;
+        for (int i = 0; i < presenceKeys.size() && i < results.size(); i++) {
+            if (results.get(i) instanceof Collection<?> missing) {
+                for (Object connectionId : missing) {
+                    SseConnection connection = alive.get(presenceKeys.get(i)).get(connectionId.toString());
+                    if (connection != null) {
+                        log.info("Redis에서 사라진 SSE 연결 종료: userKey={}, connectionId={}",
+                                connection.getUserKey(), connection.getConnectionId());
+                        connection.close();
+                        removed++;
+                    }
+                }
+            }
+        }
+        return dead.size() + removed;
     }
 
-    // 현재 서버의 모든 연결된 사용자 ID 조회
-    public Set<Object> findAllLocalConnections() {
-        String connectionKey = SSE_CONNECTION_PREFIX + serverId;
-        return redisTemplate.opsForSet().members(connectionKey);
+    /**
+     * 여러 사용자가 연결된 서버를 파이프라인 한 번으로 조회 (연결되지 않은 사용자는 제외)
+     * 탭마다 다른 서버에 연결될 수 있어서 사용자마다 서버가 여러 개일 수 있다.
+     * 만료 시간 동안 갱신되지 않은 필드(죽은 서버의 연결)는 결과에서 빼고 지운다.
+     */
+    public Map<String, Set<String>> findServerIdsByUserKeys(List<String> userKeys) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String userKey : userKeys) {
+                connection.hashCommands().hGetAll(serialize(SSE_USER_KEY_PREFIX + userKey));
+            }
+            return null;
+        });
+
+        long staleBefore = System.currentTimeMillis() - SSE_CONNECTION_TTL.toMillis();
+        Map<String, Set<String>> serverIds = new HashMap<>();
+        Map<String, List<String>> staleFields = new HashMap<>();
+        for (int i = 0; i < userKeys.size() && i < results.size(); i++) {
+            if (!(results.get(i) instanceof Map<?, ?> entries)) {
+                continue;
+            }
+            Set<String> servers = new HashSet<>();
+            for (Map.Entry<?, ?> entry : entries.entrySet()) {
+                String presence = entry.getValue().toString();
+                int separator = presence.lastIndexOf(PRESENCE_SEPARATOR);
+                long updatedAt = separator < 0 ? 0 : parseMillis(presence.substring(separator + 1));
+                if (updatedAt < staleBefore) {
+                    staleFields.computeIfAbsent(SSE_USER_KEY_PREFIX + userKeys.get(i), key -> new ArrayList<>())
+                            .add(entry.getKey().toString());
+                } else {
+                    servers.add(presence.substring(0, separator));
+                }
+            }
+            if (!servers.isEmpty()) {
+                serverIds.put(userKeys.get(i), servers);
+            }
+        }
+        deleteStaleFields(staleFields);
+        return serverIds;
     }
 
-    // 모든 서버의 연결 정보 조회
-    public Set<String> findAllServerIds() {
-        Set<String> keys = redisTemplate.keys(SSE_CONNECTION_PREFIX + "*");
-        Set<String> serverIds = new java.util.HashSet<>();
+    // 지우지 못해도 다음 조회/하트비트에서 다시 걸러지므로 기록만 함
+    private void deleteStaleFields(Map<String, List<String>> staleFields) {
+        if (staleFields.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                staleFields.forEach((presenceKey, fields) -> connection.hashCommands().hDel(serialize(presenceKey),
+                        fields.stream().map(SseEmitterRepository::serialize).toArray(byte[][]::new)));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("만료된 SSE 연결 정보 삭제 실패: users={}", staleFields.size(), e);
+        }
+    }
 
-        if (keys != null) {
-            for (String key : keys) {
-                serverIds.add(key.replace(SSE_CONNECTION_PREFIX, ""));
-            }
+    // 이전에 같은 서버 ID로 남아 있던 연결 정보 정리 (서버 시작 시), 정리한 연결 수를 반환
+    public int deleteStaleConnections() {
+        String connectionKey = SSE_CONNECTION_PREFIX + serverId;
+        Set<Object> staleConnections = redisTemplate.opsForSet().members(connectionKey);
+        if (staleConnections == null || staleConnections.isEmpty()) {
+            return 0;
         }
 
-        return serverIds;
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Object staleConnection : staleConnections) {
+                // userKey(유형:ID):연결ID
+                String id = staleConnection.toString();
+                int separator = id.lastIndexOf(':');
+                connection.hashCommands().hDel(serialize(SSE_USER_KEY_PREFIX + id.substring(0, separator)),
+                        serialize(id.substring(separator + 1)));
+            }
+            connection.keyCommands().del(serialize(connectionKey));
+            return null;
+        });
+        return staleConnections.size();
     }
 
     public String getCurrentServerId() {
         return serverId;
     }
+
+    // 연결 정보 값 (서버ID|갱신 시각), 갱신 시각은 서버마다의 시계라 만료 시간(하트비트 주기의 3배)보다 작은 차이는 무시됨
+    private String presenceValue(long updatedAt) {
+        return serverId + PRESENCE_SEPARATOR + updatedAt;
+    }
+
+    private static long parseMillis(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static byte[] serialize(String value) {
+        return StringRedisSerializer.UTF_8.serialize(value);
+    }
 }
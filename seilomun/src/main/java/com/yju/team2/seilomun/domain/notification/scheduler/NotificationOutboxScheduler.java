@@ -0,0 +1,52 @@
+package com.yju.team2.seilomun.domain.notification.scheduler;
+
+import com.yju.team2.seilomun.common.job.ClusterJobRunner;
+import com.yju.team2.seilomun.domain.notification.service.NotificationOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationOutboxScheduler {
+
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST = Duration.ofMinutes(1);
+
+    private final NotificationOutboxService notificationOutboxService;
+    private final ClusterJobRunner clusterJobRunner;
+
+    /**
+     * 1초마다 아웃박스에 쌓인 알림 이벤트를 발행
+     * 행 단위 SKIP LOCKED로 가져가므로 모든 서버에서 실행해도 같은 이벤트를 두 번 발행하지 않음
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void relayNotifications() {
+        try {
+            int relayed = notificationOutboxService.relay();
+            if (relayed > 0) {
+                log.debug("알림 아웃박스 릴레이 완료: {}건", relayed);
+            }
+        } catch (Exception e) {
+            log.error("알림 아웃박스 릴레이 실패", e);
+        }
+    }
+
+    /**
+     * 매일 새벽 4시에 발행 완료 후 7일이 지난 이벤트 정리 (여러 서버 중 한 곳에서만)
+     */
+    @Scheduled(cron = "0 0 4 * * ?")
+    public void cleanUpSentEvents() {
+        try {
+            clusterJobRunner.runExclusive("notification-outbox-cleanup", LOCK_AT_MOST, LOCK_AT_LEAST,
+                    () -> notificationOutboxService.deleteSentBefore(LocalDateTime.now().minusDays(7)));
+        } catch (Exception e) {
+            log.error("알림 아웃박스 정리 실패", e);
+        }
+    }
+}
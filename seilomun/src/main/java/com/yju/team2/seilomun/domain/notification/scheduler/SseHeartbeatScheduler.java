@@ -0,0 +1,31 @@
+package com.yju.team2.seilomun.domain.notification.scheduler;
+
+import com.yju.team2.seilomun.domain.notification.repository.SseEmitterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SseHeartbeatScheduler {
+
+    private final SseEmitterRepository sseEmitterRepository;
+
+    /**
+     * 30초마다 이 서버의 모든 SSE 연결에 하트비트를 보내고 끊긴 연결 정리
+     * 프록시가 유휴 연결을 끊지 않게 하고, 끊긴 연결은 전송 실패로 드러나서 정리됨 (서버마다 자기 연결만 처리)
+     */
+    @Scheduled(fixedDelay = 30 * 1000)
+    public void heartbeat() {
+        try {
+            int reaped = sseEmitterRepository.heartbeat();
+            if (reaped > 0) {
+                log.info("끊긴 SSE 연결 정리: {}개, 남은 연결: {}개", reaped, sseEmitterRepository.countLocalConnections());
+            }
+        } catch (Exception e) {
+            log.error("SSE 하트비트 실패", e);
+        }
+    }
+}
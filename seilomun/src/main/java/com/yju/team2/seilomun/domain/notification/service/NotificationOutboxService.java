@@ -0,0 +1,268 @@
+package com.yju.team2.seilomun.domain.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yju.team2.seilomun.domain.notification.dto.ProductStatusPayload;
+import com.yju.team2.seilomun.domain.notification.entity.Notification;
+import com.yju.team2.seilomun.domain.notification.entity.NotificationOutbox;
+import com.yju.team2.seilomun.domain.notification.event.*;
+import com.yju.team2.seilomun.domain.notification.repository.NotificationOutboxRepository;
+import com.yju.team2.seilomun.domain.notification.repository.NotificationBulkRepository;
+import com.yju.team2.seilomun.domain.order.entity.Order;
+import com.yju.team2.seilomun.domain.order.entity.Payment;
+import com.yju.team2.seilomun.domain.order.entity.Refund;
+import com.yju.team2.seilomun.domain.order.repository.OrderRepository;
+import com.yju.team2.seilomun.domain.order.repository.PaymentRepository;
+import com.yju.team2.seilomun.domain.order.repository.RefundRepository;
+import com.yju.team2.seilomun.domain.product.entity.Product;
+import com.yju.team2.seilomun.domain.product.repository.ProductRepository;
+import com.yju.team2.seilomun.domain.review.entity.Review;
+import com.yju.team2.seilomun.domain.review.repository.ReviewRepository;
+import com.yju.team2.seilomun.domain.seller.entity.Seller;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 알림 아웃박스
+ * 주문 수락, 결제 성공 등의 트랜잭션에서는 이벤트 한 줄만 기록하고(enqueue),
+ * 수신자 조회, 알림 저장, Redis 발행은 릴레이(relay)가 별도 트랜잭션에서 배치로 처리한다.
+ * 상품 상태 변경 이벤트는 이전/새 상태와 상품 정보를 payload(JSON)로 함께 기록해서,
+ * 릴레이 전에 상태가 다시 바뀌거나 상품이 삭제돼도 변경 당시의 내용으로 알림을 만든다.
+ * 이벤트마다 수신자 조회/알림 생성을 별도 트랜잭션에서 해서, 한 이벤트가 실패해도 배치 트랜잭션이 롤백 전용이 되지 않고
+ * 실패 횟수 기록과 나머지 이벤트의 발행 완료 처리가 커밋된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationOutboxService {
+
+    private static final Character PENDING = 'P';
+    private static final int BATCH_SIZE = 100;
+    private static final int MAX_BATCHES_PER_RELAY = 10;
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationBulkRepository notificationBulkRepository;
+    private final NotificationService notificationService;
+    private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
+    private final RefundRepository refundRepository;
+    private final ReviewRepository reviewRepository;
+    private final PaymentRepository paymentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 이벤트 하나의 수신자 조회/알림 생성용 (배치 트랜잭션과 분리)
+    private TransactionTemplate resolveTransactionTemplate;
+
+    @PostConstruct
+    void initResolveTransaction() {
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        definition.setReadOnly(true);
+        resolveTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager(), definition);
+    }
+
+    // 호출한 쪽의 트랜잭션에 참여하므로 비즈니스 변경이 롤백되면 이벤트도 함께 사라짐
+    @Transactional
+    public void enqueue(NotificationEvent event) {
+        notificationOutboxRepository.save(NotificationOutbox.builder()
+                .eventType(event.getType())
+                .eventId(event.getEventId())
+                .aggregateId(getAggregateId(event.getEventData()))
+                .payload(toPayload(event))
+                .status(PENDING)
+                .attempts(0)
+                .build());
+    }
+
+    // 대기 중인 이벤트를 배치 단위로 처리, 알림은 커밋된 뒤에 발행해서 구독자가 저장 전의 알림을 받지 않도록 함
+    public int relay() {
+        int relayed = 0;
+        for (int i = 0; i < MAX_BATCHES_PER_RELAY; i++) {
+            RelayBatch batch = transactionTemplate.execute(status -> drainBatch());
+            if (batch == null || batch.drained() == 0) {
+                break;
+            }
+            notificationService.publish(batch.notifications());
+            relayed += batch.drained();
+            if (batch.drained() < BATCH_SIZE) {
+                break;
+            }
+        }
+        return relayed;
+    }
+
+    // 발행 완료 후 보관 기간이 지난 이벤트 삭제
+    @Transactional
+    public int deleteSentBefore(LocalDateTime cutoffDate) {
+        return notificationOutboxRepository.deleteSentBefore(cutoffDate);
+    }
+
+    private RelayBatch drainBatch() {
+        List<NotificationOutbox> pending = notificationOutboxRepository.findPendingForUpdate(BATCH_SIZE);
+        List<Notification> notifications = new ArrayList<>();
+        List<Long> sentIds = new ArrayList<>();
+
+        for (NotificationOutbox outbox : pending) {
+            try {
+                notifications.addAll(resolveTransactionTemplate.execute(status ->
+                        notificationService.createNotifications(toEvent(outbox))));
+                sentIds.add(outbox.getId());
+            } catch (Exception e) {
+                // 한 이벤트가 실패해도 나머지 배치는 계속 처리, 실패한 이벤트의 트랜잭션만 롤백되므로 실패 기록은 배치와 함께 커밋됨
+                outbox.recordFailure(MAX_ATTEMPTS);
+                log.error("알림 아웃박스 처리 실패: outboxId={}, eventId={}, attempts={}",
+                        outbox.getId(), outbox.getEventId(), outbox.getAttempts(), e);
+            }
+        }
+
+        List<Notification> saved = notificationBulkRepository.insertAll(notifications);
+        if (!sentIds.isEmpty()) {
+            notificationOutboxRepository.markSent(sentIds, LocalDateTime.now());
+        }
+
+        log.debug("알림 아웃박스 배치 처리: drained={}, notificationCount={}", pending.size(), notifications.size());
+        return new RelayBatch(pending.size(), saved);
+    }
+
+    // 저장된 대상 엔티티를 다시 읽어서 기존 이벤트 객체로 복원 (수신자 전략, 알림 내용 생성 로직을 그대로 사용)
+    private NotificationEvent toEvent(NotificationOutbox outbox) {
+        Long id = outbox.getAggregateId();
+        String eventId = outbox.getEventId();
+
+        return switch (outbox.getEventType()) {
+            case NEW_PRODUCT -> NewProductEvent.builder().product(findProduct(id)).eventId(eventId).build();
+            case PRODUCT_STATUS_CHANGED -> {
+                ProductStatusPayload payload = readProductStatus(outbox);
+                yield ProductStatusChangedEvent.builder().product(findProduct(id, payload)).eventId(eventId)
+                        .oldStatus(payload == null ? null : payload.getOldStatus())
+                        .newStatus(payload == null ? null : payload.getNewStatus()).build();
+            }
+            case LIKE_PRODUCT_STATUS_CHANGED -> {
+                ProductStatusPayload payload = readProductStatus(outbox);
+                yield LikeProductStatusChangedEvent.builder().product(findProduct(id, payload)).eventId(eventId)
+                        .oldStatus(payload == null ? null : payload.getOldStatus())
+                        .newStatus(payload == null ? null : payload.getNewStatus()).build();
+            }
+            case CART_PRODUCT_STATUS_CHANGED -> {
+                ProductStatusPayload payload = readProductStatus(outbox);
+                yield CartProductStatusChangedEvent.builder().product(findProduct(id, payload)).eventId(eventId)
+                        .oldStatus(payload == null ? null : payload.getOldStatus())
+                        .newStatus(payload == null ? null : payload.getNewStatus()).build();
+            }
+            case ORDER_ACCEPTED -> OrderAcceptedEvent.builder().order(findOrder(id)).eventId(eventId).build();
+            case ORDER_DECLINED -> OrderDeclinedEvent.builder().order(findOrder(id)).eventId(eventId).build();
+            case ORDER_OFFERED -> OrderOfferedEvent.builder().order(findOrder(id)).eventId(eventId).build();
+            case ORDER_REFUND -> OrderRefundEvent.builder().refund(findRefund(id)).eventId(eventId).build();
+            case ORDER_REFUND_ACCEPTED ->
+                    OrderRefundAcceptedEvent.builder().refund(findRefund(id)).eventId(eventId).build();
+            case ORDER_REFUND_DECLINED ->
+                    OrderRefundDeclinedEvent.builder().refund(findRefund(id)).eventId(eventId).build();
+            case REVIEW_WRITTEN -> ReviewWrittenEvent.builder().review(findReview(id)).eventId(eventId).build();
+            case PAYMENT_COMPLETED ->
+                    PaymentCompletedEvent.builder().payment(findPayment(id)).eventId(eventId).build();
+        };
+    }
+
+    private Long getAggregateId(Object eventData) {
+        return switch (eventData) {
+            case Product product -> product.getId();
+            case Order order -> order.getId();
+            case Refund refund -> refund.getId();
+            case Review review -> review.getId();
+            case Payment payment -> payment.getId();
+            default -> throw new IllegalArgumentException("지원하지 않는 알림 이벤트 데이터입니다: " + eventData);
+        };
+    }
+
+    // 상품 상태 변경 이벤트만 이전/새 상태를 기록
+    private String toPayload(NotificationEvent event) {
+        ProductStatusPayload payload = switch (event) {
+            case ProductStatusChangedEvent e -> productStatus(e.getProduct(), e.getOldStatus(), e.getNewStatus());
+            case LikeProductStatusChangedEvent e -> productStatus(e.getProduct(), e.getOldStatus(), e.getNewStatus());
+            case CartProductStatusChangedEvent e -> productStatus(e.getProduct(), e.getOldStatus(), e.getNewStatus());
+            default -> null;
+        };
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림 이벤트 직렬화 실패: " + event.getEventId(), e);
+        }
+    }
+
+    private ProductStatusPayload productStatus(Product product, Character oldStatus, Character newStatus) {
+        return ProductStatusPayload.builder()
+                .productId(product.getId())
+                .productName(product.getName())
+                .sellerId(product.getSeller().getId())
+                .oldStatus(oldStatus)
+                .newStatus(newStatus != null ? newStatus : product.getStatus())
+                .build();
+    }
+
+    // payload가 없는 이전 이벤트는 null (현재 상품 상태로 알림을 만듦)
+    private ProductStatusPayload readProductStatus(NotificationOutbox outbox) {
+        if (outbox.getPayload() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(outbox.getPayload(), ProductStatusPayload.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림 이벤트 payload를 읽을 수 없습니다: " + outbox.getEventId(), e);
+        }
+    }
+
+    // 상품이 삭제됐으면 기록해 둔 값으로 수신자 조회/알림 내용에 필요한 만큼만 채운 상품으로 대신함
+    private Product findProduct(Long id, ProductStatusPayload payload) {
+        if (payload == null) {
+            return findProduct(id);
+        }
+        return productRepository.findById(id).orElseGet(() -> Product.builder()
+                .id(payload.getProductId())
+                .name(payload.getProductName())
+                .status(payload.getNewStatus())
+                .seller(Seller.builder().id(payload.getSellerId()).build())
+                .build());
+    }
+
+    private Product findProduct(Long id) {
+        return productRepository.findById(id)
+                .orElseThrow(() -> new IllegalStateException("알림 대상 상품이 없습니다: " + id));
+    }
+
+    private Order findOrder(Long id) {
+        return orderRepository.findById(id)
+                .orElseThrow(() -> new IllegalStateException("알림 대상 주문이 없습니다: " + id));
+    }
+
+    private Refund findRefund(Long id) {
+        return refundRepository.findById(id)
+                .orElseThrow(() -> new IllegalStateException("알림 대상 환불이 없습니다: " + id));
+    }
+
+    private Review findReview(Long id) {
+        return reviewRepository.findById(id)
+                .orElseThrow(() -> new IllegalStateException("알림 대상 리뷰가 없습니다: " + id));
+    }
+
+    private Payment findPayment(Long id) {
+        return paymentRepository.findById(id)
+                .orElseThrow(() -> new IllegalStateException("알림 대상 결제가 없습니다: " + id));
+    }
+
+    private record RelayBatch(int drained, List<Notification> notifications) {
+    }
+}
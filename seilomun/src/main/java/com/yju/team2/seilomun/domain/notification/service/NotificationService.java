@@ -1,26 +1,49 @@
 package com.yju.team2.seilomun.domain.notification.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yju.team2.seilomun.common.CursorPageDto;
+import com.yju.team2.seilomun.common.CursorToken;
 import com.yju.team2.seilomun.domain.customer.repository.FavoriteRepository;
+import com.yju.team2.seilomun.domain.notification.dto.NotificationBatchMessage;
 import com.yju.team2.seilomun.domain.notification.dto.NotificationDto;
 import com.yju.team2.seilomun.domain.notification.dto.NotificationMessage;
 import com.yju.team2.seilomun.domain.notification.entity.Notification;
 import com.yju.team2.seilomun.domain.notification.event.NotificationEvent;
+import com.yju.team2.seilomun.domain.notification.repository.NotificationBulkRepository;
+import com.yju.team2.seilomun.domain.notification.repository.NotificationReplayBuffer;
 import com.yju.team2.seilomun.domain.notification.repository.NotificationRepository;
+import com.yju.team2.seilomun.domain.notification.repository.SseConnection;
 import com.yju.team2.seilomun.domain.notification.repository.SseEmitterRepository;
 import com.yju.team2.seilomun.domain.notification.strategy.NotificationStrategy;
 import com.yju.team2.seilomun.domain.notification.strategy.NotificationStrategyFactory;
 import com.yju.team2.seilomun.domain.notification.util.NotificationUtil;
 import com.yju.team2.seilomun.domain.product.entity.Product;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -33,9 +56,40 @@ public class NotificationService {
     private final RedisTemplate<String, Object> redisTemplate;
     private final ObjectMapper objectMapper;
     private final NotificationStrategyFactory strategyFactory;
+    private final NotificationBulkRepository notificationBulkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationReplayBuffer notificationReplayBuffer;
 
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60; // 60분
-    private static final String NOTIFICATION_CHANNEL = "notification:channel";
+    private static final String SERVER_CHANNEL_PREFIX = "notification:server:";
+    // 이 수를 넘는 수신자는 요청 스레드가 아닌 팬아웃 스레드에서 청크 단위로 처리
+    private static final int INLINE_FAN_OUT_LIMIT = 500;
+    private static final int FAN_OUT_CHUNK_SIZE = 1000;
+    private static final int PUBLISH_BATCH_SIZE = 200;
+
+    // 대량 팬아웃 전용 스레드 (대기열이 차면 호출한 스레드에서 실행해서 더 받지 않도록 속도를 맞춤)
+    private final ThreadPoolExecutor fanOutExecutor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(50), runnable -> {
+        Thread thread = new Thread(runnable, "notification-fan-out");
+        thread.setDaemon(true);
+        return thread;
+    }, new ThreadPoolExecutor.CallerRunsPolicy());
+
+    // 팬아웃 청크 저장용, 항상 새 트랜잭션
+    // 대기열이 차면 팬아웃이 커밋 후 콜백(afterCommit) 안의 호출한 스레드에서 실행되는데,
+    // 기본 전파(REQUIRED)면 이미 커밋된 트랜잭션에 참여해서 저장이 커밋되지 않음
+    private TransactionTemplate fanOutTransactionTemplate;
+
+    @PostConstruct
+    void initFanOutTransaction() {
+        fanOutTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager(),
+                new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOutExecutor.shutdown();
+    }
 
     // 테스트용 알림 전송 - 고객
     @Transactional
@@ -56,12 +110,7 @@ public class NotificationService {
             notificationRepository.save(notification);
 
             // Redis Pub/Sub으로 알림 메시지 발행
-            NotificationMessage notificationMessage = NotificationMessage.builder()
-                    .customerId(customerId)
-                    .notification(NotificationDto.fromEntity(notification))
-                    .build();
-
-            publishNotification(notificationMessage);
+            publish(List.of(notification));
 
             log.info("테스트 알림 전송 완료: customerId={}, message={}", customerId, message);
 
@@ -90,12 +139,7 @@ public class NotificationService {
             notificationRepository.save(notification);
 
             // Redis Pub/Sub으로 알림 메시지 발행
-            NotificationMessage notificationMessage = NotificationMessage.builder()
-                    .customerId(sellerId) // 실제로는 sellerId지만 기존 구조 유지
-                    .notification(NotificationDto.fromEntity(notification))
-                    .build();
-
-            publishNotification(notificationMessage);
+            publish(List.of(notification));
 
             log.info("테스트 알림 전송 완료: sellerId={}, message={}", sellerId, message);
 
@@ -106,111 +150,253 @@ public class NotificationService {
     }
 
     // 고객용 SSE 연결
-    public SseEmitter connect(Long customerId) {
-        return createSseConnection(customerId, "CUSTOMER");
+    public SseEmitter connect(Long customerId, String lastEventId) {
+        return createSseConnection(customerId, "CUSTOMER", lastEventId);
     }
 
     // 판매자용 SSE 연결
-    public SseEmitter connectSeller(Long sellerId) {
-        return createSseConnection(sellerId, "SELLER");
+    public SseEmitter connectSeller(Long sellerId, String lastEventId) {
+        return createSseConnection(sellerId, "SELLER", lastEventId);
     }
 
-    // SSE 연결 공통 로직
-    private SseEmitter createSseConnection(Long userId, String userType) {
+    // SSE 연결 공통 로직 (탭마다 연결이 따로 생기고, 고객/판매자는 회원 유형으로 구분)
+    private SseEmitter createSseConnection(Long userId, String userType, String lastEventId) {
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
+        Character recipientType = userType.equals("CUSTOMER") ? 'C' : 'S';
+        String userKey = SseEmitterRepository.userKey(recipientType, userId);
 
-        // Redis에 연결 정보 저장
-        sseEmitterRepository.save(userId, emitter);
+        // 로컬 메모리와 Redis에 연결 정보 저장
+        SseConnection connection = sseEmitterRepository.save(recipientType, userId, emitter);
 
         // 이벤트 핸들러 설정
         emitter.onCompletion(() -> {
             log.info("SSE 연결 완료: userId={}, userType={}", userId, userType);
-            sseEmitterRepository.deleteById(userId);
+            sseEmitterRepository.delete(connection);
         });
 
         emitter.onTimeout(() -> {
             log.info("SSE 연결 타임아웃: userId={}, userType={}", userId, userType);
-            sseEmitterRepository.deleteById(userId);
+            connection.close();
         });
 
         emitter.onError((e) -> {
             log.error("SSE 에러 발생: userId={}, userType={}", userId, userType, e);
-            sseEmitterRepository.deleteById(userId);
+            connection.close();
         });
 
-        // 연결 확인 이벤트 전송
-        try {
-            emitter.send(SseEmitter.event()
-                    .name("connect")
-                    .data(String.format("%s 알림 연결이 성공적으로 설정되었습니다.",
-                            userType.equals("CUSTOMER") ? "고객" : "판매자")));
-        } catch (IOException e) {
-            log.error("연결 확인 이벤트 전송 실패: userId={}, userType={}", userId, userType, e);
-            sseEmitterRepository.deleteById(userId);
+        // 재연결 버퍼에 연결 시점을 남김 (연결 후 알림이 없다가 끊겨도 그 사이 알림이 기록되도록)
+        String connectEventId = notificationReplayBuffer.append(userKey, NotificationReplayBuffer.CONNECT, "");
+
+        // 연결 확인 이벤트 전송 (연결 전송 대기열을 통해 비동기로)
+        // 재연결이면 놓친 알림을 다시 보낼 때까지 Last-Event-ID가 앞서 나가지 않도록 ID 없이 보냄
+        SseEmitter.SseEventBuilder connectEvent = SseEmitter.event()
+                .name("connect")
+                .data(String.format("%s 알림 연결이 성공적으로 설정되었습니다.",
+                        userType.equals("CUSTOMER") ? "고객" : "판매자"));
+        if (lastEventId == null && connectEventId != null) {
+            connectEvent.id(connectEventId);
+        }
+        connection.send(connectEvent);
+
+        if (lastEventId != null) {
+            replayMissedNotifications(connection, userKey, lastEventId, connectEventId);
         }
 
         return emitter;
     }
 
+    /**
+     * 재연결 시 Last-Event-ID 이후 놓친 알림을 버퍼에서 다시 보냄 (DB 조회 없음)
+     * 연결을 먼저 등록한 뒤에 읽으므로 실시간 알림과 겹쳐 같은 ID가 두 번 갈 수 있고, 클라이언트는 ID로 중복을 거른다.
+     * 버퍼가 만료됐거나 이미 잘려 나가 빠짐없이 보낼 수 없으면 resync 이벤트로 목록을 다시 불러오게 한다.
+     */
+    private void replayMissedNotifications(SseConnection connection, String userKey, String lastEventId, String connectEventId) {
+        List<NotificationReplayBuffer.Entry> missed = notificationReplayBuffer.readAfter(userKey, lastEventId);
+        if (missed == null) {
+            SseEmitter.SseEventBuilder resync = SseEmitter.event().name("resync").data("알림 목록을 다시 불러와 주세요.");
+            if (connectEventId != null) {
+                resync.id(connectEventId);
+            }
+            connection.send(resync);
+            log.info("SSE 재연결 알림 재전송 불가, 목록 재조회 요청: userKey={}, lastEventId={}", userKey, lastEventId);
+            return;
+        }
+
+        // 버퍼에는 알림 JSON을 그대로 저장하므로 다시 변환하지 않고 보냄
+        for (NotificationReplayBuffer.Entry entry : missed) {
+            connection.send(SseEmitter.event()
+                    .id(entry.id())
+                    .name("notification")
+                    .data(entry.data(), MediaType.APPLICATION_JSON));
+        }
+        log.info("SSE 재연결 놓친 알림 재전송: userKey={}, count={}", userKey, missed.size());
+    }
+
     // 범용적인 알림 처리 메서드
+    // 비즈니스 로직에서는 NotificationOutboxService.enqueue를 사용하고, 즉시 발송이 필요한 경우에만 사용
+    // 수신자가 많으면 호출한 쪽 트랜잭션이 커밋된 뒤 팬아웃 스레드에서 청크마다 별도 트랜잭션으로 저장/발행
     @Transactional
     public void processNotification(NotificationEvent event) {
         try {
-            // 전략 패턴을 사용하여 수신자 결정
-            NotificationStrategy strategy = strategyFactory.getStrategy(event.getType());
-            List<Long> recipientIds = strategy.getRecipients(event);
-            Character recipientType = strategy.getRecipientType();
+            List<Notification> notifications = createNotifications(event);
+            if (notifications.size() <= INLINE_FAN_OUT_LIMIT) {
+                List<Notification> saved = notificationBulkRepository.insertAll(notifications);
+                runAfterCommit(() -> publish(saved));
+            } else {
+                runAfterCommit(() -> fanOutExecutor.execute(() -> fanOut(event.getEventId(), notifications)));
+            }
+
+            log.info("알림 처리 완료: eventId={}, recipientCount={}",
+                    event.getEventId(), notifications.size());
+
+        } catch (Exception e) {
+            log.error("알림 처리 중 오류 발생: eventId={}", event.getEventId(), e);
+        }
+    }
 
-            log.info("알림 처리 시작: eventType={}, recipientCount={}",
-                    event.getType(), recipientIds.size());
+    // 전략 패턴을 사용하여 수신자를 결정하고 수신자별 알림 생성 (저장은 호출하는 쪽에서 일괄 처리)
+    public List<Notification> createNotifications(NotificationEvent event) {
+        NotificationStrategy strategy = strategyFactory.getStrategy(event.getType());
+        List<Long> recipientIds = strategy.getRecipients(event);
+        Character recipientType = strategy.getRecipientType();
+
+        log.info("알림 처리 시작: eventType={}, recipientCount={}",
+                event.getType(), recipientIds.size());
+
+        List<Notification> notifications = new ArrayList<>(recipientIds.size());
+        for (Long recipientId : recipientIds) {
+            notifications.add(NotificationUtil.createNotification(event, recipientId, recipientType));
+        }
+        return notifications;
+    }
 
-            for (Long recipientId : recipientIds) {
-                // 알림 생성
-                Notification notification = NotificationUtil.createNotification(event, recipientId, recipientType);
+    // 서버별 알림 채널, 각 서버는 자기 채널만 구독
+    public static String serverChannel(String serverId) {
+        return SERVER_CHANNEL_PREFIX + serverId;
+    }
 
-                notificationRepository.save(notification);
+    /**
+     * 저장된 알림들을 수신자가 연결된 서버별로 묶어 그 서버의 채널로만 발행
+     * 연결 서버는 수신자 묶음마다 파이프라인 한 번으로 조회하고, SSE로 연결되지 않은 수신자는 DB 저장만 하고 발행하지 않음
+     * 탭마다 다른 서버에 연결되어 있으면 연결된 서버마다 발행
+     * 서버 수가 늘어도 알림 하나당 발행/역직렬화는 연결된 서버 한 곳에서만 일어남
+     */
+    public void publish(List<Notification> notifications) {
+        for (int from = 0; from < notifications.size(); from += FAN_OUT_CHUNK_SIZE) {
+            List<Notification> chunk = notifications.subList(from, Math.min(from + FAN_OUT_CHUNK_SIZE, notifications.size()));
+            List<String> userKeys = new ArrayList<>(chunk.size());
+            List<NotificationDto> dtos = new ArrayList<>(chunk.size());
+            List<String> payloads = new ArrayList<>(chunk.size());
+            for (Notification notification : chunk) {
+                NotificationDto dto = NotificationDto.fromEntity(notification);
+                userKeys.add(SseEmitterRepository.userKey(notification.getRecipientType(), notification.getRecipientId()));
+                dtos.add(dto);
+                payloads.add(toJson(dto));
+            }
 
-                // Redis Pub/Sub으로 알림 메시지 발행
+            // 재연결 버퍼에 먼저 기록해서 그 항목 ID를 SSE 이벤트 ID로 사용 (최근 연결한 적 없는 수신자는 기록 안 됨)
+            List<String> eventIds = appendToReplayBuffer(userKeys, payloads);
+            Map<String, Set<String>> serverIds = sseEmitterRepository.findServerIdsByUserKeys(
+                    userKeys.stream().distinct().toList());
+
+            Map<String, List<NotificationMessage>> messagesByServer = new HashMap<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                Notification notification = chunk.get(i);
+                Set<String> servers = serverIds.get(userKeys.get(i));
+                if (servers == null) {
+                    continue;
+                }
                 NotificationMessage message = NotificationMessage.builder()
-                        .customerId(recipientId)
-                        .notification(NotificationDto.fromEntity(notification))
+                        .customerId(notification.getRecipientId())
+                        .recipientType(notification.getRecipientType())
+                        .eventId(eventIds.get(i))
+                        .notification(dtos.get(i))
                         .build();
+                servers.forEach(serverId -> messagesByServer.computeIfAbsent(serverId, key -> new ArrayList<>()).add(message));
+            }
+
+            messagesByServer.forEach((serverId, messages) -> {
+                for (int i = 0; i < messages.size(); i += PUBLISH_BATCH_SIZE) {
+                    publishBatch(serverId, messages.subList(i, Math.min(i + PUBLISH_BATCH_SIZE, messages.size())));
+                }
+            });
+        }
+    }
 
-                publishNotification(message);
+    // 대량 팬아웃: 청크마다 새 트랜잭션으로 일괄 저장 후 발행, 실패한 청크는 기록만 하고 나머지는 계속 처리
+    private void fanOut(String eventId, List<Notification> notifications) {
+        int sent = 0;
+        for (int from = 0; from < notifications.size(); from += FAN_OUT_CHUNK_SIZE) {
+            List<Notification> chunk = notifications.subList(from, Math.min(from + FAN_OUT_CHUNK_SIZE, notifications.size()));
+            try {
+                List<Notification> saved = fanOutTransactionTemplate.execute(status -> notificationBulkRepository.insertAll(chunk));
+                publish(saved);
+                sent += saved.size();
+            } catch (Exception e) {
+                log.error("대량 알림 처리 실패: eventId={}, from={}, size={}", eventId, from, chunk.size(), e);
             }
+        }
+        log.info("대량 알림 처리 완료: eventId={}, sent={}/{}", eventId, sent, notifications.size());
+    }
 
-            log.info("알림 처리 완료: eventId={}, recipientCount={}",
-                    event.getEventId(), recipientIds.size());
+    // 트랜잭션 안이면 커밋된 뒤에, 아니면 바로 실행 (구독자가 저장 전의 알림을 받지 않도록)
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
 
+    // 버퍼 기록에 실패해도 실시간 발행은 계속 (이벤트 ID 없이 보내고, 그 알림은 재연결 때 다시 보내지 못함)
+    private List<String> appendToReplayBuffer(List<String> userKeys, List<String> payloads) {
+        try {
+            return notificationReplayBuffer.appendAll(userKeys, NotificationReplayBuffer.NOTIFICATION, payloads);
         } catch (Exception e) {
-            log.error("알림 처리 중 오류 발생: eventId={}", event.getEventId(), e);
+            log.error("알림 재연결 버퍼 기록 실패: count={}", userKeys.size(), e);
+            return Collections.nCopies(userKeys.size(), null);
         }
     }
 
-    // Redis Pub/Sub으로 알림 발행
-    private void publishNotification(NotificationMessage message) {
+    private String toJson(NotificationDto dto) {
         try {
-            String jsonMessage = objectMapper.writeValueAsString(message);
-            redisTemplate.convertAndSend(NOTIFICATION_CHANNEL, jsonMessage);
-            log.debug("알림 발행: recipientId={}", message.getCustomerId());
+            return objectMapper.writeValueAsString(dto);
         } catch (Exception e) {
-            log.error("알림 발행 실패", e);
+            throw new IllegalStateException("알림 직렬화 실패: notificationId=" + dto.getId(), e);
         }
     }
 
-    // 로컬 SSE 이미터로 알림 전송
-    public void sendLocalNotification(Long userId, NotificationDto notificationDto) {
-        SseEmitter emitter = sseEmitterRepository.findLocalEmitter(userId);
+    // 한 서버에 보낼 알림 묶음을 그 서버 채널에 메시지 하나로 발행
+    private void publishBatch(String serverId, List<NotificationMessage> messages) {
+        try {
+            String jsonMessage = objectMapper.writeValueAsString(NotificationBatchMessage.builder()
+                    .serverId(serverId)
+                    .notifications(messages)
+                    .build());
+            redisTemplate.convertAndSend(serverChannel(serverId), jsonMessage);
+            log.debug("알림 발행: serverId={}, count={}", serverId, messages.size());
+        } catch (Exception e) {
+            log.error("알림 발행 실패: serverId={}, count={}", serverId, messages.size(), e);
+        }
+    }
 
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("notification")
-                        .data(notificationDto));
-                log.info("로컬 알림 전송 성공: userId={}", userId);
-            } catch (IOException e) {
-                log.error("로컬 알림 전송 실패: userId={}", userId, e);
-                sseEmitterRepository.deleteById(userId);
+    // 현재 서버에 있는 사용자의 모든 연결(탭)로 알림 전송
+    // 연결마다 전송 대기열에 넣기만 하고 바로 돌아오므로 느린 클라이언트가 Redis 리스너 스레드를 막지 않음
+    public void sendLocalNotification(Character recipientType, Long userId, String eventId, NotificationDto notificationDto) {
+        for (SseConnection connection : sseEmitterRepository.findLocalConnections(recipientType, userId)) {
+            SseEmitter.SseEventBuilder event = SseEmitter.event()
+                    .name("notification")
+                    .data(notificationDto);
+            if (eventId != null) {
+                event.id(eventId);
+            }
+            if (!connection.send(event)) {
+                log.warn("로컬 알림 전송 실패: userId={}, connectionId={}", userId, connection.getConnectionId());
             }
         }
     }
@@ -271,4 +457,16 @@ public class NotificationService {
         Character recipientType = userType.equals("CUSTOMER") ? 'C' : 'S';
         return notificationRepository.findNotificationsByRecipientWithPaging(userId, recipientType, page * size, size);
     }
+
+    // 커서 기반 알림 목록 조회 (OFFSET 없이 이전 페이지 마지막 알림 다음부터)
+    public CursorPageDto<Notification> getNotificationsByCursor(Long userId, String userType, String cursor, int size) {
+        Character recipientType = userType.equals("CUSTOMER") ? 'C' : 'S';
+        CursorToken cursorToken = CursorToken.decode(cursor);
+        int pageSize = CursorPageDto.clampSize(size);
+
+        List<Notification> notifications = notificationRepository.findByRecipientBeforeCursor(userId, recipientType,
+                cursorToken.getCreatedAt(), cursorToken.getId(), PageRequest.of(0, pageSize + 1));
+
+        return CursorPageDto.of(notifications, pageSize, Notification::getCreatedAt, Notification::getId, Function.identity());
+    }
 }
\ No newline at end of file
@@ -1,8 +1,8 @@
 package com.yju.team2.seilomun.domain.notification.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yju.team2.seilomun.domain.notification.dto.NotificationBatchMessage;
 import com.yju.team2.seilomun.domain.notification.dto.NotificationMessage;
-import com.yju.team2.seilomun.domain.notification.repository.SseEmitterRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
@@ -16,23 +16,18 @@ public class NotificationSubscriber implements MessageListener {
 
     private final ObjectMapper objectMapper;
     private final NotificationService notificationService;
-    private final SseEmitterRepository sseEmitterRepository;
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
         try {
             String jsonMessage = new String(message.getBody());
-            NotificationMessage notificationMessage = objectMapper.readValue(jsonMessage, NotificationMessage.class);
+            NotificationBatchMessage batchMessage = objectMapper.readValue(jsonMessage, NotificationBatchMessage.class);
 
-            Long customerId = notificationMessage.getCustomerId();
-
-            // 현재 서버에 해당 고객이 연결되어 있는지 확인
-            String serverIdOfCustomer = sseEmitterRepository.findServerIdByCustomerId(customerId);
-            String currentServerId = sseEmitterRepository.getCurrentServerId();
-
-            if (currentServerId.equals(serverIdOfCustomer)) {
-                // 현재 서버에 연결된 고객이면 직접 전송
-                notificationService.sendLocalNotification(customerId, notificationMessage.getNotification());
+            // 현재 서버 채널로만 발행되므로 연결 서버 확인 없이 바로 전송
+            for (NotificationMessage notificationMessage : batchMessage.getNotifications()) {
+                notificationService.sendLocalNotification(notificationMessage.getRecipientType(),
+                        notificationMessage.getCustomerId(), notificationMessage.getEventId(),
+                        notificationMessage.getNotification());
             }
 
         } catch (Exception e) {
@@ -17,34 +17,25 @@ public class CartProductStatusChangedNotificationStrategy implements Notificatio
 
     private final RedisTemplate<String, Object> redisTemplate;
 
-    private static final String CART_KEY = "cart:";
-
     @Override
     public List<Long> getRecipients(NotificationEvent event) {
         Product product = (Product) event.getEventData();
-        List<Long> customerIds = new ArrayList<>();
-
-        // Redis에서 해당 상품을 장바구니에 담은 모든 사용자 찾기
-        Set<String> cartKeys = redisTemplate.keys(CART_KEY + "*");
-
-        if (cartKeys != null) {
-            for (String cartKey : cartKeys) {
-                // cart:userId 형태에서 userId 추출
-                String userId = cartKey.replace(CART_KEY, "");
 
-                // 해당 사용자의 장바구니에 이 상품이 있는지 확인
-                Boolean hasProduct = redisTemplate.opsForHash().hasKey(cartKey, product.getId().toString());
+        // 상품별 장바구니 역색인에서 해당 상품을 담은 사용자 조회 (장바구니 키 전체를 훑지 않음)
+        // CartService를 주입받으면 알림 서비스와 순환 참조가 생겨서 키 이름만 가져다 씀
+        Set<Object> members = redisTemplate.opsForSet().members(CartService.getProductCartsKey(product.getId()));
+        if (members == null) {
+            return new ArrayList<>();
+        }
 
-                if (Boolean.TRUE.equals(hasProduct)) {
-                    try {
-                        customerIds.add(Long.parseLong(userId));
-                    } catch (NumberFormatException e) {
-                        // 잘못된 userId 형태는 무시
-                    }
-                }
+        List<Long> customerIds = new ArrayList<>();
+        for (Object member : members) {
+            try {
+                customerIds.add(Long.parseLong(member.toString()));
+            } catch (NumberFormatException e) {
+                // 잘못된 userId 형태는 무시
             }
         }
-
         return customerIds;
     }
 
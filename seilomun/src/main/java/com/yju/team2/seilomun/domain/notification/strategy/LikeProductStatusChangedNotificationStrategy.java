@@ -20,8 +20,8 @@ public class LikeProductStatusChangedNotificationStrategy implements Notificatio
     public List<Long> getRecipients(NotificationEvent event) {
         Product product = (Product) event.getEventData();
 
-        // 해당 상품을 좋아요한 모든 고객들에게 알림
-        List<Wish> wishes = wishRepository.findByProduct(product);
+        // 해당 상품을 좋아요한 모든 고객들에게 알림 (아웃박스 값으로 복원한 상품일 수 있어서 ID로 조회)
+        List<Wish> wishes = wishRepository.findByProductId(product.getId());
 
         return wishes.stream()
                 .map(wish -> wish.getCustomer().getId())
@@ -1,7 +1,10 @@
 package com.yju.team2.seilomun.domain.notification.util;
 
 import com.yju.team2.seilomun.domain.notification.entity.Notification;
+import com.yju.team2.seilomun.domain.notification.event.CartProductStatusChangedEvent;
+import com.yju.team2.seilomun.domain.notification.event.LikeProductStatusChangedEvent;
 import com.yju.team2.seilomun.domain.notification.event.NotificationEvent;
+import com.yju.team2.seilomun.domain.notification.event.ProductStatusChangedEvent;
 import com.yju.team2.seilomun.domain.order.entity.Order;
 import com.yju.team2.seilomun.domain.order.entity.Payment;
 import com.yju.team2.seilomun.domain.order.entity.Refund;
@@ -63,13 +66,13 @@ public class NotificationUtil {
 
             case LIKE_PRODUCT_STATUS_CHANGED:
                 Product likedProduct = (Product) eventData;
-                String likedStatusMessage = getProductStatusChangeMessage(likedProduct.getStatus());
+                String likedStatusMessage = getProductStatusChangeMessage(statusChangedTo(event, likedProduct));
                 return String.format("좋아요한 상품 '%s'의 상태가 %s",
                         likedProduct.getName(), likedStatusMessage);
 
             case CART_PRODUCT_STATUS_CHANGED:
                 Product cartProduct = (Product) eventData;
-                String cartStatusMessage = getProductStatusChangeMessage(cartProduct.getStatus());
+                String cartStatusMessage = getProductStatusChangeMessage(statusChangedTo(event, cartProduct));
                 return String.format("장바구니 상품 '%s'의 상태가 %s",
                         cartProduct.getName(), cartStatusMessage);
 
@@ -90,7 +93,7 @@ public class NotificationUtil {
 
             case PRODUCT_STATUS_CHANGED:
                 Product changedProduct = (Product) eventData;
-                String sellerStatusMessage = getProductStatusChangeMessage(changedProduct.getStatus());
+                String sellerStatusMessage = getProductStatusChangeMessage(statusChangedTo(event, changedProduct));
                 return String.format("등록하신 상품 '%s'의 상태가 %s",
                         changedProduct.getName(), sellerStatusMessage);
 
@@ -112,6 +115,17 @@ public class NotificationUtil {
         }
     }
 
+    // 이벤트에 기록된 새 상태 (알림을 만드는 시점의 상품 상태는 그 사이에 또 바뀌었을 수 있음)
+    private static Character statusChangedTo(NotificationEvent event, Product product) {
+        Character newStatus = switch (event) {
+            case ProductStatusChangedEvent e -> e.getNewStatus();
+            case LikeProductStatusChangedEvent e -> e.getNewStatus();
+            case CartProductStatusChangedEvent e -> e.getNewStatus();
+            default -> null;
+        };
+        return newStatus != null ? newStatus : product.getStatus();
+    }
+
     // 상품 상태 변경 메시지 생성
     private static String getProductStatusChangeMessage(Character status) {
         switch (status) {
@@ -0,0 +1,70 @@
+package com.yju.team2.seilomun.domain.order.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+
+/**
+ * 결제 서버 호출용 서킷 브레이커
+ * CLOSED: 정상 호출, 연속 실패가 임계치에 도달하면 OPEN
+ * OPEN: 정해진 시간 동안 호출하지 않고 바로 실패
+ * HALF_OPEN: OPEN 시간이 지나면 한 건만 시험 호출, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+@Slf4j
+public class PaymentCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedAt = 0;
+    private boolean trialInFlight = false;
+
+    public PaymentCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("결제 서버 서킷 브레이커 CLOSED");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+            trialInFlight = false;
+            log.warn("결제 서버 서킷 브레이커 OPEN: 연속 실패={}", consecutiveFailures);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,177 @@
+package com.yju.team2.seilomun.domain.order.client;
+
+import com.yju.team2.seilomun.config.TossPaymentConfig;
+import com.yju.team2.seilomun.domain.order.dto.PaymentSuccessDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 토스페이먼츠 API 클라이언트
+ * - JDK HttpClient 하나를 재사용해서 keep-alive 커넥션을 유지
+ * - 연결/응답 타임아웃, 타임아웃과 5xx/429 응답은 멱등키를 붙여 제한된 횟수만큼 재시도
+ * - 연속 실패 시 서킷 브레이커로 일정 시간 호출 차단
+ * - 엔드포인트별 지연시간 히스토그램 (toss.payment.latency)
+ */
+@Component
+@Slf4j
+public class TossPaymentClient {
+
+    private static final String CONFIRM = "confirm";
+    private static final String CANCEL = "cancel";
+    private static final String QUERY = "query";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final RestClient restClient;
+    private final PaymentCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    public TossPaymentClient(TossPaymentConfig tossPaymentConfig, MeterRegistry meterRegistry) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(tossPaymentConfig.getConnectTimeoutMillis()))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(tossPaymentConfig.getReadTimeoutMillis()));
+
+        // 토스에서 제공해준 시크릿 키를 Basic Authorization 방식으로 base64 인코딩하여 꼭 보내야함
+        String encodedAuthKey = Base64.getEncoder().encodeToString(
+                (tossPaymentConfig.getTestSecreteKey() + ":").getBytes(StandardCharsets.UTF_8));
+
+        this.restClient = RestClient.builder()
+                .baseUrl(tossPaymentConfig.getBaseUrl())
+                .requestFactory(requestFactory)
+                .defaultHeaders(headers -> {
+                    headers.setBasicAuth(encodedAuthKey);
+                    headers.setContentType(MediaType.APPLICATION_JSON);
+                    headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+                })
+                .build();
+        this.circuitBreaker = new PaymentCircuitBreaker(tossPaymentConfig.getCircuitFailureThreshold(),
+                Duration.ofSeconds(tossPaymentConfig.getCircuitOpenSeconds()));
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, tossPaymentConfig.getMaxAttempts());
+        this.retryBackoffMillis = tossPaymentConfig.getRetryBackoffMillis();
+    }
+
+    // 결제 최종 승인, 같은 주문은 항상 같은 멱등키를 사용하므로 재시도해도 한 번만 승인됨
+    public PaymentSuccessDto confirm(String paymentKey, String orderId, Integer amount) {
+        return post(CONFIRM, paymentKey, Map.of("orderId", orderId, "amount", amount),
+                "confirm-" + orderId, PaymentSuccessDto.class);
+    }
+
+    // 결제 취소
+    public Map cancel(String paymentKey, String cancelReason) {
+        return post(CANCEL, paymentKey + "/cancel", Map.of("cancelReason", cancelReason),
+                "cancel-" + paymentKey, Map.class);
+    }
+
+    // 주문번호(토스에 넘긴 orderId)로 결제 조회, 토스에 결제가 없으면 빈 값
+    // 승인 결과를 모르는 결제의 실제 상태(DONE, CANCELED, ABORTED, EXPIRED 등)를 확인할 때 사용
+    public Optional<Map> findByOrderId(String orderId) {
+        try {
+            return Optional.ofNullable(execute(QUERY, () -> restClient.get().uri("orders/{orderId}", orderId), Map.class));
+        } catch (TossPaymentException e) {
+            if (e.getCause() instanceof HttpClientErrorException.NotFound) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    public PaymentCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private <T> T post(String endpoint, String uri, Object body, String idempotencyKey, Class<T> responseType) {
+        return execute(endpoint, () -> restClient.post()
+                .uri(uri)
+                .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                .body(body), responseType);
+    }
+
+    private <T> T execute(String endpoint, Supplier<RestClient.RequestHeadersSpec<?>> request, Class<T> responseType) {
+        if (!circuitBreaker.tryAcquire()) {
+            meterRegistry.counter("toss.payment.rejected", "endpoint", endpoint).increment();
+            throw new TossPaymentException("결제 서버가 불안정하여 잠시 후 다시 시도해주세요.", false, null);
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            long startedAt = System.nanoTime();
+            String outcome = "success";
+            try {
+                T result = request.get()
+                        .retrieve()
+                        .body(responseType);
+                circuitBreaker.onSuccess();
+                return result;
+            } catch (HttpClientErrorException e) {
+                outcome = "client_error";
+                // 4xx는 토스 서버는 정상이므로 서킷 실패로 보지 않음, 429만 재시도
+                if (e.getStatusCode().value() != 429 || attempt >= maxAttempts) {
+                    circuitBreaker.onSuccess();
+                    throw new TossPaymentException(e.getResponseBodyAsString(), false, e);
+                }
+            } catch (HttpServerErrorException e) {
+                outcome = "server_error";
+                if (attempt >= maxAttempts) {
+                    circuitBreaker.onFailure();
+                    throw new TossPaymentException("결제 서버 오류: " + e.getStatusCode(), true, e);
+                }
+            } catch (ResourceAccessException | CancellationException e) {
+                // JDK 클라이언트는 응답 타임아웃 때 요청을 취소하므로, 시점에 따라 래핑되지 않은 CancellationException이 올라옴
+                outcome = "io_error";
+                if (attempt >= maxAttempts) {
+                    circuitBreaker.onFailure();
+                    throw new TossPaymentException("결제 서버 응답 없음: " + e.getMessage(), true, e);
+                }
+            } catch (RuntimeException e) {
+                // 응답 파싱 실패 등은 토스에서 처리됐을 수 있으므로 결과를 알 수 없음으로 처리
+                outcome = "unknown_error";
+                circuitBreaker.onFailure();
+                throw new TossPaymentException("결제 응답 처리 실패: " + e.getMessage(), true, e);
+            } finally {
+                Timer.builder("toss.payment.latency")
+                        .description("토스 결제 API 응답 시간")
+                        .tag("endpoint", endpoint)
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+            backoff(endpoint, attempt);
+        }
+    }
+
+    private void backoff(String endpoint, int attempt) {
+        log.warn("토스 결제 API 재시도: endpoint={}, attempt={}", endpoint, attempt);
+        meterRegistry.counter("toss.payment.retry", "endpoint", endpoint).increment();
+        try {
+            Thread.sleep(retryBackoffMillis * (1L << (attempt - 1)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.onFailure();
+            throw new TossPaymentException("결제 요청 재시도 중 중단되었습니다.", true, e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.yju.team2.seilomun.domain.order.client;
+
+import lombok.Getter;
+
+// 토스 결제 API 호출 실패
+// outcomeUnknown: 타임아웃 등으로 토스에서 처리됐는지 알 수 없는 경우 (같은 멱등키로 다시 요청해야 함)
+@Getter
+public class TossPaymentException extends RuntimeException {
+
+    private final boolean outcomeUnknown;
+
+    public TossPaymentException(String message, boolean outcomeUnknown, Throwable cause) {
+        super(message, cause);
+        this.outcomeUnknown = outcomeUnknown;
+    }
+}
@@ -5,11 +5,15 @@ import com.yju.team2.seilomun.config.TossPaymentConfig;
 import com.yju.team2.seilomun.domain.auth.dto.CartItemRequestDto;
 import com.yju.team2.seilomun.domain.auth.JwtUserDetails;
 import com.yju.team2.seilomun.domain.order.dto.*;
+import com.yju.team2.seilomun.domain.order.enums.ExportFormat;
+import com.yju.team2.seilomun.domain.order.service.OrderExportService;
 import com.yju.team2.seilomun.domain.order.service.OrderService;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -27,6 +31,7 @@ import java.util.Map;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
     private final TossPaymentConfig tossPaymentConfig;
 
     @PostMapping("/buy")
@@ -204,6 +209,24 @@ public class OrderController {
                 Map.of("통계 조회",orderService.getStats(SellerId,period,year,month))));
     }
     
+    // 통계 내보내기 (format: csv, ndjson)
+    @GetMapping("/stats/export")
+    public void exportStats(@AuthenticationPrincipal JwtUserDetails userDetails,
+                            @RequestParam(defaultValue = "monthly") String period,
+                            @RequestParam(required = false) Integer year,
+                            @RequestParam(required = false) Integer month,
+                            @RequestParam(defaultValue = "csv") String format,
+                            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("stats-" + period + "." + exportFormat.getExtension())
+                .build()
+                .toString());
+        orderExportService.exportSellerStats(userDetails.getId(), period, year, month, exportFormat,
+                response.getOutputStream());
+    }
+
     // SDK창 닫을때
     @PostMapping("/close-payment/{orderId}")
     public ResponseEntity<ApiResponseJson> closePayment(
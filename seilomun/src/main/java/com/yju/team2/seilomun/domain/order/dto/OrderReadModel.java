@@ -0,0 +1,79 @@
+package com.yju.team2.seilomun.domain.order.dto;
+
+import com.yju.team2.seilomun.domain.order.entity.Order;
+import com.yju.team2.seilomun.domain.order.entity.OrderItem;
+import com.yju.team2.seilomun.domain.product.entity.Product;
+import com.yju.team2.seilomun.domain.seller.entity.Seller;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 주문 목록/상세 응답을 만들 때 필요한 연관 데이터를 주문 묶음 단위로 미리 읽어둔 결과
+@AllArgsConstructor
+public class OrderReadModel {
+
+    private final Map<Long, List<OrderItem>> itemsByOrderId;
+    private final Map<Long, String> productPhotoUrls;
+    private final Map<Long, String> sellerPhotoUrls;
+    private final Set<Long> reviewedOrderIds;
+    private final Map<Long, Boolean> paySuccessByOrderId;
+
+    public static OrderReadModel empty() {
+        return new OrderReadModel(Map.of(), Map.of(), Map.of(), Set.of(), Map.of());
+    }
+
+    public List<OrderItem> getItems(Order order) {
+        return itemsByOrderId.getOrDefault(order.getId(), List.of());
+    }
+
+    public List<String> getProductNames(Order order) {
+        return getItems(order).stream()
+                .map(item -> item.getProduct().getName())
+                .collect(Collectors.toList());
+    }
+
+    public List<OrderItemDto> getOrderItemDtos(Order order) {
+        return getItems(order).stream()
+                .map(item -> {
+                    Product product = item.getProduct();
+                    return OrderItemDto.builder()
+                            .productName(product.getName())
+                            .expiryDate(product.getExpiryDate())
+                            .quantity(item.getQuantity())
+                            .unitPrice(item.getUnitPrice())
+                            .discountRate(item.getDiscountRate())
+                            .photoUrl(getProductPhotoUrl(product))
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    // 대표 상품(첫 번째 주문 아이템)의 첫 번째 사진
+    public String getFirstProductPhotoUrl(Order order) {
+        List<OrderItem> items = getItems(order);
+        return items.isEmpty() ? null : getProductPhotoUrl(items.get(0).getProduct());
+    }
+
+    public String getProductPhotoUrl(Product product) {
+        return productPhotoUrls.get(product.getId());
+    }
+
+    public String getSellerPhotoUrl(Seller seller) {
+        return seller == null ? null : sellerPhotoUrls.get(seller.getId());
+    }
+
+    public boolean isReviewed(Order order) {
+        return reviewedOrderIds.contains(order.getId());
+    }
+
+    public String getPaymentStatus(Order order) {
+        Boolean paySuccess = paySuccessByOrderId.get(order.getId());
+        if (paySuccess == null) {
+            return "결제정보없음";
+        }
+        return paySuccess ? "결제완료" : "결제실패";
+    }
+}
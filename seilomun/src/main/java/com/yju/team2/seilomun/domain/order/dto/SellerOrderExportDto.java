@@ -0,0 +1,25 @@
+package com.yju.team2.seilomun.domain.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 주문 내보내기 한 줄 (주문 하나)
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SellerOrderExportDto {
+    private Long orderId;
+    private String orderNumber;
+    private LocalDateTime orderDate;
+    private String customerName;
+    private Character orderStatus;
+    private Character isDelivery;
+    private Integer totalAmount;
+    private List<OrderItemDto> orderItems;
+}
@@ -0,0 +1,22 @@
+package com.yju.team2.seilomun.domain.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 주문 내보내기 조회 결과 (주문 아이템 한 줄당 한 행, 엔티티가 아니므로 영속성 컨텍스트에 쌓이지 않음)
+@Getter
+@AllArgsConstructor
+public class SellerOrderExportRow {
+    private Long orderId;
+    private String orderNumber;
+    private LocalDateTime orderDate;
+    private String customerName;
+    private Character orderStatus;
+    private Character isDelivery;
+    private Integer totalAmount;
+    private String productName;
+    private Integer quantity;
+    private Integer unitPrice;
+}
@@ -0,0 +1,14 @@
+package com.yju.team2.seilomun.domain.order.dto;
+
+import com.yju.team2.seilomun.domain.product.entity.Product;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 재고 예약/복구로 상품 상태가 바뀐 경우 (품절, 재입고) 알림 발송용
+@Getter
+@AllArgsConstructor
+public class StockStatusChangeDto {
+    private Product product;
+    private Character oldStatus;
+    private Character newStatus;
+}
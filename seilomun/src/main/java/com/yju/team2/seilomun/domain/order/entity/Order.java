@@ -14,7 +14,10 @@ import java.util.List;
 @Entity
 @Getter
 @Builder
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_customer_created", columnList = "cu_id, created_at, or_id"),
+        @Index(name = "idx_orders_seller_created", columnList = "se_id, created_at, or_id")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 public class Order {
@@ -54,6 +57,11 @@ public class Order {
     @Column(name = "delivery_fee")
     private Integer deliveryFee;
 
+    // 주문 상태 전이는 버전이 일치할 때만 반영 (판매자 중복 클릭 등 동시 요청 방지)
+    @Version
+    @Column(name = "version", columnDefinition = "bigint default 0")
+    private Long version;
+
     @CreationTimestamp
     @Column(name = "created_at",nullable = false)
     private LocalDateTime createdAt;
@@ -34,4 +34,9 @@ public class OrderItem {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "pr_id")
     private Product product;
+
+    // JDBC 일괄 저장 후 생성된 키를 채운 주문 아이템
+    public OrderItem withGeneratedId(Long id) {
+        return new OrderItem(id, quantity, discountRate, unitPrice, order, product);
+    }
 }
@@ -59,6 +59,35 @@ public class Payment {
     @Column
     private String paymentKey;
 
+    /**
+     *  승인 전 : 'N'
+     *  승인 요청 중 : 'P' (토스 승인 API 호출 중이거나 결과를 아직 모름)
+     *  승인 완료 : 'Y'
+     *  승인 실패 : 'F'
+     * */
+    @Column(name = "confirm_status", length = 1)
+    private Character confirmStatus;
+
+    // 마지막으로 승인 요청을 보낸 시각 (결과를 모르는 결제를 일정 시간 뒤 토스에 조회할 때 기준)
+    @Column(name = "confirm_requested_at")
+    private LocalDateTime confirmRequestedAt;
+
+    /**
+     *  취소 요청 중 : 'P' (주문은 취소했고 토스 취소 API 호출 중이거나 결과를 아직 모름)
+     *  취소 완료 : 'Y'
+     * */
+    @Column(name = "cancel_status", length = 1)
+    private Character cancelStatus;
+
+    // 마지막으로 취소 요청을 보낸 시각 (결과를 모르는 취소를 일정 시간 뒤 다시 요청할 때 기준)
+    @Column(name = "cancel_requested_at")
+    private LocalDateTime cancelRequestedAt;
+
+    // 승인 콜백이 동시에 들어와도 한 번만 반영되도록 낙관적 락
+    @Version
+    @Column(name = "version", columnDefinition = "bigint default 0")
+    private Long version;
+
     public PaymentResDto toPaymentResDto(Customer customer ) { // DB에 저장하게 될 결제 관련 정보들
         return PaymentResDto.builder()
                 .payType(paymentMethod)
@@ -86,4 +115,68 @@ public class Payment {
      public void cancelYN(boolean cancelYN){
         this.cancelYN = cancelYN;
      }
+
+    // 토스 승인 요청 전 상태 변경, 결과를 모르는 'P' 상태에서는 같은 멱등키로 다시 요청할 수 있음
+    public void requestConfirm(String paymentKey) {
+        if (isConfirmed()) {
+            throw new IllegalArgumentException("이미 승인된 결제입니다.");
+        }
+        if (confirmStatus != null && confirmStatus == 'F') {
+            throw new IllegalArgumentException("실패 처리된 결제입니다.");
+        }
+        this.paymentKey = paymentKey;
+        this.confirmStatus = 'P';
+        this.confirmRequestedAt = LocalDateTime.now();
+    }
+
+    public boolean isConfirmPending() {
+        return confirmStatus != null && confirmStatus == 'P' && !paySuccessYN;
+    }
+
+    // 승인 완료, 이미 완료된 결제면 false
+    public boolean confirm() {
+        if (isConfirmed()) {
+            return false;
+        }
+        this.confirmStatus = 'Y';
+        this.paySuccessYN = true;
+        return true;
+    }
+
+    // 승인 실패
+    public void failConfirm(String failReason) {
+        if (isConfirmed()) {
+            throw new IllegalArgumentException("이미 승인된 결제입니다.");
+        }
+        this.confirmStatus = 'F';
+        this.paySuccessYN = false;
+        this.failReason = failReason;
+    }
+
+    public boolean isConfirmed() {
+        return paySuccessYN || (confirmStatus != null && confirmStatus == 'Y');
+    }
+
+    // 토스 취소 요청 전 상태 변경, 결과를 모르는 'P' 상태에서는 같은 멱등키로 다시 요청할 수 있음
+    public void requestCancel() {
+        if (cancelYN) {
+            throw new IllegalArgumentException("이미 취소된 결제입니다.");
+        }
+        this.cancelStatus = 'P';
+        this.cancelRequestedAt = LocalDateTime.now();
+    }
+
+    public boolean isCancelPending() {
+        return cancelStatus != null && cancelStatus == 'P' && !cancelYN;
+    }
+
+    // 취소 완료, 이미 취소된 결제면 false
+    public boolean completeCancel() {
+        if (cancelYN) {
+            return false;
+        }
+        this.cancelStatus = 'Y';
+        this.cancelYN = true;
+        return true;
+    }
 }
@@ -0,0 +1,63 @@
+package com.yju.team2.seilomun.domain.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 판매자 일별 매출 집계 (수락된 주문 기준)
+// 주/월/분기/연 통계는 이 테이블을 다시 합산해서 조회하므로 연도/분기/월/주 값을 미리 계산해서 저장함
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "seller_sales_daily",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_seller_sales_daily_seller_date", columnNames = {"se_id", "sales_date"})
+        },
+        indexes = {
+                @Index(name = "idx_seller_sales_daily_seller_year_month", columnList = "se_id, sales_year, sales_month")
+        })
+public class SellerSalesDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ssd_id")
+    private Long id;
+
+    @Column(name = "se_id", nullable = false)
+    private Long sellerId;
+
+    // 주문 생성일
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "sales_year", nullable = false)
+    private Integer salesYear;
+
+    @Column(name = "sales_quarter", nullable = false)
+    private Integer salesQuarter;
+
+    @Column(name = "sales_month", nullable = false)
+    private Integer salesMonth;
+
+    // MySQL WEEK(date, 1)과 같은 기준 (월요일 시작, 0~53)
+    @Column(name = "sales_week", nullable = false)
+    private Integer salesWeek;
+
+    // 판매 수량 (주문 아이템 수량 합)
+    @Column(name = "quantity", nullable = false)
+    private Long quantity;
+
+    // 매출액 (주문 금액 합, 주문당 한 번만 더함)
+    @Column(name = "total_amount", nullable = false)
+    private Long totalAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
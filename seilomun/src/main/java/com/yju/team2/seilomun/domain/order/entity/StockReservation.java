@@ -0,0 +1,54 @@
+package com.yju.team2.seilomun.domain.order.entity;
+
+import com.yju.team2.seilomun.domain.product.entity.Product;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "stock_reservations", indexes = {
+        @Index(name = "idx_stock_reservations_status_expires", columnList = "status, expires_at")
+})
+public class StockReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "sr_id")
+    private Long id;
+
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    /**
+     *  예약(재고 선점) : 'R'
+     *  확정(결제 완료) : 'C'
+     *  해제(만료/취소/환불) : 'X'
+     * */
+    @Column(name = "status", nullable = false, length = 1)
+    private Character status;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "or_id")
+    private Order order;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "oi_id")
+    private OrderItem orderItem;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "pr_id")
+    private Product product;
+}
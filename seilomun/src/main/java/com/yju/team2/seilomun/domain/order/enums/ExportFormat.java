@@ -0,0 +1,32 @@
+package com.yju.team2.seilomun.domain.order.enums;
+
+public enum ExportFormat {
+
+    CSV("text/csv; charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson; charset=UTF-8", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ExportFormat from(String format) {
+        for (ExportFormat exportFormat : values()) {
+            if (exportFormat.extension.equalsIgnoreCase(format)) {
+                return exportFormat;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + format);
+    }
+}
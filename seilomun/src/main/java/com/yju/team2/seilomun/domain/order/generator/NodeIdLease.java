@@ -0,0 +1,93 @@
+package com.yju.team2.seilomun.domain.order.generator;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 주문번호 노드 ID 임대
+ * - 노드 ID마다 order:number:node:{id} 키를 SET NX PX로 잡아서 살아 있는 서버끼리 같은 노드 ID를 쓰지 않게 한다.
+ * - 임대 기간(TTL) 안에 하트비트로 연장하지 못하면 로컬에서도 임대가 끝난 것으로 보고 주문번호 생성을 멈춘다.
+ *   로컬 만료 시각은 Redis 명령을 보내기 전 시각으로 계산하므로 항상 Redis 키보다 먼저 끝나고,
+ *   키가 사라져 다른 서버가 같은 노드 ID를 잡기 전에 이 서버는 이미 생성을 멈춘 상태가 된다.
+ * - 1024개가 모두 임대 중이거나 Redis에 연결할 수 없으면 임의의 노드 ID로 대체하지 않고 예외를 던진다.
+ */
+class NodeIdLease {
+
+    static final Duration TTL = Duration.ofSeconds(60);
+
+    private static final String NODE_KEY_PREFIX = "order:number:node:";
+    // 서버마다 다른 노드 ID부터 찾도록 시작 위치만 나눠 주는 카운터
+    private static final String NODE_SEQUENCE_KEY = "order:number:node-seq";
+
+    // 내가 잡고 있으면 연장, 키가 사라졌으면 (아무도 잡지 않았으므로) 다시 잡음
+    private static final RedisScript<Long> RENEW = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then return 1 end " +
+            "return 0", Long.class);
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long nodeId;
+    private final String token;
+    private volatile long expiresAt;
+
+    private NodeIdLease(RedisTemplate<String, String> redisTemplate, long nodeId, String token, long expiresAt) {
+        this.redisTemplate = redisTemplate;
+        this.nodeId = nodeId;
+        this.token = token;
+        this.expiresAt = expiresAt;
+    }
+
+    static NodeIdLease acquire(RedisTemplate<String, String> redisTemplate, long maxNodeId) {
+        String token = UUID.randomUUID().toString();
+        Long sequence = redisTemplate.opsForValue().increment(NODE_SEQUENCE_KEY);
+        long start = sequence == null ? 0 : sequence - 1;
+
+        for (long i = 0; i <= maxNodeId; i++) {
+            long nodeId = (start + i) & maxNodeId;
+            long expiresAt = System.currentTimeMillis() + TTL.toMillis();
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(nodeKey(nodeId), token, TTL))) {
+                return new NodeIdLease(redisTemplate, nodeId, token, expiresAt);
+            }
+        }
+        throw new IllegalStateException("사용 가능한 주문번호 노드 ID가 없습니다 (0 ~ " + maxNodeId + " 모두 임대 중)");
+    }
+
+    long getNodeId() {
+        return nodeId;
+    }
+
+    boolean isValidAt(long currentTimeMillis) {
+        return currentTimeMillis < expiresAt;
+    }
+
+    // 임대 연장, 다른 서버가 이미 가져갔으면 바로 임대를 끝내고 false
+    // Redis 오류로 연장하지 못하면 예외가 그대로 나가고, 로컬 만료 시각이 지나면 생성이 멈춤
+    boolean renew() {
+        long renewedUntil = System.currentTimeMillis() + TTL.toMillis();
+        Long renewed = redisTemplate.execute(RENEW, List.of(nodeKey(nodeId)), token, String.valueOf(TTL.toMillis()));
+        if (renewed == null || renewed != 1L) {
+            expiresAt = 0;
+            return false;
+        }
+        expiresAt = renewedUntil;
+        return true;
+    }
+
+    void release() {
+        expiresAt = 0;
+        redisTemplate.execute(RELEASE, List.of(nodeKey(nodeId)), token);
+    }
+
+    private static String nodeKey(long nodeId) {
+        return NODE_KEY_PREFIX + nodeId;
+    }
+}
@@ -0,0 +1,6 @@
+package com.yju.team2.seilomun.domain.order.generator;
+
+// 주문번호 생성기
+public interface OrderNumberGenerator {
+    String generate();
+}
@@ -0,0 +1,108 @@
+package com.yju.team2.seilomun.domain.order.generator;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake 방식 주문번호 생성기
+ * 41비트 밀리초 타임스탬프 + 10비트 노드 ID + 12비트 시퀀스를 Crockford base32 13자리로 인코딩한다.
+ * 자릿수가 고정이라 문자열 정렬 순서가 생성 순서와 같고, 노드 ID가 다르면 서버끼리 겹치지 않으므로 DB 중복 확인이 필요 없다.
+ * 노드 ID는 설정값(order.number.node-id)이 있으면 그대로 쓰고, 없으면 Redis에서 임대받는다. (NodeIdLease 참고)
+ * 임대를 받지 못하면 서버가 뜨지 않고, 임대가 연장되지 못한 채 만료되면 generate()가 IllegalStateException을 던진다.
+ */
+@Slf4j
+@Component
+public class SnowflakeOrderNumberGenerator implements OrderNumberGenerator {
+
+    private static final long EPOCH = 1735657200000L; // 2025-01-01T00:00:00+09:00
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final char[] ENCODING = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int LENGTH = 13; // 64비트 / 5비트
+
+    private final long nodeId;
+    // 설정으로 노드 ID를 고정한 경우 null
+    private final NodeIdLease lease;
+
+    // 상위 비트는 타임스탬프, 하위 12비트는 시퀀스
+    private final AtomicLong lastState = new AtomicLong();
+
+    @Autowired
+    public SnowflakeOrderNumberGenerator(RedisTemplate<String, String> redisTemplate,
+                                         @Value("${order.number.node-id:-1}") long configuredNodeId) {
+        this(configuredNodeId >= 0 ? configuredNodeId : -1,
+                configuredNodeId >= 0 ? null : NodeIdLease.acquire(redisTemplate, MAX_NODE_ID));
+    }
+
+    public SnowflakeOrderNumberGenerator(long nodeId) {
+        this(nodeId, null);
+    }
+
+    SnowflakeOrderNumberGenerator(long nodeId, NodeIdLease lease) {
+        if (lease != null) {
+            nodeId = lease.getNodeId();
+        }
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.lease = lease;
+        log.info("주문번호 생성기 노드 ID: {} ({})", nodeId, lease != null ? "Redis 임대" : "고정");
+    }
+
+    // 노드 ID 임대 연장 (OrderNumberLeaseScheduler에서 TTL보다 짧은 주기로 호출)
+    public void renewLease() {
+        if (lease != null && !lease.renew()) {
+            log.error("주문번호 노드 ID 임대를 다른 서버가 가져가서 주문번호 생성 중단: nodeId={}", nodeId);
+        }
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        if (lease != null) {
+            lease.release();
+        }
+    }
+
+    @Override
+    public String generate() {
+        long currentTimeMillis = System.currentTimeMillis();
+        // 임대가 끝난 뒤에는 다른 서버가 같은 노드 ID를 받을 수 있으므로 생성하지 않음
+        if (lease != null && !lease.isValidAt(currentTimeMillis)) {
+            throw new IllegalStateException("주문번호 노드 ID 임대가 만료되어 주문번호를 생성할 수 없습니다: nodeId=" + nodeId);
+        }
+        long now = currentTimeMillis - EPOCH;
+        long next;
+        while (true) {
+            long last = lastState.get();
+            // 같은 밀리초이거나 시계가 뒤로 간 경우 시퀀스를 올리고, 시퀀스가 넘치면 자연스럽게 다음 밀리초로 넘어감
+            next = (now > (last >>> SEQUENCE_BITS)) ? now << SEQUENCE_BITS : last + 1;
+            if (lastState.compareAndSet(last, next)) {
+                break;
+            }
+        }
+
+        long timestamp = next >>> SEQUENCE_BITS;
+        long sequence = next & SEQUENCE_MASK;
+        long id = (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+        return encode(id);
+    }
+
+    private static String encode(long id) {
+        char[] chars = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            chars[i] = ENCODING[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+}
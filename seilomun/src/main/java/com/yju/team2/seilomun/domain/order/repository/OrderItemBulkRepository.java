@@ -0,0 +1,68 @@
+package com.yju.team2.seilomun.domain.order.repository;
+
+import com.yju.team2.seilomun.domain.order.entity.OrderItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 아이템 일괄 저장
+ * IDENTITY 키라서 JPA saveAll은 주문 줄마다 INSERT 하므로, JDBC 배치로 묶어서 보내고 생성된 키를 받아온다.
+ * 주문과 상품은 이미 저장된 상태여야 하고, 호출한 쪽의 트랜잭션에 참여한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderItemBulkRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO order_items " +
+            "(quantity, discount_rate, unit_price, or_id, pr_id) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 저장 후 ID가 채워진 주문 아이템을 같은 순서로 반환
+    public List<OrderItem> insertAll(List<OrderItem> orderItems) {
+        if (orderItems.isEmpty()) {
+            return List.of();
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, new String[]{"oi_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        OrderItem orderItem = orderItems.get(i);
+                        ps.setInt(1, orderItem.getQuantity());
+                        ps.setInt(2, orderItem.getDiscountRate());
+                        ps.setInt(3, orderItem.getUnitPrice());
+                        ps.setLong(4, orderItem.getOrder().getId());
+                        ps.setLong(5, orderItem.getProduct().getId());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return orderItems.size();
+                    }
+                }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != orderItems.size()) {
+            throw new IllegalStateException("주문 아이템 저장 후 생성된 키 수가 맞지 않습니다: " + keys.size() + "/" + orderItems.size());
+        }
+
+        List<OrderItem> saved = new ArrayList<>(orderItems.size());
+        for (int i = 0; i < orderItems.size(); i++) {
+            Number id = (Number) keys.get(i).values().iterator().next();
+            saved.add(orderItems.get(i).withGeneratedId(id.longValue()));
+        }
+        return saved;
+    }
+}
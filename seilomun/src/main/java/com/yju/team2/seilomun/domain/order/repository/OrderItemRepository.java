@@ -3,11 +3,21 @@ package com.yju.team2.seilomun.domain.order.repository;
 import com.yju.team2.seilomun.domain.order.entity.Order;
 import com.yju.team2.seilomun.domain.order.entity.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     List<OrderItem> findByOrder(Order order);
+
+    // 여러 주문의 아이템과 상품을 한 번에 조회
+    @Query("SELECT oi FROM OrderItem oi " +
+            "JOIN FETCH oi.product " +
+            "WHERE oi.order.id IN :orderIds " +
+            "ORDER BY oi.id")
+    List<OrderItem> findWithProductByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
 }
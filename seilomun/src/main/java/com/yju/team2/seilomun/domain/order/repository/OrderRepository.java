@@ -1,17 +1,23 @@
 package com.yju.team2.seilomun.domain.order.repository;
 
 import com.yju.team2.seilomun.domain.customer.entity.Customer;
-import com.yju.team2.seilomun.domain.order.dto.StatsDto;
+import com.yju.team2.seilomun.domain.order.dto.SellerOrderExportRow;
 import com.yju.team2.seilomun.domain.order.entity.Order;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -20,105 +26,82 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     Optional<Order> findByOrderNumber(String orderId);
 
-    @Query("SELECT o FROM Order o WHERE o.customer.id = :customerId ORDER BY o.createdAt DESC")
+    // 목록 응답에 쓰이는 판매자/소비자는 같은 쿼리에서 함께 가져옴
+    @Query("SELECT o FROM Order o " +
+            "LEFT JOIN FETCH o.seller " +
+            "LEFT JOIN FETCH o.customer " +
+            "WHERE o.customer.id = :customerId ORDER BY o.createdAt DESC")
     Page<Order> findByCustomerIdWithPagination(@Param("customerId") Long customerId, Pageable pageable);
 
     // 가게명으로 검색
     @Query("SELECT o FROM Order o " +
+            "LEFT JOIN FETCH o.seller s " +
+            "LEFT JOIN FETCH o.customer " +
             "WHERE o.customer.id = :customerId " +
-            "AND o.seller.storeName LIKE %:storeName% " +
+            "AND s.storeName LIKE %:storeName% " +
             "ORDER BY o.createdAt DESC")
     Page<Order> findByCustomerIdAndStoreNameWithPagination(@Param("customerId") Long customerId,
                                                            @Param("storeName") String storeName,
                                                             Pageable pageable);
 
-    @Query("SELECT o FROM Order o WHERE o.seller.id = :sellerId ORDER BY o.createdAt DESC")
+    @Query("SELECT o FROM Order o " +
+            "LEFT JOIN FETCH o.seller " +
+            "LEFT JOIN FETCH o.customer " +
+            "WHERE o.seller.id = :sellerId ORDER BY o.createdAt DESC")
     Page<Order> findBySellerIdWithPagination(@Param("sellerId") Long sellerId, Pageable pageable);
 
+    // 커서 기반 페이지네이션 (created_at, id 내림차순), COUNT 쿼리 없이 size + 1개만 조회
+    @Query("SELECT o FROM Order o " +
+            "LEFT JOIN FETCH o.seller s " +
+            "LEFT JOIN FETCH o.customer " +
+            "WHERE o.customer.id = :customerId " +
+            "AND (:storeName IS NULL OR s.storeName LIKE CONCAT('%', :storeName, '%')) " +
+            "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findByCustomerIdBeforeCursor(@Param("customerId") Long customerId,
+                                             @Param("storeName") String storeName,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+
+    @Query("SELECT o FROM Order o " +
+            "LEFT JOIN FETCH o.seller " +
+            "LEFT JOIN FETCH o.customer " +
+            "WHERE o.seller.id = :sellerId " +
+            "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findBySellerIdBeforeCursor(@Param("sellerId") Long sellerId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
     Optional<Order> findByIdAndOrderStatus(Long orId, Character orderStatus);
 
-    //연도별 통계
-    @Query("SELECT new com.yju.team2.seilomun.domain.order.dto.StatsDto(" +
-            "YEAR(o.createdAt), " +
-            "SUM(oi.quantity), " +
-            "SUM(o.totalAmount)) " +
-            "FROM Order o " +
-            "JOIN o.orderItems oi " +
-            "WHERE o.orderStatus = 'A' "+
-            "AND o.seller.id = :id " +
-            "GROUP BY YEAR(o.createdAt) " +
-            "ORDER BY YEAR(o.createdAt)")
-    List<StatsDto> getYearStats(@Param("id") Long sellerId);
+    // 읽은 시점의 상태와 버전이 그대로일 때만 상태 변경 (낙관적 락)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Order o SET o.orderStatus = :toStatus, o.version = o.version + 1 " +
+            "WHERE o.id = :id AND o.orderStatus = :fromStatus AND o.version = :version")
+    int updateStatusIfVersion(@Param("id") Long id,
+                              @Param("fromStatus") Character fromStatus,
+                              @Param("toStatus") Character toStatus,
+                              @Param("version") Long version);
 
-    // 월별 통계
-    @Query("SELECT new com.yju.team2.seilomun.domain.order.dto.StatsDto(" +
-            "YEAR(o.createdAt), " +
-            "MONTH(o.createdAt), " +
-            "SUM(oi.quantity), " +
-            "SUM(o.totalAmount)) " +
-            "FROM Order o " +
-            "JOIN o.orderItems oi " +
-            "WHERE o.orderStatus = 'A' "+
-            "AND o.seller.id = :id " +
-            "AND YEAR(o.createdAt) = :year " +
-            "AND MONTH(o.createdAt) = :month " +
-            "GROUP BY YEAR(o.createdAt), MONTH(o.createdAt) " +
-            "ORDER BY YEAR(o.createdAt), MONTH(o.createdAt)")
-    List<StatsDto> getMonthStats(@Param("id") Long sellerId,
-                         @Param("year") Integer year,
-                         @Param("month") Integer month);
-    
-    //일별 통계
-    @Query("SELECT new com.yju.team2.seilomun.domain.order.dto.StatsDto(" +
-            "YEAR(o.createdAt), " +
-            "MONTH(o.createdAt), " +
-            "DAY(o.createdAt)," +
-            "SUM(oi.quantity), " +
-            "SUM(o.totalAmount)) " +
+    // 판매자 주문 내보내기용 스트리밍 조회, 같은 주문의 아이템 행이 연속으로 오도록 주문 ID까지 정렬
+    // MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때만 결과를 한 번에 메모리에 올리지 않고 행 단위로 읽음
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.yju.team2.seilomun.domain.order.dto.SellerOrderExportRow(" +
+            "o.id, o.orderNumber, o.createdAt, c.name, o.orderStatus, o.isDelivery, o.totalAmount, " +
+            "p.name, oi.quantity, oi.unitPrice) " +
             "FROM Order o " +
+            "LEFT JOIN o.customer c " +
             "JOIN o.orderItems oi " +
-            "WHERE o.orderStatus = 'A' "+
-            "AND o.seller.id = :id " +
-            "AND YEAR(o.createdAt) = :year " +
-            "AND MONTH(o.createdAt) = :month " +
-            "GROUP BY YEAR(o.createdAt), MONTH(o.createdAt), DAY(o.createdAt) " +
-            "ORDER BY YEAR (o.createdAt), MONTH(o.createdAt), DAY(o.createdAt)")
-    List<StatsDto> getDailyStats(@Param("id") Long sellerId,
-                         @Param("year") Integer year,
-                         @Param("month") Integer month);
-
-    // 주별 통계
-    @Query(value = "SELECT " +
-            "YEAR(created_at) as year, " +
-            "WEEK(created_at, 1) as week, " +
-            "SUM(oi.quantity) as count, " +
-            "SUM(o.total_amount) as totalAmount " +
-            "FROM orders o " +
-            "JOIN order_items oi ON o.or_id = oi.or_id " +
-            "WHERE o.order_status = 'A' " +
-            "AND o.se_id = :id " +
-            "AND (:year IS NULL OR YEAR(o.created_at) = :year) " +
-            "GROUP BY YEAR(o.created_at), WEEK(o.created_at, 1) " +
-            "ORDER BY YEAR(o.created_at), WEEK(o.created_at, 1)",
-            nativeQuery = true)
-    List<Object[]> getWeeklyStatsRaw(@Param("id") Long sellerId,
-                                     @Param("year") Integer year);
-
-    // 분기별 통계
-    @Query(value = "SELECT " +
-            "YEAR(created_at) as year, " +
-            "QUARTER(created_at) as quarter, " +
-            "SUM(oi.quantity) as count, " +
-            "SUM(o.total_amount) as totalAmount " +
-            "FROM orders o " +
-            "JOIN order_items oi ON o.or_id = oi.or_id " +
-            "WHERE o.order_status = 'A' " +
-            "AND o.se_id = :id " +
-            "AND (:year IS NULL OR YEAR(o.created_at) = :year) " +
-            "GROUP BY YEAR(o.created_at), QUARTER(o.created_at) " +
-            "ORDER BY YEAR(o.created_at), QUARTER(o.created_at)",
-            nativeQuery = true)
-    List<Object[]> getQuarterStats(@Param("id") Long sellerId,
-                                        @Param("year") Integer year);
+            "JOIN oi.product p " +
+            "WHERE o.seller.id = :sellerId " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    Stream<SellerOrderExportRow> streamSellerOrderRows(@Param("sellerId") Long sellerId);
 
 }
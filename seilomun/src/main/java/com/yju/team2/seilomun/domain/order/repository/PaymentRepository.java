@@ -2,8 +2,14 @@ package com.yju.team2.seilomun.domain.order.repository;
 
 import com.yju.team2.seilomun.domain.order.entity.Order;
 import com.yju.team2.seilomun.domain.order.entity.Payment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
@@ -12,4 +18,21 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByOrderAndPaySuccessYN(Order order, boolean paySuccess);
     Optional<Payment> findByOrder(Order order);
     Optional<Payment> findByIdAndPaySuccessYN(Long id, boolean paySuccess);
+
+    // 주문별 결제 성공 여부 [주문 ID, 결제 성공 여부], 최신 결제가 먼저 오도록 정렬
+    @Query("SELECT p.order.id, p.paySuccessYN FROM Payment p " +
+            "WHERE p.order.id IN :orderIds " +
+            "ORDER BY p.id DESC")
+    List<Object[]> findPaySuccessByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    // 승인 요청 후 결과를 모른 채 오래 남아 있는 결제 (승인 요청 시각이 없는 이전 데이터도 포함)
+    @Query("SELECT p FROM Payment p WHERE p.confirmStatus = 'P' AND p.paySuccessYN = false " +
+            "AND (p.confirmRequestedAt IS NULL OR p.confirmRequestedAt < :requestedBefore) " +
+            "ORDER BY p.id")
+    List<Payment> findPendingConfirms(@Param("requestedBefore") LocalDateTime requestedBefore, Pageable pageable);
+
+    // 주문은 취소했지만 토스 취소 결과를 모른 채 남아 있는 결제
+    @Query("SELECT p FROM Payment p WHERE p.cancelStatus = 'P' AND p.cancelYN = false " +
+            "AND p.cancelRequestedAt < :requestedBefore ORDER BY p.id")
+    List<Payment> findPendingCancels(@Param("requestedBefore") LocalDateTime requestedBefore, Pageable pageable);
 }
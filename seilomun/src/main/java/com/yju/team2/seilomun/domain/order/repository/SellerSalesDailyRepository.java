@@ -0,0 +1,110 @@
+package com.yju.team2.seilomun.domain.order.repository;
+
+import com.yju.team2.seilomun.domain.order.dto.StatsDto;
+import com.yju.team2.seilomun.domain.order.entity.SellerSalesDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SellerSalesDailyRepository extends JpaRepository<SellerSalesDaily, Long> {
+
+    // 해당 날짜 집계에 수량/금액을 더함 (환불 등으로 빼는 경우 음수로 호출)
+    @Modifying
+    @Query(value = "INSERT INTO seller_sales_daily " +
+            "(se_id, sales_date, sales_year, sales_quarter, sales_month, sales_week, quantity, total_amount, updated_at) " +
+            "VALUES (:sellerId, :salesDate, :year, :quarter, :month, :week, :quantity, :totalAmount, NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "quantity = quantity + VALUES(quantity), " +
+            "total_amount = total_amount + VALUES(total_amount), " +
+            "updated_at = NOW()",
+            nativeQuery = true)
+    int addSales(@Param("sellerId") Long sellerId,
+                 @Param("salesDate") LocalDate salesDate,
+                 @Param("year") Integer year,
+                 @Param("quarter") Integer quarter,
+                 @Param("month") Integer month,
+                 @Param("week") Integer week,
+                 @Param("quantity") Long quantity,
+                 @Param("totalAmount") Long totalAmount);
+
+    // 재집계 대상 기간 삭제 (fromDate가 null이면 전체)
+    @Modifying
+    @Query(value = "DELETE FROM seller_sales_daily WHERE (:fromDate IS NULL OR sales_date >= :fromDate)",
+            nativeQuery = true)
+    int deleteFrom(@Param("fromDate") LocalDate fromDate);
+
+    // 수락된 주문으로 일별 집계 재생성
+    // 주문 아이템 수량은 주문별로 먼저 합산해서 주문 금액이 아이템 수만큼 중복으로 더해지지 않도록 함
+    @Modifying
+    @Query(value = "INSERT INTO seller_sales_daily " +
+            "(se_id, sales_date, sales_year, sales_quarter, sales_month, sales_week, quantity, total_amount, updated_at) " +
+            "SELECT o.se_id, DATE(o.created_at), YEAR(o.created_at), QUARTER(o.created_at), " +
+            "MONTH(o.created_at), WEEK(o.created_at, 1), SUM(oi.quantity), SUM(o.total_amount), NOW() " +
+            "FROM orders o " +
+            "JOIN (SELECT or_id, SUM(quantity) AS quantity FROM order_items GROUP BY or_id) oi ON o.or_id = oi.or_id " +
+            "WHERE o.order_status = 'A' " +
+            "AND (:fromDate IS NULL OR o.created_at >= :fromDate) " +
+            "GROUP BY o.se_id, DATE(o.created_at), YEAR(o.created_at), QUARTER(o.created_at), " +
+            "MONTH(o.created_at), WEEK(o.created_at, 1)",
+            nativeQuery = true)
+    int insertFromOrders(@Param("fromDate") LocalDate fromDate);
+
+    //연도별 통계
+    @Query("SELECT new com.yju.team2.seilomun.domain.order.dto.StatsDto(" +
+            "d.salesYear, SUM(d.quantity), SUM(d.totalAmount)) " +
+            "FROM SellerSalesDaily d " +
+            "WHERE d.sellerId = :id " +
+            "GROUP BY d.salesYear " +
+            "ORDER BY d.salesYear")
+    List<StatsDto> getYearStats(@Param("id") Long sellerId);
+
+    // 월별 통계
+    @Query("SELECT new com.yju.team2.seilomun.domain.order.dto.StatsDto(" +
+            "d.salesYear, d.salesMonth, SUM(d.quantity), SUM(d.totalAmount)) " +
+            "FROM SellerSalesDaily d " +
+            "WHERE d.sellerId = :id " +
+            "AND d.salesYear = :year " +
+            "AND d.salesMonth = :month " +
+            "GROUP BY d.salesYear, d.salesMonth")
+    List<StatsDto> getMonthStats(@Param("id") Long sellerId,
+                                 @Param("year") Integer year,
+                                 @Param("month") Integer month);
+
+    //일별 통계
+    @Query("SELECT new com.yju.team2.seilomun.domain.order.dto.StatsDto(" +
+            "d.salesYear, d.salesMonth, DAY(d.salesDate), d.quantity, d.totalAmount) " +
+            "FROM SellerSalesDaily d " +
+            "WHERE d.sellerId = :id " +
+            "AND d.salesYear = :year " +
+            "AND d.salesMonth = :month " +
+            "ORDER BY d.salesDate")
+    List<StatsDto> getDailyStats(@Param("id") Long sellerId,
+                                 @Param("year") Integer year,
+                                 @Param("month") Integer month);
+
+    // 주별 통계
+    @Query("SELECT d.salesYear, d.salesWeek, SUM(d.quantity), SUM(d.totalAmount) " +
+            "FROM SellerSalesDaily d " +
+            "WHERE d.sellerId = :id " +
+            "AND (:year IS NULL OR d.salesYear = :year) " +
+            "GROUP BY d.salesYear, d.salesWeek " +
+            "ORDER BY d.salesYear, d.salesWeek")
+    List<Object[]> getWeeklyStats(@Param("id") Long sellerId,
+                                  @Param("year") Integer year);
+
+    // 분기별 통계
+    @Query("SELECT d.salesYear, d.salesQuarter, SUM(d.quantity), SUM(d.totalAmount) " +
+            "FROM SellerSalesDaily d " +
+            "WHERE d.sellerId = :id " +
+            "AND (:year IS NULL OR d.salesYear = :year) " +
+            "GROUP BY d.salesYear, d.salesQuarter " +
+            "ORDER BY d.salesYear, d.salesQuarter")
+    List<Object[]> getQuarterStats(@Param("id") Long sellerId,
+                                   @Param("year") Integer year);
+}
@@ -0,0 +1,32 @@
+package com.yju.team2.seilomun.domain.order.repository;
+
+import com.yju.team2.seilomun.domain.order.entity.Order;
+import com.yju.team2.seilomun.domain.order.entity.StockReservation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    List<StockReservation> findByOrder(Order order);
+
+    boolean existsByOrderAndStatus(Order order, Character status);
+
+    // 만료된 예약을 오래된 순서로 조회
+    List<StockReservation> findByStatusAndExpiresAtBeforeOrderByExpiresAtAsc(Character status, LocalDateTime dateTime, Pageable pageable);
+
+    // 현재 상태가 fromStatuses 중 하나일 때만 상태 변경 (동시에 확정/해제되는 것 방지)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE StockReservation r SET r.status = :toStatus WHERE r.id = :id AND r.status IN :fromStatuses")
+    int updateStatusIfIn(@Param("id") Long id,
+                         @Param("fromStatuses") Collection<Character> fromStatuses,
+                         @Param("toStatus") Character toStatus);
+}
@@ -0,0 +1,27 @@
+package com.yju.team2.seilomun.domain.order.scheduler;
+
+import com.yju.team2.seilomun.domain.order.generator.SnowflakeOrderNumberGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderNumberLeaseScheduler {
+
+    private final SnowflakeOrderNumberGenerator snowflakeOrderNumberGenerator;
+
+    /**
+     * 20초마다 주문번호 노드 ID 임대 연장 (임대 기간 60초)
+     */
+    @Scheduled(fixedDelay = 20_000)
+    public void renewLease() {
+        try {
+            snowflakeOrderNumberGenerator.renewLease();
+        } catch (Exception e) {
+            log.error("주문번호 노드 ID 임대 연장 실패", e);
+        }
+    }
+}
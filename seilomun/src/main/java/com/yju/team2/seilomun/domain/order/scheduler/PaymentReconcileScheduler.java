@@ -0,0 +1,45 @@
+package com.yju.team2.seilomun.domain.order.scheduler;
+
+import com.yju.team2.seilomun.common.job.ClusterJobRunner;
+import com.yju.team2.seilomun.domain.order.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentReconcileScheduler {
+
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(5);
+    private static final Duration LOCK_AT_LEAST = Duration.ofSeconds(30);
+
+    private final OrderService orderService;
+    private final ClusterJobRunner clusterJobRunner;
+
+    // 승인/취소 요청 후 이 시간이 지나도록 결과를 모르는 결제만 토스에 조회 (진행 중인 요청과 겹치지 않도록)
+    @Value("${order.payment.reconcile-after-minutes:5}")
+    private long reconcileAfterMinutes;
+
+    /**
+     * 매분 승인 결과를 모르는 결제를 토스에 조회해서 승인 완료/실패로 마무리하고,
+     * 취소 결과를 모르는 결제는 취소 완료로 마무리하거나 취소를 다시 요청 (여러 서버 중 한 곳에서만)
+     */
+    @Scheduled(cron = "45 * * * * ?")
+    public void reconcilePendingPayments() {
+        try {
+            clusterJobRunner.runExclusive("payment-reconcile", LOCK_AT_MOST, LOCK_AT_LEAST, () -> {
+                LocalDateTime requestedBefore = LocalDateTime.now().minusMinutes(reconcileAfterMinutes);
+                return orderService.reconcilePendingPayments(requestedBefore)
+                        + orderService.reconcilePendingCancels(requestedBefore);
+            });
+        } catch (Exception e) {
+            log.error("결제 승인 결과 확인 실패", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.yju.team2.seilomun.domain.order.scheduler;
+
+import com.yju.team2.seilomun.common.job.ClusterJobRunner;
+import com.yju.team2.seilomun.domain.order.service.SellerSalesStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SellerSalesStatsScheduler {
+
+    private static final int RECONCILE_DAYS = 7;
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST = Duration.ofMinutes(1);
+
+    private final SellerSalesStatsService sellerSalesStatsService;
+    private final ClusterJobRunner clusterJobRunner;
+
+    /**
+     * 서버 시작 시 집계 테이블이 비어 있으면 기존 주문 이력 전체로 집계 생성 (동시에 뜬 서버 중 한 곳에서만)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            clusterJobRunner.runExclusive("seller-sales-stats-backfill", LOCK_AT_MOST, LOCK_AT_LEAST,
+                    () -> sellerSalesStatsService.isEmpty() ? sellerSalesStatsService.rebuild(null) : 0);
+        } catch (Exception e) {
+            log.error("판매자 매출 집계 초기 생성 실패", e);
+        }
+    }
+
+    /**
+     * 매일 새벽 3시 30분에 최근 7일 집계를 주문 테이블 기준으로 다시 맞춤
+     */
+    @Scheduled(cron = "0 30 3 * * ?")
+    public void reconcileRecentDays() {
+        try {
+            clusterJobRunner.runExclusive("seller-sales-stats-reconcile", LOCK_AT_MOST, LOCK_AT_LEAST,
+                    () -> sellerSalesStatsService.rebuild(LocalDate.now().minusDays(RECONCILE_DAYS)));
+        } catch (Exception e) {
+            log.error("판매자 매출 집계 재계산 실패", e);
+        }
+    }
+}
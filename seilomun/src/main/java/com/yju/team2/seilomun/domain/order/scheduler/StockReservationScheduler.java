@@ -0,0 +1,27 @@
+package com.yju.team2.seilomun.domain.order.scheduler;
+
+import com.yju.team2.seilomun.domain.order.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationScheduler {
+
+    private final OrderService orderService;
+
+    /**
+     * 매분 결제되지 않고 만료된 재고 예약을 해제
+     */
+    @Scheduled(cron = "30 * * * * ?")
+    public void releaseExpiredReservations() {
+        try {
+            orderService.releaseExpiredStockReservations();
+        } catch (Exception e) {
+            log.error("만료된 재고 예약 해제 실패", e);
+        }
+    }
+}
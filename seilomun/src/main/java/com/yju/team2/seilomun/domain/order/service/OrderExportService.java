@@ -0,0 +1,164 @@
+package com.yju.team2.seilomun.domain.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yju.team2.seilomun.domain.order.dto.OrderItemDto;
+import com.yju.team2.seilomun.domain.order.dto.SellerOrderExportDto;
+import com.yju.team2.seilomun.domain.order.dto.SellerOrderExportRow;
+import com.yju.team2.seilomun.domain.order.dto.StatsDto;
+import com.yju.team2.seilomun.domain.order.enums.ExportFormat;
+import com.yju.team2.seilomun.domain.order.repository.OrderRepository;
+import com.yju.team2.seilomun.domain.seller.repository.SellerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 판매자 주문 이력/통계 내보내기
+ * 주문은 DB 커서로 한 행씩 읽어서 바로 응답 스트림에 쓰므로 이력이 아무리 많아도 메모리에는 주문 하나만 올라간다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderExportService {
+
+    private static final int FLUSH_INTERVAL = 500;
+    private static final String[] ORDER_HEADER = {"주문ID", "주문번호", "주문일시", "고객명", "주문상태", "배달여부", "주문금액", "주문상품"};
+    private static final String[] STATS_HEADER = {"연도", "분기", "월", "주", "일", "판매수량", "매출액"};
+
+    private final OrderRepository orderRepository;
+    private final SellerRepository sellerRepository;
+    private final OrderService orderService;
+    private final ObjectMapper objectMapper;
+
+    // 판매자 전체 주문 이력 내보내기, 스트림은 트랜잭션 안에서만 읽을 수 있음
+    @Transactional(readOnly = true)
+    public int exportSellerOrders(Long sellerId, ExportFormat format, OutputStream outputStream) throws IOException {
+        if (!sellerRepository.existsById(sellerId)) {
+            throw new IllegalArgumentException("존재하지 않는 판매자입니다.");
+        }
+
+        Writer writer = openWriter(format, outputStream);
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(writer, ORDER_HEADER);
+        }
+
+        int exported = 0;
+        try (Stream<SellerOrderExportRow> rows = orderRepository.streamSellerOrderRows(sellerId)) {
+            Iterator<SellerOrderExportRow> iterator = rows.iterator();
+            SellerOrderExportRow row = iterator.hasNext() ? iterator.next() : null;
+
+            // 같은 주문의 아이템 행은 연속으로 오므로 주문 ID가 바뀔 때마다 한 줄씩 출력
+            while (row != null) {
+                SellerOrderExportRow first = row;
+                List<OrderItemDto> orderItems = new ArrayList<>();
+                while (row != null && row.getOrderId().equals(first.getOrderId())) {
+                    orderItems.add(OrderItemDto.builder()
+                            .productName(row.getProductName())
+                            .quantity(row.getQuantity())
+                            .unitPrice(row.getUnitPrice())
+                            .build());
+                    row = iterator.hasNext() ? iterator.next() : null;
+                }
+
+                writeOrder(writer, format, toExportDto(first, orderItems));
+                if (++exported % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+
+        log.info("판매자 주문 내보내기 완료: sellerId={}, format={}, 주문수={}", sellerId, format, exported);
+        return exported;
+    }
+
+    // 판매자 통계 내보내기 (집계 테이블에서 조회하므로 결과가 작음)
+    public void exportSellerStats(Long sellerId, String period, Integer year, Integer month,
+                                  ExportFormat format, OutputStream outputStream) throws IOException {
+        List<StatsDto> stats = orderService.getStats(sellerId, period, year, month);
+
+        Writer writer = openWriter(format, outputStream);
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(writer, STATS_HEADER);
+        }
+        for (StatsDto statsDto : stats) {
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(writer, statsDto.getYear(), statsDto.getQuarter(), statsDto.getMonth(),
+                        statsDto.getWeek(), statsDto.getDay(), statsDto.getCount(), statsDto.getTotalAmount());
+            } else {
+                writeJsonLine(writer, statsDto);
+            }
+        }
+        writer.flush();
+    }
+
+    private Writer openWriter(ExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        // 엑셀에서 한글이 깨지지 않도록 CSV는 BOM을 붙임
+        if (format == ExportFormat.CSV) {
+            writer.write('\uFEFF');
+        }
+        return writer;
+    }
+
+    private SellerOrderExportDto toExportDto(SellerOrderExportRow row, List<OrderItemDto> orderItems) {
+        return SellerOrderExportDto.builder()
+                .orderId(row.getOrderId())
+                .orderNumber(row.getOrderNumber())
+                .orderDate(row.getOrderDate())
+                .customerName(row.getCustomerName())
+                .orderStatus(row.getOrderStatus())
+                .isDelivery(row.getIsDelivery())
+                .totalAmount(row.getTotalAmount())
+                .orderItems(orderItems)
+                .build();
+    }
+
+    private void writeOrder(Writer writer, ExportFormat format, SellerOrderExportDto order) throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            writeJsonLine(writer, order);
+            return;
+        }
+        String items = order.getOrderItems().stream()
+                .map(item -> item.getProductName() + " x" + item.getQuantity())
+                .collect(Collectors.joining(" | "));
+        writeCsvLine(writer, order.getOrderId(), order.getOrderNumber(), order.getOrderDate(), order.getCustomerName(),
+                order.getOrderStatus(), order.getIsDelivery(), order.getTotalAmount(), items);
+    }
+
+    private void writeJsonLine(Writer writer, Object value) throws IOException {
+        writer.write(objectMapper.writeValueAsString(value));
+        writer.write('\n');
+    }
+
+    private void writeCsvLine(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 들어간 값은 따옴표로 감싸고 따옴표는 두 번 씀
+    static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
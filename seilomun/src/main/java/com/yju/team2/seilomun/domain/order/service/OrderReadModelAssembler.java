@@ -0,0 +1,75 @@
+package com.yju.team2.seilomun.domain.order.service;
+
+import com.yju.team2.seilomun.domain.order.dto.OrderReadModel;
+import com.yju.team2.seilomun.domain.order.entity.Order;
+import com.yju.team2.seilomun.domain.order.entity.OrderItem;
+import com.yju.team2.seilomun.domain.order.repository.OrderItemRepository;
+import com.yju.team2.seilomun.domain.order.repository.PaymentRepository;
+import com.yju.team2.seilomun.domain.product.repository.ProductPhotoRepository;
+import com.yju.team2.seilomun.domain.review.repository.ReviewRepository;
+import com.yju.team2.seilomun.domain.seller.repository.SellerPhotoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 목록/상세 조회용 연관 데이터 조립
+ * 주문 아이템+상품, 상품/판매자 첫 사진, 리뷰 작성 여부, 결제 여부를 주문 ID IN 조회로 묶어서 읽으므로
+ * 주문이 몇 건이든 쿼리 수는 항상 같다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderReadModelAssembler {
+
+    private final OrderItemRepository orderItemRepository;
+    private final ProductPhotoRepository productPhotoRepository;
+    private final SellerPhotoRepository sellerPhotoRepository;
+    private final ReviewRepository reviewRepository;
+    private final PaymentRepository paymentRepository;
+
+    @Transactional(readOnly = true)
+    public OrderReadModel assemble(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return OrderReadModel.empty();
+        }
+        List<Long> orderIds = orders.stream().map(Order::getId).collect(Collectors.toList());
+
+        Map<Long, List<OrderItem>> itemsByOrderId = orderItemRepository.findWithProductByOrderIdIn(orderIds).stream()
+                .collect(Collectors.groupingBy(item -> item.getOrder().getId()));
+
+        Set<Long> productIds = itemsByOrderId.values().stream()
+                .flatMap(List::stream)
+                .map(item -> item.getProduct().getId())
+                .collect(Collectors.toSet());
+        Set<Long> sellerIds = orders.stream()
+                .filter(order -> order.getSeller() != null)
+                .map(order -> order.getSeller().getId())
+                .collect(Collectors.toSet());
+
+        Map<Long, String> productPhotoUrls = productIds.isEmpty() ? Map.of()
+                : toMap(productPhotoRepository.findFirstPhotoUrlsByProductIdIn(productIds));
+        Map<Long, String> sellerPhotoUrls = sellerIds.isEmpty() ? Map.of()
+                : toMap(sellerPhotoRepository.findFirstPhotoUrlsBySellerIdIn(sellerIds));
+
+        Set<Long> reviewedOrderIds = new HashSet<>(reviewRepository.findOrderIdsByOrderIdIn(orderIds));
+
+        // 최신 결제가 먼저 오므로 주문별로 처음 나온 값만 사용
+        Map<Long, Boolean> paySuccessByOrderId = new HashMap<>();
+        for (Object[] row : paymentRepository.findPaySuccessByOrderIdIn(orderIds)) {
+            paySuccessByOrderId.putIfAbsent((Long) row[0], (Boolean) row[1]);
+        }
+
+        return new OrderReadModel(itemsByOrderId, productPhotoUrls, sellerPhotoUrls, reviewedOrderIds, paySuccessByOrderId);
+    }
+
+    private Map<Long, String> toMap(List<Object[]> rows) {
+        Map<Long, String> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.put((Long) row[0], (String) row[1]);
+        }
+        return result;
+    }
+}
@@ -1,6 +1,5 @@
 package com.yju.team2.seilomun.domain.order.service;
 
-import com.yju.team2.seilomun.config.TossPaymentConfig;
 import com.yju.team2.seilomun.domain.auth.dto.CartItemRequestDto;
 import com.yju.team2.seilomun.domain.cart.service.CartService;
 import com.yju.team2.seilomun.domain.customer.entity.Customer;
@@ -8,35 +7,33 @@ import com.yju.team2.seilomun.domain.customer.entity.PointHistory;
 import com.yju.team2.seilomun.domain.customer.repository.CustomerRepository;
 import com.yju.team2.seilomun.domain.customer.repository.PointHistoryRepository;
 import com.yju.team2.seilomun.domain.notification.event.*;
-import com.yju.team2.seilomun.domain.notification.service.NotificationService;
+import com.yju.team2.seilomun.domain.notification.service.NotificationOutboxService;
+import com.yju.team2.seilomun.domain.order.client.TossPaymentClient;
+import com.yju.team2.seilomun.domain.order.client.TossPaymentException;
 import com.yju.team2.seilomun.domain.order.dto.*;
 import com.yju.team2.seilomun.domain.order.entity.*;
+import com.yju.team2.seilomun.domain.order.generator.OrderNumberGenerator;
 import com.yju.team2.seilomun.domain.order.repository.*;
 import com.yju.team2.seilomun.domain.product.entity.Product;
 import com.yju.team2.seilomun.domain.product.repository.ProductRepository;
+import com.yju.team2.seilomun.domain.product.service.ProductLifecycleService;
 import com.yju.team2.seilomun.domain.product.service.ProductService;
 import com.yju.team2.seilomun.domain.review.entity.Review;
 import com.yju.team2.seilomun.domain.review.repository.ReviewRepository;
 import com.yju.team2.seilomun.domain.seller.entity.DeliveryFee;
 import com.yju.team2.seilomun.domain.seller.entity.Seller;
-import com.yju.team2.seilomun.domain.seller.repository.DeliveryFeeRepository;
 import com.yju.team2.seilomun.domain.seller.repository.SellerRepository;
 import com.yju.team2.seilomun.domain.upload.service.AWSS3UploadService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.minidev.json.JSONObject;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.math.BigDecimal;
 import java.net.Inet4Address;
-import java.nio.charset.StandardCharsets;
-import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -45,34 +42,36 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 public class OrderService {
+
+    private static final int PENDING_CONFIRM_BATCH_SIZE = 50;
+    // 토스 결제 상태 중 승인되지 않은 것으로 보는 상태 (취소, 중단, 만료)
+    private static final Set<String> TOSS_NOT_APPROVED_STATUSES = Set.of("CANCELED", "ABORTED", "EXPIRED");
+
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
+    private final OrderItemBulkRepository orderItemBulkRepository;
     private final ProductRepository productRepository;
     private final CustomerRepository customerRepository;
     private final ProductService productService;
     private final PointHistoryRepository pointHistoryRepository;
     private final SellerRepository sellerRepository;
-    private final DeliveryFeeRepository deliveryFeeRepository;
-    private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-    private static final SecureRandom RANDOM = new SecureRandom();
     private final PaymentRepository paymentRepository;
-    private final TossPaymentConfig tossPaymentConfig;
     private final RefundPhotoRepository refundPhotoRepository;
     private final RefundRepository refundRepository;
-    private final NotificationService notificationService;
+    private final NotificationOutboxService notificationOutboxService;
     private final AWSS3UploadService awss3UploadService;
     private final ReviewRepository reviewRepository;
     private final CartService cartService;
+    private final StockReservationService stockReservationService;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final TossPaymentClient tossPaymentClient;
+    private final TransactionTemplate transactionTemplate;
+    private final SellerSalesStatsService sellerSalesStatsService;
+    private final SellerSalesDailyRepository sellerSalesDailyRepository;
+    private final OrderStateMachine orderStateMachine;
+    private final ProductLifecycleService productLifecycleService;
 
 
-    private String generateOrderNumber() {
-        StringBuilder stringBuilder = new StringBuilder(14);
-        for (int i = 0; i < 14; i++) {
-            stringBuilder.append(CHARACTERS.charAt(RANDOM.nextInt(CHARACTERS.length())));
-        }
-        return stringBuilder.toString();
-    }
-
     // 상품  구매하기
     @Transactional
     public PaymentResDto buyProduct(OrderDto orderDto, Long customerId) {
@@ -85,17 +84,18 @@ public class OrderService {
         if (orderDto.getOrderProducts() == null || orderDto.getOrderProducts().isEmpty()) {
             throw new IllegalArgumentException("주문할 상품 정보가 없습니다.");
         }
-        List<Product> products = new ArrayList<>();
+        // 주문 상품, 판매자, 배달비 구간을 한 번에 조회
+        Map<Long, Product> productMap = findProductsWithSeller(orderDto.getOrderProducts().stream()
+                .map(OrderProductDto::getProductId)
+                .collect(Collectors.toSet()));
         List<OrderItem> orderItems = new ArrayList<>();
         Integer productTotalAmount = 0;
         Seller seller = null;
         for (OrderProductDto productDto : orderDto.getOrderProducts()) {
-            Optional<Product> optionalProduct = productRepository.findById(productDto.getProductId());
-            if (optionalProduct.isEmpty()) {
+            Product product = productMap.get(productDto.getProductId());
+            if (product == null) {
                 throw new IllegalArgumentException("존재하지 않는 상품입니다: " + productDto.getProductId());
             }
-            Product product = optionalProduct.get();
-            products.add(product);
 
             // 모든 상품이 같은 판매자인지 확인
             if (seller == null) {
@@ -108,11 +108,6 @@ public class OrderService {
                 throw new IllegalArgumentException("유통 기한 지난 상품은 주문할 수 없습니다.");
             }
 
-            // 재고 확인
-            if (product.getStockQuantity() < productDto.getQuantity()) {
-                throw new IllegalArgumentException("구매 하려는 상품의 수량이 초과하였습니다: " + product.getName());
-            }
-
             // 총 상품 금액 누적
             productTotalAmount += productDto.getPrice() * productDto.getQuantity();
 
@@ -124,13 +119,11 @@ public class OrderService {
                     .build();
             orderItems.add(orderItem);
         }
-        String orderNumber;
-        do {
-            orderNumber = generateOrderNumber();
-        } while (orderRepository.existsByOrderNumber(orderNumber));
+        // 노드별 시간순 번호라 중복 확인 없이 사용
+        String orderNumber = orderNumberGenerator.generate();
 
-        //배달비 목록
-        List<DeliveryFee> deliveryFees = deliveryFeeRepository.findBySeller(seller);
+        //배달비 목록 (상품 조회 시 함께 로딩됨)
+        List<DeliveryFee> deliveryFees = seller.getDeliveryFees();
         Integer deliveryFee = 0;
         // 배달 선택시 배달비 계산
         if (orderDto.getIsDelivery().equals('Y')) {
@@ -186,16 +179,18 @@ public class OrderService {
                 isReivewed('N').
                 orderStatus('N').build();
         orderRepository.save(order);
-        for (OrderItem orderItem : orderItems) {
-            orderItem = OrderItem.builder()
-                    .order(order)
-                    .product(orderItem.getProduct())
-                    .quantity(orderItem.getQuantity())
-                    .discountRate(orderItem.getDiscountRate())
-                    .unitPrice(orderItem.getUnitPrice())
-                    .build();
-            orderItemRepository.save(orderItem);
-        }
+        // 주문 줄 수와 상관없이 JDBC 배치 한 번으로 저장
+        List<OrderItem> savedOrderItems = orderItemBulkRepository.insertAll(orderItems.stream()
+                .map(orderItem -> OrderItem.builder()
+                        .order(order)
+                        .product(orderItem.getProduct())
+                        .quantity(orderItem.getQuantity())
+                        .discountRate(orderItem.getDiscountRate())
+                        .unitPrice(orderItem.getUnitPrice())
+                        .build())
+                .collect(Collectors.toList()));
+        // 재고 선점 (조건부 차감), 재고가 부족하면 주문 생성 전체가 롤백됨
+        sendProductStatusChangeNotifications(stockReservationService.reserve(order, savedOrderItems));
         // 주문 가격이랑 포인트를 합산한채로 결제
         Integer totalAmountMinusPoint = order.getTotalAmount() - order.getUsedPoints();
 
@@ -206,6 +201,7 @@ public class OrderService {
                 totalAmount(totalAmountMinusPoint).
                 order(order).
                 refundStatus("N").
+                confirmStatus('N').
                 paySuccessYN(false).build();
         paymentRepository.save(payment);
         return payment.toPaymentResDto(customer);
@@ -222,7 +218,7 @@ public class OrderService {
             throw new IllegalArgumentException("존재하지 않는 상품입니다.");
         }
         Product product = optionalProduct.get();
-        Integer currentDiscountRate = productService.getCurrentDiscountRate(product.getId());
+        Integer currentDiscountRate = productService.getCurrentDiscountRates(List.of(product)).get(product.getId());
         Integer discountPrice = product.getOriginalPrice() * (100 - currentDiscountRate) / 100;
         OrderProductDto orderProductDto = new OrderProductDto(product.getId(), cartItemRequestDto.getQuantity(), discountPrice, currentDiscountRate);
         return orderProductDto;
@@ -241,13 +237,19 @@ public class OrderService {
 
         List<OrderProductDto> orderProducts = new ArrayList<>();
 
+        // 장바구니 상품 일괄 조회 후 할인율도 한 번에 조회
+        Map<Long, Product> productMap = productRepository.findAllById(cartItems.stream()
+                        .map(CartItemRequestDto::getProductId)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Product::getId, product -> product));
+        Map<Long, Integer> discountRates = productService.getCurrentDiscountRates(productMap.values());
+
         for (CartItemRequestDto cartItem : cartItems) {
-            Optional<Product> optionalProduct = productRepository.findById(cartItem.getProductId());
-            if (optionalProduct.isEmpty()) {
+            Product product = productMap.get(cartItem.getProductId());
+            if (product == null) {
                 throw new IllegalArgumentException("존재하지 않는 상품입니다: " + cartItem.getProductId());
             }
-            Product product = optionalProduct.get();
-            Integer currentDiscountRate = productService.getCurrentDiscountRate(product.getId());
+            Integer currentDiscountRate = discountRates.get(product.getId());
             Integer discountPrice = product.getOriginalPrice() * (100 - currentDiscountRate) / 100;
 
             OrderProductDto orderProductDto = new OrderProductDto(
@@ -262,36 +264,9 @@ public class OrderService {
         return orderProducts;
     }
 
-    // 요청 헤더에 토스에서 제공해준 시크릿 키를 시크릿 키를 Basic Authorization 방식으로 base64를 이용하여 인코딩하여 꼭 보내야함
-    private HttpHeaders getHeaders() {
-        HttpHeaders headers = new HttpHeaders();
-        String encodedAuthKey = new String(
-                Base64.getEncoder().encode((tossPaymentConfig.getTestSecreteKey() + ":").getBytes(StandardCharsets.UTF_8)));
-        headers.setBasicAuth(encodedAuthKey);
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-        return headers;
-    }
-
-    // 토스페이먼츠에 최종 결제 승인 요청을 보내기 위해 필요한 정보들을 담아 POST로 보내는 부분
-    @Transactional
-    public PaymentSuccessDto requestPaymentAccept(String paymentKey, String orderId, Integer amount) {
-        RestTemplate restTemplate = new RestTemplate();
-        HttpHeaders headers = getHeaders();
-        JSONObject params = new JSONObject();
-        params.put("orderId", orderId);
-        params.put("amount", amount);
-
-        String tossPaymentUrl = "https://api.tosspayments.com/v1/payments/" + paymentKey;
-        PaymentSuccessDto result = null;
-        try {
-            result = restTemplate.postForObject(tossPaymentUrl,
-                    new HttpEntity<>(params, headers), PaymentSuccessDto.class);
-
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        return result;
+    private Map<Long, Product> findProductsWithSeller(Set<Long> productIds) {
+        return productRepository.findAllWithSellerAndDeliveryFeesByIdIn(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, product -> product));
     }
 
     public Payment verifyPayment(String orderId, Integer amount) {
@@ -302,52 +277,58 @@ public class OrderService {
         return payment;
     }
 
-    @Transactional
+    // 결제 승인
+    // 토스 승인 요청은 DB 트랜잭션 밖에서 보내서 PG 응답이 느려도 DB 커넥션을 잡고 있지 않도록 함
+    // 승인 전(N) -> 승인 요청 중(P) -> 승인 완료(Y) / 승인 실패(F)
     public PaymentSuccessDto tossPaymentSuccess(String paymentKey, String orderId, Integer amount) {
-        Payment payment = verifyPayment(orderId, amount);
-        // 결제 성공하면 상품에서 물량 수량 빼기
-        Optional<Order> orederOptional = orderRepository.findById(payment.getOrder().getId());
-        if (orederOptional.isEmpty()) {
-            throw new IllegalArgumentException("주문 테이블이 존재 하지 않습니다");
-        }
-        Order order = orederOptional.get();
-        // ✅ 수정: 올바른 OrderItem 조회 방법
-        List<OrderItem> orderItems = orderItemRepository.findByOrder(order);
-        if (orderItems.isEmpty()) {
-            throw new IllegalArgumentException("주문 아이템이 존재하지 않습니다");
-        }
+        // 1. 승인 요청 중으로 변경하고 선점한 재고 확정
+        transactionTemplate.executeWithoutResult(status -> requestPaymentConfirm(paymentKey, orderId, amount));
 
-        PaymentSuccessDto paymentSuccessDto = requestPaymentAccept(paymentKey, orderId, amount);
-        // 결제 성공하면 payment에 키넣고 성공으로 변환
-        payment.successPayment(paymentKey);
-        paymentRepository.save(payment);
-        // ✅ 개선: 모든 주문 아이템에 대해 재고 감소 처리
-        for (OrderItem orderItem : orderItems) {
-            Product product = orderItem.getProduct();
-
-            // 재고 부족 체크 (이중 체크)
-            if (product.getStockQuantity() < orderItem.getQuantity()) {
-                // 결제는 성공했지만 재고가 부족한 경우 - 환불 처리 필요
-                log.error("결제 성공 후 재고 부족 발견: productId={}, 현재재고={}, 주문수량={}",
-                        product.getId(), product.getStockQuantity(), orderItem.getQuantity());
-                throw new IllegalStateException("재고가 부족합니다. 환불이 필요합니다.");
+        // 2. 토스 승인 요청
+        PaymentSuccessDto paymentSuccessDto;
+        try {
+            paymentSuccessDto = tossPaymentClient.confirm(paymentKey, orderId, amount);
+        } catch (TossPaymentException e) {
+            if (e.isOutcomeUnknown()) {
+                // 승인 여부를 알 수 없으면 승인 요청 중 상태로 두고, 다시 요청하면 같은 멱등키로 승인을 이어감
+                // 다시 요청하지 않으면 결제 확인 작업(reconcilePendingPayments)이 토스에 조회해서 승인 완료/실패로 마무리
+                log.error("토스 결제 승인 결과 확인 불가: orderId={}", orderId, e);
+                throw new IllegalStateException("결제 승인 결과를 확인하지 못했습니다. 잠시 후 다시 시도해주세요.");
             }
+            log.error("토스 결제 승인 실패: orderId={}, reason={}", orderId, e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> failPaymentConfirm(orderId, e.getMessage()));
+            throw new IllegalArgumentException("결제 승인에 실패했습니다.");
+        }
 
-            // 재고 감소 및 상태 변경 처리
-            Character oldStatus = product.getStatus();
-            int newStock = product.getStockQuantity() - orderItem.getQuantity();
-            boolean isStatusChanged = product.updateStockQuantity(newStock);
+        // 3. 승인 완료 처리
+        transactionTemplate.executeWithoutResult(status -> completePaymentConfirm(orderId));
+        return paymentSuccessDto;
+    }
 
-            productRepository.save(product);
+    private void requestPaymentConfirm(String paymentKey, String orderId, Integer amount) {
+        Payment payment = verifyPayment(orderId, amount);
+        payment.requestConfirm(paymentKey);
+        paymentRepository.save(payment);
 
-            // 상태 변경시 알림 발송
-            if (isStatusChanged) {
-                sendProductStatusChangeNotifications(product, oldStatus, product.getStatus());
-            }
+        Order order = payment.getOrder();
+        List<OrderItem> orderItems = orderItemRepository.findByOrder(order);
+        if (orderItems.isEmpty()) {
+            throw new IllegalArgumentException("주문 아이템이 존재하지 않습니다");
+        }
+        // 주문 생성 때 선점한 재고 확정 (예약이 만료됐으면 이 시점에 다시 차감, 부족하면 승인 요청 전에 실패)
+        sendProductStatusChangeNotifications(stockReservationService.commit(order, orderItems));
+    }
 
-            log.info("재고 감소 완료: productId={}, 주문수량={}, 남은재고={}",
-                    product.getId(), orderItem.getQuantity(), newStock);
+    private void completePaymentConfirm(String orderId) {
+        Payment payment = paymentRepository.findByTransactionId(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 결제입니다."));
+        // 같은 승인 콜백이 여러 번 와도 포인트 적립은 한 번만
+        if (!payment.confirm()) {
+            log.info("이미 승인 완료된 결제: orderId={}", orderId);
+            return;
         }
+        paymentRepository.save(payment);
+        Order order = payment.getOrder();
 
         //결제 성공하면 유저 point 1퍼센트 증가
         Optional<Customer> optionalCustomer = customerRepository.findById(order.getCustomer().getId());
@@ -366,8 +347,7 @@ public class OrderService {
                 customer(customer).
                 build();
         pointHistoryRepository.save(pointHistory);
-        order.updateOrderStatus('S');
-        orderRepository.save(order);
+        orderStateMachine.transition(order, 'S');
 
         try {
             cartService.clearCart(order.getCustomer().getId());
@@ -382,27 +362,81 @@ public class OrderService {
                     .order(order)
                     .eventId("ORDER_OFFERED_" + order.getId())
                     .build();
-            notificationService.processNotification(orderOfferedEvent);
+            notificationOutboxService.enqueue(orderOfferedEvent);
         } catch (Exception e) {
             log.error("주문 신청 알림 전송 실패", e);
         }
-        return paymentSuccessDto;
+    }
+
+    // 승인 요청 후 결과를 모르는 채 남은 결제를 토스에 조회해서 마무리 (스케줄러에서 호출), 마무리한 결제 수를 반환
+    // 토스 조회는 DB 트랜잭션 밖에서 하고 결과 반영만 결제마다 짧은 트랜잭션으로 처리
+    // 승인 완료(DONE)면 승인 완료 처리, 토스에 결제가 없거나 취소/중단/만료면 실패 처리 후 확정된 재고 복구
+    // 아직 진행 중인 결제는 다음 확인 때 다시 조회
+    public int reconcilePendingPayments(LocalDateTime requestedBefore) {
+        List<Payment> pendingPayments = paymentRepository.findPendingConfirms(requestedBefore,
+                PageRequest.of(0, PENDING_CONFIRM_BATCH_SIZE));
+        int settled = 0;
+        for (Payment payment : pendingPayments) {
+            String orderId = payment.getTransactionId();
+            try {
+                String tossStatus = tossPaymentClient.findByOrderId(orderId)
+                        .map(tossPayment -> String.valueOf(tossPayment.get("status")))
+                        .orElse(null);
+                if ("DONE".equals(tossStatus)) {
+                    transactionTemplate.executeWithoutResult(status -> completePaymentConfirm(orderId));
+                } else if (tossStatus == null || TOSS_NOT_APPROVED_STATUSES.contains(tossStatus)) {
+                    transactionTemplate.executeWithoutResult(status ->
+                            failPaymentConfirm(orderId, "승인되지 않은 결제: " + (tossStatus == null ? "NOT_FOUND" : tossStatus)));
+                } else {
+                    log.info("토스 결제 진행 중, 다음 확인 때 다시 조회: orderId={}, status={}", orderId, tossStatus);
+                    continue;
+                }
+                log.info("결과를 모르던 결제 마무리: orderId={}, status={}", orderId, tossStatus);
+                settled++;
+            } catch (Exception e) {
+                log.error("결제 승인 결과 확인 실패: orderId={}", orderId, e);
+            }
+        }
+        return settled;
+    }
+
+    // 토스 승인 거절 시 결제 실패 처리 및 재고 복구
+    private void failPaymentConfirm(String orderId, String failReason) {
+        Payment payment = paymentRepository.findByTransactionId(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 결제입니다."));
+        payment.failConfirm(failReason);
+        paymentRepository.save(payment);
+
+        Order order = payment.getOrder();
+        if (orderStateMachine.transition(order, 'F')) {
+            restoreStock(order);
+        }
     }
 
     //결제 실패시
     @Transactional
     public PaymentFailDto tossPaymentFail(String code, String message, String orderId) {
         Payment payment = paymentRepository.findByTransactionId(orderId).orElseThrow(() -> new IllegalArgumentException("존재하지 않는 결제입니다."));
-        payment.failPayment(false);
-        payment.insertFailReason(message);
-        Optional<Order> optionalOrder = orderRepository.findByOrderNumber(orderId);
-        if (optionalOrder.isEmpty()) {
-            throw new IllegalArgumentException("주문이 존재 하지 않습니다.");
+        // 토스에 넘긴 orderId는 결제의 transactionId이므로 결제에 연결된 주문을 사용
+        Order order = payment.getOrder();
+        // 승인 요청 후 결과를 모르는 결제는 토스에서 승인됐을 수 있으므로 실패 콜백으로 닫지 않음 (결제 확인 작업이 마무리함)
+        // 이미 승인된 결제에 늦게 도착한 실패 콜백도 건드리지 않음
+        if (payment.isConfirmPending() || payment.isConfirmed()) {
+            log.warn("승인 요청 중이거나 승인된 결제의 실패 콜백 무시: orderId={}, confirmStatus={}", order.getId(), payment.getConfirmStatus());
+        } else if (orderStateMachine.transition(order, 'F')) {   // fail의 F
+            payment.failConfirm(message);
+            paymentRepository.save(payment);
+            if (stockReservationService.hasCommitted(order)) {
+                // 승인 요청 때 확정된 재고는 예약 해제가 아니라 복구
+                restoreStock(order);
+            } else {
+                // 선점했던 재고 해제
+                sendProductStatusChangeNotifications(stockReservationService.release(order));
+            }
+        } else {
+            // 중복 콜백 등 실패 처리 대상이 아닌 주문은 주문 상태를 건드리지 않음
+            log.warn("결제 실패 처리 대상이 아닌 주문: orderId={}, status={}", order.getId(), order.getOrderStatus());
         }
-        Order order = optionalOrder.get();
-        order.updateOrderStatus('F');   // fail의 F
-        restoreStock(order);
-        orderRepository.save(order);
         return PaymentFailDto.builder().
                 errorCode(code).
                 errorMessage(message).
@@ -411,28 +445,45 @@ public class OrderService {
 
     // 토스 결제 취소 승인 요청
     public Map tossPaymentCancel(String paymentKey, String cancelReason) {
-        RestTemplate restTemplate = new RestTemplate();
-        HttpHeaders headers = getHeaders();
-        JSONObject params = new JSONObject();
-        params.put("cancelReason", cancelReason);
-
-        return restTemplate.postForObject(TossPaymentConfig.URL + paymentKey + "/cancel",
-                new HttpEntity<>(params, headers), Map.class);
+        return tossPaymentClient.cancel(paymentKey, cancelReason);
     }
 
     // 소비자 결제 취소
-    @Transactional
+    // 토스 취소 요청은 DB 트랜잭션 밖에서 보내서 PG 응답이 느려도 DB 커넥션을 잡고 있지 않도록 함 (판매자 거절, 환불 수락도 동일)
     public Map cancelPayment(Long customerId, Long orderId) {
-        Optional<Customer> optionalCustomer = customerRepository.findById(customerId);
-        if (optionalCustomer.isEmpty()) {
-            throw new IllegalArgumentException("사용자가 존재 하지 않습니다.");
-        }
-        Customer customer = optionalCustomer.get();
-        Optional<Order> optionalOrder = orderRepository.findById(orderId);
-        if (optionalOrder.isEmpty()) {
-            throw new IllegalArgumentException("주문이 존재 하지 않습니다.");
-        }
-        Order order = optionalOrder.get();
+        // 1. 주문 취소, 포인트 회수, 재고 복구 후 결제를 취소 요청 중으로 변경
+        CancelRequest cancelRequest = transactionTemplate.execute(status -> {
+            if (!customerRepository.existsById(customerId)) {
+                throw new IllegalArgumentException("사용자가 존재 하지 않습니다.");
+            }
+            Optional<Order> optionalOrder = orderRepository.findById(orderId);
+            if (optionalOrder.isEmpty()) {
+                throw new IllegalArgumentException("주문이 존재 하지 않습니다.");
+            }
+            Order order = optionalOrder.get();
+            if (!order.getCustomer().getId().equals(customerId)) {
+                throw new IllegalArgumentException("해당 주문에 대한 권한이 없습니다.");
+            }
+            return new CancelRequest(order, requestPaidOrderCancel(order, 'C'));
+        });
+
+        // 2. 토스 취소 요청 후 취소 완료 처리
+        // cancelReason에 테스트로 취소라 넣긴 했는데 나중에 사유 넣을것
+        Order order = cancelRequest.order();
+        return Optional.ofNullable(cancelRequest.payment())
+                .flatMap(payment -> cancelTossPayment(payment, "취소"))
+                .orElse(Map.of("orderId", order.getId(), "orderStatus", order.getOrderStatus()));
+    }
+
+    // 소비자 취소 트랜잭션의 결과, 이미 처리된 중복 요청이면 payment가 null
+    private record CancelRequest(Order order, Payment payment) {
+    }
+
+    // 결제 완료 주문 취소 공통 처리 (소비자 취소 C, 판매자 거절 R, 환불 수락 B), 호출한 쪽의 트랜잭션에서 실행
+    // 주문 상태를 먼저 바꾸고 나서 포인트 회수/재고 복구를 하므로 중복 요청이 와도 한 번만 실행됨
+    // 결제는 취소 요청 중(P)으로 바꿔 두고 반환, 토스 취소는 커밋 후 cancelTossPayment로 요청
+    // 이미 처리된 중복 요청이면 null
+    private Payment requestPaidOrderCancel(Order order, Character toStatus) {
         Optional<Payment> optionalPayment = paymentRepository.findByOrderAndPaySuccessYN(order, true);
         if (optionalPayment.isEmpty()) {
             throw new IllegalArgumentException("결제가 존재 하지 않습니다.");
@@ -443,24 +494,85 @@ public class OrderService {
             throw new IllegalArgumentException("포인트 적립내역 존재 하지 않습니다.");
         }
         PointHistory pointHistory = optionalPointHistory.get();
+
+        Character fromStatus = order.getOrderStatus();
+        if (!orderStateMachine.transition(order, toStatus)) {
+            log.info("이미 처리된 주문 취소 요청: orderId={}, status={}", order.getId(), toStatus);
+            return null;
+        }
+
+        Customer customer = order.getCustomer();
         // 환불할때 적립금이 구매했을때의 포인트보다 적으면 환불 불가
-        if (customer.getPoints() >= pointHistory.getAmount()) {
-            payment.cancelYN(true);
-            customer.minusPoint(pointHistory.getAmount());
-            PointHistory pointHistory1 = PointHistory.builder().
-                    type('C').  // Cancel
-                            amount(pointHistory.getAmount()).
-                    order(order).
-                    customer(customer).
-                    build();
-            pointHistoryRepository.save(pointHistory1);
-            order.updateOrderStatus('C');
-            restoreStock(order);
-            orderRepository.save(order);
-            // cancelReason에 테스트로 취소라 넣긴 했는데 나중에 사유 넣을것
-            return tossPaymentCancel(payment.getPaymentKey(), "취소");
+        if (customer.getPoints() < pointHistory.getAmount()) {
+            throw new IllegalArgumentException("결제 취소 실패");
+        }
+        payment.requestCancel();
+        paymentRepository.save(payment);
+        customer.minusPoint(pointHistory.getAmount());
+        PointHistory pointHistory1 = PointHistory.builder().
+                type('C').  // Cancel
+                        amount(pointHistory.getAmount()).
+                order(order).
+                customer(customer).
+                build();
+        pointHistoryRepository.save(pointHistory1);
+        // 수락된 주문의 취소/환불(B)은 모두 여기를 거치므로 매출 집계에서 제외
+        if (Character.valueOf('A').equals(fromStatus)) {
+            sellerSalesStatsService.removeOrder(order);
+        }
+        restoreStock(order);
+        return payment;
+    }
+
+    // 취소 요청 중인 결제를 토스에 취소 요청하고 취소 완료로 마무리, 트랜잭션 밖에서 호출
+    // 토스 취소가 실패하면 이미 커밋된 주문 취소/포인트 회수/재고 복구는 그대로 두고 결제를 취소 요청 중으로 남김
+    // 남은 결제는 결제 확인 작업(reconcilePendingCancels)이 같은 멱등키로 다시 요청하므로 빈 값만 반환
+    private Optional<Map> cancelTossPayment(Payment payment, String cancelReason) {
+        Map cancelResult;
+        try {
+            cancelResult = tossPaymentCancel(payment.getPaymentKey(), cancelReason);
+        } catch (TossPaymentException e) {
+            log.error("토스 결제 취소 실패, 결제 확인 작업에서 다시 요청: paymentId={}", payment.getId(), e);
+            return Optional.empty();
+        }
+        transactionTemplate.executeWithoutResult(status -> completePaymentCancel(payment.getId()));
+        return Optional.of(cancelResult);
+    }
+
+    private void completePaymentCancel(Long paymentId) {
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 결제입니다."));
+        // 취소 응답과 결제 확인 작업이 겹쳐도 한 번만 반영
+        if (!payment.completeCancel()) {
+            log.info("이미 취소 완료된 결제: paymentId={}", paymentId);
+            return;
+        }
+        paymentRepository.save(payment);
+    }
+
+    // 주문은 취소했지만 토스 취소 결과를 모르는 결제를 마무리 (스케줄러에서 호출), 마무리한 결제 수를 반환
+    // 토스에서 이미 취소됐으면 취소 완료 처리만 하고, 아니면 같은 멱등키로 취소를 다시 요청
+    // 실패한 결제는 다음 확인 때 다시 시도
+    public int reconcilePendingCancels(LocalDateTime requestedBefore) {
+        List<Payment> pendingCancels = paymentRepository.findPendingCancels(requestedBefore,
+                PageRequest.of(0, PENDING_CONFIRM_BATCH_SIZE));
+        int settled = 0;
+        for (Payment payment : pendingCancels) {
+            try {
+                boolean canceled = tossPaymentClient.findByOrderId(payment.getTransactionId())
+                        .map(tossPayment -> "CANCELED".equals(String.valueOf(tossPayment.get("status"))))
+                        .orElse(false);
+                if (!canceled) {
+                    tossPaymentCancel(payment.getPaymentKey(), "주문 취소");
+                }
+                transactionTemplate.executeWithoutResult(status -> completePaymentCancel(payment.getId()));
+                log.info("결과를 모르던 결제 취소 마무리: paymentId={}", payment.getId());
+                settled++;
+            } catch (Exception e) {
+                log.error("결제 취소 결과 확인 실패: paymentId={}", payment.getId(), e);
+            }
         }
-        throw new IllegalArgumentException("결제 취소 실패");
+        return settled;
     }
 
     // 결체장 닫으면 부를 메서드
@@ -482,13 +594,32 @@ public class OrderService {
         Optional<Payment> optionalPayment = paymentRepository.findByOrder(order);
         if (optionalPayment.isEmpty()) {
             log.warn("결제 정보가 없는 주문 삭제: orderId={}", order.getId());
+            sendProductStatusChangeNotifications(stockReservationService.release(order));
+            stockReservationService.deleteByOrder(order);
             orderRepository.delete(order);
+            return;
         }
         Payment payment = optionalPayment.get();
         if (payment.isPaySuccessYN()) {
             throw new IllegalArgumentException("이미 결제가 완료된 주문입니다. 환불 신청을 해주세요.");
         }
+        // 승인 요청 후 결과를 모르는 결제는 토스에서 승인됐을 수 있으므로 닫지 않음 (결제 확인 작업이 마무리함)
+        if (payment.isConfirmPending()) {
+            throw new IllegalStateException("결제 승인 결과를 확인 중인 주문입니다. 잠시 후 다시 시도해주세요.");
+        }
+        // 승인 요청 때 확정된 재고는 예약 해제가 아니라 복구해야 하고, 기록이 남도록 주문/결제는 지우지 않고 실패 처리
+        if (stockReservationService.hasCommitted(order)) {
+            payment.failConfirm("결제창 닫기");
+            paymentRepository.save(payment);
+            if (orderStateMachine.transition(order, 'F')) {
+                restoreStock(order);
+            }
+            return;
+        }
+        // 선점했던 재고 해제
+        sendProductStatusChangeNotifications(stockReservationService.release(order));
         try {
+            stockReservationService.deleteByOrder(order);
             paymentRepository.delete(payment);
             orderRepository.delete(order);
 
@@ -571,7 +702,7 @@ public class OrderService {
                     .refund(refund)
                     .eventId("REFUND_" + refund.getId())
                     .build();
-            notificationService.processNotification(orderRefundEvent);
+            notificationOutboxService.enqueue(orderRefundEvent);
         } catch (Exception e) {
             log.error("환불 신청 알림 전송 실패", e);
         }
@@ -581,8 +712,7 @@ public class OrderService {
     //판매자 주문 수락 메서드
     @Transactional
     public void acceptanceOrder(Long sellerId, Long orderId) {
-        //수락 전 인 것만 찾기
-        Optional<Order> optionalOrder = orderRepository.findByIdAndOrderStatus(orderId, 'S');
+        Optional<Order> optionalOrder = orderRepository.findById(orderId);
         if (optionalOrder.isEmpty()) {
             throw new IllegalArgumentException("주문이 존재 하지 않습니다.");
         }
@@ -598,18 +728,21 @@ public class OrderService {
         if (optionalPayment.isEmpty()) {
             throw new IllegalArgumentException("성공한 결제가 아닙니다.");
         }
-        order.updateOrderStatus('A'); //acceptance의 a
-        orderRepository.save(order);
+        //acceptance의 a, 이미 수락된 주문이면 중복 요청이므로 무시
+        if (!orderStateMachine.transition(order, 'A')) {
+            return;
+        }
+        sellerSalesStatsService.addOrder(order);
 
         // 결제한 고객에게 알림 전송
         try {
-            if (notificationService != null) {
+            if (notificationOutboxService != null) {
                 OrderAcceptedEvent orderAcceptedEvent = OrderAcceptedEvent.builder()
                         .order(order)
                         .eventId("ORDER_ACCEPTED_" + order.getId())
                         .build();
 
-                notificationService.processNotification(orderAcceptedEvent);
+                notificationOutboxService.enqueue(orderAcceptedEvent);
                 log.info("주문 수락 알림 전송 완료");
             }
         } catch (Exception e) {
@@ -620,92 +753,104 @@ public class OrderService {
     }
 
     //판매자 주문 거절 메서드
-    @Transactional
     public void refuseOrder(Long sellerId, Long orderId) {
-        //수락 전 인 것만 찾기
-        Optional<Order> optionalOrder = orderRepository.findByIdAndOrderStatus(orderId, 'S');
-        if (optionalOrder.isEmpty()) {
-            throw new IllegalArgumentException("주문이 존재 하지 않습니다.");
-        }
-        Order order = optionalOrder.get();
-        Optional<Seller> optionalSeller = sellerRepository.findById(sellerId);
-        if (optionalSeller.isEmpty()) {
-            throw new IllegalArgumentException("없는 판매자 입니다.");
-        }
-        if (!order.getSeller().getId().equals(sellerId)) {
-            throw new IllegalArgumentException("해당 주문에 대한 권한이 없습니다.");
-        }
-        Optional<Payment> optionalPayment = paymentRepository.findByOrderAndPaySuccessYN(order, true);
-        if (optionalPayment.isEmpty()) {
-            throw new IllegalArgumentException("성공한 결제가 아닙니다.");
-        }
-        //주문 거절 했으니 결제 취소(환불)
-        cancelPayment(order.getCustomer().getId(), order.getId());
-        order.updateOrderStatus('R'); //refuse의 r
-        restoreStock(order);
-        orderRepository.save(order);
-
-        // 알림 전송
-        try {
-            if (notificationService != null) {
-                OrderDeclinedEvent orderDeclinedEvent = OrderDeclinedEvent.builder()
-                        .order(order)
-                        .eventId("ORDER_DECLINED_" + order.getId())
-                        .build();
+        Payment payment = transactionTemplate.execute(status -> {
+            Optional<Order> optionalOrder = orderRepository.findById(orderId);
+            if (optionalOrder.isEmpty()) {
+                throw new IllegalArgumentException("주문이 존재 하지 않습니다.");
+            }
+            Order order = optionalOrder.get();
+            Optional<Seller> optionalSeller = sellerRepository.findById(sellerId);
+            if (optionalSeller.isEmpty()) {
+                throw new IllegalArgumentException("없는 판매자 입니다.");
+            }
+            if (!order.getSeller().getId().equals(sellerId)) {
+                throw new IllegalArgumentException("해당 주문에 대한 권한이 없습니다.");
+            }
+            //주문 거절 했으니 결제 취소(환불), 재고 복구도 여기서 한 번만
+            //이미 거절된 주문이면 중복 요청이므로 무시
+            Payment requested = requestPaidOrderCancel(order, 'R'); //refuse의 r
+            if (requested == null) {
+                return null;
+            }
 
-                notificationService.processNotification(orderDeclinedEvent);
-                log.info("주문 거절 알림 전송 완료");
+            // 알림 전송
+            try {
+                if (notificationOutboxService != null) {
+                    OrderDeclinedEvent orderDeclinedEvent = OrderDeclinedEvent.builder()
+                            .order(order)
+                            .eventId("ORDER_DECLINED_" + order.getId())
+                            .build();
+
+                    notificationOutboxService.enqueue(orderDeclinedEvent);
+                    log.info("주문 거절 알림 전송 완료");
+                }
+            } catch (Exception e) {
+                log.error("주문 거절 알림 전송 실패", e);
+                // 알림 전송 실패해도
             }
-        } catch (Exception e) {
-            log.error("주문 거절 알림 전송 실패", e);
-            // 알림 전송 실패해도
+            return requested;
+        });
+        if (payment != null) {
+            cancelTossPayment(payment, "판매자 주문 거절");
         }
     }
 
     //환불 수락
-    @Transactional
     public void refundAcceptance(Long sellerId, Long refundId) {
-        Optional<Refund> optionalRefund = refundRepository.findByIdAndStatus(refundId, 'N');
-        if (optionalRefund.isEmpty()) {
-            throw new IllegalArgumentException("환불 신청이 존재 하지 않습니다.");
-        }
-        Refund refund = optionalRefund.get();
-        Optional<Payment> optionalPayment = paymentRepository.findByIdAndPaySuccessYN(refund.getPayment().getId(), true);
-        if (optionalPayment.isEmpty()) {
-            throw new IllegalArgumentException("결제 내역이 존재 하지 않습니다.");
-        }
-        Payment payment = optionalPayment.get();
-        Optional<Order> optionalOrder = orderRepository.findById(payment.getOrder().getId());
-        if (optionalOrder.isEmpty()) {
-            throw new IllegalArgumentException("주문 내역이 존재 하지 않습니다.");
-        }
-        Order order = optionalOrder.get();
-        if (!order.getSeller().getId().equals(sellerId)) {
-            throw new IllegalArgumentException("해당 주문에 대한 권한이 없습니다.");
-        }
-        //결제 취소
-        cancelPayment(order.getCustomer().getId(), order.getId());
-        refund.insertProcessedAt(LocalDateTime.now());
-        refund.updateStatus('A'); // 수락의 A
-        order.updateOrderStatus('B');
-        restoreStock(order);
-        refundRepository.save(refund);
-        orderRepository.save(order);
-
-        // 알림 전송
-        try {
-            if (notificationService != null) {
-                OrderRefundAcceptedEvent orderRefundAcceptedEvent = OrderRefundAcceptedEvent.builder()
-                        .refund(refund)
-                        .eventId("REFUND_ACCEPTED_" + refund.getId())
-                        .build();
+        Payment payment = transactionTemplate.execute(status -> {
+            Optional<Refund> optionalRefund = refundRepository.findById(refundId);
+            if (optionalRefund.isEmpty()) {
+                throw new IllegalArgumentException("환불 신청이 존재 하지 않습니다.");
+            }
+            Refund refund = optionalRefund.get();
+            // 이미 수락된 환불이면 중복 요청이므로 무시
+            if (Character.valueOf('A').equals(refund.getStatus())) {
+                return null;
+            }
+            if (!Character.valueOf('N').equals(refund.getStatus())) {
+                throw new IllegalArgumentException("환불 신청이 존재 하지 않습니다.");
+            }
+            Optional<Payment> optionalPayment = paymentRepository.findByIdAndPaySuccessYN(refund.getPayment().getId(), true);
+            if (optionalPayment.isEmpty()) {
+                throw new IllegalArgumentException("결제 내역이 존재 하지 않습니다.");
+            }
+            Optional<Order> optionalOrder = orderRepository.findById(optionalPayment.get().getOrder().getId());
+            if (optionalOrder.isEmpty()) {
+                throw new IllegalArgumentException("주문 내역이 존재 하지 않습니다.");
+            }
+            Order order = optionalOrder.get();
+            if (!order.getSeller().getId().equals(sellerId)) {
+                throw new IllegalArgumentException("해당 주문에 대한 권한이 없습니다.");
+            }
+            //결제 취소, 재고 복구도 여기서 한 번만
+            Payment requested = requestPaidOrderCancel(order, 'B');
+            if (requested == null) {
+                return null;
+            }
+            refund.insertProcessedAt(LocalDateTime.now());
+            refund.updateStatus('A'); // 수락의 A
+            refundRepository.save(refund);
 
-                notificationService.processNotification(orderRefundAcceptedEvent);
-                log.info("환불 수락 알림 전송 완료");
+            // 알림 전송
+            try {
+                if (notificationOutboxService != null) {
+                    OrderRefundAcceptedEvent orderRefundAcceptedEvent = OrderRefundAcceptedEvent.builder()
+                            .refund(refund)
+                            .eventId("REFUND_ACCEPTED_" + refund.getId())
+                            .build();
+
+                    notificationOutboxService.enqueue(orderRefundAcceptedEvent);
+                    log.info("환불 수락 알림 전송 완료");
+                }
+            } catch (Exception e) {
+                log.error("환불 수락 알림 전송 실패", e);
+                // 알림 전송 실패
             }
-        } catch (Exception e) {
-            log.error("환불 수락 알림 전송 실패", e);
-            // 알림 전송 실패
+            return requested;
+        });
+        if (payment != null) {
+            cancelTossPayment(payment, "환불 수락");
         }
     }
 
@@ -738,13 +883,13 @@ public class OrderService {
 
         // 알림 전송
         try {
-            if (notificationService != null) {
+            if (notificationOutboxService != null) {
                 OrderRefundDeclinedEvent orderRefundDeclinedEvent = OrderRefundDeclinedEvent.builder()
                         .refund(refund)
                         .eventId("REFUND_DECLINED_" + refund.getId())
                         .build();
 
-                notificationService.processNotification(orderRefundDeclinedEvent);
+                notificationOutboxService.enqueue(orderRefundDeclinedEvent);
                 log.info("환불 거절 알림 전송 완료");
             }
         } catch (Exception e) {
@@ -753,22 +898,22 @@ public class OrderService {
         }
     }
 
-    //통계
+    //통계 (일별 매출 집계 테이블에서 조회)
     public List<StatsDto> getStats(Long sellerId, String period, Integer year, Integer month) {
         Seller seller = sellerRepository.findById(sellerId)
                 .orElseThrow(() -> new IllegalArgumentException("판매자를 찾을 수 없습니다."));
 
         switch (period.toLowerCase()) {
             case "daily":
-                return orderRepository.getDailyStats(seller.getId(), year, month);
+                return sellerSalesDailyRepository.getDailyStats(seller.getId(), year, month);
             case "weekly":
-                return convertWeekStats(orderRepository.getWeeklyStatsRaw(seller.getId(), year));
+                return convertWeekStats(sellerSalesDailyRepository.getWeeklyStats(seller.getId(), year));
             case "monthly":
-                return orderRepository.getMonthStats(seller.getId(), year, month);
+                return sellerSalesDailyRepository.getMonthStats(seller.getId(), year, month);
             case "quarterly":
-                return converQuarterStats(orderRepository.getQuarterStats(seller.getId(), year));
+                return converQuarterStats(sellerSalesDailyRepository.getQuarterStats(seller.getId(), year));
             case "yearly":
-                return orderRepository.getYearStats(seller.getId());
+                return sellerSalesDailyRepository.getYearStats(seller.getId());
             default:
                 throw new IllegalArgumentException("해당 타입은 조회를 하지 못했습니다.");
         }
@@ -840,54 +985,20 @@ public class OrderService {
     // 재고 복구 로직을 별도 메서드로
     private void restoreStock(Order order) {
         List<OrderItem> orderItems = orderItemRepository.findByOrder(order);
-        for (OrderItem orderItem : orderItems) {
-            Product product = orderItem.getProduct();
-            int newStock = product.getStockQuantity() + orderItem.getQuantity();
-            Character oldStatus = product.getStatus();
-            boolean isStatusChanged = product.updateStockQuantity(newStock);
-            if (isStatusChanged) {
-                sendProductStatusChangeNotifications(product, oldStatus, product.getStatus());
-            }
-            productRepository.save(product);
-
-            log.info("재고 복구: productId={}, 복구량={}, 새로운재고={}",
-                    product.getId(), orderItem.getQuantity(), newStock);
-        }
+        sendProductStatusChangeNotifications(stockReservationService.compensate(order, orderItems));
     }
 
-    private void sendProductStatusChangeNotifications(Product product, Character oldStatus, Character newStatus) {
-        try {
-            // 1. 판매자에게 알림
-            ProductStatusChangedEvent sellerEvent = ProductStatusChangedEvent.builder()
-                    .product(product)
-                    .oldStatus(oldStatus)
-                    .newStatus(newStatus)
-                    .eventId("PRODUCT_STATUS_" + product.getId())
-                    .build();
-            notificationService.processNotification(sellerEvent);
-
-            // 2. 좋아요한 고객들에게 알림
-            LikeProductStatusChangedEvent likeEvent = LikeProductStatusChangedEvent.builder()
-                    .product(product)
-                    .oldStatus(oldStatus)
-                    .newStatus(newStatus)
-                    .eventId("LIKE_PRODUCT_STATUS_" + product.getId())
-                    .build();
-            notificationService.processNotification(likeEvent);
-
-            // 3. 장바구니에 담은 고객들에게 알림
-            CartProductStatusChangedEvent cartEvent = CartProductStatusChangedEvent.builder()
-                    .product(product)
-                    .oldStatus(oldStatus)
-                    .newStatus(newStatus)
-                    .eventId("CART_PRODUCT_STATUS_" + product.getId())
-                    .build();
-            notificationService.processNotification(cartEvent);
+    // 결제되지 않고 만료된 재고 예약 해제 (스케줄러에서 호출)
+    @Transactional
+    public void releaseExpiredStockReservations() {
+        sendProductStatusChangeNotifications(stockReservationService.releaseExpired());
+    }
 
-        } catch (Exception e) {
-            log.error("상품 상태 변경 알림 전송 실패: productId={}", product.getId(), e);
-        }
+    // 품절/재입고 알림과 검색 인덱스 반영은 상품 상태 전환 서비스에서 처리
+    private void sendProductStatusChangeNotifications(List<StockStatusChangeDto> changes) {
+        productLifecycleService.onStockStatusChanged(changes);
     }
+
     public Long getSellerIdFromProduct(Long productId) {
         Optional<Product> optionalProduct = productRepository.findById(productId);
         if (optionalProduct.isPresent()) {
@@ -0,0 +1,65 @@
+package com.yju.team2.seilomun.domain.order.service;
+
+import com.yju.team2.seilomun.domain.order.entity.Order;
+import com.yju.team2.seilomun.domain.order.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 주문 상태 전이
+ *  결제 전(N) -> 결제 완료(S) / 결제 실패(F)
+ *  결제 완료(S) -> 수락(A) / 거절(R) / 취소(C)
+ *  수락(A) -> 환불(B) / 취소(C)
+ * 주문과 목표 상태가 멱등키 역할을 해서, 이미 목표 상태인 주문에 같은 요청이 다시 오면 아무것도 하지 않는다.
+ * 상태 변경은 버전 조건이 걸린 UPDATE 한 번으로 처리하므로 동시에 들어온 중복 요청은 한 건만 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderStateMachine {
+
+    private static final Map<Character, Set<Character>> TRANSITIONS = Map.of(
+            'N', Set.of('S', 'F'),
+            'S', Set.of('A', 'R', 'C'),
+            'A', Set.of('B', 'C')
+    );
+
+    private final OrderRepository orderRepository;
+    private final EntityManager entityManager;
+
+    public boolean canTransition(Character fromStatus, Character toStatus) {
+        return TRANSITIONS.getOrDefault(fromStatus, Set.of()).contains(toStatus);
+    }
+
+    // 상태를 바꿨으면 true, 이미 목표 상태라서 바꿀 필요가 없으면 false
+    // 호출하는 쪽은 false일 때 재고 복구/결제 취소 같은 후속 처리를 건너뛰면 됨
+    public boolean transition(Order order, Character toStatus) {
+        Character fromStatus = order.getOrderStatus();
+        if (Objects.equals(fromStatus, toStatus)) {
+            return false;
+        }
+        if (!canTransition(fromStatus, toStatus)) {
+            throw new IllegalStateException("'" + fromStatus + "' 상태의 주문은 '" + toStatus + "' 상태로 변경할 수 없습니다.");
+        }
+
+        int updated = orderRepository.updateStatusIfVersion(order.getId(), fromStatus, toStatus, order.getVersion());
+        // 벌크 UPDATE는 영속성 컨텍스트를 거치지 않으므로 최신 상태/버전으로 다시 읽음
+        entityManager.refresh(order);
+        if (updated == 1) {
+            return true;
+        }
+
+        // 다른 요청이 먼저 상태를 바꾼 경우, 같은 목표 상태면 중복 요청이므로 무시
+        if (Objects.equals(order.getOrderStatus(), toStatus)) {
+            log.info("중복 주문 상태 변경 요청 무시: orderId={}, status={}", order.getId(), toStatus);
+            return false;
+        }
+        throw new IllegalStateException("다른 요청에서 주문 상태가 변경되었습니다. 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,84 @@
+package com.yju.team2.seilomun.domain.order.service;
+
+import com.yju.team2.seilomun.domain.order.entity.Order;
+import com.yju.team2.seilomun.domain.order.entity.OrderItem;
+import com.yju.team2.seilomun.domain.order.repository.OrderItemRepository;
+import com.yju.team2.seilomun.domain.order.repository.SellerSalesDailyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 판매자 매출 통계 집계
+ * 주문이 수락(A)되면 주문 생성일의 일별 집계에 더하고, 수락된 주문이 취소/환불(C, B)되면 다시 뺀다.
+ * 통계 조회는 일별 집계만 합산하므로 주문 테이블 전체를 읽지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SellerSalesStatsService {
+
+    private final SellerSalesDailyRepository sellerSalesDailyRepository;
+    private final OrderItemRepository orderItemRepository;
+
+    // 주문 수락 시 집계에 추가
+    @Transactional
+    public void addOrder(Order order) {
+        applyOrder(order, 1);
+    }
+
+    // 수락된 주문이 취소/환불되면 집계에서 제외
+    @Transactional
+    public void removeOrder(Order order) {
+        applyOrder(order, -1);
+    }
+
+    // 주문 테이블 기준으로 일별 집계 재생성 (fromDate가 null이면 전체 이력)
+    @Transactional
+    public int rebuild(LocalDate fromDate) {
+        int deleted = sellerSalesDailyRepository.deleteFrom(fromDate);
+        int inserted = sellerSalesDailyRepository.insertFromOrders(fromDate);
+        log.info("판매자 매출 집계 재생성: fromDate={}, 삭제={}, 생성={}", fromDate, deleted, inserted);
+        return inserted;
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        return sellerSalesDailyRepository.count() == 0;
+    }
+
+    private void applyOrder(Order order, int sign) {
+        long quantity = 0;
+        for (OrderItem orderItem : orderItemRepository.findByOrder(order)) {
+            quantity += orderItem.getQuantity();
+        }
+        LocalDate salesDate = order.getCreatedAt().toLocalDate();
+
+        sellerSalesDailyRepository.addSales(
+                order.getSeller().getId(),
+                salesDate,
+                salesDate.getYear(),
+                (salesDate.getMonthValue() - 1) / 3 + 1,
+                salesDate.getMonthValue(),
+                weekOfYear(salesDate),
+                sign * quantity,
+                sign * (long) order.getTotalAmount());
+    }
+
+    // MySQL WEEK(date, 1)과 같은 주차 계산
+    // 월요일 시작, 4일 이상 포함된 첫 주가 1주차이고 그 이전 날짜는 0주차, 연말은 53주차까지 이어서 셈
+    static int weekOfYear(LocalDate date) {
+        LocalDate firstWeekStart = LocalDate.of(date.getYear(), 1, 4)
+                .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        if (date.isBefore(firstWeekStart)) {
+            return 0;
+        }
+        return (int) (ChronoUnit.DAYS.between(firstWeekStart, date) / 7) + 1;
+    }
+}
@@ -0,0 +1,244 @@
+package com.yju.team2.seilomun.domain.order.service;
+
+import com.yju.team2.seilomun.domain.order.dto.StockStatusChangeDto;
+import com.yju.team2.seilomun.domain.order.entity.Order;
+import com.yju.team2.seilomun.domain.order.entity.OrderItem;
+import com.yju.team2.seilomun.domain.order.entity.StockReservation;
+import com.yju.team2.seilomun.domain.order.repository.StockReservationRepository;
+import com.yju.team2.seilomun.domain.product.entity.Product;
+import com.yju.team2.seilomun.domain.product.repository.ProductRepository;
+import com.yju.team2.seilomun.domain.product.service.ProductIndexService;
+import com.yju.team2.seilomun.domain.product.service.ProductLifecycleService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 예약 서비스
+ * 주문 생성 시 조건부 차감으로 재고를 선점하고(R), 결제 성공 시 확정(C), 결제 실패/결제창 닫기/만료/취소/환불 시 해제(X)한다.
+ * 재고 차감은 "재고 >= 수량" 조건이 걸린 UPDATE 한 번으로 처리하므로 동시에 결제가 몰려도 초과 판매되지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationService {
+
+    private static final Character RESERVED = 'R';
+    private static final Character COMMITTED = 'C';
+    private static final Character RELEASED = 'X';
+    private static final int EXPIRED_BATCH_SIZE = 100;
+
+    private final StockReservationRepository stockReservationRepository;
+    private final ProductRepository productRepository;
+    private final ProductIndexService productIndexService;
+    private final EntityManager entityManager;
+    private final MeterRegistry meterRegistry;
+
+    // 결제창에서 결제를 마치지 않으면 이 시간 뒤에 선점한 재고를 돌려놓음
+    @Value("${order.stock-reservation.ttl-minutes:15}")
+    private long reservationTtlMinutes;
+
+    // 주문 생성 시 재고 선점, 하나라도 부족하면 예외 (트랜잭션 롤백으로 앞서 차감한 재고도 복구됨)
+    @Transactional
+    public List<StockStatusChangeDto> reserve(Order order, List<OrderItem> orderItems) {
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(reservationTtlMinutes);
+        List<StockStatusChangeDto> changes = new ArrayList<>();
+
+        for (OrderItem orderItem : sortByProductId(orderItems)) {
+            Product product = orderItem.getProduct();
+            if (!decreaseStock(product, orderItem.getQuantity(), changes)) {
+                throw new IllegalArgumentException("구매 하려는 상품의 수량이 초과하였습니다: " + product.getName());
+            }
+            stockReservationRepository.save(StockReservation.builder()
+                    .order(order)
+                    .orderItem(orderItem)
+                    .product(product)
+                    .quantity(orderItem.getQuantity())
+                    .status(RESERVED)
+                    .expiresAt(expiresAt)
+                    .build());
+        }
+        return changes;
+    }
+
+    // 결제 성공 시 예약 확정
+    // 예약이 만료되어 해제됐거나 예약 없이 생성된 주문이면 이 시점에 다시 조건부 차감
+    @Transactional
+    public List<StockStatusChangeDto> commit(Order order, List<OrderItem> orderItems) {
+        Map<Long, StockReservation> reservations = findByOrderItem(order);
+        List<StockStatusChangeDto> changes = new ArrayList<>();
+
+        for (OrderItem orderItem : sortByProductId(orderItems)) {
+            StockReservation reservation = reservations.get(orderItem.getId());
+            if (reservation != null && transition(reservation, List.of(RESERVED, COMMITTED), COMMITTED)) {
+                continue;
+            }
+
+            Product product = orderItem.getProduct();
+            if (!decreaseStock(product, orderItem.getQuantity(), changes)) {
+                log.error("결제 확정 시 재고 부족: productId={}, 주문수량={}", product.getId(), orderItem.getQuantity());
+                throw new IllegalStateException("재고가 부족합니다: " + product.getName());
+            }
+            if (reservation == null) {
+                stockReservationRepository.save(StockReservation.builder()
+                        .order(order)
+                        .orderItem(orderItem)
+                        .product(product)
+                        .quantity(orderItem.getQuantity())
+                        .status(COMMITTED)
+                        .expiresAt(LocalDateTime.now())
+                        .build());
+            } else {
+                transition(reservation, List.of(RELEASED), COMMITTED);
+            }
+        }
+        return changes;
+    }
+
+    // 결제 전 예약 해제 (결제 실패, 결제창 닫기)
+    @Transactional
+    public List<StockStatusChangeDto> release(Order order) {
+        List<StockStatusChangeDto> changes = new ArrayList<>();
+        for (StockReservation reservation : stockReservationRepository.findByOrder(order)) {
+            if (transition(reservation, List.of(RESERVED), RELEASED)) {
+                increaseStock(reservation.getProduct(), reservation.getQuantity(), changes);
+            }
+        }
+        return changes;
+    }
+
+    // 결제 후 취소/거절/환불 시 재고 복구
+    // 이미 해제된 예약은 건너뛰므로 여러 번 호출해도 한 번만 복구됨
+    @Transactional
+    public List<StockStatusChangeDto> compensate(Order order, List<OrderItem> orderItems) {
+        List<StockReservation> reservations = stockReservationRepository.findByOrder(order);
+        List<StockStatusChangeDto> changes = new ArrayList<>();
+
+        // 재고 예약 도입 이전에 결제된 주문은 주문 아이템 기준으로 복구
+        if (reservations.isEmpty()) {
+            for (OrderItem orderItem : orderItems) {
+                increaseStock(orderItem.getProduct(), orderItem.getQuantity(), changes);
+            }
+            return changes;
+        }
+
+        for (StockReservation reservation : reservations) {
+            if (transition(reservation, List.of(RESERVED, COMMITTED), RELEASED)) {
+                increaseStock(reservation.getProduct(), reservation.getQuantity(), changes);
+            }
+        }
+        return changes;
+    }
+
+    // 결제 승인 요청 때 확정된 재고가 있는지 (있으면 해제가 아니라 복구해야 함)
+    @Transactional(readOnly = true)
+    public boolean hasCommitted(Order order) {
+        return stockReservationRepository.existsByOrderAndStatus(order, COMMITTED);
+    }
+
+    // 주문 삭제 전에 예약 기록도 함께 삭제
+    @Transactional
+    public void deleteByOrder(Order order) {
+        stockReservationRepository.deleteAll(stockReservationRepository.findByOrder(order));
+    }
+
+    // 만료된 예약 해제
+    @Transactional
+    public List<StockStatusChangeDto> releaseExpired() {
+        List<StockReservation> expired = stockReservationRepository.findByStatusAndExpiresAtBeforeOrderByExpiresAtAsc(
+                RESERVED, LocalDateTime.now(), PageRequest.of(0, EXPIRED_BATCH_SIZE));
+        List<StockStatusChangeDto> changes = new ArrayList<>();
+
+        for (StockReservation reservation : expired) {
+            if (transition(reservation, List.of(RESERVED), RELEASED)) {
+                increaseStock(reservation.getProduct(), reservation.getQuantity(), changes);
+                log.info("만료된 재고 예약 해제: reservationId={}, productId={}, 수량={}",
+                        reservation.getId(), reservation.getProduct().getId(), reservation.getQuantity());
+            }
+        }
+        return changes;
+    }
+
+    private boolean transition(StockReservation reservation, Collection<Character> fromStatuses, Character toStatus) {
+        return stockReservationRepository.updateStatusIfIn(reservation.getId(), fromStatuses, toStatus) == 1;
+    }
+
+    private boolean decreaseStock(Product product, Integer quantity, List<StockStatusChangeDto> changes) {
+        Character oldStatus = product.getStatus();
+        long startedAt = System.nanoTime();
+        int updated = productRepository.decreaseStockIfAvailable(product.getId(), quantity);
+        recordReservation(updated == 1, System.nanoTime() - startedAt);
+
+        if (updated == 0) {
+            // 재고 부족 또는 판매 중지/만료된 상품
+            log.warn("재고 예약 실패: productId={}, 요청수량={}", product.getId(), quantity);
+            return false;
+        }
+        // 벌크 UPDATE는 영속성 컨텍스트를 거치지 않으므로 최신 재고/상태로 다시 읽음
+        entityManager.refresh(product);
+        addIfStatusChanged(product, oldStatus, changes);
+        productIndexService.record(product.getId(), ProductIndexService.SALE);
+        return true;
+    }
+
+    private void increaseStock(Product product, Integer quantity, List<StockStatusChangeDto> changes) {
+        Character oldStatus = product.getStatus();
+        LocalDateTime now = LocalDateTime.now();
+        productRepository.increaseStock(product.getId(), quantity, now, now.plusDays(ProductLifecycleService.IMMINENT_DAYS));
+        entityManager.refresh(product);
+        addIfStatusChanged(product, oldStatus, changes);
+        productIndexService.record(product.getId(), ProductIndexService.SALE);
+
+        log.info("재고 복구: productId={}, 복구량={}, 새로운재고={}",
+                product.getId(), quantity, product.getStockQuantity());
+    }
+
+    private void addIfStatusChanged(Product product, Character oldStatus, List<StockStatusChangeDto> changes) {
+        if (!Objects.equals(oldStatus, product.getStatus())) {
+            changes.add(new StockStatusChangeDto(product, oldStatus, product.getStatus()));
+        }
+    }
+
+    // 여러 주문이 같은 상품들을 동시에 잡을 때 교착 상태가 생기지 않도록 상품 ID 순서로 잠금
+    private List<OrderItem> sortByProductId(List<OrderItem> orderItems) {
+        List<OrderItem> sorted = new ArrayList<>(orderItems);
+        sorted.sort(Comparator.comparing(orderItem -> orderItem.getProduct().getId()));
+        return sorted;
+    }
+
+    private Map<Long, StockReservation> findByOrderItem(Order order) {
+        Map<Long, StockReservation> reservations = new HashMap<>();
+        for (StockReservation reservation : stockReservationRepository.findByOrder(order)) {
+            reservations.put(reservation.getOrderItem().getId(), reservation);
+        }
+        return reservations;
+    }
+
+    // 예약 지연시간, 경합(조건부 차감 실패) 횟수
+    // 상품 ID는 태그로 붙이지 않음 (상품 수만큼 시계열이 늘어나므로 결과별로만 집계)
+    private void recordReservation(boolean reserved, long elapsedNanos) {
+        Timer.builder("stock.reservation.latency")
+                .description("재고 조건부 차감 소요 시간")
+                .tag("result", reserved ? "reserved" : "rejected")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (!reserved) {
+            Counter.builder("stock.reservation.contention")
+                    .description("재고 부족으로 조건부 차감에 실패한 횟수")
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+}
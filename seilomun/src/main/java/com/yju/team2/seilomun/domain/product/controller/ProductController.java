@@ -4,7 +4,9 @@ import com.yju.team2.seilomun.domain.auth.JwtUserDetails;
 import com.yju.team2.seilomun.domain.product.service.ProductService;
 import com.yju.team2.seilomun.domain.seller.service.SellerService;
 import com.yju.team2.seilomun.common.ApiResponseJson;
+import com.yju.team2.seilomun.domain.product.dto.ProductBulkUpdateDto;
 import com.yju.team2.seilomun.domain.product.dto.ProductDto;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -77,6 +79,21 @@ public class ProductController {
 
     }
 
+    // 상품 일괄 수정 (재고/가격/판매 상태)
+    @PatchMapping("/bulk")
+    public ResponseEntity<ApiResponseJson> bulkUpdateProducts(@Valid @RequestBody ProductBulkUpdateDto productBulkUpdateDto,
+                                                              BindingResult bindingResult,
+                                                              @AuthenticationPrincipal JwtUserDetails userDetail) {
+        if (bindingResult.hasErrors()) {
+            throw new IllegalArgumentException("잘못된 요청입니다.");
+        }
+
+        int updated = productService.bulkUpdateProducts(productBulkUpdateDto, userDetail.getEmail());
+        return ResponseEntity.ok(new ApiResponseJson(HttpStatus.OK,
+                Map.of("Update", updated,
+                        "Message", "상품 " + updated + "개가 수정 되었습니다")));
+    }
+
     // 상품 삭제
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponseJson> deleteProductDto(@PathVariable Long id,
@@ -17,4 +17,8 @@ public class DiscountInfo {
     private Integer discountRate;
     private Integer discountedPrice;
     private LocalDateTime calculatedAt;
+    // 할인율이 다음으로 바뀌는 시각 (이 시각부터 캐시 값은 무효), 더 이상 바뀌지 않으면 null
+    private LocalDateTime validUntil;
+    // 계산 당시 상품의 캐시 버전, 현재 버전과 다르면 캐시 미스로 처리
+    private Long version;
 }
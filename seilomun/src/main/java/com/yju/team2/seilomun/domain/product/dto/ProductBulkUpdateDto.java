@@ -0,0 +1,24 @@
+package com.yju.team2.seilomun.domain.product.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 판매자 상품 일괄 수정 (재고/가격/판매 상태)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProductBulkUpdateDto {
+
+    @Valid
+    @NotEmpty
+    @Size(max = 200)
+    private List<ProductBulkUpdateItemDto> items;
+}
@@ -0,0 +1,32 @@
+package com.yju.team2.seilomun.domain.product.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 상품 하나의 변경 내용, 비어 있는 항목은 그대로 둠
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProductBulkUpdateItemDto {
+
+    @NotNull
+    private Long productId;
+
+    @PositiveOrZero
+    private Integer stockQuantity;
+
+    @Positive
+    private Integer originalPrice;
+
+    /**
+     *  판매 재개 : '1' (유통기한/재고에 맞게 임박특가, 품절로 보정됨)
+     *  판매 중지 : '0'
+     * */
+    private Character status;
+}
@@ -0,0 +1,29 @@
+package com.yju.team2.seilomun.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 상품 카드/상세 응답에 필요한 상품 컬럼만 읽어오는 프로젝션 (판매자/카테고리는 외래키만, 사진은 따로 한 번에)
+@Getter
+@AllArgsConstructor
+public class ProductCardRow {
+    private Long productId;
+    private String name;
+    private String description;
+    private Integer originalPrice;
+    private Integer stockQuantity;
+    private LocalDateTime expiryDate;
+    private Character status;
+    private Integer minDiscountRate;
+    private Integer maxDiscountRate;
+    private LocalDateTime createdAt;
+    private Long sellerId;
+    private Long categoryId;
+
+    // 할인가 일괄 조회 입력값
+    public ProductPricingRow toPricingRow() {
+        return new ProductPricingRow(productId, createdAt, expiryDate, minDiscountRate, maxDiscountRate, originalPrice);
+    }
+}
@@ -66,6 +66,30 @@ public class ProductDto {
                 .build();
     }
 
+    // 프로젝션으로 조립 (상품 카드, 상세), 엔티티의 지연 로딩 컬렉션을 건드리지 않음
+    public static ProductDto of(ProductCardRow row, SellerInformationDto seller, List<ProductPhotoRow> photos,
+                                DiscountInfo discountInfo) {
+        return ProductDto.builder()
+                .id(row.getProductId())
+                .name(row.getName())
+                .description(row.getDescription())
+                .originalPrice(row.getOriginalPrice())
+                .discountPrice(discountInfo.getDiscountedPrice())
+                .stockQuantity(row.getStockQuantity())
+                .expiryDate(row.getExpiryDate())
+                .status(row.getStatus())
+                .minDiscountRate(row.getMinDiscountRate())
+                .maxDiscountRate(row.getMaxDiscountRate())
+                .currentDiscountRate(discountInfo.getDiscountRate())
+                .createdAt(row.getCreatedAt())
+                .sellerId(row.getSellerId())
+                .seller(seller)
+                .categoryId(row.getCategoryId())
+                .productPhotoUrl(photos.stream().map(ProductPhotoRow::getPhotoUrl).collect(Collectors.toList()))
+                .productPhotoIds(photos.stream().map(ProductPhotoRow::getPhotoId).collect(Collectors.toList()))
+                .build();
+    }
+
     // 기존 호환성을 위한 메서드 (deprecated)
     @Deprecated
     public static ProductDto fromEntity(Product product, Integer currentDiscountRate) {
@@ -0,0 +1,25 @@
+package com.yju.team2.seilomun.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 검색 인덱스 재생성에 필요한 상품 컬럼만 읽어오는 프로젝션 (판매자/카테고리는 외래키와 판매자 별점만)
+@Getter
+@AllArgsConstructor
+public class ProductIndexRow {
+    private Long productId;
+    private String name;
+    private String description;
+    private Integer originalPrice;
+    private Integer stockQuantity;
+    private Character status;
+    private Long sellerId;
+    private Long categoryId;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiryDate;
+    private Integer minDiscountRate;
+    private Integer maxDiscountRate;
+    private Float sellerRating;
+}
@@ -0,0 +1,13 @@
+package com.yju.team2.seilomun.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 여러 상품의 사진을 한 번에 읽어오는 프로젝션
+@Getter
+@AllArgsConstructor
+public class ProductPhotoRow {
+    private Long productId;
+    private Long photoId;
+    private String photoUrl;
+}
@@ -0,0 +1,25 @@
+package com.yju.team2.seilomun.domain.product.dto;
+
+import com.yju.team2.seilomun.domain.product.entity.Product;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 할인가 계산에 필요한 상품 컬럼만 읽어오는 프로젝션
+@Getter
+@AllArgsConstructor
+public class ProductPricingRow {
+    private Long productId;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiryDate;
+    private Integer minDiscountRate;
+    private Integer maxDiscountRate;
+    private Integer originalPrice;
+
+    // 이미 조회된 엔티티의 가격 입력값
+    public static ProductPricingRow of(Product product) {
+        return new ProductPricingRow(product.getId(), product.getCreatedAt(), product.getExpiryDate(),
+                product.getMinDiscountRate(), product.getMaxDiscountRate(), product.getOriginalPrice());
+    }
+}
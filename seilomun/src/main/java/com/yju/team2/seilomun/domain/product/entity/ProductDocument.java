@@ -1,5 +1,7 @@
 package com.yju.team2.seilomun.domain.product.entity;
 
+import com.yju.team2.seilomun.domain.product.dto.ProductIndexRow;
+import com.yju.team2.seilomun.domain.product.service.DiscountPricingEngine;
 import lombok.*;
 import org.springframework.data.elasticsearch.annotations.DateFormat;
 import org.springframework.data.elasticsearch.annotations.Document;
@@ -51,23 +53,41 @@ public class ProductDocument {
     @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second_millis)
     private LocalDateTime expiryDate;
 
+    // 판매자 별점 (리뷰가 바뀌면 판매자 상품 전체를 스크립트로 부분 업데이트)
     @Field(type = FieldType.Double)
     private Double averageRating;
 
-    public static ProductDocument from(Product product) {
+    // 색인 시점의 할인율/할인가 (할인율이 바뀌는 시각마다 부분 업데이트), 가격 정렬은 할인가 기준
+    @Field(type = FieldType.Integer)
+    private Integer discountRate;
+
+    @Field(type = FieldType.Integer)
+    private Integer discountedPrice;
+
+    // 재인덱싱/동기화용, 엔티티 없이 프로젝션과 미리 모아 둔 썸네일로 생성
+    public static ProductDocument of(ProductIndexRow row, String thumbnailUrl) {
+        int discountRate = DiscountPricingEngine.calculateDiscountRate(row.getCreatedAt(), row.getExpiryDate(),
+                row.getMinDiscountRate(), row.getMaxDiscountRate(), LocalDateTime.now());
         return ProductDocument.builder()
-                .id(product.getId().toString())
-                .name(product.getName())
-                .description(product.getDescription())
-                .originalPrice(product.getOriginalPrice())
-                .stockQuantity(product.getStockQuantity())
-                .status(String.valueOf(product.getStatus()))
-                .sellerId(product.getSeller().getId())
-                .categoryId(product.getProductCategory().getId())
-                .createdAt(product.getCreatedAt())
-                .expiryDate(product.getExpiryDate())
-                .thumbnailUrl(product.getProductPhotos().get(0).getPhotoUrl())
-                // averageRating은 별도로 계산 필요
+                .id(row.getProductId().toString())
+                .name(row.getName())
+                .description(row.getDescription())
+                .originalPrice(row.getOriginalPrice())
+                .stockQuantity(row.getStockQuantity())
+                .status(String.valueOf(row.getStatus()))
+                .sellerId(row.getSellerId())
+                .categoryId(row.getCategoryId())
+                .createdAt(row.getCreatedAt())
+                .expiryDate(row.getExpiryDate())
+                .thumbnailUrl(thumbnailUrl)
+                .averageRating(toDouble(row.getSellerRating()))
+                .discountRate(discountRate)
+                .discountedPrice(DiscountPricingEngine.discountedPrice(row.getOriginalPrice(), discountRate))
                 .build();
     }
+
+    // Float 별점을 그대로 double로 바꾸면 4.3 -> 4.300000190734863 처럼 되므로 문자열을 거침
+    private static Double toDouble(Float rating) {
+        return rating == null ? null : Double.valueOf(rating.toString());
+    }
 }
\ No newline at end of file
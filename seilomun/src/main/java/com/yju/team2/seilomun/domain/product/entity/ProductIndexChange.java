@@ -0,0 +1,45 @@
+package com.yju.team2.seilomun.domain.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// 검색 인덱스에 반영할 상품 변경, 상품 변경과 같은 트랜잭션에서 기록되고 동기화가 ID 순서로 꺼내서 반영 후 삭제함
+// 동기화가 꺼낸 기록은 claimedUntil까지 선점되어 그동안 다른 서버가 다시 꺼내지 않음
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "product_index_changes")
+public class ProductIndexChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "pic_id")
+    private Long id;
+
+    @Column(name = "pr_id", nullable = false)
+    private Long productId;
+
+    /**
+     *  전체 문서 (등록, 수정) : 'F'
+     *  판매 정보 (재고, 상태, 가격) : 'S'
+     *  삭제 : 'D'
+     * */
+    @Column(name = "change_type", nullable = false, length = 1)
+    private Character changeType;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 동기화 선점 만료 시각 (선점되지 않았으면 null)
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+}
@@ -0,0 +1,55 @@
+package com.yju.team2.seilomun.domain.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// 상품의 예정된 상태 전환 (임박특가, 유통기한 만료), 예정 시각 순으로 꺼내서 처리하는 대기열
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "product_transitions", indexes = {
+        @Index(name = "idx_product_transitions_status_due", columnList = "status, due_at"),
+        @Index(name = "idx_product_transitions_product", columnList = "pr_id, status")
+})
+public class ProductTransition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "pt_id")
+    private Long id;
+
+    @Column(name = "pr_id", nullable = false)
+    private Long productId;
+
+    /**
+     *  임박특가 전환 (유통기한 3일 전) : 'T'
+     *  유통기한 만료 : 'X'
+     * */
+    @Column(name = "target_status", nullable = false, length = 1)
+    private Character targetStatus;
+
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt;
+
+    /**
+     *  대기 : 'P'
+     *  처리 완료 : 'D'
+     * */
+    @Column(name = "status", nullable = false, length = 1)
+    private Character status;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+}
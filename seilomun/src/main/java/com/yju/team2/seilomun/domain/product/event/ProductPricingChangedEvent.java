@@ -0,0 +1,18 @@
+package com.yju.team2.seilomun.domain.product.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 상품 등록/수정/삭제/만료로 할인가 계산 입력값이 바뀌었을 때 발행 (커밋 후 가격 스냅샷 갱신, 할인 캐시 무효화)
+// 일괄 수정은 상품 여러 개를 한 이벤트로 보내 캐시 무효화를 한 번에 처리
+@Getter
+@AllArgsConstructor
+public class ProductPricingChangedEvent {
+    private List<Long> productIds;
+
+    public ProductPricingChangedEvent(Long productId) {
+        this(List.of(productId));
+    }
+}
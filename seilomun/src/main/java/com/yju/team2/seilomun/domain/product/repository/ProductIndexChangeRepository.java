@@ -0,0 +1,36 @@
+package com.yju.team2.seilomun.domain.product.repository;
+
+import com.yju.team2.seilomun.domain.product.entity.ProductIndexChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductIndexChangeRepository extends JpaRepository<ProductIndexChange, Long> {
+
+    // 선점되지 않았거나 선점이 만료된 기록을 기록된 순서로 잠금, 다른 서버의 동기화가 잡은 행은 건너뜀
+    // 다른 서버가 선점 중인 상품의 기록은 나중에 들어온 것이라도 그 선점이 끝날 때까지 꺼내지 않음
+    @Query(value = "SELECT c.* FROM product_index_changes c " +
+            "WHERE (c.claimed_until IS NULL OR c.claimed_until < :now) " +
+            "AND NOT EXISTS (SELECT 1 FROM product_index_changes claimed " +
+            "WHERE claimed.pr_id = c.pr_id AND claimed.claimed_until >= :now) " +
+            "ORDER BY c.pic_id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<ProductIndexChange> findBatchForUpdate(@Param("limit") int limit, @Param("now") LocalDateTime now);
+
+    // 선점 만료 시각 변경 (null이면 선점 해제)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProductIndexChange c SET c.claimedUntil = :claimedUntil WHERE c.id IN :ids")
+    int updateClaimedUntil(@Param("ids") Collection<Long> ids, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ProductIndexChange c WHERE c.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 아직 반영되지 않은 가장 오래된 변경 시각 (없으면 null)
+    @Query("SELECT MIN(c.createdAt) FROM ProductIndexChange c")
+    LocalDateTime findOldestCreatedAt();
+}
@@ -1,9 +1,13 @@
 package com.yju.team2.seilomun.domain.product.repository;
 
+import com.yju.team2.seilomun.domain.product.dto.ProductPhotoRow;
 import com.yju.team2.seilomun.domain.product.entity.Product;
 import com.yju.team2.seilomun.domain.product.entity.ProductPhoto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +17,15 @@ public interface ProductPhotoRepository extends JpaRepository<ProductPhoto, Long
     Optional<ProductPhoto> findTopByProductOrderById(Product product);
 
     List<ProductPhoto> findByProduct(Product product);
+
+    // 상품별 첫 번째 사진 URL [상품 ID, 사진 URL]
+    @Query("SELECT pp.product.id, pp.photoUrl FROM ProductPhoto pp " +
+            "WHERE pp.id IN (SELECT MIN(p2.id) FROM ProductPhoto p2 " +
+            "WHERE p2.product.id IN :productIds GROUP BY p2.product.id)")
+    List<Object[]> findFirstPhotoUrlsByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    // 여러 상품의 사진 전체, 상품별 등록 순서
+    @Query("SELECT new com.yju.team2.seilomun.domain.product.dto.ProductPhotoRow(pp.product.id, pp.id, pp.photoUrl) " +
+            "FROM ProductPhoto pp WHERE pp.product.id IN :productIds ORDER BY pp.id")
+    List<ProductPhotoRow> findPhotoRowsByProductIdIn(@Param("productIds") Collection<Long> productIds);
 }
@@ -1,10 +1,21 @@
 package com.yju.team2.seilomun.domain.product.repository;
 
+import com.yju.team2.seilomun.domain.product.dto.ProductCardRow;
+import com.yju.team2.seilomun.domain.product.dto.ProductIndexRow;
+import com.yju.team2.seilomun.domain.product.dto.ProductPricingRow;
 import com.yju.team2.seilomun.domain.product.entity.Product;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
@@ -14,11 +25,95 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     // 특정 상태의 상품 중 유통기한이 특정 날짜 이전인 상품 찾기
     List<Product> findByExpiryDateBeforeAndStatus(LocalDateTime dateTime, Character status);
 
-    List<Product> findBySellerId(Long SellerId);
+    // 상품 상세, 엔티티 대신 컬럼만
+    @Query("SELECT new com.yju.team2.seilomun.domain.product.dto.ProductCardRow(" +
+            "p.id, p.name, p.description, p.originalPrice, p.stockQuantity, p.expiryDate, p.status, " +
+            "p.minDiscountRate, p.maxDiscountRate, p.createdAt, p.seller.id, p.productCategory.id) " +
+            "FROM Product p WHERE p.id = :productId")
+    Optional<ProductCardRow> findCardRowById(@Param("productId") Long productId);
+
+    // 판매자 매장 상품 목록, 엔티티 대신 컬럼만
+    @Query("SELECT new com.yju.team2.seilomun.domain.product.dto.ProductCardRow(" +
+            "p.id, p.name, p.description, p.originalPrice, p.stockQuantity, p.expiryDate, p.status, " +
+            "p.minDiscountRate, p.maxDiscountRate, p.createdAt, p.seller.id, p.productCategory.id) " +
+            "FROM Product p WHERE p.seller.id = :sellerId ORDER BY p.id")
+    List<ProductCardRow> findCardRowsBySellerId(@Param("sellerId") Long sellerId);
+
+    // 검색 인덱스 재생성용, lastId 다음부터 ID 순서로 limit개 (엔티티 대신 컬럼만)
+    @Query("SELECT new com.yju.team2.seilomun.domain.product.dto.ProductIndexRow(" +
+            "p.id, p.name, p.description, p.originalPrice, p.stockQuantity, p.status, " +
+            "s.id, p.productCategory.id, p.createdAt, p.expiryDate, p.minDiscountRate, p.maxDiscountRate, s.rating) " +
+            "FROM Product p JOIN p.seller s WHERE p.id > :lastId AND p.status IN :statuses ORDER BY p.id")
+    List<ProductIndexRow> findIndexRowsAfter(@Param("lastId") Long lastId,
+                                             @Param("statuses") Collection<Character> statuses,
+                                             Limit limit);
+
+    // 검색 인덱스 동기화용, 변경이 기록된 상품들의 현재 값
+    @Query("SELECT new com.yju.team2.seilomun.domain.product.dto.ProductIndexRow(" +
+            "p.id, p.name, p.description, p.originalPrice, p.stockQuantity, p.status, " +
+            "s.id, p.productCategory.id, p.createdAt, p.expiryDate, p.minDiscountRate, p.maxDiscountRate, s.rating) " +
+            "FROM Product p JOIN p.seller s WHERE p.id IN :productIds")
+    List<ProductIndexRow> findIndexRowsByIdIn(@Param("productIds") Collection<Long> productIds);
+
+    // 검색 인덱스 동기화 선점용, 다른 트랜잭션이 잡고 있는 상품과 없는 상품은 빠짐
+    @Query(value = "SELECT pr_id FROM products WHERE pr_id IN (:productIds) FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockIdsByIdIn(@Param("productIds") Collection<Long> productIds);
 
     // 재고가 특정 수량이고 특정 상태가 아닌 상품 조회
     List<Product> findByStockQuantityAndStatusNot(Integer stockQuantity, Character status);
 
     // 재고가 0보다 크고 상태가 'E'인 상품 조회 (재입고된 상품)
     List<Product> findByStockQuantityGreaterThanAndStatus(Integer stockQuantity, Character status);
+
+    // 주문 상품들을 판매자, 배달비 구간과 함께 한 번에 조회
+    @Query("SELECT DISTINCT p FROM Product p JOIN FETCH p.seller s LEFT JOIN FETCH s.deliveryFees WHERE p.id IN :productIds")
+    List<Product> findAllWithSellerAndDeliveryFeesByIdIn(@Param("productIds") Collection<Long> productIds);
+
+    // 할인가 계산용 스냅샷, 유통기한이 지나 판매가 끝난 상품은 제외
+    @Query("SELECT new com.yju.team2.seilomun.domain.product.dto.ProductPricingRow(" +
+            "p.id, p.createdAt, p.expiryDate, p.minDiscountRate, p.maxDiscountRate, p.originalPrice) " +
+            "FROM Product p WHERE p.status IS NULL OR p.status <> 'X'")
+    List<ProductPricingRow> findPricingRows();
+
+    @Query("SELECT new com.yju.team2.seilomun.domain.product.dto.ProductPricingRow(" +
+            "p.id, p.createdAt, p.expiryDate, p.minDiscountRate, p.maxDiscountRate, p.originalPrice) " +
+            "FROM Product p WHERE p.id = :productId AND (p.status IS NULL OR p.status <> 'X')")
+    Optional<ProductPricingRow> findPricingRowById(@Param("productId") Long productId);
+
+    // 판매 중(1)/임박특가(T) 상품이고 재고가 충분할 때만 차감 (조건부 차감), 재고가 0이 되면 품절 처리
+    // 판매 중지(0)/만료(X) 상품은 재고가 남아 있어도 예약되지 않는다
+    // MySQL은 SET 절을 왼쪽부터 평가하므로 status를 먼저 계산해야 차감 전 재고로 비교된다
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE products SET " +
+            "status = CASE WHEN stock_quantity = :quantity THEN 'E' ELSE status END, " +
+            "stock_quantity = stock_quantity - :quantity " +
+            "WHERE pr_id = :productId AND stock_quantity >= :quantity AND status IN ('1', 'T')", nativeQuery = true)
+    int decreaseStockIfAvailable(@Param("productId") Long productId, @Param("quantity") Integer quantity);
+
+    // 재고 복구, 품절 상태였다면 유통기한에 맞는 상태(만료/임박특가/판매중)로 되돌림
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE products SET " +
+            "status = CASE WHEN status <> 'E' THEN status " +
+            "WHEN expiry_date < :now THEN 'X' " +
+            "WHEN expiry_date < :imminentAt THEN 'T' " +
+            "ELSE '1' END, " +
+            "stock_quantity = stock_quantity + :quantity " +
+            "WHERE pr_id = :productId", nativeQuery = true)
+    int increaseStock(@Param("productId") Long productId, @Param("quantity") Integer quantity,
+                      @Param("now") LocalDateTime now, @Param("imminentAt") LocalDateTime imminentAt);
+
+    // 상태 전환 대상 상품 잠금, 주문의 재고 차감과 같은 상품 ID 순서로 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id IN :productIds ORDER BY p.id")
+    List<Product> findAllForUpdateByIdIn(@Param("productIds") Collection<Long> productIds);
+
+    // 판매자 일괄 수정 대상 잠금, 다른 판매자의 상품이나 없는 상품은 빠지므로 개수로 권한을 확인
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id IN :productIds AND p.seller.email = :sellerEmail ORDER BY p.id")
+    List<Product> findAllForUpdateBySellerEmailAndIdIn(@Param("sellerEmail") String sellerEmail,
+                                                       @Param("productIds") Collection<Long> productIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.status = :status WHERE p.id IN :productIds")
+    int updateStatusByIdIn(@Param("productIds") Collection<Long> productIds, @Param("status") Character status);
 }
@@ -0,0 +1,50 @@
+package com.yju.team2.seilomun.domain.product.repository;
+
+import com.yju.team2.seilomun.domain.product.entity.ProductTransition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductTransitionRepository extends JpaRepository<ProductTransition, Long> {
+
+    // 예정 시각이 지난 전환을 오래된 순서로 잠금, 다른 서버가 잡은 행은 건너뜀
+    @Query(value = "SELECT * FROM product_transitions WHERE status = 'P' AND due_at <= :now " +
+            "ORDER BY due_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<ProductTransition> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProductTransition t SET t.status = 'D', t.processedAt = :processedAt WHERE t.id IN :ids")
+    int markDone(@Param("ids") Collection<Long> ids, @Param("processedAt") LocalDateTime processedAt);
+
+    // 상품 수정/삭제 시 아직 처리되지 않은 전환 취소
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ProductTransition t WHERE t.productId = :productId AND t.status = 'P'")
+    int deletePendingByProductId(@Param("productId") Long productId);
+
+    // 대기열 도입 전에 등록된 상품의 전환 일괄 등록 (이미 대기 중인 전환이 있는 상품은 제외)
+    @Modifying
+    @Query(value = "INSERT INTO product_transitions (pr_id, target_status, due_at, status, created_at) " +
+            "SELECT p.pr_id, 'X', p.expiry_date, 'P', NOW() FROM products p " +
+            "WHERE (p.status IS NULL OR p.status <> 'X') AND NOT EXISTS (" +
+            "SELECT 1 FROM product_transitions t WHERE t.pr_id = p.pr_id AND t.target_status = 'X' AND t.status = 'P')",
+            nativeQuery = true)
+    int insertMissingExpiryTransitions();
+
+    @Modifying
+    @Query(value = "INSERT INTO product_transitions (pr_id, target_status, due_at, status, created_at) " +
+            "SELECT p.pr_id, 'T', DATE_SUB(p.expiry_date, INTERVAL 3 DAY), 'P', NOW() FROM products p " +
+            "WHERE p.status = '1' AND NOT EXISTS (" +
+            "SELECT 1 FROM product_transitions t WHERE t.pr_id = p.pr_id AND t.target_status = 'T' AND t.status = 'P')",
+            nativeQuery = true)
+    int insertMissingImminentTransitions();
+
+    // 처리 완료된 오래된 전환 정리
+    @Modifying
+    @Query("DELETE FROM ProductTransition t WHERE t.status = 'D' AND t.processedAt < :cutoffDate")
+    int deleteDoneBefore(@Param("cutoffDate") LocalDateTime cutoffDate);
+}
@@ -1,48 +1,42 @@
 package com.yju.team2.seilomun.domain.product.scheduler;
 
-import com.yju.team2.seilomun.domain.product.entity.Product;
-import com.yju.team2.seilomun.domain.product.repository.ProductRepository;
 import com.yju.team2.seilomun.domain.product.service.ProductDiscountService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class DiscountCacheScheduler {
 
+    // 한 번 실행에서 처리할 최대 배치 수 (나머지는 다음 실행에서)
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
     private final ProductDiscountService discountService;
-    private final ProductRepository productRepository;
 
     /**
-     * 매시간 만료 임박 상품들의 할인 캐시 갱신
+     * 10초마다 할인율 변경 시각이 된 상품만 캐시 갱신
+     * 예전처럼 매시간 만료 임박 상품 전체를 무효화하지 않고, 타임라인에 등록된 변경 시각이 지난 상품만 다시 계산
+     * 타임라인 항목을 ZREM으로 선점한 서버만 갱신하므로 모든 서버에서 실행
      */
-    @Scheduled(cron = "0 0 * * * ?") // 매시간 실행
-    public void refreshExpiringProductsCache() {
-        log.info("만료 임박 상품 할인 캐시 갱신 시작");
-
-        LocalDateTime tomorrow = LocalDateTime.now().plusDays(3);
-        // 내일까지 만료되는 상품들 조회
-        List<Product> expiringProducts = productRepository
-                .findByExpiryDateBeforeAndStatusNot(tomorrow, '0');
-
-        List<Long> productIds = expiringProducts.stream()
-                .map(Product::getId)
-                .collect(Collectors.toList());
-
-        // 해당 상품들의 캐시 무효화 후 재계산
-        discountService.invalidateCaches(productIds);
-
-        // 미리 캐시 워밍업
-        expiringProducts.forEach(product ->
-                discountService.getCurrentDiscountRate(product.getId()));
-
-        log.info("만료 임박 상품 할인 캐시 갱신 완료: {}개 상품", productIds.size());
+    @Scheduled(fixedDelay = 10 * 1000)
+    public void refreshDueDiscountCaches() {
+        try {
+            int total = 0;
+            for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+                int refreshed = discountService.refreshDueEntries();
+                if (refreshed == 0) {
+                    break;
+                }
+                total += refreshed;
+            }
+            if (total > 0) {
+                log.info("할인율 변경 상품 캐시 갱신 완료: {}개 상품", total);
+            }
+        } catch (Exception e) {
+            log.error("할인율 변경 상품 캐시 갱신 실패", e);
+        }
     }
 }
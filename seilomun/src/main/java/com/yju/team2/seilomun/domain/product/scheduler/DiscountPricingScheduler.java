@@ -0,0 +1,39 @@
+package com.yju.team2.seilomun.domain.product.scheduler;
+
+import com.yju.team2.seilomun.domain.product.service.DiscountPricingEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DiscountPricingScheduler {
+
+    private final DiscountPricingEngine discountPricingEngine;
+
+    /**
+     * 서버 시작 시 할인가 스냅샷 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * 10분마다 전체 스냅샷을 다시 읽음
+     * 상품 변경 이벤트로 반영되지 않는 경로 (벌크 UPDATE, 다른 서버에서의 수정) 보정용
+     * 스냅샷은 서버마다 메모리에 따로 있으므로 리스 없이 모든 서버에서 실행
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000, initialDelay = 10 * 60 * 1000)
+    public void reload() {
+        try {
+            discountPricingEngine.reload();
+        } catch (Exception e) {
+            log.error("할인가 스냅샷 갱신 실패", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.yju.team2.seilomun.domain.product.scheduler;
+
+import com.yju.team2.seilomun.domain.product.service.ProductIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductIndexSyncScheduler {
+
+    private final ProductIndexService productIndexService;
+
+    /**
+     * 2초마다 기록된 상품 변경을 검색 인덱스에 반영
+     * 그 사이 같은 상품에 여러 번 바뀐 재고/상태는 한 번으로 합쳐서 보냄
+     * 기록을 SKIP LOCKED로 나눠 가져가므로 모든 서버에서 실행
+     */
+    @Scheduled(fixedDelay = 2000)
+    public void syncProductIndex() {
+        try {
+            int synced = productIndexService.sync();
+            if (synced > 0) {
+                log.debug("상품 검색 인덱스 동기화: {}건", synced);
+            }
+        } catch (Exception e) {
+            log.error("상품 검색 인덱스 동기화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.yju.team2.seilomun.domain.product.scheduler;
+
+import com.yju.team2.seilomun.common.job.ClusterJobRunner;
+import com.yju.team2.seilomun.domain.product.service.ProductLifecycleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductLifecycleScheduler {
+
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST = Duration.ofMinutes(1);
+
+    private final ProductLifecycleService productLifecycleService;
+    private final ClusterJobRunner clusterJobRunner;
+
+    /**
+     * 서버 시작 시 대기열에 없는 상품의 전환 등록 (동시에 뜬 서버가 같은 전환을 중복 등록하지 않도록 한 곳에서만)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillTransitions() {
+        try {
+            clusterJobRunner.runExclusive("product-transition-backfill", LOCK_AT_MOST, LOCK_AT_LEAST,
+                    productLifecycleService::backfill);
+        } catch (Exception e) {
+            log.error("상품 상태 전환 대기열 등록 실패", e);
+        }
+    }
+
+    /**
+     * 30초마다 예정 시각이 지난 상태 전환 처리 (대기열 인덱스 조회만 하고 상품 테이블은 훑지 않음)
+     * 대기열 행을 SKIP LOCKED로 나눠 가져가므로 모든 서버에서 실행
+     */
+    @Scheduled(fixedDelay = 30 * 1000)
+    public void processDueTransitions() {
+        try {
+            int processed = productLifecycleService.processDueTransitions();
+            if (processed > 0) {
+                log.debug("상품 상태 전환 대기열 처리: {}건", processed);
+            }
+        } catch (Exception e) {
+            log.error("상품 상태 전환 처리 실패", e);
+        }
+    }
+
+    /**
+     * 매일 새벽 4시 30분에 처리 후 7일이 지난 전환 정리 (여러 서버 중 한 곳에서만)
+     */
+    @Scheduled(cron = "0 30 4 * * ?")
+    public void cleanUpProcessedTransitions() {
+        try {
+            clusterJobRunner.runExclusive("product-transition-cleanup", LOCK_AT_MOST, LOCK_AT_LEAST,
+                    () -> productLifecycleService.deleteProcessedBefore(LocalDateTime.now().minusDays(7)));
+        } catch (Exception e) {
+            log.error("상품 상태 전환 정리 실패", e);
+        }
+    }
+}
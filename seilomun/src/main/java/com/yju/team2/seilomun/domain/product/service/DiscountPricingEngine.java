@@ -0,0 +1,336 @@
+package com.yju.team2.seilomun.domain.product.service;
+
+import com.yju.team2.seilomun.domain.product.dto.ProductPricingRow;
+import com.yju.team2.seilomun.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 내 할인가 계산기
+ * 할인율은 (등록일, 유통기한, 최소/최대 할인율, 현재 시각)만으로 정해지므로
+ * 판매 중인 상품의 이 값들을 상품 ID 순으로 정렬된 원시 배열 스냅샷에 들고 있다가 DB 조회 없이 계산한다.
+ * 스냅샷은 통째로 교체하는 불변 객체라서 조회는 잠금 없이, 호출당 객체 생성 없이 처리된다.
+ * 상품이 바뀌면 할인 캐시(ProductDiscountService)가 커밋 후 해당 상품만 다시 읽게 하고, 스케줄러가 주기적으로 전체를 다시 읽는다.
+ * 다른 서버에서 바뀐 상품은 할인 캐시 버전이 올라간 것을 보고 처음 계산할 때 다시 읽는다. (ensureVersion)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DiscountPricingEngine {
+
+    // 스냅샷에 없는 상품 (호출하는 쪽에서 DB 조회로 대체)
+    public static final int UNKNOWN = -1;
+
+    static final long NO_CHANGE = Long.MAX_VALUE;
+
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+    private final ProductRepository productRepository;
+    // TimeZone.getDefault()는 호출마다 복사본을 만들므로 한 번만 가져옴
+    private final TimeZone timeZone = TimeZone.getDefault();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // 상품별로 이 서버가 다시 읽어서 스냅샷에 반영한 할인 캐시 버전 (전체 재생성 후에는 비움)
+    private final Map<Long, Long> verifiedVersions = new ConcurrentHashMap<>();
+
+    // 판매 중인 전체 상품으로 스냅샷 재생성
+    public synchronized int reload() {
+        List<ProductPricingRow> rows = productRepository.findPricingRows();
+        snapshot = Snapshot.of(rows);
+        verifiedVersions.clear();
+        log.info("할인가 스냅샷 갱신: 상품 {}개", rows.size());
+        return rows.size();
+    }
+
+    // 상품 하나만 다시 읽어서 반영, 삭제됐거나 판매가 끝난 상품은 스냅샷에서 제거
+    public synchronized void refresh(Long productId) {
+        Optional<ProductPricingRow> row = productRepository.findPricingRowById(productId);
+        snapshot = row.map(snapshot::with).orElseGet(() -> snapshot.without(productId));
+    }
+
+    /**
+     * 할인 캐시 버전이 올라간 상품을 이 서버가 그 버전 이후로 다시 읽은 적이 없으면 DB에서 다시 읽음
+     * - 상품 수정은 수정한 서버의 스냅샷만 갱신하므로, 다른 서버의 스냅샷은 다음 전체 재생성 전까지 이전 값일 수 있음
+     * - 호출하는 쪽이 Redis에서 버전을 먼저 읽고 넘기므로 여기서 다시 읽은 값은 항상 그 버전 이후의 상품 정보
+     * - 버전 키가 없으면(0) 버전 키 보관 시간(24시간) 동안 바뀐 적이 없는 상품이라 10분마다 다시 읽는 스냅샷을 그대로 사용
+     */
+    public void ensureVersion(long productId, long version) {
+        if (version <= 0 || verifiedVersions.getOrDefault(productId, 0L) >= version) {
+            return;
+        }
+        synchronized (this) {
+            if (verifiedVersions.getOrDefault(productId, 0L) >= version) {
+                return;
+            }
+            refresh(productId);
+            verifiedVersions.put(productId, version);
+        }
+    }
+
+    public boolean contains(long productId) {
+        return snapshot.indexOf(productId) >= 0;
+    }
+
+    public int size() {
+        return snapshot.ids.length;
+    }
+
+    public int discountRate(long productId) {
+        Snapshot current = snapshot;
+        int index = current.indexOf(productId);
+        return index < 0 ? UNKNOWN : current.rate(index, nowMillis());
+    }
+
+    public int discountedPrice(long productId) {
+        Snapshot current = snapshot;
+        int index = current.indexOf(productId);
+        if (index < 0) {
+            return UNKNOWN;
+        }
+        return discountedPrice(current.originalPrices[index], current.rate(index, nowMillis()));
+    }
+
+    // 할인율이 다음으로 바뀌는 시각, 스냅샷에 없거나 더 이상 바뀌지 않으면 null
+    public LocalDateTime nextDiscountChange(long productId) {
+        Snapshot current = snapshot;
+        int index = current.indexOf(productId);
+        if (index < 0) {
+            return null;
+        }
+        long changeAt = nextDiscountChange(current.createdAts[index], current.expiryDates[index],
+                current.minRates[index], current.maxRates[index], nowMillis());
+        return changeAt == NO_CHANGE ? null : toDateTime(changeAt);
+    }
+
+    public int originalPrice(long productId) {
+        Snapshot current = snapshot;
+        int index = current.indexOf(productId);
+        return index < 0 ? UNKNOWN : current.originalPrices[index];
+    }
+
+    // 목록 화면용 일괄 계산, 결과 배열을 호출하는 쪽에서 재사용할 수 있음
+    // 모든 상품이 같은 시각 기준으로 계산되고, 스냅샷에 없는 상품은 UNKNOWN
+    public void priceAll(long[] productIds, int[] discountRates, int[] discountedPrices) {
+        Snapshot current = snapshot;
+        long now = nowMillis();
+        for (int i = 0; i < productIds.length; i++) {
+            int index = current.indexOf(productIds[i]);
+            if (index < 0) {
+                discountRates[i] = UNKNOWN;
+                discountedPrices[i] = UNKNOWN;
+                continue;
+            }
+            int rate = current.rate(index, now);
+            discountRates[i] = rate;
+            discountedPrices[i] = discountedPrice(current.originalPrices[index], rate);
+        }
+    }
+
+    public Prices priceAll(long[] productIds) {
+        Prices prices = new Prices(productIds, new int[productIds.length], new int[productIds.length]);
+        priceAll(productIds, prices.discountRates(), prices.discountedPrices());
+        return prices;
+    }
+
+    // 엔티티를 이미 들고 있는 경우나 스냅샷에 없는 상품에 쓰는 같은 계산식
+    public static int calculateDiscountRate(LocalDateTime createdAt, LocalDateTime expiryDate,
+                                            Integer minDiscountRate, Integer maxDiscountRate, LocalDateTime now) {
+        if (expiryDate == null || minDiscountRate == null || maxDiscountRate == null) {
+            return 0;
+        }
+        long expiry = toMillis(expiryDate);
+        return calculateDiscountRate(createdAt == null ? expiry : toMillis(createdAt), expiry,
+                minDiscountRate, maxDiscountRate, toMillis(now));
+    }
+
+    /**
+     * 할인율 계산
+     * - 유통기한이 지났거나 전체 기간이 3일 이하면 최대 할인율
+     * - 그 외에는 경과 일수 비율로 최소~최대 할인율 사이를 선형 보간
+     * 일수는 ChronoUnit.DAYS.between 과 같이 24시간 단위로 버림
+     */
+    static int calculateDiscountRate(long createdAt, long expiryDate, int minDiscountRate, int maxDiscountRate, long now) {
+        if (now > expiryDate) {
+            return maxDiscountRate;
+        }
+        long totalDays = (expiryDate - createdAt) / DAY_MILLIS;
+        if (totalDays <= 3) {
+            return maxDiscountRate;
+        }
+        long remainingDays = (expiryDate - now) / DAY_MILLIS;
+
+        double progressRatio = 1.0 - ((double) remainingDays / (double) totalDays);
+        int interpolatedRate = (int) Math.round(minDiscountRate + (maxDiscountRate - minDiscountRate) * progressRatio);
+        return Math.max(minDiscountRate, Math.min(maxDiscountRate, interpolatedRate));
+    }
+
+    public static LocalDateTime nextDiscountChange(LocalDateTime createdAt, LocalDateTime expiryDate,
+                                                   Integer minDiscountRate, Integer maxDiscountRate, LocalDateTime now) {
+        if (expiryDate == null || minDiscountRate == null || maxDiscountRate == null) {
+            return null;
+        }
+        long expiry = toMillis(expiryDate);
+        long changeAt = nextDiscountChange(createdAt == null ? expiry : toMillis(createdAt), expiry,
+                minDiscountRate, maxDiscountRate, toMillis(now));
+        return changeAt == NO_CHANGE ? null : toDateTime(changeAt);
+    }
+
+    /**
+     * 할인율이 다음으로 바뀌는 시각
+     * 남은 일수는 유통기한 기준 24시간 단위로만 줄어들기 때문에 할인율도 (유통기한 - n일) 직후에만 바뀔 수 있음
+     * 그 경계들을 가까운 순서로 보면서 실제로 할인율이 달라지는 첫 시각을 찾고, 없으면 NO_CHANGE
+     */
+    static long nextDiscountChange(long createdAt, long expiryDate, int minDiscountRate, int maxDiscountRate, long now) {
+        // 할인율은 항상 최소~최대 사이이고, 만료 후나 기간 3일 이하는 최대 할인율로 고정
+        if (minDiscountRate >= maxDiscountRate || now > expiryDate || (expiryDate - createdAt) / DAY_MILLIS <= 3) {
+            return NO_CHANGE;
+        }
+        int currentRate = calculateDiscountRate(createdAt, expiryDate, minDiscountRate, maxDiscountRate, now);
+        for (long remainingDays = (expiryDate - now) / DAY_MILLIS; remainingDays >= 0; remainingDays--) {
+            long boundary = expiryDate - remainingDays * DAY_MILLIS + 1;
+            if (calculateDiscountRate(createdAt, expiryDate, minDiscountRate, maxDiscountRate, boundary) != currentRate) {
+                return boundary;
+            }
+        }
+        return NO_CHANGE;
+    }
+
+    public static int discountedPrice(int originalPrice, int discountRate) {
+        if (discountRate <= 0) {
+            return originalPrice;
+        }
+        return (int) ((long) originalPrice * (100 - discountRate) / 100);
+    }
+
+    // LocalDateTime.now()와 같은 기준 (시스템 시간대의 벽시계 시각을 UTC로 본 밀리초)
+    private long nowMillis() {
+        long millis = System.currentTimeMillis();
+        return millis + timeZone.getOffset(millis);
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1000 + dateTime.getNano() / 1_000_000;
+    }
+
+    private static LocalDateTime toDateTime(long millis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000), (int) Math.floorMod(millis, 1000) * 1_000_000,
+                ZoneOffset.UTC);
+    }
+
+    public record Prices(long[] productIds, int[] discountRates, int[] discountedPrices) {
+    }
+
+    // 상품 ID 오름차순으로 정렬된 열 단위 배열
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(new long[0], new long[0], new long[0],
+                new int[0], new int[0], new int[0]);
+
+        private final long[] ids;
+        private final long[] createdAts;
+        private final long[] expiryDates;
+        private final int[] minRates;
+        private final int[] maxRates;
+        private final int[] originalPrices;
+
+        private Snapshot(long[] ids, long[] createdAts, long[] expiryDates,
+                         int[] minRates, int[] maxRates, int[] originalPrices) {
+            this.ids = ids;
+            this.createdAts = createdAts;
+            this.expiryDates = expiryDates;
+            this.minRates = minRates;
+            this.maxRates = maxRates;
+            this.originalPrices = originalPrices;
+        }
+
+        private static Snapshot of(List<ProductPricingRow> rows) {
+            ProductPricingRow[] sorted = rows.toArray(new ProductPricingRow[0]);
+            Arrays.sort(sorted, (a, b) -> Long.compare(a.getProductId(), b.getProductId()));
+
+            int size = sorted.length;
+            Snapshot result = new Snapshot(new long[size], new long[size], new long[size],
+                    new int[size], new int[size], new int[size]);
+            for (int i = 0; i < size; i++) {
+                result.set(i, sorted[i]);
+            }
+            return result;
+        }
+
+        private int indexOf(long productId) {
+            return Arrays.binarySearch(ids, productId);
+        }
+
+        private int rate(int index, long now) {
+            return calculateDiscountRate(createdAts[index], expiryDates[index], minRates[index], maxRates[index], now);
+        }
+
+        private Snapshot with(ProductPricingRow row) {
+            int index = indexOf(row.getProductId());
+            if (index >= 0) {
+                Snapshot copy = copy(ids.length, 0, 0);
+                copy.set(index, row);
+                return copy;
+            }
+            int insertAt = -index - 1;
+            Snapshot copy = copy(ids.length + 1, insertAt, 1);
+            copy.set(insertAt, row);
+            return copy;
+        }
+
+        private Snapshot without(Long productId) {
+            int index = indexOf(productId);
+            if (index < 0) {
+                return this;
+            }
+            return copy(ids.length - 1, index, -1);
+        }
+
+        // shift가 0이면 그대로, 1이면 at 위치에 빈 칸을 끼워 넣고, -1이면 at 위치를 지운 복사본
+        private Snapshot copy(int size, int at, int shift) {
+            Snapshot copy = new Snapshot(new long[size], new long[size], new long[size],
+                    new int[size], new int[size], new int[size]);
+            int head = shift == 0 ? ids.length : at;
+            int tailFrom = shift < 0 ? at + 1 : at;
+            int tailTo = shift > 0 ? at + 1 : at;
+            int tailLength = shift == 0 ? 0 : ids.length - tailFrom;
+            copyColumn(ids, copy.ids, head, tailFrom, tailTo, tailLength);
+            copyColumn(createdAts, copy.createdAts, head, tailFrom, tailTo, tailLength);
+            copyColumn(expiryDates, copy.expiryDates, head, tailFrom, tailTo, tailLength);
+            copyColumn(minRates, copy.minRates, head, tailFrom, tailTo, tailLength);
+            copyColumn(maxRates, copy.maxRates, head, tailFrom, tailTo, tailLength);
+            copyColumn(originalPrices, copy.originalPrices, head, tailFrom, tailTo, tailLength);
+            return copy;
+        }
+
+        private static void copyColumn(Object source, Object target, int head, int tailFrom, int tailTo, int tailLength) {
+            System.arraycopy(source, 0, target, 0, head);
+            if (tailLength > 0) {
+                System.arraycopy(source, tailFrom, target, tailTo, tailLength);
+            }
+        }
+
+        // 할인율 정보가 없는 상품은 최소/최대 할인율 0으로 넣어서 항상 0%가 되도록 함
+        private void set(int index, ProductPricingRow row) {
+            boolean priced = row.getExpiryDate() != null
+                    && row.getMinDiscountRate() != null && row.getMaxDiscountRate() != null;
+            long expiry = row.getExpiryDate() == null ? Long.MAX_VALUE : toMillis(row.getExpiryDate());
+            ids[index] = row.getProductId();
+            expiryDates[index] = expiry;
+            createdAts[index] = row.getCreatedAt() == null ? expiry : toMillis(row.getCreatedAt());
+            minRates[index] = priced ? row.getMinDiscountRate() : 0;
+            maxRates[index] = priced ? row.getMaxDiscountRate() : 0;
+            originalPrices[index] = row.getOriginalPrice() == null ? 0 : row.getOriginalPrice();
+        }
+    }
+}
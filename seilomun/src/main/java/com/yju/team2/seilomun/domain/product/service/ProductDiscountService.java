@@ -2,20 +2,42 @@ package com.yju.team2.seilomun.domain.product.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yju.team2.seilomun.domain.product.dto.DiscountInfo;
+import com.yju.team2.seilomun.domain.product.dto.ProductPricingRow;
 import com.yju.team2.seilomun.domain.product.entity.Product;
+import com.yju.team2.seilomun.domain.product.event.ProductPricingChangedEvent;
 import com.yju.team2.seilomun.domain.product.repository.ProductRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.TimeUnit;
-
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 할인가 캐시 (상품 할인율/할인가를 조회하는 유일한 경로)
+ * - 키: pricing:v1:{상품ID} (할인 정보 JSON), pricing:v1:{상품ID}:version (상품별 버전 번호)
+ * - 상품이 바뀌면 버전을 올리고 캐시를 지움, 캐시 값에는 계산 당시의 버전이 들어 있어서 버전이 다르면 미스로 처리
+ * - 캐시 저장은 "버전이 계산 시작 때와 같을 때만" 조건으로 Lua 스크립트 한 번에 처리하므로
+ *   무효화 직전에 시작된 계산이 오래된 값을 다시 넣지 못함
+ * - 같은 상품에 대한 동시 미스는 한 요청만 계산하고 나머지는 그 결과를 기다림 (single-flight)
+ * - 할인율은 하루 단위 경계에서만 바뀌므로 캐시 값에 다음 변경 시각(validUntil)을 함께 저장하고
+ *   그 시각까지 유효하게 둠 (고정 30분 TTL 대신), 변경 시각은 타임라인(pricing:timeline, ZSET)에도 등록해서
+ *   시각이 된 상품만 스케줄러가 다시 계산해 캐시를 미리 채움
+ * - 가격 스냅샷(DiscountPricingEngine)은 서버마다 따로 있으므로, 캐시를 채울 때 읽은 버전까지 스냅샷을 맞춘 뒤 계산함
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -24,175 +46,372 @@ public class ProductDiscountService {
     private final ProductRepository productRepository;
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
-
-    private static final String DISCOUNT_RATE_KEY = "discount:rate:";
-    private static final String DISCOUNT_INFO_KEY = "discount:info:";
-    private static final long CACHE_EXPIRATION_SECONDS = 30 * 60; // 30분
+    private final DiscountPricingEngine discountPricingEngine;
+
+    // 계산식이 바뀌면 v 번호를 올려서 이전 캐시를 한 번에 버림
+    private static final String PRICING_KEY = "pricing:v1:";
+    private static final String VERSION_SUFFIX = ":version";
+    private static final String TIMELINE_KEY = "pricing:timeline";
+    // 다음 변경 시각이 먼 상품도 이 시간이 지나면 캐시에서 내려감
+    private static final long MAX_CACHE_EXPIRATION_SECONDS = 12 * 60 * 60;
+    private static final int TIMELINE_BATCH_SIZE = 500;
+    // 버전 키는 캐시 값보다 오래 남아 있어야 버전이 0으로 돌아가도 이전 값과 섞이지 않음
+    private static final long VERSION_EXPIRATION_SECONDS = 24 * 60 * 60;
+
+    private static final String SET_IF_VERSION_SCRIPT =
+            "if (redis.call('GET', KEYS[2]) or '0') == ARGV[1] then " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) return 1 end " +
+            "return 0";
+    private static final RedisScript<Long> SET_IF_VERSION = new DefaultRedisScript<>(SET_IF_VERSION_SCRIPT, Long.class);
+
+    // 상품별로 진행 중인 계산
+    private final Map<Long, CompletableFuture<DiscountInfo>> inFlight = new ConcurrentHashMap<>();
 
     // 상품의 현재 할인율 조회 ( 캐시 우선 확인 )
     public Integer getCurrentDiscountRate(Long productId) {
+        return getDiscountInfo(productId).getDiscountRate();
+    }
 
-        // 캐시에서 먼저 조회
-        String cacheKey = DISCOUNT_RATE_KEY + productId;
-        String cachedRate = redisTemplate.opsForValue().get(cacheKey);
+    // 할인된 가격 조회 ( 캐시 우선 )
+    public Integer getDiscountedPrice(Long productId) {
+        return getDiscountInfo(productId).getDiscountedPrice();
+    }
 
-        if (cachedRate != null) {
-            log.debug("할인율 캐시 히트: productId={}, rate={}", productId, cachedRate);
-            return Integer.parseInt(cachedRate);
+    // 할인 정보 일괄 조회 ( 할인율 + 할인가격 )
+    public DiscountInfo getDiscountInfo(Long productId) {
+        List<String> cached = redisTemplate.opsForValue().multiGet(List.of(pricingKey(productId), versionKey(productId)));
+        long version = parseVersion(cached, 1);
+        DiscountInfo discountInfo = readEntry(productId, cached, 0, version);
+        if (discountInfo != null) {
+            log.debug("할인 캐시 히트: productId={}, rate={}", productId, discountInfo.getDiscountRate());
+            return discountInfo;
         }
+        return loadSingleFlight(productId, version);
+    }
 
-        // 캐시에서 미스 시 계산 후 캐시 저장
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다: " + productId));
-
-        Integer discountRate = calculateDiscountRate(product);
-
-        // 캐시 저장
-        redisTemplate.opsForValue().set(cacheKey, String.valueOf(discountRate),
-                CACHE_EXPIRATION_SECONDS, TimeUnit.SECONDS);
+    // 여러 상품의 할인 정보 조회 (검색 목록 등), 캐시 값과 버전을 MGET 한 번으로 읽음
+    public Map<Long, DiscountInfo> getDiscountInfos(List<Long> productIds) {
+        Map<Long, DiscountInfo> discountInfos = new HashMap<>();
+        List<String> cached = multiGet(productIds);
+        for (int i = 0; i < productIds.size(); i++) {
+            Long productId = productIds.get(i);
+            long version = parseVersion(cached, i * 2 + 1);
+            DiscountInfo discountInfo = readEntry(productId, cached, i * 2, version);
+            discountInfos.put(productId, discountInfo != null ? discountInfo : loadSingleFlight(productId, version));
+        }
+        return discountInfos;
+    }
 
-        log.debug("할인율 계산 후 캐시 저장: productId={}, rate={}", productId, discountRate);
-        return discountRate;
+    // 이미 조회된 상품 엔티티들의 할인 정보 조회 (결제 화면, 캐시 워밍업)
+    public Map<Long, DiscountInfo> getDiscountInfosOf(Collection<Product> products) {
+        if (products == null || products.isEmpty()) {
+            return new HashMap<>();
+        }
+        return getDiscountInfosOfRows(products.stream().map(ProductPricingRow::of).toList());
     }
 
-    // 할인된 가격 조회 ( 캐시 우선 )
-    public Integer getDiscountedPrice(Long productId) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다: " + productId));
+    // 이미 조회된 가격 입력값(엔티티 또는 프로젝션)으로 할인 정보 조회 (상품 목록/상세)
+    // 캐시에 없는 상품은 DB 조회 없이 입력값으로 계산하고 파이프라인으로 한 번에 저장
+    public Map<Long, DiscountInfo> getDiscountInfosOfRows(List<ProductPricingRow> rows) {
+        Map<Long, DiscountInfo> discountInfos = new HashMap<>();
+        if (rows.isEmpty()) {
+            return discountInfos;
+        }
 
-        Integer discountRate = getCurrentDiscountRate(productId);
-        return calculateDiscountedPrice(product.getOriginalPrice(), discountRate);
+        List<String> cached = multiGet(rows.stream().map(ProductPricingRow::getProductId).toList());
+        List<DiscountInfo> missed = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            ProductPricingRow row = rows.get(i);
+            long version = parseVersion(cached, i * 2 + 1);
+            DiscountInfo discountInfo = readEntry(row.getProductId(), cached, i * 2, version);
+            if (discountInfo == null) {
+                discountInfo = calculateDiscountInfo(row, version);
+                missed.add(discountInfo);
+            }
+            discountInfos.put(row.getProductId(), discountInfo);
+        }
+        storeAll(missed);
+        return discountInfos;
     }
 
-    // 할인 정보 일괄 조회 ( 할인율 + 할인가격 )
-    public DiscountInfo getDiscountInfo(Long productId) {
-        String cacheKey = DISCOUNT_INFO_KEY + productId;
-        String cachedInfo = redisTemplate.opsForValue().get(cacheKey);
+    // 캐시를 거치지 않고 엔티티로 바로 계산 (트랜잭션 안에서 방금 수정한 상품의 응답용)
+    public DiscountInfo calculateDiscountInfo(Product product) {
+        return calculateDiscountInfo(product, 0L);
+    }
 
-        if (cachedInfo != null) {
+    // 상품 등록/수정/삭제/만료 커밋 후 가격 스냅샷을 먼저 갱신하고 캐시를 무효화
+    // 순서가 바뀌면 무효화 직후의 미스가 이전 스냅샷으로 계산한 값을 새 버전으로 저장할 수 있음
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricingChanged(ProductPricingChangedEvent event) {
+        List<Long> productIds = event.getProductIds();
+        for (Long productId : productIds) {
             try {
-                return objectMapper.readValue(cachedInfo, DiscountInfo.class);
+                discountPricingEngine.refresh(productId);
             } catch (Exception e) {
-                log.warn("할인 정보 캐시 파싱 실패: productId={}", productId, e);
-                // 캐시 파싱 실패 시 캐시 삭제 후 재계산
-                redisTemplate.delete(cacheKey);
+                // 다음 전체 갱신 때 반영되므로 여기서는 로그만 남기고 캐시 무효화는 진행
+                log.error("할인가 스냅샷 상품 갱신 실패: productId={}", productId, e);
             }
         }
-
-        // 캐시 미스 시 계산
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다: " + productId));
-
-        Integer discountRate = calculateDiscountRate(product);
-        Integer discountedPrice = calculateDiscountedPrice(product.getOriginalPrice(), discountRate);
-
-        DiscountInfo discountInfo = DiscountInfo.builder()
-                .productId(productId)
-                .originalPrice(product.getOriginalPrice())
-                .discountRate(discountRate)
-                .discountedPrice(discountedPrice)
-                .calculatedAt(LocalDateTime.now())
-                .build();
-
-        // 캐시에 저장
         try {
-            String serialized = objectMapper.writeValueAsString(discountInfo);
-            redisTemplate.opsForValue().set(cacheKey, serialized,
-                    CACHE_EXPIRATION_SECONDS, TimeUnit.SECONDS);
+            invalidateCaches(productIds);
         } catch (Exception e) {
-            log.warn("할인 정보 캐시 저장 실패: productId={}", productId, e);
+            log.error("할인 캐시 무효화 실패: productIds={}", productIds, e);
         }
-
-        return discountInfo;
     }
 
-    // 할인율 계산 로직
-    private Integer calculateDiscountRate(Product product) {
-        // 기본 검증
-        if (product.getExpiryDate() == null ||
-                product.getMinDiscountRate() == null ||
-                product.getMaxDiscountRate() == null) {
+    // 할인율 변경 시각이 된 상품들의 캐시를 새 할인율로 다시 채우고 다음 변경 시각으로 재등록
+    // 여러 서버가 동시에 돌려도 ZREM에 성공한 서버만 처리, 타임라인에서 꺼낸 상품 수를 반환 (0이면 남은 것 없음)
+    public int refreshDueEntries() {
+        Set<String> due = redisTemplate.opsForZSet().rangeByScore(TIMELINE_KEY,
+                Double.NEGATIVE_INFINITY, System.currentTimeMillis(), 0, TIMELINE_BATCH_SIZE);
+        if (due == null || due.isEmpty()) {
             return 0;
         }
 
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime createdAt = product.getCreatedAt();
-        LocalDateTime expiryDate = product.getExpiryDate();
+        List<String> members = new ArrayList<>(due);
+        List<Object> removed = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String member : members) {
+                connection.zSetCommands().zRem(serialize(TIMELINE_KEY), serialize(member));
+            }
+            return null;
+        });
 
-        // 유통기한이 지난 경우
-        if (now.isAfter(expiryDate)) {
-            return product.getMaxDiscountRate(); // 최대 할인율 적용
+        List<Long> claimed = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            if (Long.valueOf(1L).equals(removed.get(i))) {
+                claimed.add(Long.valueOf(members.get(i)));
+            }
+        }
+        if (claimed.isEmpty()) {
+            return due.size();
         }
 
-        // 전체 기간 계산
-        long totalDays = ChronoUnit.DAYS.between(createdAt, expiryDate);
-        if (totalDays <= 0) {
-            return product.getMaxDiscountRate();
+        // 버전을 먼저 읽고 스냅샷을 그 버전에 맞춘 뒤 계산
+        // 스냅샷에서 빠진 상품(만료/삭제)은 다시 등록하지 않음, 남은 캐시 값은 validUntil이 지나 무효
+        List<String> versions = redisTemplate.opsForValue().multiGet(claimed.stream().map(ProductDiscountService::versionKey).toList());
+        List<DiscountInfo> refreshed = new ArrayList<>(claimed.size());
+        for (int i = 0; i < claimed.size(); i++) {
+            Long productId = claimed.get(i);
+            long version = parseVersion(versions, i);
+            discountPricingEngine.ensureVersion(productId, version);
+            if (discountPricingEngine.contains(productId)) {
+                refreshed.add(calculateDiscountInfo(productId, version));
+            }
         }
+        storeAll(refreshed);
+        log.debug("할인율 변경 시각 도달 상품 캐시 갱신: {}개", refreshed.size());
+        return due.size();
+    }
+
+    // 캐시 무효화 (상품 정보 변경 시 호출)
+    public void invalidateCache(Long productId) {
+        invalidateCaches(List.of(productId));
+    }
 
-        // 남은 기간 계산
-        long remainingDays = ChronoUnit.DAYS.between(now, expiryDate);
-        if (remainingDays < 0) {
-            remainingDays = 0;
+    // 여러 상품의 캐시 무효화, 버전을 올리고 값을 지우는 명령을 파이프라인으로 한 번에 보냄
+    public void invalidateCaches(List<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return;
         }
 
-        // 짧은 기간 상품은 최대 할인율 적용
-        if (totalDays <= 3) {
-            return product.getMaxDiscountRate();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long productId : productIds) {
+                byte[] versionKey = serialize(versionKey(productId));
+                connection.stringCommands().incr(versionKey);
+                connection.keyCommands().expire(versionKey, VERSION_EXPIRATION_SECONDS);
+                connection.keyCommands().del(serialize(pricingKey(productId)));
+            }
+            return null;
+        });
+        log.info("할인 캐시 무효화: 상품 {}개", productIds.size());
+    }
+
+    private DiscountInfo loadSingleFlight(Long productId, long version) {
+        CompletableFuture<DiscountInfo> flight = new CompletableFuture<>();
+        CompletableFuture<DiscountInfo> running = inFlight.putIfAbsent(productId, flight);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
         }
 
-        // 선형 보간으로 할인율 계산
-        double progressRatio = 1.0 - ((double) remainingDays / (double) totalDays);
-        int interpolatedRate = (int) Math.round(
-                product.getMinDiscountRate() +
-                        (product.getMaxDiscountRate() - product.getMinDiscountRate()) * progressRatio
-        );
+        try {
+            DiscountInfo discountInfo = calculateDiscountInfo(productId, version);
+            store(discountInfo);
+            flight.complete(discountInfo);
+            log.debug("할인 정보 계산 후 캐시 저장: productId={}, rate={}", productId, discountInfo.getDiscountRate());
+            return discountInfo;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(productId, flight);
+        }
+    }
 
-        // 범위 제한
-        int finalRate = Math.max(product.getMinDiscountRate(),
-                Math.min(product.getMaxDiscountRate(), interpolatedRate));
+    // 가격 스냅샷으로 계산, 스냅샷에 없는 상품만 DB 조회
+    // 버전이 올라갔는데 이 서버 스냅샷이 아직 이전 값이면 먼저 다시 읽어서, 다른 서버에서 바뀐 상품의 이전 값이 새 버전으로 저장되지 않게 함
+    // 다음 변경 시각을 할인율보다 먼저 계산해야 그 사이에 경계를 넘어도 새 할인율이 다음 경계까지 남지 않음
+    private DiscountInfo calculateDiscountInfo(Long productId, long version) {
+        discountPricingEngine.ensureVersion(productId, version);
+        LocalDateTime validUntil = discountPricingEngine.nextDiscountChange(productId);
+        int originalPrice = discountPricingEngine.originalPrice(productId);
+        int discountRate = discountPricingEngine.discountRate(productId);
+        if (originalPrice == DiscountPricingEngine.UNKNOWN || discountRate == DiscountPricingEngine.UNKNOWN) {
+            return calculateDiscountInfo(findProduct(productId), version);
+        }
+        return buildDiscountInfo(productId, originalPrice, discountRate, validUntil, version);
+    }
 
-        log.debug("할인율 계산: productId={}, 전체기간={}일, 남은기간={}일, 진행률={}, 할인율={}%",
-                product.getId(), totalDays, remainingDays,
-                String.format("%.2f", progressRatio), finalRate);
+    private DiscountInfo calculateDiscountInfo(Product product, long version) {
+        return calculateDiscountInfo(ProductPricingRow.of(product), version);
+    }
 
-        return finalRate;
+    private DiscountInfo calculateDiscountInfo(ProductPricingRow row, long version) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer discountRate = DiscountPricingEngine.calculateDiscountRate(row.getCreatedAt(), row.getExpiryDate(),
+                row.getMinDiscountRate(), row.getMaxDiscountRate(), now);
+        LocalDateTime validUntil = DiscountPricingEngine.nextDiscountChange(row.getCreatedAt(), row.getExpiryDate(),
+                row.getMinDiscountRate(), row.getMaxDiscountRate(), now);
+        return buildDiscountInfo(row.getProductId(), row.getOriginalPrice(), discountRate, validUntil, version);
     }
 
-    // 할인된 가격 계산
-    private Integer calculateDiscountedPrice(Integer originalPrice, Integer discountRate) {
-        if (originalPrice == null || discountRate == null || discountRate <= 0) {
-            return originalPrice;
-        }
-        return originalPrice * (100 - discountRate) / 100;
+    private DiscountInfo buildDiscountInfo(Long productId, Integer originalPrice, Integer discountRate,
+                                           LocalDateTime validUntil, long version) {
+        return DiscountInfo.builder()
+                .productId(productId)
+                .originalPrice(originalPrice)
+                .discountRate(discountRate)
+                .discountedPrice(originalPrice == null ? null : DiscountPricingEngine.discountedPrice(originalPrice, discountRate))
+                .calculatedAt(LocalDateTime.now())
+                .validUntil(validUntil)
+                .version(version)
+                .build();
     }
 
+    private Product findProduct(Long productId) {
+        return productRepository.findById(productId)
+                .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다: " + productId));
+    }
 
-    // 캐시 무효화 (상품 정보 변경 시 호출)
-    public void invalidateCache(Long productId) {
-        String discountRateKey = DISCOUNT_RATE_KEY + productId;
-        String discountInfoKey = DISCOUNT_INFO_KEY + productId;
+    // 상품마다 [할인 정보, 버전] 순서로 키를 만들어 한 번에 조회
+    private List<String> multiGet(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        List<String> keys = new ArrayList<>(productIds.size() * 2);
+        for (Long productId : productIds) {
+            keys.add(pricingKey(productId));
+            keys.add(versionKey(productId));
+        }
+        return redisTemplate.opsForValue().multiGet(keys);
+    }
+
+    // 캐시 값이 없거나, 깨졌거나, 현재 버전과 다르거나, 할인율 변경 시각이 지났으면 null
+    private DiscountInfo readEntry(Long productId, List<String> cached, int index, long version) {
+        String value = cached == null ? null : cached.get(index);
+        if (value == null) {
+            return null;
+        }
+        try {
+            DiscountInfo discountInfo = objectMapper.readValue(value, DiscountInfo.class);
+            if (discountInfo.getVersion() == null || discountInfo.getVersion() != version) {
+                return null;
+            }
+            if (discountInfo.getValidUntil() != null && !LocalDateTime.now().isBefore(discountInfo.getValidUntil())) {
+                return null;
+            }
+            return discountInfo;
+        } catch (Exception e) {
+            log.warn("할인 정보 캐시 파싱 실패: productId={}", productId, e);
+            return null;
+        }
+    }
 
-        redisTemplate.delete(discountRateKey);
-        redisTemplate.delete(discountInfoKey);
+    private long parseVersion(List<String> cached, int index) {
+        String value = cached == null ? null : cached.get(index);
+        return value == null ? 0L : Long.parseLong(value);
+    }
 
-        log.info("할인 캐시 무효화: productId={}", productId);
+    private void store(DiscountInfo discountInfo) {
+        String serialized = toJson(discountInfo);
+        if (serialized == null) {
+            return;
+        }
+        redisTemplate.execute(SET_IF_VERSION,
+                List.of(pricingKey(discountInfo.getProductId()), versionKey(discountInfo.getProductId())),
+                String.valueOf(discountInfo.getVersion()), serialized, String.valueOf(expirationSeconds(discountInfo)));
+        if (discountInfo.getValidUntil() != null) {
+            redisTemplate.opsForZSet().add(TIMELINE_KEY, String.valueOf(discountInfo.getProductId()),
+                    toEpochMillis(discountInfo.getValidUntil()));
+        }
     }
 
-    // 여러 상품의 캐시 무효화
-    public void invalidateCaches(List<Long> productIds) {
-        if (productIds == null || productIds.isEmpty()) {
+    // 캐시 저장과 타임라인 등록을 파이프라인 한 번으로 처리
+    private void storeAll(List<DiscountInfo> discountInfos) {
+        if (discountInfos.isEmpty()) {
             return;
         }
+        byte[] script = serialize(SET_IF_VERSION_SCRIPT);
+        byte[] timelineKey = serialize(TIMELINE_KEY);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (DiscountInfo discountInfo : discountInfos) {
+                String serialized = toJson(discountInfo);
+                if (serialized == null) {
+                    continue;
+                }
+                connection.scriptingCommands().eval(script, ReturnType.INTEGER, 2,
+                        serialize(pricingKey(discountInfo.getProductId())),
+                        serialize(versionKey(discountInfo.getProductId())),
+                        serialize(String.valueOf(discountInfo.getVersion())),
+                        serialize(serialized),
+                        serialize(String.valueOf(expirationSeconds(discountInfo))));
+                if (discountInfo.getValidUntil() != null) {
+                    connection.zSetCommands().zAdd(timelineKey, toEpochMillis(discountInfo.getValidUntil()),
+                            serialize(String.valueOf(discountInfo.getProductId())));
+                }
+            }
+            return null;
+        });
+    }
 
-        List<String> keysToDelete = new ArrayList<>();
-        for (Long productId : productIds) {
-            keysToDelete.add(DISCOUNT_RATE_KEY + productId);
-            keysToDelete.add(DISCOUNT_INFO_KEY + productId);
+    // 다음 할인율 변경 시각까지만 보관, 변경 예정이 없거나 먼 경우 최대 보관 시간
+    private long expirationSeconds(DiscountInfo discountInfo) {
+        if (discountInfo.getValidUntil() == null) {
+            return MAX_CACHE_EXPIRATION_SECONDS;
+        }
+        long seconds = Duration.between(LocalDateTime.now(), discountInfo.getValidUntil()).toSeconds() + 1;
+        return Math.max(1, Math.min(MAX_CACHE_EXPIRATION_SECONDS, seconds));
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private String toJson(DiscountInfo discountInfo) {
+        try {
+            return objectMapper.writeValueAsString(discountInfo);
+        } catch (Exception e) {
+            log.warn("할인 정보 캐시 저장 실패: productId={}", discountInfo.getProductId(), e);
+            return null;
         }
+    }
 
-        redisTemplate.delete(keysToDelete);
-        log.info("할인 캐시 일괄 무효화: 상품 {}개", productIds.size());
+    // 같은 상품의 두 키가 Redis Cluster에서도 같은 슬롯에 들어가도록 상품 ID를 해시 태그로 감쌈
+    private static String pricingKey(Long productId) {
+        return PRICING_KEY + "{" + productId + "}";
     }
 
+    private static String versionKey(Long productId) {
+        return pricingKey(productId) + VERSION_SUFFIX;
+    }
+
+    private static byte[] serialize(String value) {
+        return StringRedisSerializer.UTF_8.serialize(value);
+    }
 }
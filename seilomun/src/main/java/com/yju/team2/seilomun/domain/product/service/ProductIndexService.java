@@ -1,105 +1,352 @@
 package com.yju.team2.seilomun.domain.product.service;
 
-import com.yju.team2.seilomun.domain.product.entity.Product;
+import com.yju.team2.seilomun.common.job.ClusterJobRunner;
+import com.yju.team2.seilomun.domain.product.dto.ProductIndexRow;
 import com.yju.team2.seilomun.domain.product.entity.ProductDocument;
-import com.yju.team2.seilomun.domain.product.entity.ProductPhoto;
+import com.yju.team2.seilomun.domain.product.entity.ProductIndexChange;
+import com.yju.team2.seilomun.domain.product.repository.ProductIndexChangeRepository;
 import com.yju.team2.seilomun.domain.product.repository.ProductPhotoRepository;
 import com.yju.team2.seilomun.domain.product.repository.ProductRepository;
-import com.yju.team2.seilomun.domain.search.repository.ProductSearchRepository;
 import com.yju.team2.seilomun.domain.search.service.ProductSearchService;
+import com.yju.team2.seilomun.domain.search.service.SearchIndexRebuilder;
+import com.yju.team2.seilomun.domain.seller.event.SellerRatingChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 상품 검색 인덱스 반영
+ * - 상품 변경(등록/수정/삭제, 재고 예약/복구, 상태 전환)은 같은 트랜잭션에서 product_index_changes에 한 줄만 기록하고(record),
+ *   동기화(sync)가 기록 순서대로 배치를 꺼내 같은 상품의 변경을 하나로 합친 뒤 bulk 요청으로 반영한다.
+ *   배치는 짧은 트랜잭션에서 선점만 하고 커밋한 뒤 반영하므로 Elasticsearch 요청 중에는 행 잠금을 잡고 있지 않음
+ * - 재고/상태/가격만 바뀐 상품은 부분 업데이트, 등록/수정된 상품은 전체 문서, 판매 중이 아니게 된 상품은 삭제
+ * - 문서에는 할인율/할인가와 판매자 별점도 넣어 두어 검색 결과를 추가 조회 없이 그릴 수 있게 함
+ *   할인율이 다음에 바뀌는 시각은 타임라인(search:index:discount-timeline, ZSET)에 두고, 시각이 되면 판매 정보 변경으로 기록
+ *   판매자 별점은 리뷰 커밋 후 그 판매자의 상품 문서 전체를 스크립트로 한 번에 갱신
+ * - 반영이 끝난 기록은 삭제하므로 남아 있는 가장 오래된 기록이 곧 인덱스 지연 (search.index.lag.seconds)
+ * - 전체 재생성은 매일 새벽 별칭 교체로 한 번 (reindexAllProducts)
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ProductIndexService {
 
+    // 검색 인덱스에 두는 상태 (판매중, 임박특가)
+    public static final List<Character> INDEXED_STATUSES = List.of('1', 'T');
+
+    public static final Character FULL = 'F';
+    public static final Character SALE = 'S';
+    public static final Character DELETED = 'D';
+
+    private static final String DISCOUNT_TIMELINE_KEY = "search:index:discount-timeline";
+    private static final int SYNC_BATCH_SIZE = 500;
+    private static final int MAX_SYNC_BATCHES = 10;
+    // 선점한 배치를 반영하는 데 걸릴 수 있는 최대 시간, 지나면 다른 서버가 다시 가져감
+    private static final Duration SYNC_CLAIM_TTL = Duration.ofMinutes(5);
+    private static final int REINDEX_CHUNK_SIZE = 1000;
+    private static final Duration REINDEX_LOCK_AT_MOST = Duration.ofHours(2);
+    private static final Duration REINDEX_LOCK_AT_LEAST = Duration.ofMinutes(5);
+
     private final ProductRepository productRepository;
-    private final ProductSearchRepository productSearchRepository;
     private final ProductPhotoRepository productPhotoRepository;
+    private final ProductIndexChangeRepository productIndexChangeRepository;
     private final ProductSearchService productSearchService;
+    private final ClusterJobRunner clusterJobRunner;
+    private final SearchIndexRebuilder searchIndexRebuilder;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final RedisTemplate<String, String> redisTemplate;
 
-    // 새로운 상품 정보를 인덱싱
-    @Transactional(readOnly = true)
-    public void indexProduct(Product product) {
-        try {
-            ProductDocument productDocument = ProductDocument.from(product);
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private Counter syncedDocuments;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("search.index.lag.seconds", lagSeconds, AtomicLong::get)
+                .description("검색 인덱스에 아직 반영되지 않은 가장 오래된 상품 변경의 경과 시간")
+                .tag("index", ProductSearchService.INDEX_ALIAS)
+                .register(meterRegistry);
+        syncedDocuments = Counter.builder("search.index.synced")
+                .description("검색 인덱스에 반영한 상품 수 (같은 상품의 변경은 합쳐서 한 번)")
+                .tag("index", ProductSearchService.INDEX_ALIAS)
+                .register(meterRegistry);
+    }
+
+    // 호출한 쪽의 트랜잭션에 참여하므로 상품 변경이 롤백되면 기록도 함께 사라짐
+    @Transactional
+    public void record(Long productId, Character changeType) {
+        productIndexChangeRepository.save(change(productId, changeType));
+    }
 
-            // 상품 썸네일 이미지 URL 설정 (첫 번째 사진)
-            Optional<ProductPhoto> firstPhoto = productPhotoRepository.findTopByProductOrderById(product);
-            if (firstPhoto.isPresent()) {
-                productDocument.setThumbnailUrl(firstPhoto.get().getPhotoUrl());
+    @Transactional
+    public void recordAll(Collection<Long> productIds, Character changeType) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        productIndexChangeRepository.saveAll(productIds.stream()
+                .map(productId -> change(productId, changeType))
+                .toList());
+    }
+
+    // 기록된 변경을 배치 단위로 반영, 처리한 기록 수를 반환
+    public int sync() {
+        recordDueDiscountSteps();
+        int synced = 0;
+        for (int i = 0; i < MAX_SYNC_BATCHES; i++) {
+            int drained = drainBatch();
+            if (drained == 0) {
+                break;
+            }
+            synced += drained;
+            if (drained < SYNC_BATCH_SIZE) {
+                break;
             }
-            productSearchService.indexProductDocument(productDocument);
-            log.info("상품 정보 인덱싱 완료: id={}, name={}", product.getId(), product.getName());
-        } catch (Exception e) {
-            log.error("상품 정보 인덱싱 중 오류 발생: {}", e.getMessage(), e);
         }
+        updateLag();
+        return synced;
     }
 
-    // 상품 정보 인덱스 삭제
-    public void deleteProduct(Long productId) {
+    // 리뷰로 판매자 별점이 바뀌면 그 판매자의 상품 문서 별점만 갱신 (실패해도 다음 재인덱싱에서 맞춰짐)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSellerRatingChanged(SellerRatingChangedEvent event) {
         try {
-            productSearchService.deleteProductDocument(productId.toString());
-            log.info("상품 정보 인덱스 삭제 완료: id={}", productId);
+            productSearchService.updateSellerRating(event.getSellerId(), event.getRating());
         } catch (Exception e) {
-            log.error("상품 정보 인덱스 삭제 중 오류 발생: {}", e.getMessage(), e);
+            log.error("상품 검색 문서 판매자 별점 갱신 실패: sellerId={}", event.getSellerId(), e);
         }
     }
 
-    // 매일 새벽 2시 30분에 모든 상품 정보 인덱스 업데이트
+    /**
+     * 매일 새벽 2시 30분에 판매 중인 상품 전체로 새 인덱스를 만들어 별칭 교체 (여러 서버 중 한 곳에서만)
+     * ID 순서로 청크씩 읽어 bulk로 쓰므로 상품 수와 관계없이 메모리 사용량이 일정
+     */
     @Scheduled(cron = "0 30 2 * * ?")
-    @Transactional(readOnly = true)
     public void reindexAllProducts() {
         log.info("모든 상품 정보 재인덱싱 작업 시작");
         try {
-            List<Product> allProducts = productRepository.findAll();
-            int count = 0;
-
-            for (Product product : allProducts) {
-                // 정상 상품 및 유통기한이 지나지 않은 상품만 인덱싱
-                LocalDateTime now = LocalDateTime.now();
-                if (product.getStatus() == '1' || product.getStatus() == 'T') {
-                    ProductDocument productDocument = ProductDocument.from(product);
-
-                    // 썸네일 URL 설정
-                    Optional<ProductPhoto> firstPhoto = productPhotoRepository.findTopByProductOrderById(product);
-                    if (firstPhoto.isPresent()) {
-                        productDocument.setThumbnailUrl(firstPhoto.get().getPhotoUrl());
-                    }
-
-                    productSearchRepository.save(productDocument);
-                    count++;
-                }
-            }
-
-            log.info("모든 상품 정보 재인덱싱 완료: 총 {}개 처리됨", count);
+            clusterJobRunner.runExclusive("product-reindex", REINDEX_LOCK_AT_MOST, REINDEX_LOCK_AT_LEAST,
+                    () -> searchIndexRebuilder.rebuild(ProductSearchService.INDEX_ALIAS, ProductDocument.class,
+                            this::loadChunk, this::loadDocuments));
         } catch (Exception e) {
             log.error("상품 정보 재인덱싱 중 오류 발생: {}", e.getMessage(), e);
         }
     }
 
-    // 개별 상품 상태 변경 시 호출되는 메서드 (ProductService에서 사용)
-    public void updateProductIndex(Product product) {
+    /**
+     * 배치 하나를 반영, 처리한 기록 수를 반환
+     * 1) 짧은 트랜잭션에서 기록을 잠가 선점 만료 시각을 적고 상품 값을 읽은 뒤 바로 커밋
+     * 2) 트랜잭션 밖에서 Elasticsearch bulk 요청 (행 잠금과 DB 커넥션을 잡고 있지 않음)
+     * 3) 짧은 트랜잭션에서 기록 삭제
+     * 반영이 실패하면 선점을 풀어 다음 동기화에서 다시 시도하고, 서버가 죽으면 선점이 만료된 뒤 다른 서버가 가져감
+     * 한 상품은 한 번에 한 서버만 선점하므로 같은 상품의 문서를 두 서버가 순서가 뒤바뀌어 쓰는 일이 없음
+     */
+    private int drainBatch() {
+        ClaimedBatch batch = transactionTemplate.execute(status -> claimBatch());
+        if (batch == null) {
+            return 0;
+        }
+
         try {
-            if (product.getStatus() == '1' || product.getStatus() == 'T') {
-                // 정상 상품이거나 임박특가 상품이면 인덱스 업데이트
-                indexProduct(product);
+            scheduleDiscountSteps(batch.indexedRows(), batch.deletedIds());
+            productSearchService.indexProductDocuments(batch.fullDocuments());
+            productSearchService.updateSaleFields(batch.saleDocuments());
+            productSearchService.deleteProductDocuments(batch.deletedIds());
+        } catch (RuntimeException e) {
+            releaseClaims(batch.changeIds());
+            throw e;
+        }
+        transactionTemplate.executeWithoutResult(status -> productIndexChangeRepository.deleteByIdIn(batch.changeIds()));
+
+        syncedDocuments.increment(batch.productCount());
+        log.debug("검색 인덱스 동기화: 기록 {}건 -> 상품 {}개 (전체 {}, 판매 정보 {}, 삭제 {})",
+                batch.changeIds().size(), batch.productCount(), batch.fullDocuments().size(),
+                batch.saleDocuments().size(), batch.deletedIds().size());
+        return batch.changeIds().size();
+    }
+
+    /**
+     * 기록을 잠가 선점하고 반영할 문서를 만듦, 꺼낼 기록이 없으면 null
+     * 기록 행 잠금만으로는 두 서버가 같은 상품의 서로 다른 기록을 동시에 가져갈 수 있으므로 상품 행도 잠가서 상품 단위로 선점한다.
+     * 잠그지 못한 상품(다른 서버가 선점 중이거나 상품을 바꾸는 중)의 기록은 이번 배치에서 빼고 다음 동기화에서 다시 꺼냄
+     * 상품 행이 없는(삭제된) 상품은 더 바뀔 일이 없고 문서 삭제만 하므로 그대로 선점
+     */
+    private ClaimedBatch claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ProductIndexChange> candidates = productIndexChangeRepository.findBatchForUpdate(SYNC_BATCH_SIZE, now);
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        Set<Long> productIds = new LinkedHashSet<>();
+        for (ProductIndexChange change : candidates) {
+            productIds.add(change.getProductId());
+        }
+        Set<Long> lockedIds = new HashSet<>(productRepository.lockIdsByIdIn(productIds));
+        // 상품 행을 잠근 뒤에 읽으므로 선점한 상품은 가장 최근 커밋된 값
+        Map<Long, ProductIndexRow> rows = new HashMap<>();
+        for (ProductIndexRow row : productRepository.findIndexRowsByIdIn(productIds)) {
+            rows.put(row.getProductId(), row);
+        }
+        List<ProductIndexChange> changes = candidates.stream()
+                .filter(change -> lockedIds.contains(change.getProductId()) || !rows.containsKey(change.getProductId()))
+                .toList();
+        if (changes.isEmpty()) {
+            return null;
+        }
+        List<Long> changeIds = changes.stream().map(ProductIndexChange::getId).toList();
+        productIndexChangeRepository.updateClaimedUntil(changeIds, now.plus(SYNC_CLAIM_TTL));
+
+        // 같은 상품의 변경은 하나로 합침 (삭제 > 전체 문서 > 판매 정보)
+        Map<Long, Character> coalesced = new LinkedHashMap<>();
+        for (ProductIndexChange change : changes) {
+            coalesced.merge(change.getProductId(), change.getChangeType(), ProductIndexService::stronger);
+        }
+        rows.keySet().retainAll(coalesced.keySet());
+        Map<Long, String> thumbnailUrls = thumbnailUrls(rows.keySet());
+
+        List<ProductDocument> fullDocuments = new ArrayList<>();
+        List<ProductDocument> saleDocuments = new ArrayList<>();
+        List<ProductIndexRow> indexedRows = new ArrayList<>();
+        List<String> deletedIds = new ArrayList<>();
+        coalesced.forEach((productId, changeType) -> {
+            ProductIndexRow row = rows.get(productId);
+            if (DELETED.equals(changeType) || row == null || !INDEXED_STATUSES.contains(row.getStatus())) {
+                deletedIds.add(productId.toString());
+                return;
+            }
+            indexedRows.add(row);
+            if (FULL.equals(changeType)) {
+                fullDocuments.add(ProductDocument.of(row, thumbnailUrls.get(productId)));
             } else {
-                // 그 외 상태(판매중단, 유통기한만료 등)면 인덱스에서 제거
-                deleteProduct(product.getId());
+                saleDocuments.add(ProductDocument.of(row, thumbnailUrls.get(productId)));
             }
+        });
+        return new ClaimedBatch(changeIds, coalesced.size(), fullDocuments, saleDocuments, indexedRows, deletedIds);
+    }
+
+    // 선점 해제 실패는 선점 만료로 복구되므로 반영 실패 예외만 전달
+    private void releaseClaims(List<Long> changeIds) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    productIndexChangeRepository.updateClaimedUntil(changeIds, null));
         } catch (Exception e) {
-            log.error("상품 인덱스 업데이트 중 오류 발생: productId={}", product.getId(), e);
+            log.warn("검색 인덱스 변경 기록 선점 해제 실패: {}건", changeIds.size(), e);
+        }
+    }
+
+    private void updateLag() {
+        LocalDateTime oldest = productIndexChangeRepository.findOldestCreatedAt();
+        lagSeconds.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()));
+    }
+
+    // lastId 다음 청크의 정상 상품 및 임박특가 상품, 썸네일은 청크 단위로 한 번에 조회
+    private SearchIndexRebuilder.Chunk<ProductDocument> loadChunk(long lastId) {
+        List<ProductIndexRow> rows = productRepository.findIndexRowsAfter(lastId, INDEXED_STATUSES, Limit.of(REINDEX_CHUNK_SIZE));
+        if (rows.isEmpty()) {
+            return new SearchIndexRebuilder.Chunk<>(List.of(), lastId);
+        }
+
+        scheduleDiscountSteps(rows, List.of());
+        Map<Long, String> thumbnailUrls = thumbnailUrls(rows.stream().map(ProductIndexRow::getProductId).toList());
+        List<ProductDocument> documents = new ArrayList<>(rows.size());
+        for (ProductIndexRow row : rows) {
+            documents.add(ProductDocument.of(row, thumbnailUrls.get(row.getProductId())));
         }
+        return new SearchIndexRebuilder.Chunk<>(documents, rows.get(rows.size() - 1).getProductId());
     }
 
-}
\ No newline at end of file
+    // 재생성 중에 바뀐 상품의 현재 문서, 판매 중이 아니거나 삭제된 상품은 빠짐
+    private Map<Long, ProductDocument> loadDocuments(List<Long> productIds) {
+        List<ProductIndexRow> rows = productRepository.findIndexRowsByIdIn(productIds).stream()
+                .filter(row -> INDEXED_STATUSES.contains(row.getStatus()))
+                .toList();
+        Map<Long, String> thumbnailUrls = thumbnailUrls(rows.stream().map(ProductIndexRow::getProductId).toList());
+        Map<Long, ProductDocument> documents = new LinkedHashMap<>();
+        for (ProductIndexRow row : rows) {
+            documents.put(row.getProductId(), ProductDocument.of(row, thumbnailUrls.get(row.getProductId())));
+        }
+        return documents;
+    }
+
+    // 할인율 변경 시각이 된 상품을 판매 정보 변경으로 기록해서 이번 동기화에서 할인율/할인가를 다시 계산
+    // 여러 서버가 같은 항목을 동시에 꺼내도 같은 상품의 기록은 동기화에서 하나로 합쳐지므로 선점 없이 처리
+    private void recordDueDiscountSteps() {
+        Set<String> due = redisTemplate.opsForZSet().rangeByScore(DISCOUNT_TIMELINE_KEY,
+                Double.NEGATIVE_INFINITY, System.currentTimeMillis(), 0, SYNC_BATCH_SIZE);
+        if (due == null || due.isEmpty()) {
+            return;
+        }
+        recordAll(due.stream().map(Long::valueOf).toList(), SALE);
+        redisTemplate.opsForZSet().remove(DISCOUNT_TIMELINE_KEY, due.toArray());
+    }
+
+    // 색인한 상품은 다음 할인율 변경 시각으로 (다시) 등록, 인덱스에서 빠진 상품은 타임라인에서도 제거
+    private void scheduleDiscountSteps(List<ProductIndexRow> rows, List<String> deletedIds) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<ZSetOperations.TypedTuple<String>> steps = new HashSet<>();
+        List<String> unscheduled = new ArrayList<>(deletedIds);
+        for (ProductIndexRow row : rows) {
+            LocalDateTime nextChange = DiscountPricingEngine.nextDiscountChange(row.getCreatedAt(), row.getExpiryDate(),
+                    row.getMinDiscountRate(), row.getMaxDiscountRate(), now);
+            if (nextChange == null) {
+                unscheduled.add(row.getProductId().toString());
+            } else {
+                steps.add(ZSetOperations.TypedTuple.of(row.getProductId().toString(),
+                        (double) nextChange.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+            }
+        }
+        if (!steps.isEmpty()) {
+            redisTemplate.opsForZSet().add(DISCOUNT_TIMELINE_KEY, steps);
+        }
+        if (!unscheduled.isEmpty()) {
+            redisTemplate.opsForZSet().remove(DISCOUNT_TIMELINE_KEY, unscheduled.toArray());
+        }
+    }
+
+    // 상품별 첫 번째 사진 URL
+    private Map<Long, String> thumbnailUrls(Collection<Long> productIds) {
+        Map<Long, String> thumbnailUrls = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return thumbnailUrls;
+        }
+        for (Object[] row : productPhotoRepository.findFirstPhotoUrlsByProductIdIn(productIds)) {
+            thumbnailUrls.put((Long) row[0], (String) row[1]);
+        }
+        return thumbnailUrls;
+    }
+
+    private static Character stronger(Character current, Character next) {
+        if (DELETED.equals(current) || DELETED.equals(next)) {
+            return DELETED;
+        }
+        return FULL.equals(current) || FULL.equals(next) ? FULL : SALE;
+    }
+
+    private record ClaimedBatch(List<Long> changeIds, int productCount,
+                                List<ProductDocument> fullDocuments, List<ProductDocument> saleDocuments,
+                                List<ProductIndexRow> indexedRows, List<String> deletedIds) {
+    }
+
+    private ProductIndexChange change(Long productId, Character changeType) {
+        return ProductIndexChange.builder()
+                .productId(productId)
+                .changeType(changeType)
+                .build();
+    }
+}
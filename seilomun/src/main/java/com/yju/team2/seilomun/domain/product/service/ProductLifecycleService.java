@@ -0,0 +1,215 @@
+package com.yju.team2.seilomun.domain.product.service;
+
+import com.yju.team2.seilomun.domain.notification.event.CartProductStatusChangedEvent;
+import com.yju.team2.seilomun.domain.notification.event.LikeProductStatusChangedEvent;
+import com.yju.team2.seilomun.domain.notification.event.ProductStatusChangedEvent;
+import com.yju.team2.seilomun.domain.notification.service.NotificationOutboxService;
+import com.yju.team2.seilomun.domain.order.dto.StockStatusChangeDto;
+import com.yju.team2.seilomun.domain.product.entity.Product;
+import com.yju.team2.seilomun.domain.product.entity.ProductTransition;
+import com.yju.team2.seilomun.domain.product.event.ProductPricingChangedEvent;
+import com.yju.team2.seilomun.domain.product.repository.ProductRepository;
+import com.yju.team2.seilomun.domain.product.repository.ProductTransitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 상태 전환 (판매중 -> 임박특가 -> 유통기한 만료, 품절 <-> 재입고)
+ * - 시간에 따른 전환은 상품 등록/수정 시 product_transitions 대기열에 예정 시각과 함께 등록하고,
+ *   예정 시각이 지난 행만 꺼내서 처리하므로 상품 테이블 전체를 주기적으로 훑지 않음
+ * - 품절/재입고는 주문 흐름의 조건부 재고 UPDATE에서 바로 바뀌고, 여기서는 그 결과로 알림만 보냄
+ * - 상품 상태는 같은 상태끼리 묶어 UPDATE ... WHERE id IN 한 번, 검색 인덱스는 같은 트랜잭션에서 변경을 기록해 동기화가 반영
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductLifecycleService {
+
+    // 유통기한이 이 일수 안으로 들어오면 임박특가
+    public static final int IMMINENT_DAYS = 3;
+
+    private static final Character ON_SALE = '1';
+    private static final Character SOLD_OUT = 'E';
+    private static final Character IMMINENT = 'T';
+    private static final Character EXPIRED = 'X';
+    private static final Character PENDING = 'P';
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_BATCHES_PER_RUN = 10;
+
+    private final ProductRepository productRepository;
+    private final ProductTransitionRepository productTransitionRepository;
+    private final ProductIndexService productIndexService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // 상품 등록/수정 시 예정된 전환을 다시 등록 (유통기한이 바뀌었을 수 있으므로 대기 중인 전환은 지우고 새로 넣음)
+    @Transactional
+    public void schedule(Product product) {
+        productTransitionRepository.deletePendingByProductId(product.getId());
+        if (EXPIRED.equals(product.getStatus()) || product.getExpiryDate() == null) {
+            return;
+        }
+        productTransitionRepository.saveAll(List.of(
+                transition(product.getId(), IMMINENT, product.getExpiryDate().minusDays(IMMINENT_DAYS)),
+                transition(product.getId(), EXPIRED, product.getExpiryDate())));
+    }
+
+    // 상품 삭제 시 대기 중인 전환 취소
+    @Transactional
+    public void unschedule(Long productId) {
+        productTransitionRepository.deletePendingByProductId(productId);
+    }
+
+    // 판매자가 입력한 재고/유통기한에 맞게 상태 보정 (등록/수정 시점에 바로 적용)
+    public Character resolveStatus(Product product, LocalDateTime now) {
+        return resolveStatus(product.getStatus(), product.getStockQuantity(), product.getExpiryDate(), now);
+    }
+
+    // 엔티티를 바꾸지 않고 바뀔 값으로 계산 (일괄 수정)
+    public Character resolveStatus(Character status, Integer stockQuantity, LocalDateTime expiryDate, LocalDateTime now) {
+        if (expiryDate != null && expiryDate.isBefore(now)) {
+            return EXPIRED;
+        }
+        boolean imminent = expiryDate != null && expiryDate.isBefore(now.plusDays(IMMINENT_DAYS));
+        if (stockQuantity != null && stockQuantity == 0
+                && (ON_SALE.equals(status) || IMMINENT.equals(status))) {
+            return SOLD_OUT;
+        }
+        if (stockQuantity != null && stockQuantity > 0 && SOLD_OUT.equals(status)) {
+            return imminent ? IMMINENT : ON_SALE;
+        }
+        if (ON_SALE.equals(status) && imminent) {
+            return IMMINENT;
+        }
+        return status;
+    }
+
+    // 예정 시각이 지난 전환 처리, 배치마다 별도 트랜잭션이고 처리한 전환 수를 반환
+    public int processDueTransitions() {
+        int processed = 0;
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            Integer drained = transactionTemplate.execute(status -> drainBatch());
+            if (drained == null || drained == 0) {
+                break;
+            }
+            processed += drained;
+            if (drained < BATCH_SIZE) {
+                break;
+            }
+        }
+        return processed;
+    }
+
+    // 대기열 도입 전에 등록된 상품의 전환 등록 (서버 시작 시 한 번), 이미 등록된 상품은 건너뜀
+    @Transactional
+    public int backfill() {
+        return productTransitionRepository.insertMissingExpiryTransitions()
+                + productTransitionRepository.insertMissingImminentTransitions();
+    }
+
+    @Transactional
+    public int deleteProcessedBefore(LocalDateTime cutoffDate) {
+        return productTransitionRepository.deleteDoneBefore(cutoffDate);
+    }
+
+    // 주문 흐름에서 재고 예약/복구로 상태가 바뀐 상품 (품절, 재입고) 알림, 호출한 쪽의 트랜잭션에 참여
+    // 검색 인덱스 반영은 재고를 바꾼 쪽에서 이미 기록함
+    public void onStockStatusChanged(List<StockStatusChangeDto> changes) {
+        for (StockStatusChangeDto change : changes) {
+            notifyStatusChanged(change.getProduct(), change.getOldStatus(), change.getNewStatus());
+        }
+    }
+
+    // 상태 변경 알림 (판매자, 좋아요한 고객, 장바구니에 담은 고객)
+    public void notifyStatusChanged(Product product, Character oldStatus, Character newStatus) {
+        try {
+            notificationOutboxService.enqueue(ProductStatusChangedEvent.builder()
+                    .product(product)
+                    .oldStatus(oldStatus)
+                    .newStatus(newStatus)
+                    .eventId("PRODUCT_STATUS_" + product.getId())
+                    .build());
+            notificationOutboxService.enqueue(LikeProductStatusChangedEvent.builder()
+                    .product(product)
+                    .oldStatus(oldStatus)
+                    .newStatus(newStatus)
+                    .eventId("LIKE_PRODUCT_STATUS_" + product.getId())
+                    .build());
+            notificationOutboxService.enqueue(CartProductStatusChangedEvent.builder()
+                    .product(product)
+                    .oldStatus(oldStatus)
+                    .newStatus(newStatus)
+                    .eventId("CART_PRODUCT_STATUS_" + product.getId())
+                    .build());
+        } catch (Exception e) {
+            log.error("상품 상태 변경 알림 전송 실패: productId={}", product.getId(), e);
+        }
+    }
+
+    private int drainBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ProductTransition> due = productTransitionRepository.findDueForUpdate(now, BATCH_SIZE);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        // 한 상품에 임박특가/만료가 함께 밀려 있으면 만료만 적용
+        Map<Long, Character> targets = new HashMap<>();
+        for (ProductTransition transition : due) {
+            targets.merge(transition.getProductId(), transition.getTargetStatus(),
+                    (current, next) -> EXPIRED.equals(current) || EXPIRED.equals(next) ? EXPIRED : current);
+        }
+
+        Map<Character, List<Long>> productIdsByStatus = new HashMap<>();
+        Map<Long, Character> changed = new LinkedHashMap<>();
+        for (Product product : productRepository.findAllForUpdateByIdIn(targets.keySet())) {
+            Character newStatus = resolveTransition(product, targets.get(product.getId()), now);
+            if (newStatus == null) {
+                continue;
+            }
+            productIdsByStatus.computeIfAbsent(newStatus, status -> new ArrayList<>()).add(product.getId());
+            changed.put(product.getId(), newStatus);
+            notifyStatusChanged(product, product.getStatus(), newStatus);
+            if (EXPIRED.equals(newStatus)) {
+                // 만료 상품은 가격 스냅샷에서 빠지고 할인 캐시도 무효화
+                eventPublisher.publishEvent(new ProductPricingChangedEvent(product.getId()));
+            }
+        }
+
+        productIdsByStatus.forEach((status, productIds) -> productRepository.updateStatusByIdIn(productIds, status));
+        productTransitionRepository.markDone(due.stream().map(ProductTransition::getId).collect(Collectors.toList()), now);
+        if (!changed.isEmpty()) {
+            productIndexService.recordAll(changed.keySet(), ProductIndexService.SALE);
+            log.info("상품 상태 전환: {}개 (대기열 {}건 처리)", changed.size(), due.size());
+        }
+        return due.size();
+    }
+
+    // 실제로 경계를 넘은 경우에만 새 상태, 그 사이 유통기한이 연장됐거나 이미 다른 상태면 null
+    private Character resolveTransition(Product product, Character target, LocalDateTime now) {
+        if (EXPIRED.equals(target)) {
+            boolean expired = !product.getExpiryDate().isAfter(now);
+            return expired && !EXPIRED.equals(product.getStatus()) ? EXPIRED : null;
+        }
+        boolean imminent = product.getExpiryDate().isBefore(now.plusDays(IMMINENT_DAYS));
+        return imminent && ON_SALE.equals(product.getStatus()) ? IMMINENT : null;
+    }
+
+    private ProductTransition transition(Long productId, Character targetStatus, LocalDateTime dueAt) {
+        return ProductTransition.builder()
+                .productId(productId)
+                .targetStatus(targetStatus)
+                .dueAt(dueAt)
+                .status(PENDING)
+                .build();
+    }
+}
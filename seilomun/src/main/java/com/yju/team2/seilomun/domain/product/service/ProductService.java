@@ -1,37 +1,39 @@
 package com.yju.team2.seilomun.domain.product.service;
 
-import com.yju.team2.seilomun.domain.notification.event.CartProductStatusChangedEvent;
-import com.yju.team2.seilomun.domain.notification.event.LikeProductStatusChangedEvent;
 import com.yju.team2.seilomun.domain.notification.event.NewProductEvent;
-import com.yju.team2.seilomun.domain.notification.event.ProductStatusChangedEvent;
-import com.yju.team2.seilomun.domain.notification.service.NotificationService;
+import com.yju.team2.seilomun.domain.notification.service.NotificationOutboxService;
 import com.yju.team2.seilomun.domain.product.dto.DiscountInfo;
+import com.yju.team2.seilomun.domain.product.dto.ProductBulkUpdateDto;
+import com.yju.team2.seilomun.domain.product.dto.ProductBulkUpdateItemDto;
+import com.yju.team2.seilomun.domain.product.dto.ProductCardRow;
+import com.yju.team2.seilomun.domain.product.dto.ProductPhotoRow;
 import com.yju.team2.seilomun.domain.product.entity.Product;
 import com.yju.team2.seilomun.domain.product.entity.ProductCategory;
-import com.yju.team2.seilomun.domain.product.entity.ProductDocument;
 import com.yju.team2.seilomun.domain.product.entity.ProductPhoto;
+import com.yju.team2.seilomun.domain.product.event.ProductPricingChangedEvent;
 import com.yju.team2.seilomun.domain.product.repository.ProductCategoryRepository;
 import com.yju.team2.seilomun.domain.product.repository.ProductPhotoRepository;
 import com.yju.team2.seilomun.domain.product.repository.ProductRepository;
-import com.yju.team2.seilomun.domain.search.repository.ProductSearchRepository;
+import com.yju.team2.seilomun.domain.seller.dto.SellerInformationDto;
 import com.yju.team2.seilomun.domain.seller.entity.Seller;
 import com.yju.team2.seilomun.domain.seller.repository.SellerRepository;
 import com.yju.team2.seilomun.domain.product.dto.ProductDto;
 import com.yju.team2.seilomun.domain.upload.service.AWSS3UploadService;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -41,94 +43,41 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ProductService {
 
+    // 판매자가 일괄 수정으로 바꿀 수 있는 상태 (판매중, 판매 중지)
+    private static final Set<Character> SELLER_STATUSES = Set.of('1', '0');
+
     private final ProductRepository productRepository;
     private final ProductPhotoRepository productPhotoRepository;
     private final ProductCategoryRepository productCategoryRepository;
-    private final RedisTemplate<String, String> redisTemplate;
     private final SellerRepository sellerRepository;
     private final ProductIndexService productIndexService;
-    private final NotificationService notificationService;
+    private final NotificationOutboxService notificationOutboxService;
     private final AWSS3UploadService awsS3UploadService;
     private final ProductDiscountService productDiscountService;
-
-    private static final String DISCOUNT_RATE_KEY = "Product:currentDiscountRate";
-    private static final String DISCOUNT_PRICE_KEY = "Product:discountPrice";
-    private static final long CACHE_EXPIRATION_SECONDS = 30 * 60; // 30분 캐싱
+    private final ProductLifecycleService productLifecycleService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
     // 할인율 조회
     public Integer getCurrentDiscountRate(Long id) {
-        String redisKey = DISCOUNT_RATE_KEY + id;
-
-        String cacheRate = redisTemplate.opsForValue().get(redisKey);
-
-        if (cacheRate != null) {
-            return Integer.parseInt(cacheRate);
-        }
-
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다"));
-
-        Integer currentDiscountRate = calculateDiscountRate(id);
-
-        // 레디스에서 조회
-        redisTemplate.opsForValue().set(redisKey, String.valueOf(currentDiscountRate), CACHE_EXPIRATION_SECONDS, TimeUnit.SECONDS);
-
-        return currentDiscountRate;
+        return productDiscountService.getCurrentDiscountRate(id);
     }
 
-    // 할인율 계산메서드
-    public Integer calculateDiscountRate(Long id) {
-
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다"));
-
-        if (product.getExpiryDate() == null || product.getMinDiscountRate() == null || product.getMaxDiscountRate() == null)
-            return 0;
-
-        //현재 시간이 만료일을 지났는지 확인
-        LocalDateTime now = LocalDateTime.now();
-
-        // 만료일이 지나면 최소할인율
-        if (now.isAfter(product.getExpiryDate())) {
-            return product.getMinDiscountRate();
-        }
-
-        long totalPeriod = Duration.between(product.getCreatedAt(), product.getExpiryDate()).toDays();
-        long remainingDays = Duration.between(now, product.getExpiryDate()).toDays();
-
-        if (remainingDays < 0)
-            remainingDays = 0;
-        if (totalPeriod <= 0)
-            return product.getMaxDiscountRate();
-        if (totalPeriod <= 3)
-            return product.getMaxDiscountRate();
-
-        double ratio = 1.0 - ((double) remainingDays / (double) totalPeriod); // 경과 비율
-        int interpolatedRate = (int) Math.round(
-                product.getMinDiscountRate() +
-                        (product.getMaxDiscountRate() - product.getMinDiscountRate()) * ratio
-        );
-
-        log.info("할인율 계산: 전체기간={}일, 남은기간={}일, 경과비율={}, 할인율={}",
-                totalPeriod, remainingDays, String.format("%.2f", ratio), interpolatedRate);
-
-        return interpolatedRate;
-
+    // 여러 상품의 할인율 일괄 조회
+    // 이미 조회된 엔티티를 넘기므로 캐시에 없는 상품도 DB 조회 없이 계산됨
+    public Map<Long, Integer> getCurrentDiscountRates(Collection<Product> products) {
+        Map<Long, Integer> discountRates = new HashMap<>();
+        productDiscountService.getDiscountInfosOf(products)
+                .forEach((productId, discountInfo) -> discountRates.put(productId, discountInfo.getDiscountRate()));
+        return discountRates;
     }
 
     // 상품 상세 조회
     public ProductDto getProductById(Long id) {
-        Product product = productRepository.findById(id)
+        ProductCardRow row = productRepository.findCardRowById(id)
                 .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다"));
 
-        // 원래 코드
-//        Integer discountRate = calculateDiscountRate(id);
-//
-//        return ProductDto.fromEntity(product, discountRate);
-
-        DiscountInfo discountInfo = productDiscountService.getDiscountInfo(id);
-
-        return ProductDto.fromEntity(product, discountInfo.getDiscountRate(), discountInfo.getDiscountedPrice());
+        return toProductDtos(List.of(row)).get(0);
     }
 
     // 상품 등록
@@ -169,20 +118,25 @@ public class ProductService {
                 .productCategory(productCategory)  // 이 줄을 추가해야 합니다
                 .build();
 
+        // 유통기한/재고에 맞는 상태로 시작 (임박특가, 품절)
+        product.updateStatus(productLifecycleService.resolveStatus(product, LocalDateTime.now()));
         Product savedProduct = productRepository.save(product);
         log.info("상품 저장 완료: productId={}", savedProduct.getId());
+        productLifecycleService.schedule(savedProduct);
+        eventPublisher.publishEvent(new ProductPricingChangedEvent(savedProduct.getId()));
 
-        Integer currentDiscountRate = getCurrentDiscountRate(savedProduct.getId());
+        // 캐시는 커밋 후 무효화되므로 응답은 저장한 엔티티로 바로 계산
+        Integer currentDiscountRate = productDiscountService.calculateDiscountInfo(savedProduct).getDiscountRate();
 
         // 즐겨찾기한 고객들에게 알림 전송
         try {
-            if (notificationService != null) {
+            if (notificationOutboxService != null) {
                 NewProductEvent productEvent = NewProductEvent.builder()
                         .product(savedProduct)
                         .eventId("NEW_PRODUCT_" + savedProduct.getId())
                         .build();
 
-                notificationService.processNotification(productEvent);
+                notificationOutboxService.enqueue(productEvent);
                 log.info("상품 등록 알림 전송 완료");
             }
         } catch (Exception e) {
@@ -209,16 +163,8 @@ public class ProductService {
             savedProduct = productRepository.save(product);
         }
 
-        // ProductIndexService를 사용하여 Elasticsearch에 인덱싱
-        try {
-            if (productIndexService != null) {
-                productIndexService.indexProduct(savedProduct);
-                log.info("Elasticsearch 인덱싱 완료");
-            }
-        } catch (Exception e) {
-            // 인덱싱 실패해도 상품 등록은 계속 진행
-            log.error("Elasticsearch 인덱싱 실패", e);
-        }
+        // 검색 인덱스는 커밋 후 동기화가 반영
+        productIndexService.record(savedProduct.getId(), ProductIndexService.FULL);
 
         return ProductDto.fromEntity(savedProduct, currentDiscountRate);
     }
@@ -236,18 +182,16 @@ public class ProductService {
             throw new IllegalArgumentException("삭제 할 권한이 없습니다");
         }
 
-        // ProductIndexService를 사용하여 Elasticsearch에서 삭제
-        productIndexService.deleteProduct(product.getId());
+        // 검색 인덱스에서 삭제는 커밋 후 동기화가 반영
+        productIndexService.record(product.getId(), ProductIndexService.DELETED);
 
         // 상품 사진 삭제
         productPhotoRepository.deleteByProduct(product);
 
-        // 레디스 삭제
-        redisTemplate.delete(DISCOUNT_RATE_KEY + id);
-        redisTemplate.delete(DISCOUNT_PRICE_KEY + id);
-
-        // 상품 삭제
+        // 상품 삭제, 커밋 후 할인 캐시 무효화
+        productLifecycleService.unschedule(id);
         productRepository.delete(product);
+        eventPublisher.publishEvent(new ProductPricingChangedEvent(id));
     }
 
     // 상품 수정
@@ -301,27 +245,125 @@ public class ProductService {
 
         Character oldStatus = product.getStatus();
         product.updateProudct(productDto, productCategory);
+        // 수정된 재고/유통기한에 맞게 상태를 보정하고 예정된 전환을 다시 등록
+        product.updateStatus(productLifecycleService.resolveStatus(product, LocalDateTime.now()));
         Product updatedProduct = productRepository.save(product);
+        productLifecycleService.schedule(updatedProduct);
+        // 커밋 후 가격 스냅샷 갱신, 할인 캐시 무효화
+        eventPublisher.publishEvent(new ProductPricingChangedEvent(productId));
 
         // 상태가 변경되었다면 알림 발생
         if (!oldStatus.equals(updatedProduct.getStatus())) {
             sendProductStatusChangeNotifications(updatedProduct, oldStatus, updatedProduct.getStatus());
         }
 
-        // ProductIndexService를 사용하여 Elasticsearch 문서 업데이트
-        productIndexService.indexProduct(updatedProduct);
-
-        // 캐시 삭제
-        String currentDiscountRateKey = DISCOUNT_RATE_KEY + productId;
-        String discountPriceKey = DISCOUNT_PRICE_KEY + productId;
-        redisTemplate.delete(currentDiscountRateKey);
-        redisTemplate.delete(discountPriceKey);
+        // 검색 인덱스는 커밋 후 동기화가 반영
+        productIndexService.record(updatedProduct.getId(), ProductIndexService.FULL);
 
-        Integer currentDiscountRate = getCurrentDiscountRate(productId);
+        // 할인 캐시는 커밋 후 무효화되므로 응답은 수정한 엔티티로 바로 계산
+        Integer currentDiscountRate = productDiscountService.calculateDiscountInfo(updatedProduct).getDiscountRate();
 
         return ProductDto.fromEntity(updatedProduct, currentDiscountRate);
     }
 
+    /**
+     * 상품 일괄 수정 (재고/가격/판매 상태), 실제로 바뀐 상품 수를 반환
+     * - 권한 확인과 잠금은 판매자 이메일 조건을 건 조회 한 번 (다른 판매자의 상품이 섞이면 전체 거절)
+     * - 변경은 상품 ID별 CASE 식을 쓴 UPDATE 한 번
+     * - 검색 인덱스는 판매 정보 부분 업데이트로 기록하고, 할인 캐시 무효화와 상태 변경 알림은 상품별로 한 번씩만
+     */
+    public int bulkUpdateProducts(ProductBulkUpdateDto productBulkUpdateDto, String sellerEmail) {
+        Map<Long, ProductBulkUpdateItemDto> itemsById = new LinkedHashMap<>();
+        for (ProductBulkUpdateItemDto item : productBulkUpdateDto.getItems()) {
+            if (item.getStatus() != null && !SELLER_STATUSES.contains(item.getStatus())) {
+                throw new IllegalArgumentException("판매 상태는 판매중('1') 또는 판매 중지('0')로만 변경할 수 있습니다.");
+            }
+            if (itemsById.put(item.getProductId(), item) != null) {
+                throw new IllegalArgumentException("같은 상품이 중복되었습니다: " + item.getProductId());
+            }
+        }
+
+        List<Product> products = productRepository.findAllForUpdateBySellerEmailAndIdIn(sellerEmail, itemsById.keySet());
+        if (products.size() != itemsById.size()) {
+            throw new IllegalArgumentException("수정 할 권한이 없거나 존재하지 않는 상품이 있습니다");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Integer> stockQuantities = new HashMap<>();
+        Map<Long, Integer> originalPrices = new HashMap<>();
+        Map<Long, Character> statuses = new HashMap<>();
+        Map<Product, Character> statusChanges = new LinkedHashMap<>();
+        for (Product product : products) {
+            ProductBulkUpdateItemDto item = itemsById.get(product.getId());
+            Integer stockQuantity = item.getStockQuantity() != null ? item.getStockQuantity() : product.getStockQuantity();
+            Character requestedStatus = item.getStatus() != null ? item.getStatus() : product.getStatus();
+            Character newStatus = productLifecycleService.resolveStatus(requestedStatus, stockQuantity, product.getExpiryDate(), now);
+
+            if (!Objects.equals(stockQuantity, product.getStockQuantity())) {
+                stockQuantities.put(product.getId(), stockQuantity);
+            }
+            if (item.getOriginalPrice() != null && !item.getOriginalPrice().equals(product.getOriginalPrice())) {
+                originalPrices.put(product.getId(), item.getOriginalPrice());
+            }
+            if (!Objects.equals(newStatus, product.getStatus())) {
+                statuses.put(product.getId(), newStatus);
+                statusChanges.put(product, newStatus);
+            }
+        }
+
+        Set<Long> changedIds = new TreeSet<>();
+        changedIds.addAll(stockQuantities.keySet());
+        changedIds.addAll(originalPrices.keySet());
+        changedIds.addAll(statuses.keySet());
+        if (changedIds.isEmpty()) {
+            return 0;
+        }
+
+        applyBulkUpdate(changedIds, stockQuantities, originalPrices, statuses);
+
+        // 가격이 바뀌었거나 판매가 끝난 상품만 커밋 후 가격 스냅샷 갱신, 할인 캐시 무효화 (파이프라인 한 번)
+        Set<Long> pricingChanged = new TreeSet<>(originalPrices.keySet());
+        pricingChanged.addAll(statuses.keySet());
+        eventPublisher.publishEvent(new ProductPricingChangedEvent(new ArrayList<>(pricingChanged)));
+
+        statusChanges.forEach((product, newStatus) ->
+                sendProductStatusChangeNotifications(product, product.getStatus(), newStatus));
+
+        // 검색 인덱스는 커밋 후 동기화가 bulk 부분 업데이트로 반영
+        productIndexService.recordAll(changedIds, ProductIndexService.SALE);
+
+        log.info("상품 일괄 수정: 요청 {}개, 변경 {}개 (재고 {}, 가격 {}, 상태 {})", itemsById.size(), changedIds.size(),
+                stockQuantities.size(), originalPrices.size(), statuses.size());
+        return changedIds.size();
+    }
+
+    // UPDATE products SET stock_quantity = CASE pr_id WHEN ? THEN ? ... ELSE stock_quantity END, ... WHERE pr_id IN (...)
+    // 벌크 UPDATE라 영속성 컨텍스트의 엔티티는 바뀌지 않음 (이후 이 트랜잭션에서는 변경 전 값으로만 사용)
+    private void applyBulkUpdate(Collection<Long> productIds, Map<Long, Integer> stockQuantities,
+                                 Map<Long, Integer> originalPrices, Map<Long, Character> statuses) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Product> update = criteriaBuilder.createCriteriaUpdate(Product.class);
+        Root<Product> product = update.from(Product.class);
+
+        setByProductId(criteriaBuilder, update, product, "stockQuantity", stockQuantities);
+        setByProductId(criteriaBuilder, update, product, "originalPrice", originalPrices);
+        setByProductId(criteriaBuilder, update, product, "status", statuses);
+        update.where(product.get("id").in(productIds));
+
+        entityManager.createQuery(update).executeUpdate();
+    }
+
+    private <T> void setByProductId(CriteriaBuilder criteriaBuilder, CriteriaUpdate<Product> update,
+                                    Root<Product> product, String attribute, Map<Long, T> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        Path<T> column = product.get(attribute);
+        CriteriaBuilder.SimpleCase<Long, T> byProductId = criteriaBuilder.selectCase(product.<Long>get("id"));
+        values.forEach((productId, value) -> byProductId.when(productId, value));
+        update.set(column, byProductId.otherwise(column));
+    }
+
     private <T> List<T> uploadAndCreatePhotos(
             List<MultipartFile> files,
             Product product,
@@ -360,11 +402,8 @@ public class ProductService {
                 // 유통기한 다되면 상태를 변화 지금은 임시로 0 차후에 뭘로 할지 상의
                 product.updateProudct(productDto, productCategory);
                 productRepository.save(product);
-
-                String currentDiscountRateKey = DISCOUNT_RATE_KEY + product.getId();
-                String discountPriceKey = DISCOUNT_PRICE_KEY + product.getId();
-                redisTemplate.delete(currentDiscountRateKey);
-                redisTemplate.delete(discountPriceKey);
+                eventPublisher.publishEvent(new ProductPricingChangedEvent(product.getId()));
+                productIndexService.record(product.getId(), ProductIndexService.FULL);
             }
         }
     }
@@ -380,51 +419,44 @@ public class ProductService {
         return product.getStockQuantity();
     }
 
+    // 판매자 매장 상품 목록
     public List<ProductDto> getProducts(Long sellerId) {
-        List<Product> products = productRepository.findBySellerId(sellerId);
+        return toProductDtos(productRepository.findCardRowsBySellerId(sellerId));
+    }
+
+    // 상품 카드/상세 응답 조립, 상품 수와 관계없이 사진, 판매자 정보, 할인 정보를 각각 정해진 횟수로 조회
+    private List<ProductDto> toProductDtos(List<ProductCardRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
 
+        Map<Long, List<ProductPhotoRow>> photos = productPhotoRepository.findPhotoRowsByProductIdIn(
+                        rows.stream().map(ProductCardRow::getProductId).toList()).stream()
+                .collect(Collectors.groupingBy(ProductPhotoRow::getProductId));
+        // 매장 목록은 판매자가 한 명이라 판매자 정보도 한 번만 조립
+        // 카테고리/배달비/가게 사진/공지 사진을 미리 채워 두어 toDto에서 지연 로딩이 일어나지 않음
+        List<Seller> storeInfos = sellerRepository.findStoreInfosByIdIn(
+                rows.stream().map(ProductCardRow::getSellerId).distinct().toList());
+        if (!storeInfos.isEmpty()) {
+            sellerRepository.fetchSellerPhotos(storeInfos);
+            sellerRepository.fetchNotificationPhotos(storeInfos);
+        }
+        Map<Long, SellerInformationDto> sellers = new HashMap<>();
+        for (Seller seller : storeInfos) {
+            sellers.put(seller.getId(), SellerInformationDto.toDto(seller));
+        }
+        Map<Long, DiscountInfo> discountInfos = productDiscountService.getDiscountInfosOfRows(
+                rows.stream().map(ProductCardRow::toPricingRow).toList());
 
-        return products.stream()
-                .map(product -> {
-                    Integer currentDiscountRate = getCurrentDiscountRate(product.getId());
-                    return ProductDto.fromEntity(product, currentDiscountRate);
-                })
+        return rows.stream()
+                .map(row -> ProductDto.of(row, sellers.get(row.getSellerId()),
+                        photos.getOrDefault(row.getProductId(), List.of()), discountInfos.get(row.getProductId())))
                 .collect(Collectors.toList());
     }
 
     // 상태 변경 알림 메서드
     private void sendProductStatusChangeNotifications(Product product, Character oldStatus, Character newStatus) {
-        try {
-            // 1. 판매자에게 알림
-            ProductStatusChangedEvent sellerEvent = ProductStatusChangedEvent.builder()
-                    .product(product)
-                    .oldStatus(oldStatus)
-                    .newStatus(newStatus)
-                    .eventId("PRODUCT_STATUS_" + product.getId())
-                    .build();
-            notificationService.processNotification(sellerEvent);
-
-            // 2. 좋아요한 고객들에게 알림
-            LikeProductStatusChangedEvent likeEvent = LikeProductStatusChangedEvent.builder()
-                    .product(product)
-                    .oldStatus(oldStatus)
-                    .newStatus(newStatus)
-                    .eventId("LIKE_PRODUCT_STATUS_" + product.getId())
-                    .build();
-            notificationService.processNotification(likeEvent);
-
-            // 3. 장바구니에 담은 고객들에게 알림
-            CartProductStatusChangedEvent cartEvent = CartProductStatusChangedEvent.builder()
-                    .product(product)
-                    .oldStatus(oldStatus)
-                    .newStatus(newStatus)
-                    .eventId("CART_PRODUCT_STATUS_" + product.getId())
-                    .build();
-            notificationService.processNotification(cartEvent);
-
-        } catch (Exception e) {
-            log.error("상품 상태 변경 알림 전송 실패: productId={}", product.getId(), e);
-        }
+        productLifecycleService.notifyStatusChanged(product, oldStatus, newStatus);
     }
 
     public Long getSellerIdByProductId(Long productId) {
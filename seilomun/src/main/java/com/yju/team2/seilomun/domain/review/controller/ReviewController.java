@@ -49,6 +49,27 @@ public class ReviewController {
         }
     }
 
+    //리뷰 커서 기반 불러오기 (cursor가 없으면 첫 페이지)
+    @GetMapping("/{sellerId}/cursor")
+    public ResponseEntity<ApiResponseJson> getReviewByCursor(
+            @PathVariable Long sellerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(new ApiResponseJson(HttpStatus.OK, Map.of(
+                "리뷰 조회", reviewService.getReviewsByCursor(sellerId, cursor, size)
+        )));
+    }
+
+    @GetMapping("/myReviews/cursor")
+    public ResponseEntity<ApiResponseJson> getMyReviewsByCursor(
+            @AuthenticationPrincipal JwtUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(new ApiResponseJson(HttpStatus.OK, Map.of(
+                "내가 쓴 리뷰", reviewService.getMyReviewsByCursor(userDetails.getId(), cursor, size)
+        )));
+    }
+
     //리뷰 불러오기
     @GetMapping("/{sellerId}")
     public ResponseEntity<ApiResponseJson> getReview(
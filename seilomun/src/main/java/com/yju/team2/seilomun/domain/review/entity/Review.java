@@ -1,6 +1,8 @@
 package com.yju.team2.seilomun.domain.review.entity;
 
+import com.yju.team2.seilomun.domain.customer.entity.Customer;
 import com.yju.team2.seilomun.domain.order.entity.Order;
+import com.yju.team2.seilomun.domain.seller.entity.Seller;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -15,7 +17,10 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        @Index(name = "idx_reviews_seller_created", columnList = "se_id, created_at, re_id"),
+        @Index(name = "idx_reviews_customer_created", columnList = "cu_id, created_at, re_id")
+})
 public class Review {
 
     @Id
@@ -41,6 +46,15 @@ public class Review {
     @JoinColumn(name = "or_id")
     private Order order;
 
+    // 판매자/고객별 리뷰 목록을 주문 조인 없이 (se_id|cu_id, created_at, re_id) 인덱스로 찾기 위해 주문에서 복사해 둠
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "se_id")
+    private Seller seller;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "cu_id")
+    private Customer customer;
+
     @OneToOne(mappedBy = "review", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private ReviewComment reviewComment;
 }
@@ -1,14 +1,18 @@
 package com.yju.team2.seilomun.domain.review.repository;
 
+import com.yju.team2.seilomun.common.job.IdRange;
 import com.yju.team2.seilomun.domain.order.entity.Order;
 import com.yju.team2.seilomun.domain.review.entity.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +21,10 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Review> findAllByOrder_SellerId(Long sellerId);
     Optional<Review> findByOrder(Order order);
 
+    // 리뷰가 작성된 주문 ID만 조회
+    @Query("SELECT r.order.id FROM Review r WHERE r.order.id IN :orderIds")
+    List<Long> findOrderIdsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
     @Query("SELECT r FROM Review r " +
             "LEFT JOIN FETCH r.order o " +
             "LEFT JOIN FETCH o.customer " +
@@ -44,4 +52,41 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
             "WHERE o.customer.id = :customerId " +
             "ORDER BY r.createdAt DESC")
     Page<Review> findAllByCustomerIdWithPagination(@Param("customerId") Long customerId, Pageable pageable);
+
+    // 커서 기반 페이지네이션 (created_at, id 내림차순), COUNT 쿼리 없이 size + 1개만 조회
+    @Query("SELECT r FROM Review r " +
+            "LEFT JOIN FETCH r.order o " +
+            "LEFT JOIN FETCH o.customer " +
+            "LEFT JOIN FETCH o.seller " +
+            "WHERE r.seller.id = :sellerId " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findAllBySellerIdBeforeCursor(@Param("sellerId") Long sellerId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    @Query("SELECT r FROM Review r " +
+            "LEFT JOIN FETCH r.order o " +
+            "LEFT JOIN FETCH o.customer " +
+            "LEFT JOIN FETCH o.seller " +
+            "WHERE r.customer.id = :customerId " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findAllByCustomerIdBeforeCursor(@Param("customerId") Long customerId,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
+    // 판매자/고객 컬럼을 채워야 하는 리뷰의 ID 구간 (새 리뷰는 작성 시 채워지므로 구간이 늘어나지 않음)
+    @Query("SELECT new com.yju.team2.seilomun.common.job.IdRange(MIN(r.id), MAX(r.id)) FROM Review r WHERE r.seller IS NULL")
+    IdRange findBackfillIdRange();
+
+    // 판매자/고객 컬럼이 추가되기 전에 작성된 리뷰에 주문의 판매자/고객을 채움 (ID 구간 단위)
+    @Modifying
+    @Query("UPDATE Review r SET " +
+            "r.seller = (SELECT o.seller FROM Order o WHERE o = r.order), " +
+            "r.customer = (SELECT o.customer FROM Order o WHERE o = r.order) " +
+            "WHERE r.seller IS NULL AND r.id BETWEEN :fromId AND :toId")
+    int backfillSellerAndCustomer(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -0,0 +1,38 @@
+package com.yju.team2.seilomun.domain.review.scheduler;
+
+import com.yju.team2.seilomun.common.job.ClusterJobRunner;
+import com.yju.team2.seilomun.domain.review.service.ReviewService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReviewOwnerBackfillScheduler {
+
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST = Duration.ofMinutes(1);
+    private static final int SHARDS = 8;
+
+    private final ReviewService reviewService;
+    private final ClusterJobRunner clusterJobRunner;
+
+    /**
+     * 서버 시작 시 판매자/고객 컬럼 도입 전의 리뷰를 채움 (채울 리뷰가 없으면 바로 끝남)
+     * ID 구간을 샤드로 나눠 여러 서버가 나눠 채우고, 샤드마다 UPDATE 한 번이라 한 트랜잭션이 리뷰 테이블 전체를 잠그지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOwners() {
+        try {
+            clusterJobRunner.runSharded("review-owner-backfill", reviewService.getOwnerBackfillIdRange(), SHARDS,
+                    LOCK_AT_MOST, LOCK_AT_LEAST, reviewService::backfillSellerAndCustomer);
+        } catch (Exception e) {
+            log.error("리뷰 판매자/고객 컬럼 채우기 실패", e);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.yju.team2.seilomun.domain.review.service;
 
+import com.yju.team2.seilomun.common.CursorPageDto;
+import com.yju.team2.seilomun.common.CursorToken;
+import com.yju.team2.seilomun.common.job.IdRange;
 import com.yju.team2.seilomun.domain.customer.entity.Customer;
 import com.yju.team2.seilomun.domain.customer.repository.CustomerRepository;
 import com.yju.team2.seilomun.domain.notification.event.ReviewWrittenEvent;
-import com.yju.team2.seilomun.domain.notification.service.NotificationService;
+import com.yju.team2.seilomun.domain.notification.service.NotificationOutboxService;
 import com.yju.team2.seilomun.domain.order.entity.Order;
 import com.yju.team2.seilomun.domain.order.entity.OrderItem;
 import com.yju.team2.seilomun.domain.order.repository.OrderRepository;
@@ -15,11 +18,13 @@ import com.yju.team2.seilomun.domain.review.repository.ReviewCommentRepository;
 import com.yju.team2.seilomun.domain.review.repository.ReviewPhotoRepository;
 import com.yju.team2.seilomun.domain.review.repository.ReviewRepository;
 import com.yju.team2.seilomun.domain.seller.entity.Seller;
+import com.yju.team2.seilomun.domain.seller.event.SellerRatingChangedEvent;
 import com.yju.team2.seilomun.domain.seller.repository.SellerRepository;
 import com.yju.team2.seilomun.domain.upload.service.AWSS3UploadService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -46,7 +51,8 @@ public class ReviewService {
     private final ReviewCommentRepository commentRepository;
     private final ReviewCommentRepository reviewCommentRepository;
     private final AWSS3UploadService awsS3UploadService;
-    private final NotificationService notificationService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ReviewRequestDto postReview(Long customerId,Long orderId ,ReviewRequestDto reviewRequestDto, List<MultipartFile> photos) {
@@ -88,6 +94,8 @@ public class ReviewService {
                 content(reviewRequestDto.getReviewContent()).
                 rating(reviewRequestDto.getRating()).
                 order(order).
+                seller(order.getSeller()).
+                customer(customer).
                 build();
         reviewRepository.save(review);
         // 리뷰 사진 등록 (기존 URL 리스트 + 새로 업로드된 사진들)
@@ -122,6 +130,7 @@ public class ReviewService {
             averageRating = Math.round(averageRating * 10) / 10.0f;
         }
         seller.updateRating(averageRating);
+        eventPublisher.publishEvent(new SellerRatingChangedEvent(seller.getId(), averageRating));
         reviewRequestDto.setReviewPhotos(allPhotoUrls);
 
         try {
@@ -129,7 +138,7 @@ public class ReviewService {
                     .review(review)
                     .eventId("REVIEW_" + review.getId())
                     .build();
-            notificationService.processNotification(reviewWrittenEvent);
+            notificationOutboxService.enqueue(reviewWrittenEvent);
         } catch (Exception e) {
             log.error("리뷰 작성 알림 전송 실패", e);
         }
@@ -157,6 +166,46 @@ public class ReviewService {
                     .build();
         }
 
+        return ReviewPaginationDto.builder()
+                .reviews(toReviewResponseDtos(reviews))
+                .hasNext(reviewPage.hasNext())
+                .totalElements(reviewPage.getTotalElements())
+                .build();
+    }
+
+    // 판매자/고객 컬럼을 채워야 하는 리뷰의 ID 구간 (없으면 빈 구간)
+    public IdRange getOwnerBackfillIdRange() {
+        return reviewRepository.findBackfillIdRange();
+    }
+
+    // 구간 안에서 판매자/고객 컬럼이 비어 있는 기존 리뷰를 주문 기준으로 채움, 채운 리뷰 수를 반환
+    public int backfillSellerAndCustomer(IdRange idRange) {
+        int updated = reviewRepository.backfillSellerAndCustomer(idRange.fromId(), idRange.toId());
+        if (updated > 0) {
+            log.info("리뷰 판매자/고객 컬럼 채움: {}~{}, {}건", idRange.fromId(), idRange.toId(), updated);
+        }
+        return updated;
+    }
+
+    // 리뷰 조회하기 (커서 기반, COUNT 쿼리 없음)
+    public CursorPageDto<ReviewResponseDto> getReviewsByCursor(Long sellerId, String cursor, int size) {
+        if (!sellerRepository.existsById(sellerId)) {
+            throw new IllegalArgumentException("존재하지 않는 판매자 입니다.");
+        }
+        CursorToken cursorToken = CursorToken.decode(cursor);
+        int pageSize = CursorPageDto.clampSize(size);
+
+        List<Review> reviews = reviewRepository.findAllBySellerIdBeforeCursor(sellerId,
+                cursorToken.getCreatedAt(), cursorToken.getId(), PageRequest.of(0, pageSize + 1));
+
+        return CursorPageDto.of(reviews, pageSize, Review::getCreatedAt, Review::getId, this::toReviewResponseDtos);
+    }
+
+    private List<ReviewResponseDto> toReviewResponseDtos(List<Review> reviews) {
+        if (reviews.isEmpty()) {
+            return new ArrayList<>();
+        }
+
         // 리뷰 ID 목록 추출
         List<Long> reviewIds = reviews.stream()
                 .map(Review::getId)
@@ -192,12 +241,7 @@ public class ReviewService {
 
             reviewResponseDtos.add(reviewDto);
         }
-
-        return ReviewPaginationDto.builder()
-                .reviews(reviewResponseDtos)
-                .hasNext(reviewPage.hasNext())
-                .totalElements(reviewPage.getTotalElements())
-                .build();
+        return reviewResponseDtos;
     }
 
     // 리뷰 삭제
@@ -247,6 +291,7 @@ public class ReviewService {
             averageRating = Math.round(averageRating * 10) / 10.0f;
         }
         seller.updateRating(averageRating);
+        eventPublisher.publishEvent(new SellerRatingChangedEvent(seller.getId(), averageRating));
 
         log.info("리뷰 삭제 완료 - 리뷰 ID: {}, 사용자 ID: {}", reviewId, userId);
     }
@@ -294,6 +339,33 @@ public class ReviewService {
                     .build();
         }
 
+        return MyReviewPaginationDto.builder()
+                .myReviews(toMyReviewResponseDtos(reviews))
+                .hasNext(reviewPage.hasNext())
+                .totalElements(reviewPage.getTotalElements())
+                .build();
+    }
+
+    // 내가 쓴 리뷰 조회 (커서 기반, COUNT 쿼리 없음)
+    @Transactional
+    public CursorPageDto<MyReviewResponseDto> getMyReviewsByCursor(Long customerId, String cursor, int size) {
+        if (!customerRepository.existsById(customerId)) {
+            throw new IllegalArgumentException("존재하지 않는 고객입니다.");
+        }
+        CursorToken cursorToken = CursorToken.decode(cursor);
+        int pageSize = CursorPageDto.clampSize(size);
+
+        List<Review> reviews = reviewRepository.findAllByCustomerIdBeforeCursor(customerId,
+                cursorToken.getCreatedAt(), cursorToken.getId(), PageRequest.of(0, pageSize + 1));
+
+        return CursorPageDto.of(reviews, pageSize, Review::getCreatedAt, Review::getId, this::toMyReviewResponseDtos);
+    }
+
+    private List<MyReviewResponseDto> toMyReviewResponseDtos(List<Review> reviews) {
+        if (reviews.isEmpty()) {
+            return new ArrayList<>();
+        }
+
         // 리뷰 ID 목록 추출
         List<Long> reviewIds = reviews.stream()
                 .map(Review::getId)
@@ -329,12 +401,7 @@ public class ReviewService {
 
             myReviewResponseDtos.add(reviewDto);
         }
-
-        return MyReviewPaginationDto.builder()
-                .myReviews(myReviewResponseDtos)
-                .hasNext(reviewPage.hasNext())
-                .totalElements(reviewPage.getTotalElements())
-                .build();
+        return myReviewResponseDtos;
     }
 
 
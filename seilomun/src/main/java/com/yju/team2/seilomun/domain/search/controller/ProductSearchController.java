@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -41,13 +42,29 @@ public class ProductSearchController {
                 keyword, categoryId, filterType, sortType, page, size);
 
         // ProductDocument를 ProductSearchDto로 변환하면서 status 필터링
-        List<ProductSearchDto> dtoList = results.getContent().stream()
+        List<ProductDocument> onSale = results.getContent().stream()
                 .filter(productDocument -> {
                     Character status = productDocument.getStatus().charAt(0);
                     return '1' == status || 'T' == status;
                 })
+                .collect(Collectors.toList());
+
+        // 할인 정보는 문서에 들어 있는 값을 그대로 사용
+        // 할인 필드가 생기기 전에 색인된 문서만 (다음 재인덱싱 전까지) 페이지 단위로 한 번에 조회
+        List<Long> missingDiscounts = onSale.stream()
+                .filter(productDocument -> productDocument.getDiscountRate() == null)
+                .map(productDocument -> Long.valueOf(productDocument.getId()))
+                .collect(Collectors.toList());
+        Map<Long, DiscountInfo> discountInfos = missingDiscounts.isEmpty()
+                ? Map.of()
+                : productDiscountService.getDiscountInfos(missingDiscounts);
+
+        List<ProductSearchDto> dtoList = onSale.stream()
                 .map(productDocument -> {
-                    DiscountInfo discountInfo = productDiscountService.getDiscountInfo(Long.valueOf(productDocument.getId()));
+                    if (productDocument.getDiscountRate() != null) {
+                        return new ProductSearchDto(productDocument, productDocument.getDiscountRate(), productDocument.getDiscountedPrice());
+                    }
+                    DiscountInfo discountInfo = discountInfos.get(Long.valueOf(productDocument.getId()));
                     return new ProductSearchDto(productDocument, discountInfo.getDiscountRate(), discountInfo.getDiscountedPrice());
                 })
                 .collect(Collectors.toList());
@@ -1,7 +1,6 @@
 package com.yju.team2.seilomun.domain.search.service;
 
 import com.yju.team2.seilomun.domain.product.entity.ProductDocument;
-import com.yju.team2.seilomun.domain.product.service.ProductDiscountService;
 import com.yju.team2.seilomun.domain.search.enums.ProductFilterType;
 import com.yju.team2.seilomun.domain.search.enums.ProductSortType;
 import com.yju.team2.seilomun.domain.search.repository.ProductSearchRepository;
@@ -11,9 +10,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.ScriptType;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 // 1. ProductSearchRepository에 상태 필터 추가된 메서드들
 @Service
@@ -21,9 +29,14 @@ import java.time.LocalDateTime;
 @Slf4j
 public class ProductSearchService {
 
+    // ProductDocument의 indexName, 실제 인덱스(products_v{n})를 가리키는 별칭
+    public static final String INDEX_ALIAS = "products";
+
+    private static final String SELLER_RATING_SCRIPT = "ctx._source.averageRating = params.rating";
+
     private final ProductSearchRepository productSearchRepository;
     private final ElasticsearchOperations elasticsearchOperations;
-    private final ProductDiscountService productDiscountService;
+    private final SearchIndexRebuilder searchIndexRebuilder;
 
     // 키워드 + 카테고리 + 필터링 + 정렬 + 페이징
     public Page<ProductDocument> searchProducts(String keyword, Long categoryId,
@@ -136,14 +149,79 @@ public class ProductSearchService {
         }
     }
 
-    // 상품 정보를 Elasticsearch에 인덱싱
+    // 상품 정보를 Elasticsearch에 인덱싱 (재생성 중이면 새 인덱스에도)
     public void indexProductDocument(ProductDocument productDocument) {
-        productSearchRepository.save(productDocument);
+        for (IndexCoordinates index : searchIndexRebuilder.writeTargets(INDEX_ALIAS, List.of(productDocument.getId()))) {
+            elasticsearchOperations.save(productDocument, index);
+        }
+    }
+
+    // 여러 상품 문서 전체 색인 (bulk 요청 한 번)
+    public void indexProductDocuments(List<ProductDocument> productDocuments) {
+        if (productDocuments.isEmpty()) {
+            return;
+        }
+        for (IndexCoordinates index : searchIndexRebuilder.writeTargets(INDEX_ALIAS, documentIds(productDocuments))) {
+            elasticsearchOperations.save(productDocuments, index);
+        }
+    }
+
+    // 재고/상태/가격/할인만 부분 업데이트 (bulk 요청 한 번), 인덱스에 없는 상품은 전체 문서로 생성
+    public void updateSaleFields(List<ProductDocument> productDocuments) {
+        if (productDocuments.isEmpty()) {
+            return;
+        }
+        List<UpdateQuery> updateQueries = productDocuments.stream()
+                .map(productDocument -> UpdateQuery.builder(productDocument.getId())
+                        .withDocument(Document.create()
+                                .append("stockQuantity", productDocument.getStockQuantity())
+                                .append("status", productDocument.getStatus())
+                                .append("originalPrice", productDocument.getOriginalPrice())
+                                .append("discountRate", productDocument.getDiscountRate())
+                                .append("discountedPrice", productDocument.getDiscountedPrice()))
+                        .withUpsert(elasticsearchOperations.getElasticsearchConverter().mapObject(productDocument))
+                        .build())
+                .toList();
+        for (IndexCoordinates index : searchIndexRebuilder.writeTargets(INDEX_ALIAS, documentIds(productDocuments))) {
+            elasticsearchOperations.bulkUpdate(updateQueries, index);
+        }
     }
 
-    // 상품 정보를 Elasticsearch에서 삭제
+    // 판매자 별점을 그 판매자의 상품 문서 전체에 반영 (update by query 한 번, 문서를 읽어오지 않고 스크립트로 필드만 변경)
+    // 동시에 다른 변경과 부딪힌 문서는 건너뛰고 다음 재인덱싱에서 맞춰짐
+    public void updateSellerRating(Long sellerId, Float rating) {
+        UpdateQuery updateQuery = UpdateQuery.builder(new CriteriaQuery(new Criteria("sellerId").is(sellerId)))
+                .withScriptType(ScriptType.INLINE)
+                .withLang("painless")
+                .withScript(SELLER_RATING_SCRIPT)
+                .withParams(Map.of("rating", rating == null ? 0.0 : Double.parseDouble(rating.toString())))
+                .withAbortOnVersionConflict(false)
+                .build();
+        for (IndexCoordinates index : searchIndexRebuilder.writeTargets(INDEX_ALIAS)) {
+            ByQueryResponse response = elasticsearchOperations.updateByQuery(updateQuery, index);
+            if (response.getVersionConflicts() > 0) {
+                log.warn("판매자 별점 반영 중 충돌로 건너뛴 상품 문서: sellerId={}, index={}, conflicts={}",
+                        sellerId, index.getIndexName(), response.getVersionConflicts());
+            }
+        }
+    }
+
+    // 여러 상품 문서 삭제, 인덱스에 없는 문서는 무시됨
+    public void deleteProductDocuments(List<String> productIds) {
+        for (String productId : productIds) {
+            deleteProductDocument(productId);
+        }
+    }
+
+    // 상품 정보를 Elasticsearch에서 삭제 (재생성 중이면 새 인덱스에서도)
     public void deleteProductDocument(String productId) {
-        productSearchRepository.deleteById(productId);
+        for (IndexCoordinates index : searchIndexRebuilder.writeTargets(INDEX_ALIAS, List.of(productId))) {
+            elasticsearchOperations.delete(productId, index);
+        }
+    }
+
+    private static List<String> documentIds(List<ProductDocument> productDocuments) {
+        return productDocuments.stream().map(ProductDocument::getId).toList();
     }
 
     // 정렬 조건 생성 메서드
@@ -155,10 +233,11 @@ public class ProductSearchService {
                 return Sort.by(Sort.Direction.DESC, "averageRating");
             case LOWEST_RATING:
                 return Sort.by(Sort.Direction.ASC, "averageRating");
+            // 가격 정렬은 실제 결제 금액인 할인가 기준
             case HIGHEST_PRICE:
-                return Sort.by(Sort.Direction.DESC, "originalPrice");
+                return Sort.by(Sort.Direction.DESC, "discountedPrice");
             case LOWEST_PRICE:
-                return Sort.by(Sort.Direction.ASC, "originalPrice");
+                return Sort.by(Sort.Direction.ASC, "discountedPrice");
             case EXPIRING:
                 return Sort.by(Sort.Direction.ASC, "expiryDate");
             default:
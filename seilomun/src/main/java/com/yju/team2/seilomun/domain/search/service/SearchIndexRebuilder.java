@@ -0,0 +1,238 @@
+package com.yju.team2.seilomun.domain.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * 검색 인덱스 전체 재생성 (무중단 별칭 교체)
+ * - 서비스는 별칭(products, sellers)으로만 읽고 쓰고, 실제 인덱스는 products_v{n}처럼 버전을 붙여 새로 만든다.
+ * - DB는 ID 순서로 청크 단위로 읽고 (엔티티를 한꺼번에 메모리에 올리지 않음), 청크마다 bulk 요청 한 번으로 쓴다.
+ * - bulk 요청은 최대 BULK_PARALLELISM개까지만 동시에 보내고, 그보다 앞서 나가면 DB 읽기가 멈춰서 기다린다.
+ * - 다 쓰고 나면 별칭을 새 인덱스로 한 번에 옮기고, 직전 버전 하나만 롤백용으로 남긴다.
+ * - 재생성 중에 들어온 개별 변경은 writeTargets()로 새 인덱스에도 함께 써서 교체 후에 빠지지 않게 한다.
+ *   변경보다 먼저 읽힌 청크가 나중에 써지면 새 인덱스에 이전 값이 남거나 삭제된 문서가 되살아나므로,
+ *   변경된 문서 ID를 기록해 두었다가 적재가 끝난 뒤 교체 전에 DB에서 다시 읽어 덮어쓴다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexRebuilder {
+
+    private static final String BUILDING_KEY = "search:index:building:";
+    // 재생성 중에 개별 변경이 있었던 문서 ID (새 인덱스 이름별 SET)
+    private static final String CHANGED_KEY = "search:index:changed:";
+    private static final int REPLAY_BATCH_SIZE = 1000;
+    private static final Duration BUILDING_TTL = Duration.ofHours(3);
+    private static final int BULK_PARALLELISM = 3;
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchClient elasticsearchClient;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 청크 로더가 돌려주는 한 번 분량, documents가 비면 끝
+    public record Chunk<T>(List<T> documents, Long lastId) {
+    }
+
+    /**
+     * 새 버전 인덱스를 만들어 chunkLoader가 주는 문서를 모두 넣고 별칭을 교체, 넣은 문서 수를 반환
+     * chunkLoader는 직전 청크의 마지막 ID를 받아 그 다음 청크를 돌려준다 (첫 호출은 0)
+     * documentLoader는 ID 목록 중 색인해야 하는 문서만 돌려준다 (빠진 ID는 새 인덱스에서 삭제)
+     * 실패하면 새 인덱스를 지우고 별칭은 그대로 둔다.
+     */
+    public <T> int rebuild(String alias, Class<T> documentClass, LongFunction<Chunk<T>> chunkLoader,
+                           Function<List<Long>, Map<Long, T>> documentLoader) {
+        String indexName = nextIndexName(alias);
+        IndexOperations aliasOps = elasticsearchOperations.indexOps(documentClass);
+        IndexOperations indexOps = elasticsearchOperations.indexOps(IndexCoordinates.of(indexName));
+
+        // 적재 중에는 refresh를 끄고 끝난 뒤에 한 번만
+        Settings settings = aliasOps.createSettings(documentClass);
+        settings.put("index.refresh_interval", "-1");
+        Document mapping = aliasOps.createMapping(documentClass);
+        indexOps.create(settings, mapping);
+        redisTemplate.opsForValue().set(BUILDING_KEY + alias, indexName, BUILDING_TTL);
+        log.info("검색 인덱스 재생성 시작: alias={}, index={}", alias, indexName);
+
+        try {
+            int indexed = bulkLoad(IndexCoordinates.of(indexName), chunkLoader);
+            replayChanges(indexName, documentLoader);
+            elasticsearchClient.indices().putSettings(request -> request
+                    .index(indexName)
+                    .settings(indexSettings -> indexSettings.refreshInterval(time -> time.time("1s"))));
+            indexOps.refresh();
+            swapAlias(alias, indexName);
+            log.info("검색 인덱스 재생성 완료: alias={}, index={}, documents={}", alias, indexName, indexed);
+            return indexed;
+        } catch (Exception e) {
+            indexOps.delete();
+            throw new IllegalStateException("검색 인덱스 재생성 실패: " + alias, e);
+        } finally {
+            redisTemplate.delete(BUILDING_KEY + alias);
+            redisTemplate.delete(CHANGED_KEY + indexName);
+        }
+    }
+
+    // 개별 문서 변경을 쓸 인덱스 (별칭, 재생성 중이면 새 인덱스도), 재생성 중이면 변경한 문서 ID를 기록
+    public List<IndexCoordinates> writeTargets(String alias, Collection<String> documentIds) {
+        String building = redisTemplate.opsForValue().get(BUILDING_KEY + alias);
+        if (building == null) {
+            return List.of(IndexCoordinates.of(alias));
+        }
+        if (!documentIds.isEmpty()) {
+            String changedKey = CHANGED_KEY + building;
+            redisTemplate.opsForSet().add(changedKey, documentIds.toArray(String[]::new));
+            redisTemplate.expire(changedKey, BUILDING_TTL);
+        }
+        return List.of(IndexCoordinates.of(alias), IndexCoordinates.of(building));
+    }
+
+    // 문서 ID를 특정할 수 없는 변경(update by query)용, 적재 중 충돌한 문서는 다음 재생성에서 맞춰짐
+    public List<IndexCoordinates> writeTargets(String alias) {
+        return writeTargets(alias, List.of());
+    }
+
+    private <T> int bulkLoad(IndexCoordinates index, LongFunction<Chunk<T>> chunkLoader) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(BULK_PARALLELISM);
+        Semaphore inFlight = new Semaphore(BULK_PARALLELISM);
+        AtomicInteger indexed = new AtomicInteger();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        try {
+            long lastId = 0;
+            while (failure.get() == null) {
+                Chunk<T> chunk = chunkLoader.apply(lastId);
+                if (chunk.documents().isEmpty()) {
+                    break;
+                }
+                lastId = chunk.lastId();
+
+                inFlight.acquire();
+                executor.execute(() -> {
+                    try {
+                        elasticsearchOperations.save(chunk.documents(), index);
+                        indexed.addAndGet(chunk.documents().size());
+                    } catch (Exception e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            // 남은 bulk 요청이 모두 끝날 때까지 대기
+            inFlight.acquire(BULK_PARALLELISM);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return indexed.get();
+    }
+
+    // 적재 중에 개별 변경이 있었던 문서를 DB에서 다시 읽어 새 인덱스에 덮어씀, 다시 쓴 문서 수를 반환
+    // 모든 청크를 쓴 뒤라서 이후의 개별 변경은 더 이상 이전 청크에 덮이지 않음
+    private <T> int replayChanges(String indexName, Function<List<Long>, Map<Long, T>> documentLoader) {
+        Set<String> changed = redisTemplate.opsForSet().members(CHANGED_KEY + indexName);
+        if (changed == null || changed.isEmpty()) {
+            return 0;
+        }
+
+        IndexCoordinates index = IndexCoordinates.of(indexName);
+        List<Long> ids = changed.stream().map(Long::valueOf).sorted().toList();
+        for (int from = 0; from < ids.size(); from += REPLAY_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(ids.size(), from + REPLAY_BATCH_SIZE));
+            Map<Long, T> documents = documentLoader.apply(batch);
+            if (!documents.isEmpty()) {
+                elasticsearchOperations.save(documents.values(), index);
+            }
+            for (Long id : batch) {
+                if (!documents.containsKey(id)) {
+                    elasticsearchOperations.delete(id.toString(), index);
+                }
+            }
+        }
+        log.info("재생성 중 변경된 문서 다시 반영: index={}, documents={}", indexName, ids.size());
+        return ids.size();
+    }
+
+    // 별칭을 새 인덱스로 원자적으로 옮기고 직전 버전 하나만 남김
+    private void swapAlias(String alias, String indexName) {
+        IndexOperations aliasOps = elasticsearchOperations.indexOps(IndexCoordinates.of(alias));
+        Set<String> current = aliasedIndices(alias);
+
+        List<AliasAction> actions = new ArrayList<>();
+        if (current.isEmpty() && aliasOps.exists()) {
+            // 별칭 도입 전에 자동 생성된 같은 이름의 인덱스는 교체와 함께 삭제
+            actions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder().withIndices(alias).build()));
+        } else if (!current.isEmpty()) {
+            actions.add(new AliasAction.Remove(AliasActionParameters.builder()
+                    .withIndices(current.toArray(String[]::new))
+                    .withAliases(alias)
+                    .build()));
+        }
+        actions.add(new AliasAction.Add(AliasActionParameters.builder()
+                .withIndices(indexName)
+                .withAliases(alias)
+                .withIsWriteIndex(true)
+                .build()));
+        aliasOps.alias(new AliasActions(actions.toArray(AliasAction[]::new)));
+
+        for (String old : versionedIndices(alias)) {
+            if (!old.equals(indexName) && !current.contains(old)) {
+                elasticsearchOperations.indexOps(IndexCoordinates.of(old)).delete();
+                log.info("이전 검색 인덱스 삭제: {}", old);
+            }
+        }
+    }
+
+    private String nextIndexName(String alias) {
+        int version = versionedIndices(alias).stream()
+                .mapToInt(name -> Integer.parseInt(name.substring((alias + "_v").length())))
+                .max()
+                .orElse(0);
+        return alias + "_v" + (version + 1);
+    }
+
+    // alias_v{n} 형태의 인덱스 이름
+    private List<String> versionedIndices(String alias) {
+        try {
+            return elasticsearchClient.indices().get(request -> request.index(alias + "_v*"))
+                    .result().keySet().stream()
+                    .filter(name -> name.substring(alias.length()).matches("_v\\d+"))
+                    .toList();
+        } catch (Exception e) {
+            throw new IllegalStateException("검색 인덱스 목록 조회 실패: " + alias, e);
+        }
+    }
+
+    // 현재 별칭이 가리키는 인덱스, 별칭이 없으면 빈 값
+    private Set<String> aliasedIndices(String alias) {
+        try {
+            return new HashSet<>(elasticsearchOperations.indexOps(IndexCoordinates.of(alias))
+                    .getAliases(alias).keySet());
+        } catch (Exception e) {
+            return Set.of();
+        }
+    }
+}
@@ -27,8 +27,12 @@ import java.util.stream.Collectors;
 @Slf4j
 public class SellerSearchService {
 
+    // SellerDocument의 indexName, 실제 인덱스(sellers_v{n})를 가리키는 별칭
+    public static final String INDEX_ALIAS = "sellers";
+
     private final SellerSearchRepository sellerSearchRepository;
     private final ElasticsearchOperations elasticsearchOperations;
+    private final SearchIndexRebuilder searchIndexRebuilder;
 
     // 가게 검색 기능
     public Page<SellerDocument> searchSellers(String keyword, String category, Boolean deliveryOnly,
@@ -46,14 +50,18 @@ public class SellerSearchService {
         return result;
     }
 
-    // 가게 정보를 Elasticsearch에 인덱싱
+    // 가게 정보를 Elasticsearch에 인덱싱 (재생성 중이면 새 인덱스에도)
     public void indexSellerDocument(SellerDocument sellerDocument) {
-        sellerSearchRepository.save(sellerDocument);
+        for (IndexCoordinates index : searchIndexRebuilder.writeTargets(INDEX_ALIAS, List.of(sellerDocument.getId()))) {
+            elasticsearchOperations.save(sellerDocument, index);
+        }
     }
 
-    // 가게 정보를 Elasticsearch에서 삭제
+    // 가게 정보를 Elasticsearch에서 삭제 (재생성 중이면 새 인덱스에서도)
     public void deleteSellerDocument(String sellerId) {
-        sellerSearchRepository.deleteById(sellerId);
+        for (IndexCoordinates index : searchIndexRebuilder.writeTargets(INDEX_ALIAS, List.of(sellerId))) {
+            elasticsearchOperations.delete(sellerId, index);
+        }
     }
 
     // 정렬 조건 생성 메서드
@@ -3,9 +3,12 @@ package com.yju.team2.seilomun.domain.seller.controller;
 import com.yju.team2.seilomun.common.ApiResponseJson;
 import com.yju.team2.seilomun.domain.auth.JwtUserDetails;
 import com.yju.team2.seilomun.domain.customer.entity.Customer;
+import com.yju.team2.seilomun.domain.order.enums.ExportFormat;
+import com.yju.team2.seilomun.domain.order.service.OrderExportService;
 import com.yju.team2.seilomun.domain.seller.dto.*;
 import com.yju.team2.seilomun.domain.seller.entity.Seller;
 import com.yju.team2.seilomun.domain.seller.service.SellerService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +18,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -25,6 +29,7 @@ import java.util.Map;
 public class SellerController {
 
     private final SellerService sellerService;
+    private final OrderExportService orderExportService;
 
     // valid 어노테이션은 유효성 검사
     // 회원가입
@@ -154,6 +159,33 @@ public class SellerController {
         )));
     }
 
+    // 판매자용 주문 목록 커서 기반 조회 (cursor가 없으면 첫 페이지)
+    @GetMapping("/orders/cursor")
+    public ResponseEntity<ApiResponseJson> getOrdersByCursor(
+            @AuthenticationPrincipal JwtUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(new ApiResponseJson(HttpStatus.OK, Map.of(
+                "orders", sellerService.getOrderListByCursor(userDetails.getId(), cursor, size),
+                "message", "주문 목록 조회가 완료되었습니다."
+        )));
+    }
+
+    // 판매자 전체 주문 이력 내보내기 (format: csv, ndjson)
+    @GetMapping("/orders/export")
+    public void exportOrders(
+            @AuthenticationPrincipal JwtUserDetails userDetails,
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("orders." + exportFormat.getExtension())
+                .build()
+                .toString());
+        orderExportService.exportSellerOrders(userDetails.getId(), exportFormat, response.getOutputStream());
+    }
+
     // 판매자용 환불 상세 페이지
     @GetMapping("/refunds/{refundId}")
     public ResponseEntity<ApiResponseJson> getRefundDetails(
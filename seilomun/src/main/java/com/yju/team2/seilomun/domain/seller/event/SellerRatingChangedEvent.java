@@ -0,0 +1,12 @@
+package com.yju.team2.seilomun.domain.seller.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 리뷰 작성/삭제로 판매자 별점이 다시 계산되었을 때 발행 (커밋 후 상품 검색 문서의 별점 갱신)
+@Getter
+@AllArgsConstructor
+public class SellerRatingChangedEvent {
+    private Long sellerId;
+    private Float rating;
+}
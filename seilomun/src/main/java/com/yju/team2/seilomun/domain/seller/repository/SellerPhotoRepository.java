@@ -3,11 +3,21 @@ package com.yju.team2.seilomun.domain.seller.repository;
 import com.yju.team2.seilomun.domain.seller.entity.Seller;
 import com.yju.team2.seilomun.domain.seller.entity.SellerPhoto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface SellerPhotoRepository extends JpaRepository<SellerPhoto, Long> {
     long countBySeller(Seller seller);
 
     Optional<SellerPhoto> findTopBySellerOrderById(Seller seller);
+
+    // 판매자별 첫 번째 사진 URL [판매자 ID, 사진 URL]
+    @Query("SELECT sp.seller.id, sp.photoUrl FROM SellerPhoto sp " +
+            "WHERE sp.id IN (SELECT MIN(s2.id) FROM SellerPhoto s2 " +
+            "WHERE s2.seller.id IN :sellerIds GROUP BY s2.seller.id)")
+    List<Object[]> findFirstPhotoUrlsBySellerIdIn(@Param("sellerIds") Collection<Long> sellerIds);
 }
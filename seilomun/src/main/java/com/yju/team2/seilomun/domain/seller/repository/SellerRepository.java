@@ -2,8 +2,13 @@ package com.yju.team2.seilomun.domain.seller.repository;
 
 import com.yju.team2.seilomun.domain.product.entity.Product;
 import com.yju.team2.seilomun.domain.seller.entity.Seller;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface SellerRepository extends JpaRepository<Seller, Long> {
@@ -13,4 +18,26 @@ public interface SellerRepository extends JpaRepository<Seller, Long> {
     Optional<Seller> findByEmail(String email);
 
     Optional<Seller> findByProducts(Product findedProduct);
+
+    // 검색 인덱스 재생성용, lastId 다음부터 ID 순서로 limit개 (카테고리 함께 조회)
+    @Query("SELECT s FROM Seller s LEFT JOIN FETCH s.sellerCategory " +
+            "WHERE s.id > :lastId AND s.status = :status ORDER BY s.id")
+    List<Seller> findIndexChunkAfter(@Param("lastId") Long lastId, @Param("status") Character status, Limit limit);
+
+    // 검색 인덱스 재생성 중에 바뀐 가게 (카테고리 함께 조회)
+    @Query("SELECT s FROM Seller s LEFT JOIN FETCH s.sellerCategory " +
+            "WHERE s.id IN :sellerIds AND s.status = :status")
+    List<Seller> findIndexDocumentsByIdIn(@Param("sellerIds") Collection<Long> sellerIds, @Param("status") Character status);
+
+    // 상품 상세/매장 목록의 가게 정보 (카테고리, 배달비 함께 조회)
+    // 사진 컬렉션은 List끼리 한 쿼리에서 함께 fetch join할 수 없어서 아래 두 쿼리로 같은 엔티티에 채움
+    @Query("SELECT DISTINCT s FROM Seller s LEFT JOIN FETCH s.sellerCategory LEFT JOIN FETCH s.deliveryFees " +
+            "WHERE s.id IN :sellerIds")
+    List<Seller> findStoreInfosByIdIn(@Param("sellerIds") Collection<Long> sellerIds);
+
+    @Query("SELECT DISTINCT s FROM Seller s LEFT JOIN FETCH s.sellerPhotos WHERE s IN :sellers")
+    List<Seller> fetchSellerPhotos(@Param("sellers") Collection<Seller> sellers);
+
+    @Query("SELECT DISTINCT s FROM Seller s LEFT JOIN FETCH s.notificationPhotos WHERE s IN :sellers")
+    List<Seller> fetchNotificationPhotos(@Param("sellers") Collection<Seller> sellers);
 }
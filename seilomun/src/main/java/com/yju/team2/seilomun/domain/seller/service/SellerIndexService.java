@@ -1,6 +1,8 @@
 package com.yju.team2.seilomun.domain.seller.service;
 
+import com.yju.team2.seilomun.common.job.ClusterJobRunner;
 import com.yju.team2.seilomun.domain.product.entity.ProductPhoto;
+import com.yju.team2.seilomun.domain.search.service.SearchIndexRebuilder;
 import com.yju.team2.seilomun.domain.search.service.SellerSearchService;
 import com.yju.team2.seilomun.domain.seller.entity.Seller;
 import com.yju.team2.seilomun.domain.seller.entity.SellerDocument;
@@ -9,11 +11,15 @@ import com.yju.team2.seilomun.domain.seller.repository.SellerPhotoRepository;
 import com.yju.team2.seilomun.domain.seller.repository.SellerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -21,9 +27,15 @@ import java.util.Optional;
 @Slf4j
 public class SellerIndexService {
 
+    private static final int REINDEX_CHUNK_SIZE = 500;
+    private static final Duration REINDEX_LOCK_AT_MOST = Duration.ofHours(1);
+    private static final Duration REINDEX_LOCK_AT_LEAST = Duration.ofMinutes(5);
+
     private final SellerRepository sellerRepository;
     private final SellerSearchService sellerSearchService;
     private final SellerPhotoRepository sellerPhotoRepository;
+    private final ClusterJobRunner clusterJobRunner;
+    private final SearchIndexRebuilder searchIndexRebuilder;
 
     // 새로운 가게 정보를 인덱싱
     @Transactional(readOnly = true)
@@ -53,27 +65,37 @@ public class SellerIndexService {
         }
     }
 
-    // 매일 새벽 2시에 모든 가게 정보 인덱스 업데이트
+    /**
+     * 매일 새벽 2시에 정상 가게 전체로 새 인덱스를 만들어 별칭 교체 (여러 서버 중 한 곳에서만)
+     */
     @Scheduled(cron = "0 0 2 * * ?")
-    @Transactional(readOnly = true)
     public void reindexAllSellers() {
         log.info("모든 가게 정보 재인덱싱 작업 시작");
         try {
-            List<Seller> allSellers = sellerRepository.findAll();
-            int count = 0;
-
-            for (Seller seller : allSellers) {
-                // 상태가 정상인 가게만 인덱싱
-                if (seller.getStatus() == '1') {
-                    SellerDocument sellerDocument = SellerDocument.from(seller);
-                    sellerSearchService.indexSellerDocument(sellerDocument);
-                    count++;
-                }
-            }
-
-            log.info("모든 가게 정보 재인덱싱 완료: 총 {}개 처리됨", count);
+            clusterJobRunner.runExclusive("seller-reindex", REINDEX_LOCK_AT_MOST, REINDEX_LOCK_AT_LEAST,
+                    () -> searchIndexRebuilder.rebuild(SellerSearchService.INDEX_ALIAS, SellerDocument.class,
+                            this::loadChunk, this::loadDocuments));
         } catch (Exception e) {
             log.error("가게 정보 재인덱싱 중 오류 발생: {}", e.getMessage(), e);
         }
     }
+
+    // lastId 다음 청크의 상태가 정상인 가게
+    private SearchIndexRebuilder.Chunk<SellerDocument> loadChunk(long lastId) {
+        List<Seller> sellers = sellerRepository.findIndexChunkAfter(lastId, '1', Limit.of(REINDEX_CHUNK_SIZE));
+        if (sellers.isEmpty()) {
+            return new SearchIndexRebuilder.Chunk<>(List.of(), lastId);
+        }
+        List<SellerDocument> documents = sellers.stream().map(SellerDocument::from).toList();
+        return new SearchIndexRebuilder.Chunk<>(documents, sellers.get(sellers.size() - 1).getId());
+    }
+
+    // 재생성 중에 바뀐 가게의 현재 문서, 정상 상태가 아니거나 삭제된 가게는 빠짐
+    private Map<Long, SellerDocument> loadDocuments(List<Long> sellerIds) {
+        Map<Long, SellerDocument> documents = new LinkedHashMap<>();
+        for (Seller seller : sellerRepository.findIndexDocumentsByIdIn(sellerIds, '1')) {
+            documents.put(seller.getId(), SellerDocument.from(seller));
+        }
+        return documents;
+    }
 }
@@ -1,18 +1,17 @@
 package com.yju.team2.seilomun.domain.seller.service;
 
+import com.yju.team2.seilomun.common.CursorPageDto;
+import com.yju.team2.seilomun.common.CursorToken;
 import com.yju.team2.seilomun.domain.auth.service.RefreshTokenService;
 import com.yju.team2.seilomun.domain.customer.entity.Customer;
 import com.yju.team2.seilomun.domain.notification.entity.NotificationPhoto;
 import com.yju.team2.seilomun.domain.notification.repository.NotificationPhotoRepositry;
 import com.yju.team2.seilomun.domain.order.dto.OrderItemDto;
+import com.yju.team2.seilomun.domain.order.dto.OrderReadModel;
 import com.yju.team2.seilomun.domain.order.entity.*;
-import com.yju.team2.seilomun.domain.order.repository.OrderItemRepository;
 import com.yju.team2.seilomun.domain.order.repository.OrderRepository;
-import com.yju.team2.seilomun.domain.order.repository.PaymentRepository;
 import com.yju.team2.seilomun.domain.order.repository.RefundRepository;
-import com.yju.team2.seilomun.domain.product.entity.Product;
-import com.yju.team2.seilomun.domain.product.entity.ProductPhoto;
-import com.yju.team2.seilomun.domain.product.repository.ProductPhotoRepository;
+import com.yju.team2.seilomun.domain.order.service.OrderReadModelAssembler;
 import com.yju.team2.seilomun.domain.seller.dto.*;
 import com.yju.team2.seilomun.domain.seller.entity.DeliveryFee;
 import com.yju.team2.seilomun.domain.seller.entity.SellerCategoryEntity;
@@ -58,11 +57,9 @@ public class SellerService {
     private final SellerIndexService sellerIndexService;
     private final AWSS3UploadService awsS3UploadService;
     private final OrderRepository orderRepository;
-    private final OrderItemRepository orderItemRepository;
-    private final ProductPhotoRepository productPhotoRepository;
-    private final PaymentRepository paymentRepository;
     private final RefundRepository refundRepository;
     private final NotificationPhotoRepositry notificationPhotoRepositry;
+    private final OrderReadModelAssembler orderReadModelAssembler;
 
     // 판매자 가입
     public Seller sellerRegister(SellerRegisterDto sellerRegisterDto) {
@@ -317,35 +314,10 @@ public class SellerService {
 
     // 공통 응답 생성 로직 (기존 getOrderDetail 메서드에서 분리)
     private SellerOrderDetailResponseDto buildOrderDetailResponse(Order order) {
-        // 주문 아이템 조회
-        List<OrderItem> orderItems = orderItemRepository.findByOrder(order);
-
-        // 주문 아이템 DTO 생성
-        List<OrderItemDto> orderItemDtos = new ArrayList<>();
-        for (OrderItem item : orderItems) {
-            Product product = item.getProduct();
-            String photoUrl = null;
-            List<ProductPhoto> photos = productPhotoRepository.findByProduct(product);
-
-            if (!photos.isEmpty()) {
-                photoUrl = photos.get(0).getPhotoUrl();
-            }
-
-            OrderItemDto dto = OrderItemDto.builder()
-                    .productName(product.getName())
-                    .expiryDate(product.getExpiryDate())
-                    .quantity(item.getQuantity())
-                    .unitPrice(item.getUnitPrice())
-                    .discountRate(item.getDiscountRate())
-                    .photoUrl(photoUrl)
-                    .build();
-            orderItemDtos.add(dto);
-        }
-
-        // 결제 정보 조회
-        Optional<Payment> paymentOpt = paymentRepository.findByOrder(order);
-        String paymentStatus = paymentOpt.map(payment ->
-                payment.isPaySuccessYN() ? "결제완료" : "결제실패").orElse("결제정보없음");
+        // 주문 아이템, 상품 사진, 결제 정보를 아이템 수와 상관없이 한 번에 조회
+        OrderReadModel readModel = orderReadModelAssembler.assemble(List.of(order));
+        List<OrderItemDto> orderItemDtos = readModel.getOrderItemDtos(order);
+        String paymentStatus = readModel.getPaymentStatus(order);
 
         return SellerOrderDetailResponseDto.builder()
                 .orderId(order.getId())
@@ -374,36 +346,12 @@ public class SellerService {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         Page<Order> orderPage = orderRepository.findBySellerIdWithPagination(sellerId, pageable);
 
+        // 아이템/대표 사진은 페이지 단위로 한 번에 조회
+        OrderReadModel readModel = orderReadModelAssembler.assemble(orderPage.getContent());
         List<SellerOrderListResponseDto> orderListDtos = new ArrayList<>();
 
         for (Order order : orderPage.getContent()) {
-            // 주문 상품명들 조회
-            List<OrderItem> orderItems = orderItemRepository.findByOrder(order);
-            List<String> productNames = orderItems.stream()
-                    .map(item -> item.getProduct().getName())
-                    .collect(Collectors.toList());
-
-            // 대표 상품 사진 URL
-            String photoUrl = null;
-            if (!orderItems.isEmpty()) {
-                Product firstProduct = orderItems.get(0).getProduct();
-                Optional<ProductPhoto> firstPhoto = productPhotoRepository.findTopByProductOrderById(firstProduct);
-                photoUrl = firstPhoto.map(ProductPhoto::getPhotoUrl).orElse(null);
-            }
-
-            SellerOrderListResponseDto dto = SellerOrderListResponseDto.builder()
-                    .orderId(order.getId())
-                    .orderNumber(order.getOrderNumber())
-                    .customerName(order.getCustomer().getName())
-                    .totalAmount(order.getTotalAmount())
-                    .orderDate(order.getCreatedAt())
-                    .orderItems(productNames)
-                    .photoUrl(photoUrl)
-                    .orderStatus(order.getOrderStatus())
-                    .isDelivery(order.getIsDelivery())
-                    .build();
-
-            orderListDtos.add(dto);
+            orderListDtos.add(toSellerOrderListResponseDto(order, readModel));
         }
 
         return SellerOrderPaginationDto.builder()
@@ -413,6 +361,40 @@ public class SellerService {
                 .build();
     }
 
+    // 판매자용 주문 목록 조회 (커서 기반, 주문이 많은 매장도 일정한 속도로 조회)
+    public CursorPageDto<SellerOrderListResponseDto> getOrderListByCursor(Long sellerId, String cursor, int size) {
+        if (!sellerRepository.existsById(sellerId)) {
+            throw new IllegalArgumentException("존재하지 않는 판매자입니다.");
+        }
+        CursorToken cursorToken = CursorToken.decode(cursor);
+        int pageSize = CursorPageDto.clampSize(size);
+
+        List<Order> orders = orderRepository.findBySellerIdBeforeCursor(sellerId,
+                cursorToken.getCreatedAt(), cursorToken.getId(), PageRequest.of(0, pageSize + 1));
+
+        return CursorPageDto.of(orders, pageSize, Order::getCreatedAt, Order::getId,
+                pageOrders -> {
+                    OrderReadModel readModel = orderReadModelAssembler.assemble(pageOrders);
+                    return pageOrders.stream()
+                            .map(order -> toSellerOrderListResponseDto(order, readModel))
+                            .collect(Collectors.toList());
+                });
+    }
+
+    private SellerOrderListResponseDto toSellerOrderListResponseDto(Order order, OrderReadModel readModel) {
+        return SellerOrderListResponseDto.builder()
+                .orderId(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .customerName(order.getCustomer().getName())
+                .totalAmount(order.getTotalAmount())
+                .orderDate(order.getCreatedAt())
+                .orderItems(readModel.getProductNames(order))
+                .photoUrl(readModel.getFirstProductPhotoUrl(order))
+                .orderStatus(order.getOrderStatus())
+                .isDelivery(order.getIsDelivery())
+                .build();
+    }
+
     // 판매자용 환불 상세 조회
     public SellerRefundDetailResponseDto getRefundDetail(Long sellerId, Long refundId) {
         // 판매자 존재 확인
@@ -440,30 +422,8 @@ public class SellerService {
             throw new IllegalArgumentException("해당 환불 신청에 접근할 권한이 없습니다.");
         }
 
-        // 주문 아이템 조회
-        List<OrderItem> orderItems = orderItemRepository.findByOrder(order);
-
-        // 주문 아이템 DTO 생성
-        List<OrderItemDto> orderItemDtos = new ArrayList<>();
-        for (OrderItem item : orderItems) {
-            Product product = item.getProduct();
-            String photoUrl = null;
-            List<ProductPhoto> photos = productPhotoRepository.findByProduct(product);
-
-            if (!photos.isEmpty()) {
-                photoUrl = photos.get(0).getPhotoUrl();
-            }
-
-            OrderItemDto dto = OrderItemDto.builder()
-                    .productName(product.getName())
-                    .expiryDate(product.getExpiryDate())
-                    .quantity(item.getQuantity())
-                    .unitPrice(item.getUnitPrice())
-                    .discountRate(item.getDiscountRate())
-                    .photoUrl(photoUrl)
-                    .build();
-            orderItemDtos.add(dto);
-        }
+        // 주문 아이템과 상품 사진은 아이템 수와 상관없이 한 번에 조회
+        List<OrderItemDto> orderItemDtos = orderReadModelAssembler.assemble(List.of(order)).getOrderItemDtos(order);
 
         // 환불 사진 URL 목록 조회
         List<String> refundPhotoUrls = refund.getRefundPhoto().stream()
@@ -0,0 +1,32 @@
+package com.yju.team2.seilomun.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorPageDtoTest {
+
+    @Test
+    @DisplayName("페이지 크기는 1 ~ 100개로 제한한다")
+    void clampSize_ShouldLimitToRange() {
+        assertEquals(1, CursorPageDto.clampSize(0));
+        assertEquals(1, CursorPageDto.clampSize(-5));
+        assertEquals(20, CursorPageDto.clampSize(20));
+        assertEquals(CursorPageDto.MAX_PAGE_SIZE, CursorPageDto.clampSize(Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("한 개 더 조회되면 다음 페이지가 있고 마지막 행이 다음 커서가 된다")
+    void of_WithExtraRow_ShouldHaveNext() {
+        CursorPageDto<Long> page = CursorPageDto.of(List.of(3L, 2L, 1L), 2, id -> null, Function.identity(),
+                Function.identity());
+
+        assertTrue(page.isHasNext());
+        assertEquals(List.of(3L, 2L), page.getContent());
+        assertEquals(2L, CursorToken.decode(page.getNextCursor()).getId());
+    }
+}
@@ -0,0 +1,30 @@
+package com.yju.team2.seilomun.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorTokenTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 위치로 돌아온다")
+    void encode_ThenDecode_ShouldRoundTrip() {
+        CursorToken token = new CursorToken(LocalDateTime.of(2025, 5, 1, 12, 30, 15, 123_000_000), 42L);
+
+        CursorToken decoded = CursorToken.decode(token.encode());
+
+        assertEquals(token.getCreatedAt(), decoded.getCreatedAt());
+        assertEquals(42L, decoded.getId());
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지, 잘못된 커서는 예외")
+    void decode_EmptyOrInvalid() {
+        assertSame(CursorToken.first(), CursorToken.decode(null));
+        assertSame(CursorToken.first(), CursorToken.decode(" "));
+        assertThrows(IllegalArgumentException.class, () -> CursorToken.decode("not-a-cursor!"));
+    }
+}
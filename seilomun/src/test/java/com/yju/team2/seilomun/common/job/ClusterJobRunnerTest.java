@@ -0,0 +1,153 @@
+package com.yju.team2.seilomun.common.job;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClusterJobRunnerTest {
+
+    private static final int INSTANCES = 4;
+
+    // 서버 여러 대가 같은 Redis를 보는 상황
+    private final InMemoryJobLeaseStore leaseStore = new InMemoryJobLeaseStore();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<ClusterJobRunner> runners = new ArrayList<>();
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < INSTANCES; i++) {
+            runners.add(new ClusterJobRunner(leaseStore, meterRegistry));
+        }
+        executor = Executors.newFixedThreadPool(INSTANCES);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        runners.forEach(ClusterJobRunner::shutdown);
+    }
+
+    @Test
+    @DisplayName("여러 서버에서 동시에 실행해도 단독 작업은 한 번만 실행된다")
+    void runExclusive_ConcurrentInstances_ShouldRunOnce() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+
+        List<Boolean> results = runConcurrently(runner -> runner.runExclusive("cleanup",
+                Duration.ofSeconds(10), Duration.ofSeconds(5), () -> {
+                    executions.incrementAndGet();
+                    sleep(200);
+                    return 3;
+                }));
+
+        assertEquals(1, executions.get());
+        assertEquals(1, results.stream().filter(Boolean::booleanValue).count());
+        assertEquals(3, meterRegistry.get("job.skipped").tag("job", "cleanup").counter().count());
+        assertEquals(3, meterRegistry.get("job.rows").tag("job", "cleanup").counter().count());
+        assertEquals(1, meterRegistry.get("job.duration").tags("job", "cleanup", "outcome", "success").timer().count());
+        assertNotNull(leaseStore.lastSuccess("cleanup"));
+
+        // lockAtLeastFor 동안은 조금 늦게 깨어난 서버도 다시 실행하지 않음
+        assertFalse(runners.get(0).runExclusive("cleanup", Duration.ofSeconds(10), Duration.ofSeconds(5), () -> 0));
+    }
+
+    @Test
+    @DisplayName("샤드 작업은 여러 서버가 나눠 실행하고 모든 ID를 정확히 한 번씩 처리한다")
+    void runSharded_ConcurrentInstances_ShouldCoverEveryIdOnce() throws Exception {
+        Map<Long, AtomicInteger> processed = new ConcurrentHashMap<>();
+
+        List<Integer> rows = runConcurrently(runner -> runner.runSharded("reindex", new IdRange(1L, 1000L), 8,
+                Duration.ofSeconds(10), Duration.ofSeconds(5), range -> {
+                    for (long id = range.fromId(); id <= range.toId(); id++) {
+                        processed.computeIfAbsent(id, key -> new AtomicInteger()).incrementAndGet();
+                    }
+                    sleep(50);
+                    return (int) (range.toId() - range.fromId() + 1);
+                }));
+
+        assertEquals(1000, processed.size());
+        assertTrue(processed.values().stream().allMatch(count -> count.get() == 1));
+        assertEquals(1000, rows.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(1000, meterRegistry.get("job.rows").tag("job", "reindex").counter().count());
+        assertEquals(8, meterRegistry.get("job.duration").tags("job", "reindex", "outcome", "success").timer().count());
+    }
+
+    @Test
+    @DisplayName("실행 중에는 리스를 연장해서 lockAtMostFor보다 오래 걸려도 다른 서버가 끼어들지 못한다")
+    void runExclusive_LongRunningJob_ShouldRenewLease() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        Future<Boolean> longRun = executor.submit(() -> runners.get(0).runExclusive("long",
+                Duration.ofMillis(300), Duration.ZERO, () -> {
+                    started.countDown();
+                    sleep(1000);
+                    return 1;
+                }));
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        sleep(600);
+        assertFalse(runners.get(1).runExclusive("long", Duration.ofMillis(300), Duration.ZERO, () -> 1));
+        assertTrue(longRun.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 리스를 바로 풀어서 다음 실행에서 다시 시도한다")
+    void runExclusive_Failure_ShouldReleaseLease() {
+        assertThrows(IllegalStateException.class, () -> runners.get(0).runExclusive("flaky",
+                Duration.ofSeconds(10), Duration.ofSeconds(5), () -> {
+                    throw new IllegalStateException("실패");
+                }));
+
+        assertNull(leaseStore.holder("job:lease:flaky"));
+        assertNull(leaseStore.lastSuccess("flaky"));
+        assertEquals(1, meterRegistry.get("job.duration").tags("job", "flaky", "outcome", "failure").timer().count());
+        assertTrue(runners.get(1).runExclusive("flaky", Duration.ofSeconds(10), Duration.ofSeconds(5), () -> 0));
+    }
+
+    @Test
+    @DisplayName("ID 구간은 빈 구간 없이 연속으로 나뉜다")
+    void idRange_Split_ShouldBeContiguous() {
+        List<IdRange> shards = new IdRange(1L, 10L).split(4);
+
+        assertEquals(List.of(new IdRange(1L, 3L), new IdRange(4L, 6L), new IdRange(7L, 9L), new IdRange(10L, 10L)), shards);
+        assertEquals(2, new IdRange(5L, 6L).split(8).size());
+        assertTrue(new IdRange(null, null).split(4).isEmpty());
+    }
+
+    private <T> List<T> runConcurrently(Function<ClusterJobRunner, T> call) throws Exception {
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (ClusterJobRunner runner : runners) {
+            futures.add(executor.submit(() -> {
+                ready.await();
+                return call.apply(runner);
+            }));
+        }
+        ready.countDown();
+
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get(10, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.yju.team2.seilomun.common.job;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 테스트용 리스 저장소
+ * Redis의 SET NX PX, 소유자 확인 후 PEXPIRE/DEL과 같은 의미로 동작 (만료 시각이 지난 키는 없는 것으로 봄)
+ */
+class InMemoryJobLeaseStore implements JobLeaseStore {
+
+    private final Map<String, String> owners = new HashMap<>();
+    private final Map<String, Long> expiresAt = new HashMap<>();
+    private final Map<String, Instant> lastSuccess = new HashMap<>();
+
+    @Override
+    public synchronized boolean tryAcquire(String leaseKey, String owner, Duration ttl) {
+        if (holder(leaseKey) != null) {
+            return false;
+        }
+        owners.put(leaseKey, owner);
+        expiresAt.put(leaseKey, System.currentTimeMillis() + ttl.toMillis());
+        return true;
+    }
+
+    @Override
+    public synchronized boolean renew(String leaseKey, String owner, Duration ttl) {
+        if (!owner.equals(holder(leaseKey))) {
+            return false;
+        }
+        expiresAt.put(leaseKey, System.currentTimeMillis() + ttl.toMillis());
+        return true;
+    }
+
+    @Override
+    public synchronized void release(String leaseKey, String owner, Duration keepFor) {
+        if (!owner.equals(holder(leaseKey))) {
+            return;
+        }
+        if (keepFor.toMillis() > 0) {
+            expiresAt.put(leaseKey, System.currentTimeMillis() + keepFor.toMillis());
+        } else {
+            owners.remove(leaseKey);
+            expiresAt.remove(leaseKey);
+        }
+    }
+
+    @Override
+    public synchronized void recordSuccess(String jobName, Instant finishedAt) {
+        lastSuccess.put(jobName, finishedAt);
+    }
+
+    @Override
+    public synchronized Instant lastSuccess(String jobName) {
+        return lastSuccess.get(jobName);
+    }
+
+    synchronized String holder(String leaseKey) {
+        Long expiry = expiresAt.get(leaseKey);
+        if (expiry == null || expiry <= System.currentTimeMillis()) {
+            owners.remove(leaseKey);
+            expiresAt.remove(leaseKey);
+            return null;
+        }
+        return owners.get(leaseKey);
+    }
+}
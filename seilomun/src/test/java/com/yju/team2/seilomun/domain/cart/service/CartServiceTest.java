@@ -0,0 +1,226 @@
+package com.yju.team2.seilomun.domain.cart.service;
+
+import com.yju.team2.seilomun.domain.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+/**
+ * 장바구니 해시(cart:{고객ID})와 상품별 역색인(product:carts:{상품ID})이 항상 같은 내용을 가리키는지 확인
+ * Redis 대신 해시/셋을 메모리에 두고, 스크립트는 Lua와 같은 순서로 두 키를 함께 바꾼다.
+ */
+@ExtendWith(MockitoExtension.class)
+class CartServiceTest {
+
+    private static final String MIGRATED_KEY = "migration:cart-product-index";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private ProductService productService;
+
+    private CartService cartService;
+
+    // 메모리 Redis (키 -> 해시 / 셋 / 문자열)
+    private final Map<String, Map<String, String>> hashes = new HashMap<>();
+    private final Map<String, Set<String>> sets = new HashMap<>();
+    private final Map<String, String> values = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        cartService = new CartService(redisTemplate, productService);
+    }
+
+    @Test
+    @DisplayName("담기/수량 변경/빼기를 거쳐도 상품별 역색인은 그 상품을 담은 고객과 같다")
+    void putAndRemove_ShouldKeepProductIndexInSync() {
+        runScripts();
+        given(productService.existsById(anyLong())).willReturn(true);
+        given(productService.getStockQuantity(anyLong())).willReturn(10);
+        given(redisTemplate.hasKey(anyString())).willAnswer(invocation -> hashes.containsKey(invocation.<String>getArgument(0)));
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.hasKey(anyString(), any())).willAnswer(invocation ->
+                hashes.getOrDefault(invocation.<String>getArgument(0), Map.of()).containsKey(invocation.getArgument(1).toString()));
+
+        cartService.updateCartItemQuantity(1L, 10L, 2);
+        cartService.updateCartItemQuantity(1L, 11L, 1);
+        cartService.updateCartItemQuantity(2L, 10L, 3);
+        // 수량만 바꿔도 역색인은 그대로
+        cartService.updateCartItemQuantity(1L, 10L, 5);
+
+        assertEquals(Map.of("10", "5", "11", "1"), hashes.get("cart:1"));
+        assertEquals(Set.of("1", "2"), sets.get("product:carts:10"));
+        assertEquals(Set.of("1"), sets.get("product:carts:11"));
+
+        assertTrue(cartService.removeFromCart(1L, 10L));
+        // 없는 상품을 빼도 다른 고객의 역색인은 건드리지 않음
+        assertFalse(cartService.removeFromCart(1L, 10L));
+        // 수량 0은 빼기와 같음
+        cartService.updateCartItemQuantity(2L, 10L, 0);
+
+        assertEquals(Map.of("11", "1"), hashes.get("cart:1"));
+        assertFalse(hashes.containsKey("cart:2"));
+        assertEquals(Set.of(), sets.getOrDefault("product:carts:10", Set.of()));
+        assertEquals(Set.of("1"), sets.get("product:carts:11"));
+        assertIndexMatchesCarts();
+    }
+
+    @Test
+    @DisplayName("장바구니를 비우면 담겨 있던 상품의 역색인에서만 그 고객이 빠진다")
+    void clearCart_ShouldRemoveCustomerFromProductIndex() {
+        runScripts();
+        given(productService.existsById(anyLong())).willReturn(true);
+        given(productService.getStockQuantity(anyLong())).willReturn(10);
+        cartService.updateCartItemQuantity(1L, 10L, 1);
+        cartService.updateCartItemQuantity(1L, 11L, 1);
+        cartService.updateCartItemQuantity(2L, 10L, 1);
+
+        cartService.clearCart(1L);
+        // 이미 빈 장바구니를 비워도 아무 일 없음
+        cartService.clearCart(1L);
+
+        assertFalse(hashes.containsKey("cart:1"));
+        assertEquals(Set.of("2"), sets.get("product:carts:10"));
+        assertEquals(Set.of(), sets.getOrDefault("product:carts:11", Set.of()));
+        assertIndexMatchesCarts();
+    }
+
+    @Test
+    @DisplayName("역색인 이관은 기존 장바구니를 모두 등록하고 완료 표시 후에는 다시 훑지 않는다")
+    void migrateProductIndex_ShouldRunOnce() {
+        runScripts();
+        stubMigrationKeys();
+        hashes.put("cart:1", new HashMap<>(Map.of("10", "1", "11", "2")));
+        hashes.put("cart:2", new HashMap<>(Map.of("10", "3")));
+        // 고객ID가 아닌 키는 건너뜀
+        hashes.put("cart:lock", new HashMap<>(Map.of("99", "1")));
+        willAnswer(invocation -> values.put(invocation.getArgument(0), invocation.getArgument(1).toString()))
+                .given(valueOperations).set(eq(MIGRATED_KEY), any());
+
+        assertEquals(2, cartService.migrateProductIndex());
+        assertTrue(values.containsKey(MIGRATED_KEY));
+        assertEquals(Set.of("1", "2"), sets.get("product:carts:10"));
+        assertEquals(Set.of("1"), sets.get("product:carts:11"));
+        assertFalse(sets.containsKey("product:carts:99"));
+
+        assertEquals(0, cartService.migrateProductIndex());
+        verify(redisTemplate, times(1)).scan(any(ScanOptions.class));
+    }
+
+    @Test
+    @DisplayName("완료 표시 전에 멈춘 이관을 다시 실행해도 역색인에 같은 고객이 중복되거나 빠지지 않는다")
+    void migrateProductIndex_WhenInterrupted_ShouldBeIdempotent() {
+        runScripts();
+        stubMigrationKeys();
+        hashes.put("cart:1", new HashMap<>(Map.of("10", "1", "11", "2")));
+        hashes.put("cart:2", new HashMap<>(Map.of("10", "3")));
+        willThrow(new IllegalStateException("Redis 연결 끊김"))
+                .willAnswer(invocation -> values.put(invocation.getArgument(0), invocation.getArgument(1).toString()))
+                .given(valueOperations).set(eq(MIGRATED_KEY), any());
+
+        assertThrows(IllegalStateException.class, () -> cartService.migrateProductIndex());
+        Map<String, Set<String>> afterFirstRun = copy(sets);
+
+        assertEquals(2, cartService.migrateProductIndex());
+
+        assertEquals(afterFirstRun, sets);
+        assertEquals(Set.of("1", "2"), sets.get("product:carts:10"));
+        assertTrue(values.containsKey(MIGRATED_KEY));
+        assertIndexMatchesCarts();
+    }
+
+    // 모든 장바구니 상품은 역색인에, 모든 역색인 항목은 장바구니에 있어야 함
+    private void assertIndexMatchesCarts() {
+        Map<String, Set<String>> expected = new HashMap<>();
+        hashes.forEach((cartKey, items) -> items.keySet().forEach(productId ->
+                expected.computeIfAbsent("product:carts:" + productId, key -> new HashSet<>())
+                        .add(cartKey.substring("cart:".length()))));
+        Map<String, Set<String>> actual = new HashMap<>();
+        sets.forEach((key, members) -> {
+            if (!members.isEmpty()) {
+                actual.put(key, members);
+            }
+        });
+        assertEquals(expected, actual);
+    }
+
+    // 장바구니 스크립트를 메모리 해시/셋에 Lua와 같은 방식으로 적용
+    @SuppressWarnings("unchecked")
+    private void runScripts() {
+        willAnswer(invocation -> {
+            String script = invocation.<RedisScript<Long>>getArgument(0).getScriptAsString();
+            List<String> keys = invocation.getArgument(1);
+            Object[] args = (Object[]) invocation.getRawArguments()[2];
+            return applyScript(script, keys, args);
+        }).given(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    private Long applyScript(String script, List<String> keys, Object[] args) {
+        if (script.contains("'HSET'")) {
+            hashes.computeIfAbsent(keys.get(0), key -> new HashMap<>()).put(args[0].toString(), args[1].toString());
+            sets.computeIfAbsent(keys.get(1), key -> new HashSet<>()).add(args[2].toString());
+            return 1L;
+        }
+        if (script.contains("'HDEL'")) {
+            Map<String, String> cart = hashes.get(keys.get(0));
+            long removed = cart != null && cart.remove(args[0].toString()) != null ? 1 : 0;
+            if (cart != null && cart.isEmpty()) {
+                hashes.remove(keys.get(0));
+            }
+            sets.getOrDefault(keys.get(1), new HashSet<>()).remove(args[1].toString());
+            return removed;
+        }
+        Map<String, String> cart = hashes.getOrDefault(keys.get(0), Map.of());
+        if (script.contains("'DEL'")) {
+            cart.keySet().forEach(productId -> sets.getOrDefault(args[0] + productId, new HashSet<>()).remove(args[1].toString()));
+            hashes.remove(keys.get(0));
+        } else {
+            cart.keySet().forEach(productId -> sets.computeIfAbsent(args[0] + productId, key -> new HashSet<>()).add(args[1].toString()));
+        }
+        return (long) cart.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubMigrationKeys() {
+        given(redisTemplate.hasKey(MIGRATED_KEY)).willAnswer(invocation -> values.containsKey(MIGRATED_KEY));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(redisTemplate.scan(any(ScanOptions.class))).willAnswer(invocation -> {
+            Iterator<String> cartKeys = new ArrayList<>(hashes.keySet()).iterator();
+            Cursor<String> cursor = mock(Cursor.class);
+            given(cursor.hasNext()).willAnswer(hasNext -> cartKeys.hasNext());
+            given(cursor.next()).willAnswer(next -> cartKeys.next());
+            return cursor;
+        });
+    }
+
+    private static Map<String, Set<String>> copy(Map<String, Set<String>> source) {
+        Map<String, Set<String>> copy = new HashMap<>();
+        source.forEach((key, members) -> copy.put(key, new HashSet<>(members)));
+        return copy;
+    }
+}
@@ -0,0 +1,206 @@
+package com.yju.team2.seilomun.domain.customer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yju.team2.seilomun.common.CursorPageDto;
+import com.yju.team2.seilomun.domain.auth.service.RefreshTokenService;
+import com.yju.team2.seilomun.domain.customer.dto.WishProductDto;
+import com.yju.team2.seilomun.domain.customer.entity.Customer;
+import com.yju.team2.seilomun.domain.customer.entity.Wish;
+import com.yju.team2.seilomun.domain.order.service.OrderReadModelAssembler;
+import com.yju.team2.seilomun.domain.product.entity.Product;
+import com.yju.team2.seilomun.domain.product.entity.ProductCategory;
+import com.yju.team2.seilomun.domain.product.entity.ProductPhoto;
+import com.yju.team2.seilomun.domain.product.service.DiscountPricingEngine;
+import com.yju.team2.seilomun.domain.product.service.ProductDiscountService;
+import com.yju.team2.seilomun.domain.product.service.ProductService;
+import com.yju.team2.seilomun.domain.seller.entity.Seller;
+import com.yju.team2.seilomun.domain.seller.entity.SellerCategoryEntity;
+import com.yju.team2.seilomun.domain.seller.enums.SellerCategory;
+import com.yju.team2.seilomun.domain.upload.service.AWSS3UploadService;
+import com.yju.team2.seilomun.util.JwtUtil;
+import com.yju.team2.seilomun.util.SmsUtil;
+import com.yju.team2.seilomun.validation.ValidationUtil;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({CustomerService.class, ProductDiscountService.class, CustomerServiceWishTest.JacksonConfig.class})
+class CustomerServiceWishTest {
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // 할인 캐시는 항상 미스로 두고 조회된 상품 값으로 계산되는지 확인
+    @MockitoBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    @MockitoBean
+    private ValueOperations<String, String> valueOperations;
+
+    @MockitoBean
+    private DiscountPricingEngine discountPricingEngine;
+
+    // 좋아요 목록 조회와 관계없는 협력 객체
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @MockitoBean
+    private RefreshTokenService refreshTokenService;
+
+    @MockitoBean
+    private SmsUtil smsUtil;
+
+    @MockitoBean
+    private ValidationUtil validationUtil;
+
+    @MockitoBean
+    private AWSS3UploadService awsS3UploadService;
+
+    @MockitoBean
+    private ProductService productService;
+
+    @MockitoBean
+    private OrderReadModelAssembler orderReadModelAssembler;
+
+    private Statistics statistics;
+    private SellerCategoryEntity sellerCategory;
+    private ProductCategory productCategory;
+
+    @TestConfiguration
+    static class JacksonConfig {
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().findAndRegisterModules();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(anyList())).willAnswer(invocation ->
+                Arrays.asList(new String[invocation.<List<String>>getArgument(0).size()]));
+
+        sellerCategory = SellerCategoryEntity.builder().categoryName(SellerCategory.BAKERY).build();
+        entityManager.persist(sellerCategory);
+        productCategory = ProductCategory.builder().categoryName("빵").build();
+        entityManager.persist(productCategory);
+    }
+
+    @Test
+    @DisplayName("좋아요한 상품 수와 상관없이 좋아요 목록 조회 쿼리 수가 같다")
+    void getWishedProductsByCursor_QueryCount_ShouldNotDependOnWishCount() {
+        Customer fewWishes = createCustomer("few@customer.com", "적게", 2);
+        Customer manyWishes = createCustomer("many@customer.com", "많이", 10);
+
+        long fewWishQueries = countQueries(fewWishes.getId(), 2);
+        long manyWishQueries = countQueries(manyWishes.getId(), 10);
+
+        assertEquals(fewWishQueries, manyWishQueries);
+        // 소비자 1 + 좋아요/상품/판매자 1 + 첫 번째 사진 1
+        assertTrue(manyWishQueries <= 3, "좋아요 목록 조회 쿼리 수: " + manyWishQueries);
+    }
+
+    @Test
+    @DisplayName("좋아요 목록에는 상품별 첫 번째 사진과 할인가가 담긴다")
+    void getWishedProductsByCursor_ShouldIncludeFirstPhotoAndDiscount() {
+        Customer customer = createCustomer("photo@customer.com", "사진", 1);
+        entityManager.clear();
+
+        WishProductDto wish = customerService.getWishedProductsByCursor(customer.getId(), null, 20)
+                .getContent().get(0);
+
+        assertEquals("first0.png", wish.getPhotoUrl());
+        assertEquals(wish.getOriginalPrice() * (100 - wish.getCurrentDiscountRate()) / 100, wish.getDiscountPrice());
+    }
+
+    private long countQueries(Long customerId, int expectedSize) {
+        entityManager.clear();
+        statistics.clear();
+        CursorPageDto<WishProductDto> wishes = customerService.getWishedProductsByCursor(customerId, null, 20);
+        assertEquals(expectedSize, wishes.getContent().size());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Customer createCustomer(String email, String nickname, int wishCount) {
+        Customer customer = Customer.builder()
+                .email(email)
+                .password("Test123!@")
+                .name("소비자")
+                .phone("01012345678")
+                .nickname(nickname)
+                .birthDate("0101")
+                .gender('M')
+                .profileImageUrl("profile.png")
+                .points(0)
+                .status('1')
+                .type('L')
+                .build();
+        entityManager.persist(customer);
+
+        for (int i = 0; i < wishCount; i++) {
+            // 상품마다 다른 판매자라 상품/판매자를 하나씩 지연 로딩하면 쿼리 수가 늘어남
+            Seller seller = Seller.builder()
+                    .businessNumber(nickname + i)
+                    .email(i + email)
+                    .password("Test123!@")
+                    .storeName("좋아요테스트")
+                    .phone("01012345678")
+                    .address("대구광역시")
+                    .operatingHours("09:00-21:00")
+                    .deliveryAvailable('Y')
+                    .rating(0F)
+                    .pickupTime("30분")
+                    .isOpen('1')
+                    .status('1')
+                    .sellerCategory(sellerCategory)
+                    .build();
+            entityManager.persist(seller);
+            Product product = Product.builder()
+                    .name("좋아요상품" + i)
+                    .originalPrice(1000 * (i + 1))
+                    .stockQuantity(10)
+                    .createdAt(LocalDateTime.now())
+                    .expiryDate(LocalDateTime.now().plusDays(5))
+                    .status('1')
+                    .maxDiscountRate(30)
+                    .minDiscountRate(10)
+                    .seller(seller)
+                    .productCategory(productCategory)
+                    .build();
+            entityManager.persist(product);
+            entityManager.persist(ProductPhoto.builder().photoUrl("first" + i + ".png").product(product).build());
+            entityManager.persist(ProductPhoto.builder().photoUrl("second" + i + ".png").product(product).build());
+            entityManager.persist(Wish.builder().customer(customer).product(product).build());
+        }
+        entityManager.flush();
+        return customer;
+    }
+}
@@ -0,0 +1,53 @@
+package com.yju.team2.seilomun.domain.notification.repository;
+
+import com.yju.team2.seilomun.domain.notification.entity.Notification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(NotificationBulkRepository.class)
+class NotificationBulkRepositoryTest {
+
+    @Autowired
+    private NotificationBulkRepository notificationBulkRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Test
+    @DisplayName("배치 크기를 넘는 알림을 일괄 저장하고 생성된 ID를 순서대로 채운다")
+    void insertAll_ShouldReturnNotificationsWithGeneratedIds() {
+        List<Notification> notifications = new ArrayList<>();
+        for (long recipientId = 1; recipientId <= 1500; recipientId++) {
+            notifications.add(Notification.builder()
+                    .content("새로운 상품이 등록되었습니다.")
+                    .isVisible('Y')
+                    .recipientType('C')
+                    .recipientId(recipientId)
+                    .senderType('S')
+                    .senderId(1L)
+                    .isRead('N')
+                    .build());
+        }
+
+        List<Notification> saved = notificationBulkRepository.insertAll(notifications);
+
+        assertEquals(1500, saved.size());
+        assertEquals(1500, notificationRepository.count());
+        for (int i = 0; i < saved.size(); i++) {
+            assertNotNull(saved.get(i).getId());
+            assertNotNull(saved.get(i).getCreatedAt());
+            assertEquals(notifications.get(i).getRecipientId(), saved.get(i).getRecipientId());
+        }
+        Notification last = saved.get(saved.size() - 1);
+        assertEquals(1500L, notificationRepository.findById(last.getId()).orElseThrow().getRecipientId());
+    }
+}
@@ -0,0 +1,127 @@
+package com.yju.team2.seilomun.domain.notification.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SSE 연결 2만 개 부하 테스트
+ * 고객 1만 명(탭 1개) + 판매자 5천 명(탭 2개, 고객과 같은 ID 사용), 그중 100개는 전송이 멈춘 느린 클라이언트
+ */
+class SseEmitterRepositorySoakTest {
+
+    private static final int CUSTOMERS = 10_000;
+    private static final int SELLERS = 5_000;
+    private static final int SLOW_CLIENTS = 100;
+
+    private final CountDownLatch slowClientsBlocked = new CountDownLatch(1);
+    private SseEmitterRepository sseEmitterRepository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        sseEmitterRepository = new SseEmitterRepository(mock(RedisTemplate.class, RETURNS_DEEP_STUBS));
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowClientsBlocked.countDown();
+        sseEmitterRepository.shutdown();
+    }
+
+    @Test
+    @DisplayName("느린 클라이언트가 있어도 나머지 연결에는 바로 전송되고, 밀린 연결은 끊어서 정리한다")
+    void sendToAllConnections_WithSlowClients_ShouldNotStallOthers() throws Exception {
+        int fastClients = CUSTOMERS + SELLERS * 2 - SLOW_CLIENTS;
+        CountDownLatch fastDelivered = new CountDownLatch(fastClients);
+        List<RecordingEmitter> emitters = new ArrayList<>();
+
+        for (long customerId = 1; customerId <= CUSTOMERS; customerId++) {
+            RecordingEmitter emitter = new RecordingEmitter(customerId <= SLOW_CLIENTS ? slowClientsBlocked : null, fastDelivered);
+            sseEmitterRepository.save('C', customerId, emitter);
+            emitters.add(emitter);
+        }
+        for (long sellerId = 1; sellerId <= SELLERS; sellerId++) {
+            for (int tab = 0; tab < 2; tab++) {
+                RecordingEmitter emitter = new RecordingEmitter(null, fastDelivered);
+                sseEmitterRepository.save('S', sellerId, emitter);
+                emitters.add(emitter);
+            }
+        }
+        assertEquals(CUSTOMERS + SELLERS * 2, sseEmitterRepository.countLocalConnections());
+        // 같은 ID의 고객과 판매자는 서로 다른 사용자, 판매자는 탭 2개 모두 유지
+        assertEquals(1, sseEmitterRepository.findLocalConnections('C', 7L).size());
+        assertEquals(2, sseEmitterRepository.findLocalConnections('S', 7L).size());
+
+        long started = System.nanoTime();
+        for (long customerId = 1; customerId <= CUSTOMERS; customerId++) {
+            sendToUser('C', customerId);
+        }
+        for (long sellerId = 1; sellerId <= SELLERS; sellerId++) {
+            sendToUser('S', sellerId);
+        }
+        long enqueueMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertTrue(fastDelivered.await(10, TimeUnit.SECONDS), "느린 클라이언트 때문에 다른 연결 전송이 밀림");
+        assertTrue(enqueueMillis < 5_000, "전송 호출이 클라이언트 전송을 기다림: " + enqueueMillis + "ms");
+
+        // 느린 클라이언트는 대기열이 가득 찰 때까지 밀리면 끊김
+        for (int i = 0; i < 150; i++) {
+            for (long customerId = 1; customerId <= SLOW_CLIENTS; customerId++) {
+                sendToUser('C', customerId);
+            }
+        }
+        sseEmitterRepository.heartbeat();
+
+        assertEquals(CUSTOMERS + SELLERS * 2 - SLOW_CLIENTS, sseEmitterRepository.countLocalConnections());
+        assertTrue(sseEmitterRepository.findLocalConnections('C', 1L).isEmpty());
+        assertEquals(1, sseEmitterRepository.findLocalConnections('C', SLOW_CLIENTS + 1L).size());
+        assertTrue(emitters.get(SLOW_CLIENTS).sent.get() >= 1);
+    }
+
+    private void sendToUser(Character userType, Long userId) {
+        for (SseConnection connection : sseEmitterRepository.findLocalConnections(userType, userId)) {
+            connection.send(SseEmitter.event().name("notification").data("알림"));
+        }
+    }
+
+    // 보낸 이벤트 수만 기록하는 이미터, blocker가 있으면 풀릴 때까지 전송이 멈춤 (느린 클라이언트)
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch blocker;
+        private final CountDownLatch firstDelivered;
+        private final AtomicInteger sent = new AtomicInteger();
+
+        RecordingEmitter(CountDownLatch blocker, CountDownLatch firstDelivered) {
+            this.blocker = blocker;
+            this.firstDelivered = firstDelivered;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            if (blocker != null) {
+                try {
+                    blocker.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return;
+            }
+            if (sent.incrementAndGet() == 1) {
+                firstDelivered.countDown();
+            }
+        }
+    }
+}
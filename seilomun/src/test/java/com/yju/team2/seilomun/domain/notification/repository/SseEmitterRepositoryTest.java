@@ -0,0 +1,115 @@
+package com.yju.team2.seilomun.domain.notification.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class SseEmitterRepositoryTest {
+
+    private RedisTemplate<String, Object> redisTemplate;
+    private RedisConnection redisConnection;
+    private SseEmitterRepository sseEmitterRepository;
+
+    // 파이프라인 호출마다 돌려줄 결과
+    private final Deque<List<Object>> pipelineResults = new ArrayDeque<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class, RETURNS_DEEP_STUBS);
+        redisConnection = mock(RedisConnection.class, RETURNS_DEEP_STUBS);
+        given(redisTemplate.executePipelined(any(RedisCallback.class))).willAnswer(invocation -> {
+            invocation.<RedisCallback<Object>>getArgument(0).doInRedis(redisConnection);
+            return pipelineResults.isEmpty() ? List.of() : pipelineResults.poll();
+        });
+        sseEmitterRepository = new SseEmitterRepository(redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sseEmitterRepository.shutdown();
+    }
+
+    @Test
+    @DisplayName("연결 정보에는 서버ID와 갱신 시각을 함께 저장한다")
+    void save_ShouldStoreServerIdWithTimestamp() {
+        long before = System.currentTimeMillis();
+
+        SseConnection connection = sseEmitterRepository.save('C', 7L, new SseEmitter());
+
+        ArgumentCaptor<Object> value = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate.opsForHash()).put(eq("sse:user:C:7"), eq(connection.getConnectionId()), value.capture());
+        String[] presence = value.getValue().toString().split("\\|");
+        assertEquals(sseEmitterRepository.getCurrentServerId(), presence[0]);
+        assertTrue(Long.parseLong(presence[1]) >= before);
+    }
+
+    @Test
+    @DisplayName("하트비트는 사용자 해시마다 조건부 갱신 스크립트를 보내고, Redis에서 사라진 연결은 되살리지 않고 닫는다")
+    void heartbeat_ShouldNotRecreateRemovedConnections() {
+        SseConnection kept = sseEmitterRepository.save('C', 7L, new SseEmitter());
+        SseConnection removed = sseEmitterRepository.save('C', 7L, new SseEmitter());
+        // 스크립트가 HEXISTS에서 걸러 낸 연결ID
+        pipelineResults.add(List.of(List.of(removed.getConnectionId())));
+
+        int reaped = sseEmitterRepository.heartbeat();
+
+        assertEquals(1, reaped);
+        assertTrue(removed.isClosed());
+        assertFalse(kept.isClosed());
+        assertEquals(1, sseEmitterRepository.findLocalConnections('C', 7L).size());
+
+        ArgumentCaptor<byte[]> script = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[][]> keysAndArgs = ArgumentCaptor.forClass(byte[][].class);
+        verify(redisConnection.scriptingCommands()).eval(script.capture(), eq(ReturnType.MULTI), eq(1), keysAndArgs.capture());
+        String lua = deserialize(script.getValue());
+        assertTrue(lua.contains("HEXISTS") && lua.contains("HDEL"));
+        List<String> values = Arrays.stream(keysAndArgs.getValue()).map(this::deserialize).toList();
+        assertEquals("sse:user:C:7", values.get(0));
+        assertTrue(values.get(1).startsWith(sseEmitterRepository.getCurrentServerId() + "|"));
+        assertEquals(Set.of(kept.getConnectionId(), removed.getConnectionId()), Set.copyOf(values.subList(4, values.size())));
+        // 하트비트는 연결 필드를 직접 쓰지 않음
+        verify(redisConnection.hashCommands(), never()).hSet(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("만료 시간 동안 갱신되지 않은 연결 정보(죽은 서버)는 조회에서 빼고 지운다")
+    void findServerIdsByUserKeys_ShouldSkipAndPruneStaleFields() {
+        long now = System.currentTimeMillis();
+        Map<String, String> user7 = new LinkedHashMap<>();
+        user7.put("alive", "server-a|" + now);
+        user7.put("crashed", "server-dead|" + (now - 10 * 60 * 1000));
+        Map<String, String> user8 = Map.of("legacy", "server-old");
+        pipelineResults.add(List.of(user7, user8, Map.of()));
+
+        Map<String, Set<String>> serverIds = sseEmitterRepository.findServerIdsByUserKeys(List.of("C:7", "C:8", "C:9"));
+
+        assertEquals(Map.of("C:7", Set.of("server-a")), serverIds);
+        verify(redisConnection.hashCommands()).hDel(aryEq(serialize("sse:user:C:7")), aryEq(serialize("crashed")));
+        verify(redisConnection.hashCommands()).hDel(aryEq(serialize("sse:user:C:8")), aryEq(serialize("legacy")));
+    }
+
+    private static byte[] serialize(String value) {
+        return StringRedisSerializer.UTF_8.serialize(value);
+    }
+
+    private String deserialize(byte[] value) {
+        return StringRedisSerializer.UTF_8.deserialize(value);
+    }
+}
@@ -0,0 +1,251 @@
+package com.yju.team2.seilomun.domain.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yju.team2.seilomun.domain.notification.entity.Notification;
+import com.yju.team2.seilomun.domain.notification.entity.NotificationOutbox;
+import com.yju.team2.seilomun.domain.notification.enums.NotificationType;
+import com.yju.team2.seilomun.domain.notification.event.CartProductStatusChangedEvent;
+import com.yju.team2.seilomun.domain.notification.event.NotificationEvent;
+import com.yju.team2.seilomun.domain.notification.event.OrderAcceptedEvent;
+import com.yju.team2.seilomun.domain.notification.event.ProductStatusChangedEvent;
+import com.yju.team2.seilomun.domain.notification.util.NotificationUtil;
+import com.yju.team2.seilomun.domain.notification.repository.NotificationOutboxRepository;
+import com.yju.team2.seilomun.domain.notification.repository.NotificationBulkRepository;
+import com.yju.team2.seilomun.domain.order.entity.Order;
+import com.yju.team2.seilomun.domain.order.repository.OrderRepository;
+import com.yju.team2.seilomun.domain.order.repository.PaymentRepository;
+import com.yju.team2.seilomun.domain.order.repository.RefundRepository;
+import com.yju.team2.seilomun.domain.product.entity.Product;
+import com.yju.team2.seilomun.domain.product.repository.ProductRepository;
+import com.yju.team2.seilomun.domain.review.repository.ReviewRepository;
+import com.yju.team2.seilomun.domain.seller.entity.Seller;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxServiceTest {
+
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    private NotificationBulkRepository notificationBulkRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private RefundRepository refundRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NotificationOutboxService notificationOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        notificationOutboxService = new NotificationOutboxService(notificationOutboxRepository, notificationBulkRepository,
+                notificationService, orderRepository, productRepository, refundRepository, reviewRepository,
+                paymentRepository, new TransactionTemplate(transactionManager), new ObjectMapper());
+        notificationOutboxService.initResolveTransaction();
+    }
+
+    @Test
+    @DisplayName("대기 중인 이벤트의 알림을 일괄 저장하고 커밋 후에 발행한다")
+    void relay_WithPendingEvent_ShouldSaveAllAndPublishAfterCommit() {
+        Order order = Order.builder().id(10L).orderNumber("ORDER10").build();
+        NotificationOutbox outbox = createOutbox(1L, NotificationType.ORDER_ACCEPTED, order.getId());
+        List<Notification> notifications = List.of(Notification.builder().recipientId(3L).build());
+        List<Notification> saved = List.of(Notification.builder().id(7L).recipientId(3L).build());
+
+        given(notificationOutboxRepository.findPendingForUpdate(anyInt())).willReturn(List.of(outbox));
+        given(orderRepository.findById(10L)).willReturn(Optional.of(order));
+        given(notificationService.createNotifications(any(OrderAcceptedEvent.class))).willReturn(notifications);
+        given(notificationBulkRepository.insertAll(notifications)).willReturn(saved);
+
+        int relayed = notificationOutboxService.relay();
+
+        assertEquals(1, relayed);
+        InOrder inOrder = inOrder(notificationBulkRepository, notificationOutboxRepository, transactionManager, notificationService);
+        inOrder.verify(notificationBulkRepository).insertAll(notifications);
+        inOrder.verify(notificationOutboxRepository).markSent(eq(List.of(1L)), any());
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(notificationService).publish(saved);
+    }
+
+    @Test
+    @DisplayName("대상 엔티티가 없는 이벤트는 재시도 횟수만 늘리고 발행 완료 처리하지 않는다")
+    void relay_WithMissingAggregate_ShouldRecordFailure() {
+        NotificationOutbox outbox = createOutbox(2L, NotificationType.ORDER_ACCEPTED, 99L);
+
+        given(notificationOutboxRepository.findPendingForUpdate(anyInt())).willReturn(List.of(outbox));
+        given(orderRepository.findById(99L)).willReturn(Optional.empty());
+        given(notificationBulkRepository.insertAll(List.of())).willReturn(List.of());
+
+        notificationOutboxService.relay();
+
+        assertEquals(1, outbox.getAttempts());
+        assertEquals('P', outbox.getStatus());
+        verify(notificationOutboxRepository, never()).markSent(any(), any());
+        verify(notificationService).publish(List.of());
+    }
+
+    @Test
+    @DisplayName("알림 생성 중 예외가 난 이벤트는 그 이벤트의 트랜잭션만 롤백하고, 실패 기록과 나머지 이벤트는 배치와 함께 커밋한다")
+    void relay_WithPoisonEvent_ShouldCommitFailureAndOtherEvents() {
+        Order poisonOrder = Order.builder().id(11L).orderNumber("ORDER11").build();
+        Order order = Order.builder().id(12L).orderNumber("ORDER12").build();
+        NotificationOutbox poison = createOutbox(5L, NotificationType.ORDER_ACCEPTED, poisonOrder.getId());
+        NotificationOutbox outbox = createOutbox(6L, NotificationType.ORDER_ACCEPTED, order.getId());
+        List<Notification> notifications = List.of(Notification.builder().recipientId(3L).build());
+
+        // 배치 트랜잭션과 이벤트별 트랜잭션을 구분
+        TransactionStatus relayTransaction = new SimpleTransactionStatus();
+        List<TransactionStatus> resolveTransactions = new ArrayList<>();
+        given(transactionManager.getTransaction(any())).willAnswer(invocation -> {
+            TransactionDefinition definition = invocation.getArgument(0);
+            if (definition.getPropagationBehavior() != TransactionDefinition.PROPAGATION_REQUIRES_NEW) {
+                return relayTransaction;
+            }
+            TransactionStatus status = new SimpleTransactionStatus();
+            resolveTransactions.add(status);
+            return status;
+        });
+        given(notificationOutboxRepository.findPendingForUpdate(anyInt())).willReturn(List.of(poison, outbox));
+        given(orderRepository.findById(11L)).willReturn(Optional.of(poisonOrder));
+        given(orderRepository.findById(12L)).willReturn(Optional.of(order));
+        given(notificationService.createNotifications(any(OrderAcceptedEvent.class)))
+                .willThrow(new IllegalStateException("수신자 조회 실패"))
+                .willReturn(notifications);
+        given(notificationBulkRepository.insertAll(notifications)).willReturn(notifications);
+
+        int relayed = notificationOutboxService.relay();
+
+        assertEquals(2, relayed);
+        assertEquals(1, poison.getAttempts());
+        assertEquals('P', poison.getStatus());
+        assertEquals(2, resolveTransactions.size());
+        verify(transactionManager).rollback(resolveTransactions.get(0));
+        verify(transactionManager).commit(resolveTransactions.get(1));
+        verify(transactionManager).commit(relayTransaction);
+        verify(transactionManager, never()).rollback(relayTransaction);
+        verify(notificationOutboxRepository).markSent(eq(List.of(6L)), any());
+        verify(notificationService).publish(notifications);
+    }
+
+    @Test
+    @DisplayName("릴레이 전에 상품 상태가 다시 바뀌어도 기록 당시의 새 상태로 알림을 만든다")
+    void relay_WhenStatusChangedAgain_ShouldUseRecordedStatus() {
+        Product product = Product.builder().id(20L).name("도시락").status('E')
+                .seller(Seller.builder().id(4L).build()).build();
+        NotificationOutbox outbox = enqueueAndCapture(ProductStatusChangedEvent.builder()
+                .product(product).oldStatus('1').newStatus('E').eventId("PRODUCT_STATUS_20").build());
+
+        // 품절 알림이 릴레이되기 전에 재입고됨
+        product.updateStatus('1');
+        given(notificationOutboxRepository.findPendingForUpdate(anyInt())).willReturn(List.of(withId(outbox, 3L)));
+        given(productRepository.findById(20L)).willReturn(Optional.of(product));
+        given(notificationService.createNotifications(any())).willAnswer(invocation ->
+                List.of(NotificationUtil.createNotification(invocation.getArgument(0), 4L, 'S')));
+        given(notificationBulkRepository.insertAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        notificationOutboxService.relay();
+
+        ArgumentCaptor<NotificationEvent> eventCaptor = ArgumentCaptor.forClass(NotificationEvent.class);
+        verify(notificationService).createNotifications(eventCaptor.capture());
+        ProductStatusChangedEvent event = (ProductStatusChangedEvent) eventCaptor.getValue();
+        assertEquals('1', event.getOldStatus());
+        assertEquals('E', event.getNewStatus());
+        verify(notificationService).publish(argThat(notifications ->
+                notifications.get(0).getContent().contains("품절되었습니다")));
+        verify(notificationOutboxRepository).markSent(eq(List.of(3L)), any());
+    }
+
+    @Test
+    @DisplayName("릴레이 전에 상품이 삭제돼도 기록해 둔 값으로 알림을 만들고 재시도하지 않는다")
+    void relay_WhenProductDeleted_ShouldUseRecordedProduct() {
+        Product product = Product.builder().id(21L).name("샐러드").status('0')
+                .seller(Seller.builder().id(4L).build()).build();
+        NotificationOutbox outbox = enqueueAndCapture(CartProductStatusChangedEvent.builder()
+                .product(product).oldStatus('1').newStatus('0').eventId("CART_PRODUCT_STATUS_21").build());
+
+        given(notificationOutboxRepository.findPendingForUpdate(anyInt())).willReturn(List.of(withId(outbox, 4L)));
+        given(productRepository.findById(21L)).willReturn(Optional.empty());
+        given(notificationService.createNotifications(any())).willReturn(List.of());
+        given(notificationBulkRepository.insertAll(List.of())).willReturn(List.of());
+
+        notificationOutboxService.relay();
+
+        ArgumentCaptor<NotificationEvent> eventCaptor = ArgumentCaptor.forClass(NotificationEvent.class);
+        verify(notificationService).createNotifications(eventCaptor.capture());
+        CartProductStatusChangedEvent event = (CartProductStatusChangedEvent) eventCaptor.getValue();
+        assertEquals(21L, event.getProduct().getId());
+        assertEquals("샐러드", event.getProduct().getName());
+        assertEquals(4L, event.getSenderId());
+        assertEquals('0', event.getNewStatus());
+        verify(notificationOutboxRepository).markSent(eq(List.of(4L)), any());
+    }
+
+    // enqueue로 저장되는 아웃박스 행
+    private NotificationOutbox enqueueAndCapture(NotificationEvent event) {
+        notificationOutboxService.enqueue(event);
+        ArgumentCaptor<NotificationOutbox> outboxCaptor = ArgumentCaptor.forClass(NotificationOutbox.class);
+        verify(notificationOutboxRepository).save(outboxCaptor.capture());
+        return outboxCaptor.getValue();
+    }
+
+    private NotificationOutbox withId(NotificationOutbox outbox, Long id) {
+        return NotificationOutbox.builder()
+                .id(id)
+                .eventType(outbox.getEventType())
+                .eventId(outbox.getEventId())
+                .aggregateId(outbox.getAggregateId())
+                .payload(outbox.getPayload())
+                .status(outbox.getStatus())
+                .attempts(outbox.getAttempts())
+                .build();
+    }
+
+    private NotificationOutbox createOutbox(Long id, NotificationType type, Long aggregateId) {
+        return NotificationOutbox.builder()
+                .id(id)
+                .eventType(type)
+                .eventId(type.name() + "_" + aggregateId)
+                .aggregateId(aggregateId)
+                .status('P')
+                .attempts(0)
+                .build();
+    }
+}
@@ -0,0 +1,241 @@
+package com.yju.team2.seilomun.domain.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.yju.team2.seilomun.domain.customer.repository.FavoriteRepository;
+import com.yju.team2.seilomun.domain.notification.dto.NotificationBatchMessage;
+import com.yju.team2.seilomun.domain.notification.entity.Notification;
+import com.yju.team2.seilomun.domain.notification.enums.NotificationType;
+import com.yju.team2.seilomun.domain.notification.event.NewProductEvent;
+import com.yju.team2.seilomun.domain.notification.repository.NotificationBulkRepository;
+import com.yju.team2.seilomun.domain.notification.repository.NotificationReplayBuffer;
+import com.yju.team2.seilomun.domain.notification.repository.NotificationRepository;
+import com.yju.team2.seilomun.domain.notification.repository.SseConnection;
+import com.yju.team2.seilomun.domain.notification.repository.SseEmitterRepository;
+import com.yju.team2.seilomun.domain.notification.strategy.NotificationStrategy;
+import com.yju.team2.seilomun.domain.notification.strategy.NotificationStrategyFactory;
+import com.yju.team2.seilomun.domain.product.entity.Product;
+import com.yju.team2.seilomun.domain.seller.entity.Seller;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    @Mock
+    private SseEmitterRepository sseEmitterRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private FavoriteRepository favoriteRepository;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private NotificationStrategyFactory strategyFactory;
+
+    @Mock
+    private NotificationBulkRepository notificationBulkRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private NotificationReplayBuffer notificationReplayBuffer;
+
+    @Mock
+    private SseConnection connection;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private NotificationStrategy notificationStrategy;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new NotificationService(sseEmitterRepository, notificationRepository, favoriteRepository,
+                redisTemplate, objectMapper, strategyFactory, notificationBulkRepository, transactionTemplate,
+                notificationReplayBuffer);
+    }
+
+    @Test
+    @DisplayName("수신자가 연결된 서버별로 알림을 묶어 그 서버 채널로만 발행하고 연결되지 않은 수신자는 건너뛴다")
+    void publish_ShouldGroupNotificationsPerServer() throws Exception {
+        List<Notification> notifications = new ArrayList<>();
+        Map<String, Set<String>> serverIds = new HashMap<>();
+        for (long recipientId = 1; recipientId <= 450; recipientId++) {
+            notifications.add(notification(recipientId));
+            if (recipientId <= 300) {
+                serverIds.put("C:" + recipientId, Set.of(recipientId % 3 == 0 ? "server-a" : "server-b"));
+            }
+        }
+        given(sseEmitterRepository.findServerIdsByUserKeys(anyList())).willReturn(serverIds);
+        given(notificationReplayBuffer.appendAll(anyList(), eq(NotificationReplayBuffer.NOTIFICATION), anyList()))
+                .willAnswer(invocation -> invocation.<List<String>>getArgument(0).stream()
+                        .map(userKey -> userKey.substring(2) + "-0")
+                        .toList());
+
+        notificationService.publish(notifications);
+
+        // server-a 100명 -> 메시지 1개, server-b 200명 -> 메시지 1개, 미연결 150명 -> 발행 안 함
+        ArgumentCaptor<String> channels = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object> messages = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate, times(2)).convertAndSend(channels.capture(), messages.capture());
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 2; i++) {
+            NotificationBatchMessage batch = objectMapper.readValue((String) messages.getAllValues().get(i),
+                    NotificationBatchMessage.class);
+            assertEquals("notification:server:" + batch.getServerId(), channels.getAllValues().get(i));
+            counts.put(batch.getServerId(), batch.getNotifications().size());
+            // 재연결 버퍼 항목 ID를 SSE 이벤트 ID로 함께 보냄
+            batch.getNotifications().forEach(message ->
+                    assertEquals(message.getCustomerId() + "-0", message.getEventId()));
+        }
+        assertEquals(Map.of("server-a", 100, "server-b", 200), counts);
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID로 재연결하면 버퍼에서 놓친 알림만 다시 보낸다")
+    void connect_WithLastEventId_ShouldReplayMissedNotifications() {
+        given(sseEmitterRepository.save(eq('C'), eq(7L), any())).willReturn(connection);
+        given(notificationReplayBuffer.append("C:7", NotificationReplayBuffer.CONNECT, "")).willReturn("300-0");
+        given(notificationReplayBuffer.readAfter("C:7", "100-0")).willReturn(List.of(
+                new NotificationReplayBuffer.Entry("150-0", NotificationReplayBuffer.NOTIFICATION, "{\"id\":1}"),
+                new NotificationReplayBuffer.Entry("200-0", NotificationReplayBuffer.NOTIFICATION, "{\"id\":2}")));
+
+        notificationService.connect(7L, "100-0");
+
+        List<String> events = sentEvents();
+        assertEquals(3, events.size());
+        assertTrue(events.get(0).contains("event:connect") && !events.get(0).contains("id:"));
+        assertTrue(events.get(1).contains("id:150-0") && events.get(1).contains("{\"id\":1}"));
+        assertTrue(events.get(2).contains("id:200-0"));
+    }
+
+    @Test
+    @DisplayName("버퍼가 잘려 놓친 알림을 빠짐없이 보낼 수 없으면 목록 재조회를 요청한다")
+    void connect_WithTrimmedBuffer_ShouldRequestResync() {
+        given(sseEmitterRepository.save(eq('S'), eq(7L), any())).willReturn(connection);
+        given(notificationReplayBuffer.append("S:7", NotificationReplayBuffer.CONNECT, "")).willReturn("300-0");
+        given(notificationReplayBuffer.readAfter("S:7", "100-0")).willReturn(null);
+
+        notificationService.connectSeller(7L, "100-0");
+
+        List<String> events = sentEvents();
+        assertEquals(2, events.size());
+        assertTrue(events.get(1).contains("event:resync") && events.get(1).contains("id:300-0"));
+    }
+
+    @Test
+    @DisplayName("팬아웃 대기열이 가득 차 커밋 후 콜백에서 직접 실행되어도 청크는 새 트랜잭션으로 저장한다")
+    void processNotification_WhenFanOutSaturated_ShouldSaveChunksInNewTransaction() throws Exception {
+        given(transactionTemplate.getTransactionManager()).willReturn(transactionManager);
+        notificationService.initFanOutTransaction();
+        given(strategyFactory.getStrategy(NotificationType.NEW_PRODUCT)).willReturn(notificationStrategy);
+        given(notificationStrategy.getRecipients(any())).willReturn(LongStream.rangeClosed(1, 501).boxed().toList());
+        given(notificationStrategy.getRecipientType()).willReturn('C');
+
+        // 팬아웃 스레드는 풀어 줄 때까지 붙잡아 두고, 호출한 스레드에서 실행된 팬아웃 수를 셈
+        Thread callerThread = Thread.currentThread();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger callerRuns = new AtomicInteger();
+        given(notificationBulkRepository.insertAll(anyList())).willAnswer(invocation -> {
+            if (Thread.currentThread() == callerThread) {
+                callerRuns.incrementAndGet();
+            } else {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return invocation.getArgument(0);
+        });
+
+        // 팬아웃 스레드 2개가 하나씩 잡고 대기열 50개가 찬 뒤 하나 더 -> 커밋 후 콜백 안에서 직접 실행
+        int events = 2 + 50 + 1;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            for (int i = 0; i < events; i++) {
+                notificationService.processNotification(newProductEvent("EVENT-" + i));
+            }
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+            release.countDown();
+        }
+
+        assertEquals(1, callerRuns.get());
+        verify(notificationBulkRepository, timeout(5000).times(events)).insertAll(anyList());
+        verify(transactionManager, timeout(5000).times(events)).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(transactionManager, timeout(5000).times(events)).commit(any());
+        verify(transactionTemplate, never()).execute(any());
+        notificationService.shutdown();
+    }
+
+    // 연결로 보낸 이벤트를 SSE 텍스트로 변환
+    private List<String> sentEvents() {
+        ArgumentCaptor<SseEmitter.SseEventBuilder> events = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(connection, atLeastOnce()).send(events.capture());
+        return events.getAllValues().stream()
+                .map(event -> event.build().stream()
+                        .map(data -> String.valueOf(data.getData()))
+                        .collect(Collectors.joining()))
+                .toList();
+    }
+
+    private NewProductEvent newProductEvent(String eventId) {
+        Seller seller = Seller.builder().id(1L).storeName("테스트매장").build();
+        return NewProductEvent.builder()
+                .product(Product.builder().id(10L).name("새상품").seller(seller).build())
+                .eventId(eventId)
+                .build();
+    }
+
+    private Notification notification(Long recipientId) {
+        return Notification.builder()
+                .id(recipientId)
+                .content("관심 상품의 상태가 변경되었습니다.")
+                .recipientType('C')
+                .recipientId(recipientId)
+                .senderType('S')
+                .senderId(1L)
+                .isRead('N')
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.yju.team2.seilomun.domain.order.client;
+
+import com.yju.team2.seilomun.config.TossPaymentConfig;
+import com.yju.team2.seilomun.domain.order.dto.PaymentSuccessDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TossPaymentClientTest {
+
+    private TossPaymentStubServer stubServer;
+    private SimpleMeterRegistry meterRegistry;
+    private TossPaymentClient tossPaymentClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubServer = new TossPaymentStubServer();
+        meterRegistry = new SimpleMeterRegistry();
+
+        TossPaymentConfig config = new TossPaymentConfig();
+        ReflectionTestUtils.setField(config, "testSecreteKey", "test_sk");
+        ReflectionTestUtils.setField(config, "baseUrl", stubServer.getBaseUrl());
+        ReflectionTestUtils.setField(config, "connectTimeoutMillis", 500L);
+        ReflectionTestUtils.setField(config, "readTimeoutMillis", 300L);
+        ReflectionTestUtils.setField(config, "maxAttempts", 3);
+        ReflectionTestUtils.setField(config, "retryBackoffMillis", 10L);
+        ReflectionTestUtils.setField(config, "circuitFailureThreshold", 2);
+        ReflectionTestUtils.setField(config, "circuitOpenSeconds", 60L);
+        tossPaymentClient = new TossPaymentClient(config, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.close();
+    }
+
+    @Test
+    @DisplayName("결제 승인 요청에 인증 헤더와 멱등키가 포함된다")
+    void confirm_ShouldSendAuthorizationAndIdempotencyKey() {
+        PaymentSuccessDto result = tossPaymentClient.confirm("pk", "order-1", 1000);
+
+        assertEquals("DONE", result.getStatus());
+        assertEquals(List.of("/v1/payments/pk"), stubServer.getPaths());
+        assertEquals("confirm-order-1", stubServer.getIdempotencyKeys().get(0));
+        assertTrue(stubServer.getAuthorizations().get(0).startsWith("Basic "));
+        assertEquals(1, meterRegistry.get("toss.payment.latency").tag("endpoint", "confirm").timer().count());
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 같은 멱등키로 재시도한다")
+    void confirm_WithServerError_ShouldRetryWithSameIdempotencyKey() {
+        stubServer.enqueue(500, "{}").enqueue(503, "{}");
+
+        PaymentSuccessDto result = tossPaymentClient.confirm("pk", "order-2", 1000);
+
+        assertEquals("DONE", result.getStatus());
+        assertEquals(3, stubServer.getIdempotencyKeys().size());
+        assertTrue(stubServer.getIdempotencyKeys().stream().allMatch("confirm-order-2"::equals));
+        assertEquals(PaymentCircuitBreaker.State.CLOSED, tossPaymentClient.getCircuitState());
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 재시도하지 않고 결과가 확정된 실패로 처리한다")
+    void confirm_WithClientError_ShouldNotRetry() {
+        stubServer.enqueue(400, "{\"code\":\"REJECT_CARD_PAYMENT\"}");
+
+        TossPaymentException exception = assertThrows(TossPaymentException.class,
+                () -> tossPaymentClient.confirm("pk", "order-3", 1000));
+
+        assertFalse(exception.isOutcomeUnknown());
+        assertEquals(1, stubServer.getPaths().size());
+    }
+
+    @Test
+    @DisplayName("응답 타임아웃이 계속되면 결과를 알 수 없는 실패로 처리한다")
+    void confirm_WithReadTimeout_ShouldFailWithUnknownOutcome() {
+        stubServer.enqueueDelayed(1000).enqueueDelayed(1000).enqueueDelayed(1000);
+
+        TossPaymentException exception = assertThrows(TossPaymentException.class,
+                () -> tossPaymentClient.confirm("pk", "order-4", 1000));
+
+        assertTrue(exception.isOutcomeUnknown());
+        assertEquals(3, stubServer.getPaths().size());
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치를 넘으면 서킷이 열려 요청을 보내지 않는다")
+    void confirm_WhenCircuitOpen_ShouldRejectWithoutCallingServer() {
+        for (int i = 0; i < 6; i++) {
+            stubServer.enqueue(500, "{}");
+        }
+        assertThrows(TossPaymentException.class, () -> tossPaymentClient.confirm("pk", "order-5", 1000));
+        assertThrows(TossPaymentException.class, () -> tossPaymentClient.confirm("pk", "order-6", 1000));
+        assertEquals(PaymentCircuitBreaker.State.OPEN, tossPaymentClient.getCircuitState());
+        int calls = stubServer.getPaths().size();
+
+        TossPaymentException exception = assertThrows(TossPaymentException.class,
+                () -> tossPaymentClient.cancel("pk", "취소"));
+
+        assertFalse(exception.isOutcomeUnknown());
+        assertEquals(calls, stubServer.getPaths().size());
+    }
+
+    @Test
+    @DisplayName("주문번호로 결제를 조회하고, 토스에 결제가 없으면 빈 값을 돌려준다")
+    void findByOrderId_ShouldReturnStatusOrEmpty() {
+        stubServer.enqueue(200, "{\"orderId\":\"order-1\",\"status\":\"DONE\"}")
+                .enqueue(404, "{\"code\":\"NOT_FOUND_PAYMENT\"}");
+
+        Optional<Map> done = tossPaymentClient.findByOrderId("order-1");
+        Optional<Map> missing = tossPaymentClient.findByOrderId("order-2");
+
+        assertEquals("DONE", done.orElseThrow().get("status"));
+        assertTrue(missing.isEmpty());
+        assertEquals(List.of("/v1/payments/orders/order-1", "/v1/payments/orders/order-2"), stubServer.getPaths());
+    }
+}
@@ -0,0 +1,95 @@
+package com.yju.team2.seilomun.domain.order.client;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+/**
+ * 테스트용 토스페이먼츠 스텁 서버
+ * enqueue 한 순서대로 응답하고, 받은 요청의 경로와 멱등키를 기록한다.
+ * 준비된 응답이 없으면 200 과 기본 승인 응답을 돌려준다.
+ */
+public class TossPaymentStubServer implements AutoCloseable {
+
+    private static final String DEFAULT_BODY = "{\"paymentKey\":\"pk\",\"orderId\":\"order\",\"status\":\"DONE\"}";
+
+    private final HttpServer server;
+    private final ConcurrentLinkedQueue<StubResponse> responses = new ConcurrentLinkedQueue<>();
+    private final List<String> paths = new CopyOnWriteArrayList<>();
+    private final List<String> idempotencyKeys = new CopyOnWriteArrayList<>();
+    private final List<String> authorizations = new CopyOnWriteArrayList<>();
+
+    public TossPaymentStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/payments/", exchange -> {
+            paths.add(exchange.getRequestURI().getPath());
+            idempotencyKeys.add(exchange.getRequestHeaders().getFirst("Idempotency-Key"));
+            authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+            exchange.getRequestBody().readAllBytes();
+
+            StubResponse response = responses.poll();
+            if (response == null) {
+                response = new StubResponse(200, DEFAULT_BODY, 0);
+            }
+            if (response.delayMillis > 0) {
+                try {
+                    Thread.sleep(response.delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(response.status, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            } catch (IOException ignored) {
+                // 클라이언트가 타임아웃으로 먼저 끊은 경우
+            }
+        });
+        // 타임아웃 테스트에서 지연 응답이 다음 요청을 막지 않도록 요청마다 스레드 사용
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/v1/payments/";
+    }
+
+    public TossPaymentStubServer enqueue(int status, String body) {
+        responses.add(new StubResponse(status, body, 0));
+        return this;
+    }
+
+    public TossPaymentStubServer enqueueDelayed(long delayMillis) {
+        responses.add(new StubResponse(200, DEFAULT_BODY, delayMillis));
+        return this;
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public List<String> getIdempotencyKeys() {
+        return idempotencyKeys;
+    }
+
+    public List<String> getAuthorizations() {
+        return authorizations;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private record StubResponse(int status, String body, long delayMillis) {
+    }
+}
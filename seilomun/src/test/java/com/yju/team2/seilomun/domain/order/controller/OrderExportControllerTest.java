@@ -0,0 +1,228 @@
+package com.yju.team2.seilomun.domain.order.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.yju.team2.seilomun.config.TossPaymentConfig;
+import com.yju.team2.seilomun.domain.auth.JwtUserDetails;
+import com.yju.team2.seilomun.domain.order.dto.SellerOrderExportRow;
+import com.yju.team2.seilomun.domain.order.dto.StatsDto;
+import com.yju.team2.seilomun.domain.order.repository.OrderRepository;
+import com.yju.team2.seilomun.domain.order.service.OrderExportService;
+import com.yju.team2.seilomun.domain.order.service.OrderService;
+import com.yju.team2.seilomun.domain.seller.controller.SellerController;
+import com.yju.team2.seilomun.domain.seller.repository.SellerRepository;
+import com.yju.team2.seilomun.domain.seller.service.SellerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExportControllerTest {
+
+    private static final Long SELLER_ID = 7L;
+    private static final String BOM = "\uFEFF";
+    private static final String ORDER_HEADER = "주문ID,주문번호,주문일시,고객명,주문상태,배달여부,주문금액,주문상품\r\n";
+    private static final String STATS_HEADER = "연도,분기,월,주,일,판매수량,매출액\r\n";
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private SellerRepository sellerRepository;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private SellerService sellerService;
+
+    @Mock
+    private TossPaymentConfig tossPaymentConfig;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        OrderExportService orderExportService = new OrderExportService(orderRepository, sellerRepository, orderService, objectMapper);
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new SellerController(sellerService, orderExportService),
+                        new OrderController(orderService, orderExportService, tossPaymentConfig))
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+
+        JwtUserDetails seller = JwtUserDetails.fromSeller(SELLER_ID, "export@seller.com", "내보내기상점");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(seller, null, seller.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("주문 CSV는 쉼표/따옴표/줄바꿈이 들어간 값을 따옴표로 감싸고 주문마다 한 줄로 내보낸다")
+    void exportOrders_Csv_ShouldEscapeSpecialCharacters() throws Exception {
+        LocalDateTime orderDate = LocalDateTime.of(2025, 5, 1, 12, 30);
+        given(sellerRepository.existsById(SELLER_ID)).willReturn(true);
+        given(orderRepository.streamSellerOrderRows(SELLER_ID)).willReturn(Stream.of(
+                new SellerOrderExportRow(1L, "ORD-1", orderDate, "김,\"철수\"", 'S', 'N', 9000, "도시락\n세트", 2, 4000),
+                new SellerOrderExportRow(1L, "ORD-1", orderDate, "김,\"철수\"", 'S', 'N', 9000, "물", 1, 1000),
+                new SellerOrderExportRow(2L, "ORD-2", orderDate, "이영희", 'A', 'Y', 3000, "빵", 3, 1000)));
+
+        MockHttpServletResponse response = mockMvc.perform(get("/api/sellers/orders/export").param("format", "csv"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("orders.csv")))
+                .andReturn()
+                .getResponse();
+
+        assertContentType(response, "text/csv");
+        assertEquals(BOM + ORDER_HEADER
+                        + "1,ORD-1,2025-05-01T12:30,\"김,\"\"철수\"\"\",S,N,9000,\"도시락\n세트 x2 | 물 x1\"\r\n"
+                        + "2,ORD-2,2025-05-01T12:30,이영희,A,Y,3000,빵 x3\r\n",
+                response.getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("주문 NDJSON은 주문마다 JSON 한 줄이고 값 안의 줄바꿈이 줄을 나누지 않는다")
+    void exportOrders_Ndjson_ShouldWriteOneJsonObjectPerLine() throws Exception {
+        LocalDateTime orderDate = LocalDateTime.of(2025, 5, 1, 12, 30);
+        given(sellerRepository.existsById(SELLER_ID)).willReturn(true);
+        given(orderRepository.streamSellerOrderRows(SELLER_ID)).willReturn(Stream.of(
+                new SellerOrderExportRow(1L, "ORD-1", orderDate, "김,\"철수\"", 'S', 'N', 9000, "도시락\n세트", 2, 4000),
+                new SellerOrderExportRow(1L, "ORD-1", orderDate, "김,\"철수\"", 'S', 'N', 9000, "물", 1, 1000),
+                new SellerOrderExportRow(2L, "ORD-2", orderDate, "이영희", 'A', 'Y', 3000, "빵", 3, 1000)));
+
+        MockHttpServletResponse response = mockMvc.perform(get("/api/sellers/orders/export").param("format", "ndjson"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("orders.ndjson")))
+                .andReturn()
+                .getResponse();
+
+        assertContentType(response, "application/x-ndjson");
+        String body = response.getContentAsString(StandardCharsets.UTF_8);
+        assertFalse(body.startsWith(BOM));
+        assertTrue(body.endsWith("\n"));
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("ORD-1", first.get("orderNumber").asText());
+        assertEquals("김,\"철수\"", first.get("customerName").asText());
+        assertEquals(2, first.get("orderItems").size());
+        assertEquals("도시락\n세트", first.get("orderItems").get(0).get("productName").asText());
+
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals("ORD-2", second.get("orderNumber").asText());
+        assertEquals(1, second.get("orderItems").size());
+    }
+
+    @Test
+    @DisplayName("주문이 없으면 CSV는 BOM과 헤더만, NDJSON은 빈 본문을 내보낸다")
+    void exportOrders_WithNoOrders_ShouldWriteHeaderOnly() throws Exception {
+        given(sellerRepository.existsById(SELLER_ID)).willReturn(true);
+        given(orderRepository.streamSellerOrderRows(SELLER_ID)).willReturn(Stream.empty(), Stream.empty());
+
+        MockHttpServletResponse csv = mockMvc.perform(get("/api/sellers/orders/export").param("format", "csv"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        MockHttpServletResponse ndjson = mockMvc.perform(get("/api/sellers/orders/export").param("format", "ndjson"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        assertContentType(csv, "text/csv");
+        assertEquals(BOM + ORDER_HEADER, csv.getContentAsString(StandardCharsets.UTF_8));
+        assertContentType(ndjson, "application/x-ndjson");
+        assertEquals("", ndjson.getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("통계 내보내기는 형식에 맞는 콘텐츠 타입과 파일 이름으로 한 줄씩 내보낸다")
+    void exportStats_ShouldStreamRowsInRequestedFormat() throws Exception {
+        given(orderService.getStats(SELLER_ID, "monthly", 2025, null)).willReturn(List.of(
+                new StatsDto(2025, 4, 3L, 27000L),
+                new StatsDto(2025, 5, 1L, 3000L)));
+
+        MockHttpServletResponse csv = mockMvc.perform(get("/api/orders/stats/export")
+                        .param("period", "monthly").param("year", "2025").param("format", "csv"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("stats-monthly.csv")))
+                .andReturn()
+                .getResponse();
+        MockHttpServletResponse ndjson = mockMvc.perform(get("/api/orders/stats/export")
+                        .param("period", "monthly").param("year", "2025").param("format", "ndjson"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("stats-monthly.ndjson")))
+                .andReturn()
+                .getResponse();
+
+        assertContentType(csv, "text/csv");
+        assertEquals(BOM + STATS_HEADER + "2025,,4,,,3,27000\r\n2025,,5,,,1,3000\r\n",
+                csv.getContentAsString(StandardCharsets.UTF_8));
+
+        assertContentType(ndjson, "application/x-ndjson");
+        String[] lines = ndjson.getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(4, objectMapper.readTree(lines[0]).get("month").asInt());
+        assertEquals(3000, objectMapper.readTree(lines[1]).get("totalAmount").asInt());
+    }
+
+    @Test
+    @DisplayName("통계가 없으면 CSV는 BOM과 헤더만, NDJSON은 빈 본문을 내보낸다")
+    void exportStats_WithNoStats_ShouldWriteHeaderOnly() throws Exception {
+        given(orderService.getStats(SELLER_ID, "monthly", 2025, null)).willReturn(List.of());
+
+        MockHttpServletResponse csv = mockMvc.perform(get("/api/orders/stats/export")
+                        .param("period", "monthly").param("year", "2025").param("format", "csv"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        MockHttpServletResponse ndjson = mockMvc.perform(get("/api/orders/stats/export")
+                        .param("period", "monthly").param("year", "2025").param("format", "ndjson"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        assertEquals(BOM + STATS_HEADER, csv.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals("", ndjson.getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    // 콘텐츠 타입과 UTF-8 문자셋 확인
+    private void assertContentType(MockHttpServletResponse response, String expectedType) {
+        MediaType contentType = MediaType.parseMediaType(response.getContentType());
+        assertTrue(contentType.isCompatibleWith(MediaType.parseMediaType(expectedType)), "콘텐츠 타입: " + contentType);
+        assertEquals(StandardCharsets.UTF_8, contentType.getCharset());
+    }
+}
@@ -0,0 +1,128 @@
+package com.yju.team2.seilomun.domain.order.generator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class SnowflakeOrderNumberGeneratorTest {
+
+    @Test
+    @DisplayName("32개 스레드가 동시에 생성해도 주문번호가 겹치지 않는다")
+    void generate_WithConcurrentThreads_ShouldBeUnique() throws Exception {
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(1);
+        int threads = 32;
+        int perThread = 10_000;
+        Set<String> orderNumbers = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    orderNumbers.add(generator.generate());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(threads * perThread, orderNumbers.size());
+    }
+
+    @Test
+    @DisplayName("주문번호는 고정 길이이고 생성 순서대로 정렬된다")
+    void generate_ShouldBeFixedLengthAndTimeOrdered() {
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(7);
+
+        String previous = generator.generate();
+        for (int i = 0; i < 10_000; i++) {
+            String current = generator.generate();
+            assertEquals(13, current.length());
+            assertTrue(current.matches("[0-9A-Z]+"));
+            assertTrue(current.compareTo(previous) > 0);
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("노드 ID가 다르면 같은 시점에도 다른 주문번호가 생성된다")
+    void generate_WithDifferentNodes_ShouldNotCollide() {
+        SnowflakeOrderNumberGenerator first = new SnowflakeOrderNumberGenerator(1);
+        SnowflakeOrderNumberGenerator second = new SnowflakeOrderNumberGenerator(2);
+
+        Set<String> orderNumbers = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 10_000; i++) {
+            orderNumbers.add(first.generate());
+            orderNumbers.add(second.generate());
+        }
+
+        assertEquals(20_000, orderNumbers.size());
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위를 벗어나면 예외가 발생한다")
+    void constructor_WithInvalidNodeId_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeOrderNumberGenerator(1024));
+    }
+
+    @Test
+    @DisplayName("이미 임대 중인 노드 ID는 건너뛰고 비어 있는 노드 ID를 임대받는다")
+    void constructor_WithTakenNodeId_ShouldLeaseNextFreeNodeId() {
+        RedisTemplate<String, String> redisTemplate = mockRedisTemplate(5L);
+        ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
+        given(valueOperations.setIfAbsent(eq("order:number:node:4"), anyString(), any(Duration.class))).willReturn(false);
+        given(valueOperations.setIfAbsent(eq("order:number:node:5"), anyString(), any(Duration.class))).willReturn(true);
+
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(redisTemplate, -1);
+
+        assertEquals(13, generator.generate().length());
+    }
+
+    @Test
+    @DisplayName("모든 노드 ID가 임대 중이면 임의의 노드 ID로 대체하지 않고 예외가 발생한다")
+    void constructor_WithNoFreeNodeId_ShouldFailFast() {
+        RedisTemplate<String, String> redisTemplate = mockRedisTemplate(1L);
+        given(redisTemplate.opsForValue().setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(false);
+
+        assertThrows(IllegalStateException.class, () -> new SnowflakeOrderNumberGenerator(redisTemplate, -1));
+    }
+
+    @Test
+    @DisplayName("임대를 다른 서버가 가져가면 더 이상 주문번호를 생성하지 않는다")
+    void generate_AfterLeaseLost_ShouldThrow() {
+        RedisTemplate<String, String> redisTemplate = mockRedisTemplate(1L);
+        given(redisTemplate.opsForValue().setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(redisTemplate, -1);
+        generator.generate();
+
+        given(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any())).willReturn(0L);
+        generator.renewLease();
+
+        assertThrows(IllegalStateException.class, generator::generate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisTemplate<String, String> mockRedisTemplate(Long nodeSequence) {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.increment("order:number:node-seq")).willReturn(nodeSequence);
+        return redisTemplate;
+    }
+}
@@ -0,0 +1,166 @@
+package com.yju.team2.seilomun.domain.order.service;
+
+import com.yju.team2.seilomun.domain.order.dto.OrderReadModel;
+import com.yju.team2.seilomun.domain.order.entity.Order;
+import com.yju.team2.seilomun.domain.order.entity.OrderItem;
+import com.yju.team2.seilomun.domain.order.entity.Payment;
+import com.yju.team2.seilomun.domain.order.repository.OrderRepository;
+import com.yju.team2.seilomun.domain.product.entity.Product;
+import com.yju.team2.seilomun.domain.product.entity.ProductPhoto;
+import com.yju.team2.seilomun.domain.seller.entity.Seller;
+import com.yju.team2.seilomun.domain.seller.entity.SellerPhoto;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(OrderReadModelAssembler.class)
+class OrderReadModelAssemblerTest {
+
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private OrderReadModelAssembler orderReadModelAssembler;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Seller seller;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        seller = Seller.builder()
+                .businessNumber("1234567890")
+                .email("readmodel@seller.com")
+                .password("Test123!@")
+                .storeName("조회테스트")
+                .phone("01012345678")
+                .address("대구광역시")
+                .operatingHours("09:00-21:00")
+                .deliveryAvailable('N')
+                .rating(0F)
+                .pickupTime("30분")
+                .isOpen('1')
+                .status('1')
+                .build();
+        entityManager.persist(seller);
+        entityManager.persist(SellerPhoto.builder().photoUrl("seller.png").seller(seller).build());
+    }
+
+    @Test
+    @DisplayName("주문 페이지 크기와 상관없이 조립 쿼리 수가 같다")
+    void assemble_QueryCount_ShouldNotDependOnPageSize() {
+        createOrders(20);
+
+        long smallPageQueries = countQueries(2);
+        long largePageQueries = countQueries(20);
+
+        assertEquals(smallPageQueries, largePageQueries);
+        assertTrue(largePageQueries <= 5, "조립 쿼리 수: " + largePageQueries);
+    }
+
+    @Test
+    @DisplayName("조립 결과에 아이템, 첫 사진, 결제 상태가 채워진다")
+    void assemble_ShouldFillReadModel() {
+        createOrders(1);
+        entityManager.clear();
+
+        Order order = orderRepository.findBySellerIdWithPagination(seller.getId(), PageRequest.of(0, 1)).getContent().get(0);
+        OrderReadModel readModel = orderReadModelAssembler.assemble(List.of(order));
+
+        assertEquals(ITEMS_PER_ORDER, readModel.getOrderItemDtos(order).size());
+        assertEquals("product-0-0-a.png", readModel.getFirstProductPhotoUrl(order));
+        assertEquals("seller.png", readModel.getSellerPhotoUrl(order.getSeller()));
+        assertEquals("결제완료", readModel.getPaymentStatus(order));
+        assertFalse(readModel.isReviewed(order));
+    }
+
+    // 목록 조회 후 응답에 필요한 값을 모두 읽을 때까지 실행된 쿼리 수
+    private long countQueries(int pageSize) {
+        entityManager.clear();
+        List<Order> orders = orderRepository.findBySellerIdWithPagination(seller.getId(), PageRequest.of(0, pageSize)).getContent();
+        assertEquals(pageSize, orders.size());
+
+        statistics.clear();
+        OrderReadModel readModel = orderReadModelAssembler.assemble(orders);
+        for (Order order : orders) {
+            order.getSeller().getStoreName();
+            readModel.getOrderItemDtos(order);
+            readModel.getFirstProductPhotoUrl(order);
+            readModel.getSellerPhotoUrl(order.getSeller());
+            readModel.isReviewed(order);
+            readModel.getPaymentStatus(order);
+        }
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createOrders(int count) {
+        for (int i = 0; i < count; i++) {
+            Order order = Order.builder()
+                    .seller(seller)
+                    .orderNumber("READ" + i)
+                    .totalAmount(4500 * ITEMS_PER_ORDER)
+                    .usedPoints(0)
+                    .isDelivery('N')
+                    .deliveryStatus('N')
+                    .deliveryFee(0)
+                    .isReivewed('N')
+                    .orderStatus('S')
+                    .build();
+            entityManager.persist(order);
+
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                Product product = Product.builder()
+                        .name("상품" + i + "-" + j)
+                        .originalPrice(5000)
+                        .stockQuantity(10)
+                        .expiryDate(LocalDateTime.now().plusDays(1))
+                        .status('1')
+                        .maxDiscountRate(50)
+                        .minDiscountRate(10)
+                        .seller(seller)
+                        .build();
+                entityManager.persist(product);
+                entityManager.persist(ProductPhoto.builder().photoUrl("product-" + i + "-" + j + "-a.png").product(product).build());
+                entityManager.persist(ProductPhoto.builder().photoUrl("product-" + i + "-" + j + "-b.png").product(product).build());
+                entityManager.persist(OrderItem.builder()
+                        .order(order)
+                        .product(product)
+                        .quantity(1)
+                        .discountRate(10)
+                        .unitPrice(4500)
+                        .build());
+            }
+
+            entityManager.persist(Payment.builder()
+                    .transactionId("READ" + i)
+                    .paymentMethod("카드")
+                    .totalAmount(order.getTotalAmount())
+                    .payName("상품" + i)
+                    .refundStatus("NONE")
+                    .order(order)
+                    .paySuccessYN(true)
+                    .confirmStatus('Y')
+                    .build());
+        }
+        entityManager.flush();
+    }
+}
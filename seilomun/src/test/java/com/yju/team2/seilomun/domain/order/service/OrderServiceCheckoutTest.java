@@ -0,0 +1,261 @@
+package com.yju.team2.seilomun.domain.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yju.team2.seilomun.domain.auth.dto.CartItemRequestDto;
+import com.yju.team2.seilomun.domain.cart.service.CartService;
+import com.yju.team2.seilomun.domain.customer.entity.Customer;
+import com.yju.team2.seilomun.domain.notification.service.NotificationOutboxService;
+import com.yju.team2.seilomun.domain.order.client.TossPaymentClient;
+import com.yju.team2.seilomun.domain.order.dto.OrderDto;
+import com.yju.team2.seilomun.domain.order.dto.OrderProductDto;
+import com.yju.team2.seilomun.domain.order.dto.PaymentResDto;
+import com.yju.team2.seilomun.domain.order.entity.Order;
+import com.yju.team2.seilomun.domain.order.entity.OrderItem;
+import com.yju.team2.seilomun.domain.order.generator.OrderNumberGenerator;
+import com.yju.team2.seilomun.domain.order.repository.OrderItemBulkRepository;
+import com.yju.team2.seilomun.domain.product.entity.Product;
+import com.yju.team2.seilomun.domain.product.service.DiscountPricingEngine;
+import com.yju.team2.seilomun.domain.product.service.ProductDiscountService;
+import com.yju.team2.seilomun.domain.product.service.ProductIndexService;
+import com.yju.team2.seilomun.domain.product.service.ProductLifecycleService;
+import com.yju.team2.seilomun.domain.product.service.ProductService;
+import com.yju.team2.seilomun.domain.seller.entity.Seller;
+import com.yju.team2.seilomun.domain.upload.service.AWSS3UploadService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({OrderService.class, OrderItemBulkRepository.class, ProductService.class, ProductDiscountService.class,
+        OrderServiceCheckoutTest.JacksonConfig.class})
+class OrderServiceCheckoutTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // 할인 캐시는 항상 미스로 두고 상품 엔티티로 계산되는지 확인
+    @MockitoBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    @MockitoBean
+    private ValueOperations<String, String> valueOperations;
+
+    @MockitoBean
+    private DiscountPricingEngine discountPricingEngine;
+
+    // 결제 화면 조회와 관계없는 협력 객체
+    @MockitoBean
+    private ProductIndexService productIndexService;
+
+    @MockitoBean
+    private ProductLifecycleService productLifecycleService;
+
+    @MockitoBean
+    private NotificationOutboxService notificationOutboxService;
+
+    @MockitoBean
+    private AWSS3UploadService awsS3UploadService;
+
+    @MockitoBean
+    private CartService cartService;
+
+    @MockitoBean
+    private StockReservationService stockReservationService;
+
+    @MockitoBean
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @MockitoBean
+    private TossPaymentClient tossPaymentClient;
+
+    @MockitoBean
+    private SellerSalesStatsService sellerSalesStatsService;
+
+    @MockitoBean
+    private OrderStateMachine orderStateMachine;
+
+    private Statistics statistics;
+    private Customer customer;
+    private Seller seller;
+
+    @TestConfiguration
+    static class JacksonConfig {
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().findAndRegisterModules();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(anyList())).willAnswer(invocation ->
+                Arrays.asList(new String[invocation.<List<String>>getArgument(0).size()]));
+
+        customer = Customer.builder()
+                .email("checkout@customer.com")
+                .password("Test123!@")
+                .name("구매자")
+                .phone("01012345678")
+                .nickname("구매자")
+                .birthDate("0101")
+                .gender('M')
+                .profileImageUrl("default.png")
+                .points(0)
+                .status('0')
+                .type('L')
+                .build();
+        entityManager.persist(customer);
+
+        seller = Seller.builder()
+                .businessNumber("1234567890")
+                .email("checkout@seller.com")
+                .password("Test123!@")
+                .storeName("결제테스트")
+                .phone("01012345678")
+                .address("대구광역시")
+                .operatingHours("09:00-21:00")
+                .deliveryAvailable('N')
+                .rating(0F)
+                .pickupTime("30분")
+                .isOpen('1')
+                .status('1')
+                .build();
+        entityManager.persist(seller);
+    }
+
+    @Test
+    @DisplayName("장바구니 상품 수와 상관없이 결제 화면 조회 쿼리 수가 같다")
+    void getBuyProducts_QueryCount_ShouldNotDependOnCartSize() {
+        List<CartItemRequestDto> smallCart = createCart(2);
+        List<CartItemRequestDto> largeCart = createCart(20);
+
+        long smallCartQueries = countQueries(smallCart);
+        long largeCartQueries = countQueries(largeCart);
+
+        assertEquals(smallCartQueries, largeCartQueries);
+        assertTrue(largeCartQueries <= 2, "결제 화면 조회 쿼리 수: " + largeCartQueries);
+    }
+
+    @Test
+    @DisplayName("장바구니 상품마다 그 상품의 할인율과 할인가가 들어간다")
+    void getBuyProducts_ShouldApplyDiscountRatePerLine() {
+        List<CartItemRequestDto> cart = createCart(5);
+        entityManager.clear();
+
+        List<OrderProductDto> orderProducts = orderService.getBuyProducts(cart, customer.getId());
+
+        assertEquals(cart.size(), orderProducts.size());
+        for (int i = 0; i < cart.size(); i++) {
+            OrderProductDto orderProduct = orderProducts.get(i);
+            Product product = entityManager.find(Product.class, cart.get(i).getProductId());
+            // 유통기한까지 3일 이하인 상품은 최대 할인율, 상품마다 최대 할인율과 가격을 다르게 둠
+            assertEquals(product.getId(), orderProduct.getProductId());
+            assertEquals(cart.get(i).getQuantity(), orderProduct.getQuantity());
+            assertEquals(product.getMaxDiscountRate(), orderProduct.getCurrentDiscountRate());
+            assertEquals(product.getOriginalPrice() * (100 - product.getMaxDiscountRate()) / 100, orderProduct.getPrice());
+        }
+    }
+
+    @Test
+    @DisplayName("주문 줄 수와 상관없이 주문 생성 쿼리 수가 같고, 주문 아이템은 생성된 키와 함께 모두 저장된다")
+    void buyProduct_QueryCount_ShouldNotDependOnLineCount() {
+        OrderDto smallOrder = createOrder(createCart(2));
+        OrderDto largeOrder = createOrder(createCart(20));
+        given(orderNumberGenerator.generate()).willReturn("ORDER-S", "ORDER-L");
+        given(stockReservationService.reserve(any(), anyList())).willReturn(List.of());
+
+        long smallOrderQueries = countOrderQueries(smallOrder);
+        long largeOrderQueries = countOrderQueries(largeOrder);
+
+        assertEquals(smallOrderQueries, largeOrderQueries);
+        Order order = entityManager.createQuery("SELECT o FROM Order o WHERE o.orderNumber = 'ORDER-L'", Order.class)
+                .getSingleResult();
+        List<OrderItem> orderItems = entityManager.createQuery(
+                        "SELECT oi FROM OrderItem oi WHERE oi.order = :order ORDER BY oi.id", OrderItem.class)
+                .setParameter("order", order)
+                .getResultList();
+        assertEquals(20, orderItems.size());
+        for (int i = 0; i < orderItems.size(); i++) {
+            OrderProductDto line = largeOrder.getOrderProducts().get(i);
+            assertEquals(line.getProductId(), orderItems.get(i).getProduct().getId());
+            assertEquals(line.getQuantity(), orderItems.get(i).getQuantity());
+            assertEquals(line.getPrice(), orderItems.get(i).getUnitPrice());
+            assertEquals(line.getCurrentDiscountRate(), orderItems.get(i).getDiscountRate());
+        }
+    }
+
+    private long countOrderQueries(OrderDto orderDto) {
+        entityManager.clear();
+        statistics.clear();
+        PaymentResDto payment = orderService.buyProduct(orderDto, customer.getId());
+        assertNotNull(payment);
+        entityManager.flush();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private OrderDto createOrder(List<CartItemRequestDto> cart) {
+        List<OrderProductDto> lines = cart.stream()
+                .map(cartItem -> new OrderProductDto(cartItem.getProductId(), cartItem.getQuantity(), 1000, 20))
+                .toList();
+        return new OrderDto(0, "메모", 'N', null, lines, "CARD", "주문", null, null);
+    }
+
+    private long countQueries(List<CartItemRequestDto> cart) {
+        entityManager.clear();
+        statistics.clear();
+        List<OrderProductDto> orderProducts = orderService.getBuyProducts(cart, customer.getId());
+        assertEquals(cart.size(), orderProducts.size());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<CartItemRequestDto> createCart(int size) {
+        List<CartItemRequestDto> cart = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Product product = Product.builder()
+                    .name("결제상품" + i)
+                    .originalPrice(1000 * (i + 1))
+                    .stockQuantity(10)
+                    .createdAt(LocalDateTime.now())
+                    .expiryDate(LocalDateTime.now().plusDays(1))
+                    .status('T')
+                    .maxDiscountRate(20 + i)
+                    .minDiscountRate(10)
+                    .seller(seller)
+                    .build();
+            entityManager.persist(product);
+
+            CartItemRequestDto cartItem = new CartItemRequestDto();
+            cartItem.setProductId(product.getId());
+            cartItem.setQuantity(i + 1);
+            cart.add(cartItem);
+        }
+        entityManager.flush();
+        return cart;
+    }
+}
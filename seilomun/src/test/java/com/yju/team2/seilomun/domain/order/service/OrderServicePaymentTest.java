@@ -0,0 +1,362 @@
+package com.yju.team2.seilomun.domain.order.service;
+
+import com.yju.team2.seilomun.domain.cart.service.CartService;
+import com.yju.team2.seilomun.domain.customer.entity.Customer;
+import com.yju.team2.seilomun.domain.customer.entity.PointHistory;
+import com.yju.team2.seilomun.domain.customer.repository.CustomerRepository;
+import com.yju.team2.seilomun.domain.customer.repository.PointHistoryRepository;
+import com.yju.team2.seilomun.domain.notification.service.NotificationOutboxService;
+import com.yju.team2.seilomun.domain.order.client.TossPaymentClient;
+import com.yju.team2.seilomun.domain.order.client.TossPaymentException;
+import com.yju.team2.seilomun.domain.order.entity.Order;
+import com.yju.team2.seilomun.domain.order.entity.OrderItem;
+import com.yju.team2.seilomun.domain.order.entity.Payment;
+import com.yju.team2.seilomun.domain.order.repository.OrderItemRepository;
+import com.yju.team2.seilomun.domain.order.repository.OrderRepository;
+import com.yju.team2.seilomun.domain.order.repository.PaymentRepository;
+import com.yju.team2.seilomun.domain.product.service.ProductLifecycleService;
+import com.yju.team2.seilomun.domain.seller.entity.Seller;
+import com.yju.team2.seilomun.domain.seller.repository.SellerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderServicePaymentTest {
+
+    private static final String TRANSACTION_ID = "TX-1";
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Mock
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private TossPaymentClient tossPaymentClient;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private OrderStateMachine orderStateMachine;
+
+    @Mock
+    private ProductLifecycleService productLifecycleService;
+
+    @Mock
+    private CartService cartService;
+
+    @Mock
+    private NotificationOutboxService notificationOutboxService;
+
+    @Mock
+    private SellerRepository sellerRepository;
+
+    @InjectMocks
+    private OrderService orderService;
+
+    private Customer customer;
+    private Order order;
+    private Payment payment;
+    private List<OrderItem> orderItems;
+
+    @BeforeEach
+    void setUp() {
+        customer = Customer.builder().id(3L).points(0).build();
+        order = Order.builder().id(1L).customer(customer).orderStatus('N').build();
+        payment = Payment.builder()
+                .transactionId(TRANSACTION_ID)
+                .totalAmount(10000)
+                .order(order)
+                .confirmStatus('N')
+                .build();
+        orderItems = List.of(OrderItem.builder().id(5L).order(order).quantity(1).build());
+    }
+
+    @Test
+    @DisplayName("토스 승인 결과를 모르면 결제를 승인 요청 중으로 두고 확정한 재고를 건드리지 않는다")
+    void tossPaymentSuccess_WithUnknownOutcome_ShouldKeepPending() {
+        runTransactionCallbacks();
+        given(paymentRepository.findByTransactionId(TRANSACTION_ID)).willReturn(Optional.of(payment));
+        given(orderItemRepository.findByOrder(order)).willReturn(orderItems);
+        given(stockReservationService.commit(order, orderItems)).willReturn(List.of());
+        given(tossPaymentClient.confirm("pk", TRANSACTION_ID, 10000))
+                .willThrow(new TossPaymentException("결제 서버 응답 없음", true, null));
+
+        assertThrows(IllegalStateException.class, () -> orderService.tossPaymentSuccess("pk", TRANSACTION_ID, 10000));
+
+        assertTrue(payment.isConfirmPending());
+        assertNotNull(payment.getConfirmRequestedAt());
+        verify(stockReservationService, never()).compensate(any(), any());
+        verify(orderStateMachine, never()).transition(any(), any());
+    }
+
+    @Test
+    @DisplayName("결과를 모르던 결제가 토스에서 승인 완료면 승인 완료로 마무리한다")
+    void reconcilePendingPayments_WhenTossDone_ShouldComplete() {
+        payment.requestConfirm("pk");
+        runTransactionCallbacks();
+        given(paymentRepository.findPendingConfirms(any(LocalDateTime.class), any(Pageable.class))).willReturn(List.of(payment));
+        given(tossPaymentClient.findByOrderId(TRANSACTION_ID)).willReturn(Optional.of(Map.of("status", "DONE")));
+        given(paymentRepository.findByTransactionId(TRANSACTION_ID)).willReturn(Optional.of(payment));
+        given(customerRepository.findById(3L)).willReturn(Optional.of(customer));
+
+        int settled = orderService.reconcilePendingPayments(LocalDateTime.now());
+
+        assertEquals(1, settled);
+        assertTrue(payment.isConfirmed());
+        assertEquals(100, customer.getPoints());
+        verify(orderStateMachine).transition(order, 'S');
+        verify(stockReservationService, never()).compensate(any(), any());
+    }
+
+    @Test
+    @DisplayName("결과를 모르던 결제가 토스에 없으면 실패 처리하고 확정한 재고를 복구한다")
+    void reconcilePendingPayments_WhenTossNotFound_ShouldFailAndRestoreStock() {
+        payment.requestConfirm("pk");
+        runTransactionCallbacks();
+        given(paymentRepository.findPendingConfirms(any(LocalDateTime.class), any(Pageable.class))).willReturn(List.of(payment));
+        given(tossPaymentClient.findByOrderId(TRANSACTION_ID)).willReturn(Optional.empty());
+        given(paymentRepository.findByTransactionId(TRANSACTION_ID)).willReturn(Optional.of(payment));
+        given(orderStateMachine.transition(order, 'F')).willReturn(true);
+        given(orderItemRepository.findByOrder(order)).willReturn(orderItems);
+        given(stockReservationService.compensate(order, orderItems)).willReturn(List.of());
+
+        int settled = orderService.reconcilePendingPayments(LocalDateTime.now());
+
+        assertEquals(1, settled);
+        assertEquals('F', payment.getConfirmStatus());
+        verify(stockReservationService).compensate(order, orderItems);
+    }
+
+    @Test
+    @DisplayName("토스 결제가 아직 진행 중이면 다음 확인까지 그대로 둔다")
+    void reconcilePendingPayments_WhenTossInProgress_ShouldLeavePending() {
+        payment.requestConfirm("pk");
+        given(paymentRepository.findPendingConfirms(any(LocalDateTime.class), any(Pageable.class))).willReturn(List.of(payment));
+        given(tossPaymentClient.findByOrderId(TRANSACTION_ID)).willReturn(Optional.of(Map.of("status", "IN_PROGRESS")));
+
+        int settled = orderService.reconcilePendingPayments(LocalDateTime.now());
+
+        assertEquals(0, settled);
+        assertTrue(payment.isConfirmPending());
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("승인 결과를 확인 중인 결제는 결제창을 닫아도 주문을 지우거나 재고를 해제하지 않는다")
+    void closePayment_WithPendingConfirm_ShouldReject() {
+        payment.requestConfirm("pk");
+        given(customerRepository.findById(3L)).willReturn(Optional.of(customer));
+        given(orderRepository.findByIdAndOrderStatus(1L, 'N')).willReturn(Optional.of(order));
+        given(paymentRepository.findByOrder(order)).willReturn(Optional.of(payment));
+
+        assertThrows(IllegalStateException.class, () -> orderService.closePayment(3L, 1L));
+
+        verify(stockReservationService, never()).release(any());
+        verify(paymentRepository, never()).delete(any());
+        verify(orderRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("확정된 재고가 있는 주문은 결제창을 닫으면 재고를 복구하고 주문/결제 기록을 남긴다")
+    void closePayment_WithCommittedStock_ShouldRestoreAndKeepOrder() {
+        given(customerRepository.findById(3L)).willReturn(Optional.of(customer));
+        given(orderRepository.findByIdAndOrderStatus(1L, 'N')).willReturn(Optional.of(order));
+        given(paymentRepository.findByOrder(order)).willReturn(Optional.of(payment));
+        given(stockReservationService.hasCommitted(order)).willReturn(true);
+        given(orderStateMachine.transition(order, 'F')).willReturn(true);
+        given(orderItemRepository.findByOrder(order)).willReturn(orderItems);
+        given(stockReservationService.compensate(order, orderItems)).willReturn(List.of());
+
+        orderService.closePayment(3L, 1L);
+
+        assertEquals('F', payment.getConfirmStatus());
+        verify(stockReservationService).compensate(order, orderItems);
+        verify(stockReservationService, never()).release(any());
+        verify(orderRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("승인 결과를 확인 중인 결제에 실패 콜백이 오면 결제/주문/재고를 건드리지 않는다")
+    void tossPaymentFail_WithPendingConfirm_ShouldKeepPending() {
+        payment.requestConfirm("pk");
+        given(paymentRepository.findByTransactionId(TRANSACTION_ID)).willReturn(Optional.of(payment));
+
+        orderService.tossPaymentFail("PAY_PROCESS_CANCELED", "사용자 취소", TRANSACTION_ID);
+
+        assertTrue(payment.isConfirmPending());
+        verify(orderStateMachine, never()).transition(any(), any());
+        verify(stockReservationService, never()).release(any());
+        verify(stockReservationService, never()).compensate(any(), any());
+    }
+
+    @Test
+    @DisplayName("확정된 재고가 있는 결제에 실패 콜백이 오면 예약 해제가 아니라 재고를 복구한다")
+    void tossPaymentFail_WithCommittedStock_ShouldRestoreStock() {
+        given(paymentRepository.findByTransactionId(TRANSACTION_ID)).willReturn(Optional.of(payment));
+        given(orderStateMachine.transition(order, 'F')).willReturn(true);
+        given(stockReservationService.hasCommitted(order)).willReturn(true);
+        given(orderItemRepository.findByOrder(order)).willReturn(orderItems);
+        given(stockReservationService.compensate(order, orderItems)).willReturn(List.of());
+
+        orderService.tossPaymentFail("PAY_PROCESS_CANCELED", "사용자 취소", TRANSACTION_ID);
+
+        assertEquals('F', payment.getConfirmStatus());
+        verify(stockReservationService).compensate(order, orderItems);
+        verify(stockReservationService, never()).release(any());
+    }
+
+    @Test
+    @DisplayName("선점만 한 결제에 실패 콜백이 오면 예약을 해제한다")
+    void tossPaymentFail_WithReservedStock_ShouldRelease() {
+        given(paymentRepository.findByTransactionId(TRANSACTION_ID)).willReturn(Optional.of(payment));
+        given(orderStateMachine.transition(order, 'F')).willReturn(true);
+        given(stockReservationService.hasCommitted(order)).willReturn(false);
+        given(stockReservationService.release(order)).willReturn(List.of());
+
+        orderService.tossPaymentFail("PAY_PROCESS_CANCELED", "사용자 취소", TRANSACTION_ID);
+
+        assertEquals('F', payment.getConfirmStatus());
+        verify(stockReservationService).release(order);
+        verify(stockReservationService, never()).compensate(any(), any());
+    }
+
+    @Test
+    @DisplayName("판매자가 주문을 거절하면 주문 취소를 커밋한 뒤 트랜잭션 밖에서 토스 취소를 요청하고 취소 완료로 마무리한다")
+    void refuseOrder_ShouldCallTossCancelOutsideTransaction() {
+        boolean[] inTransaction = trackTransactions();
+        Order paidOrder = givenPaidOrder();
+        given(tossPaymentClient.cancel("pk", "판매자 주문 거절")).willAnswer(invocation -> {
+            assertFalse(inTransaction[0], "토스 취소 요청 중에 트랜잭션이 열려 있음");
+            assertTrue(payment.isCancelPending());
+            return Map.of("status", "CANCELED");
+        });
+        given(paymentRepository.findById(payment.getId())).willReturn(Optional.of(payment));
+
+        orderService.refuseOrder(2L, paidOrder.getId());
+
+        assertTrue(payment.isCancelYN());
+        assertEquals('Y', payment.getCancelStatus());
+        assertEquals(0, customer.getPoints());
+        verify(stockReservationService).compensate(paidOrder, orderItems);
+    }
+
+    @Test
+    @DisplayName("토스 취소가 실패하면 주문 취소는 유지하고 결제를 취소 요청 중으로 남긴다")
+    void refuseOrder_WhenTossCancelFails_ShouldKeepCancelPending() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        Order paidOrder = givenPaidOrder();
+        given(tossPaymentClient.cancel("pk", "판매자 주문 거절"))
+                .willThrow(new TossPaymentException("결제 서버 응답 없음", true, null));
+
+        orderService.refuseOrder(2L, paidOrder.getId());
+
+        assertTrue(payment.isCancelPending());
+        assertFalse(payment.isCancelYN());
+        verify(orderStateMachine).transition(paidOrder, 'R');
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("취소 결과를 모르던 결제가 토스에서 이미 취소됐으면 다시 요청하지 않고 취소 완료로 마무리한다")
+    void reconcilePendingCancels_WhenTossCanceled_ShouldComplete() {
+        payment.successPayment("pk");
+        payment.requestCancel();
+        runTransactionCallbacks();
+        given(paymentRepository.findPendingCancels(any(LocalDateTime.class), any(Pageable.class))).willReturn(List.of(payment));
+        given(tossPaymentClient.findByOrderId(TRANSACTION_ID)).willReturn(Optional.of(Map.of("status", "CANCELED")));
+        given(paymentRepository.findById(payment.getId())).willReturn(Optional.of(payment));
+
+        int settled = orderService.reconcilePendingCancels(LocalDateTime.now());
+
+        assertEquals(1, settled);
+        assertTrue(payment.isCancelYN());
+        verify(tossPaymentClient, never()).cancel(any(), any());
+    }
+
+    // 판매자 2의 결제 완료 주문, 적립 포인트 100
+    private Order givenPaidOrder() {
+        customer = Customer.builder().id(3L).points(100).build();
+        Order paidOrder = Order.builder().id(1L).customer(customer).seller(Seller.builder().id(2L).build())
+                .orderStatus('S').build();
+        payment = Payment.builder().id(9L).transactionId(TRANSACTION_ID).totalAmount(10000).order(paidOrder)
+                .confirmStatus('Y').paySuccessYN(true).paymentKey("pk").build();
+        orderItems = List.of(OrderItem.builder().id(5L).order(paidOrder).quantity(1).build());
+        given(orderRepository.findById(1L)).willReturn(Optional.of(paidOrder));
+        given(sellerRepository.findById(2L)).willReturn(Optional.of(paidOrder.getSeller()));
+        given(paymentRepository.findByOrderAndPaySuccessYN(paidOrder, true)).willReturn(Optional.of(payment));
+        given(pointHistoryRepository.findByOrderAndType(paidOrder, 'A'))
+                .willReturn(Optional.of(PointHistory.builder().type('A').amount(100).order(paidOrder).customer(customer).build()));
+        given(orderStateMachine.transition(paidOrder, 'R')).willReturn(true);
+        given(orderItemRepository.findByOrder(paidOrder)).willReturn(orderItems);
+        given(stockReservationService.compensate(paidOrder, orderItems)).willReturn(List.of());
+        return paidOrder;
+    }
+
+    // 트랜잭션 템플릿에 넘긴 작업을 바로 실행하고, 실행 중인지 기록
+    private boolean[] trackTransactions() {
+        boolean[] inTransaction = new boolean[1];
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+            inTransaction[0] = true;
+            try {
+                return invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null);
+            } finally {
+                inTransaction[0] = false;
+            }
+        });
+        willAnswer(invocation -> {
+            inTransaction[0] = true;
+            try {
+                invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            } finally {
+                inTransaction[0] = false;
+            }
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        return inTransaction;
+    }
+
+    // 트랜잭션 템플릿에 넘긴 작업을 바로 실행
+    private void runTransactionCallbacks() {
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+}
@@ -0,0 +1,91 @@
+package com.yju.team2.seilomun.domain.order.service;
+
+import com.yju.team2.seilomun.domain.order.entity.Order;
+import com.yju.team2.seilomun.domain.order.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderStateMachineTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private OrderStateMachine orderStateMachine;
+
+    @Test
+    @DisplayName("허용된 상태 전이는 버전 조건으로 한 번 반영된다")
+    void transition_Allowed_ShouldUpdateWithVersion() {
+        Order order = order('S');
+        given(orderRepository.updateStatusIfVersion(1L, 'S', 'A', 3L)).willReturn(1);
+
+        assertTrue(orderStateMachine.transition(order, 'A'));
+        verify(entityManager).refresh(order);
+    }
+
+    @Test
+    @DisplayName("이미 목표 상태인 주문은 아무것도 하지 않는다")
+    void transition_AlreadyInTargetStatus_ShouldBeNoOp() {
+        Order order = order('R');
+
+        assertFalse(orderStateMachine.transition(order, 'R'));
+        verifyNoInteractions(orderRepository, entityManager);
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 상태 전이는 예외")
+    void transition_NotAllowed_ShouldThrow() {
+        Order order = order('R');
+
+        assertThrows(IllegalStateException.class, () -> orderStateMachine.transition(order, 'A'));
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 요청이 먼저 반영됐으면 중복 요청으로 무시한다")
+    void transition_ConcurrentDuplicate_ShouldBeNoOp() {
+        Order order = order('S');
+        given(orderRepository.updateStatusIfVersion(anyLong(), any(), any(), any())).willReturn(0);
+        doAnswer(invocation -> {
+            order.updateOrderStatus('R');
+            return null;
+        }).when(entityManager).refresh(order);
+
+        assertFalse(orderStateMachine.transition(order, 'R'));
+    }
+
+    @Test
+    @DisplayName("다른 요청이 다른 상태로 바꿨으면 예외")
+    void transition_ConcurrentConflict_ShouldThrow() {
+        Order order = order('S');
+        given(orderRepository.updateStatusIfVersion(anyLong(), any(), any(), any())).willReturn(0);
+        doAnswer(invocation -> {
+            order.updateOrderStatus('A');
+            return null;
+        }).when(entityManager).refresh(order);
+
+        assertThrows(IllegalStateException.class, () -> orderStateMachine.transition(order, 'R'));
+    }
+
+    private Order order(Character status) {
+        return Order.builder()
+                .id(1L)
+                .orderStatus(status)
+                .version(3L)
+                .build();
+    }
+}
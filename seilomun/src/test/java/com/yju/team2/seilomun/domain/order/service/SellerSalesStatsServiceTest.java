@@ -0,0 +1,346 @@
+package com.yju.team2.seilomun.domain.order.service;
+
+import com.yju.team2.seilomun.domain.cart.service.CartService;
+import com.yju.team2.seilomun.domain.customer.entity.Customer;
+import com.yju.team2.seilomun.domain.notification.service.NotificationOutboxService;
+import com.yju.team2.seilomun.domain.order.client.TossPaymentClient;
+import com.yju.team2.seilomun.domain.order.dto.StatsDto;
+import com.yju.team2.seilomun.domain.order.entity.Order;
+import com.yju.team2.seilomun.domain.order.entity.OrderItem;
+import com.yju.team2.seilomun.domain.order.entity.SellerSalesDaily;
+import com.yju.team2.seilomun.domain.order.generator.OrderNumberGenerator;
+import com.yju.team2.seilomun.domain.order.repository.OrderItemBulkRepository;
+import com.yju.team2.seilomun.domain.product.entity.Product;
+import com.yju.team2.seilomun.domain.product.service.ProductLifecycleService;
+import com.yju.team2.seilomun.domain.product.service.ProductService;
+import com.yju.team2.seilomun.domain.seller.entity.Seller;
+import com.yju.team2.seilomun.domain.upload.service.AWSS3UploadService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.IsoFields;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 일별 매출 집계(seller_sales_daily) 동작 확인
+ * 집계 쿼리가 MySQL 문법(ON DUPLICATE KEY UPDATE)이라 H2를 MySQL 모드로 사용하고,
+ * H2에 없는 WEEK(date, 1)은 같은 규칙으로 계산하는 weekOfYear로 대신함
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:seller-sales;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;"
+                + "BUILTIN_ALIAS_OVERRIDE=TRUE;"
+                + "INIT=CREATE ALIAS IF NOT EXISTS WEEK FOR "
+                + "'com.yju.team2.seilomun.domain.order.service.SellerSalesStatsServiceTest$H2Functions.mysqlWeek'",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SellerSalesStatsService.class, OrderService.class})
+class SellerSalesStatsServiceTest {
+
+    @Autowired
+    private SellerSalesStatsService sellerSalesStatsService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // 통계 조회와 관계없는 협력 객체
+    @MockitoBean
+    private OrderItemBulkRepository orderItemBulkRepository;
+
+    @MockitoBean
+    private ProductService productService;
+
+    @MockitoBean
+    private NotificationOutboxService notificationOutboxService;
+
+    @MockitoBean
+    private AWSS3UploadService awsS3UploadService;
+
+    @MockitoBean
+    private CartService cartService;
+
+    @MockitoBean
+    private StockReservationService stockReservationService;
+
+    @MockitoBean
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @MockitoBean
+    private TossPaymentClient tossPaymentClient;
+
+    @MockitoBean
+    private OrderStateMachine orderStateMachine;
+
+    @MockitoBean
+    private ProductLifecycleService productLifecycleService;
+
+    private Customer customer;
+    private Seller seller;
+    private Product product;
+    private int orderSequence;
+
+    @BeforeEach
+    void setUp() {
+        customer = Customer.builder()
+                .email("stats@customer.com")
+                .password("Test123!@")
+                .name("구매자")
+                .phone("01012345678")
+                .nickname("구매자")
+                .birthDate("0101")
+                .gender('M')
+                .profileImageUrl("default.png")
+                .points(0)
+                .status('0')
+                .type('L')
+                .build();
+        entityManager.persist(customer);
+        seller = createSeller("stats@seller.com", "1234567890");
+        product = Product.builder()
+                .name("통계상품")
+                .originalPrice(1000)
+                .stockQuantity(100)
+                .createdAt(LocalDateTime.now())
+                .expiryDate(LocalDateTime.now().plusDays(5))
+                .status('1')
+                .maxDiscountRate(30)
+                .minDiscountRate(10)
+                .seller(seller)
+                .build();
+        entityManager.persist(product);
+    }
+
+    @Test
+    @DisplayName("주차는 MySQL WEEK(date, 1)과 같은 값으로 계산된다")
+    void weekOfYear_ShouldMatchMySqlWeekMode1() {
+        // 2021-01-01(금)은 4일 이상 포함된 첫 주 이전이므로 0주차
+        assertEquals(0, SellerSalesStatsService.weekOfYear(LocalDate.of(2021, 1, 1)));
+        assertEquals(1, SellerSalesStatsService.weekOfYear(LocalDate.of(2021, 1, 4)));
+        // 2024-01-01(월)부터 1주차, 연말은 다음 해 1주차가 아니라 53주차
+        assertEquals(1, SellerSalesStatsService.weekOfYear(LocalDate.of(2024, 1, 1)));
+        assertEquals(53, SellerSalesStatsService.weekOfYear(LocalDate.of(2024, 12, 31)));
+        // 2025-01-01(수)은 4일 이상 포함되므로 1주차
+        assertEquals(1, SellerSalesStatsService.weekOfYear(LocalDate.of(2025, 1, 1)));
+        assertEquals(24, SellerSalesStatsService.weekOfYear(LocalDate.of(2025, 6, 15)));
+    }
+
+    @Test
+    @DisplayName("주문 수락/취소에 따라 주문 생성일의 일별 집계에 수량과 금액이 더해지고 빠진다")
+    void addAndRemoveOrder_ShouldUpdateDailyTotals() {
+        LocalDateTime day = LocalDateTime.of(2025, 3, 14, 10, 0);
+        Order first = createOrder(seller, 'A', day, 12000, 2, 3);
+        Order second = createOrder(seller, 'A', day.plusHours(5), 8000, 4);
+        Order nextDay = createOrder(seller, 'A', day.plusDays(1), 5000, 1);
+
+        sellerSalesStatsService.addOrder(first);
+        sellerSalesStatsService.addOrder(second);
+        sellerSalesStatsService.addOrder(nextDay);
+
+        assertEquals(Map.of(day.toLocalDate(), List.of(9L, 20000L), day.toLocalDate().plusDays(1), List.of(1L, 5000L)),
+                dailyTotals(seller));
+        SellerSalesDaily row = findDaily(seller, day.toLocalDate());
+        assertEquals(2025, row.getSalesYear());
+        assertEquals(1, row.getSalesQuarter());
+        assertEquals(3, row.getSalesMonth());
+        assertEquals(SellerSalesStatsService.weekOfYear(day.toLocalDate()), row.getSalesWeek());
+
+        // 수락된 주문이 취소되면 그 주문만큼만 빠짐
+        sellerSalesStatsService.removeOrder(second);
+
+        assertEquals(Map.of(day.toLocalDate(), List.of(5L, 12000L), day.toLocalDate().plusDays(1), List.of(1L, 5000L)),
+                dailyTotals(seller));
+    }
+
+    @Test
+    @DisplayName("최근 기간 재집계는 이미 집계된 날을 두 번 더하지 않고, 기간 이전 날짜는 그대로 둔다")
+    void rebuild_ShouldNotDoubleCountRolledUpDays() {
+        LocalDateTime today = LocalDate.now().atTime(9, 0);
+        LocalDateTime old = today.minusDays(30);
+        List<Order> accepted = List.of(
+                createOrder(seller, 'A', old, 7000, 2),
+                createOrder(seller, 'A', today.minusDays(2), 10000, 1, 1),
+                createOrder(seller, 'A', today, 3000, 3));
+        // 수락되지 않은 주문은 집계 대상이 아님
+        createOrder(seller, 'S', today, 99000, 9);
+        accepted.forEach(sellerSalesStatsService::addOrder);
+        Map<LocalDate, List<Long>> rolledUp = dailyTotals(seller);
+
+        sellerSalesStatsService.rebuild(today.toLocalDate().minusDays(7));
+        assertEquals(rolledUp, dailyTotals(seller));
+
+        sellerSalesStatsService.rebuild(today.toLocalDate().minusDays(7));
+        assertEquals(rolledUp, dailyTotals(seller));
+
+        // 전체 재집계도 같은 결과
+        sellerSalesStatsService.rebuild(null);
+        assertEquals(rolledUp, dailyTotals(seller));
+        assertEquals(3, rolledUp.size());
+    }
+
+    @Test
+    @DisplayName("통계 조회는 일별 집계를 합산하고, 결과는 주문별로 합산한 값과 같다")
+    void getStats_ShouldMatchPerOrderAggregation() {
+        Seller otherSeller = createSeller("other@seller.com", "9876543210");
+        List<Order> orders = new ArrayList<>();
+        orders.add(createOrder(seller, 'A', LocalDateTime.of(2024, 12, 30, 11, 0), 15000, 1, 2));
+        orders.add(createOrder(seller, 'A', LocalDateTime.of(2025, 1, 2, 12, 0), 6000, 3));
+        orders.add(createOrder(seller, 'A', LocalDateTime.of(2025, 1, 2, 18, 0), 4000, 1, 1, 1));
+        orders.add(createOrder(seller, 'A', LocalDateTime.of(2025, 1, 20, 9, 0), 9000, 2));
+        orders.add(createOrder(seller, 'A', LocalDateTime.of(2025, 4, 1, 9, 0), 11000, 5));
+        orders.add(createOrder(seller, 'A', LocalDateTime.of(2025, 11, 30, 20, 0), 2000, 1));
+        // 수락되지 않은 주문, 다른 판매자의 주문은 빠져야 함
+        createOrder(seller, 'S', LocalDateTime.of(2025, 1, 2, 13, 0), 50000, 7);
+        createOrder(seller, 'C', LocalDateTime.of(2025, 1, 2, 14, 0), 50000, 7);
+        createOrder(otherSeller, 'A', LocalDateTime.of(2025, 1, 2, 15, 0), 70000, 9);
+        sellerSalesStatsService.rebuild(null);
+
+        assertEquals(expected(orders, order -> List.of(order.getCreatedAt().getYear())),
+                actual(orderService.getStats(seller.getId(), "yearly", null, null), stats -> List.of(stats.getYear())));
+        assertEquals(expected(orders, order -> List.of(order.getCreatedAt().getYear(), quarter(order))),
+                actual(orderService.getStats(seller.getId(), "quarterly", null, null),
+                        stats -> List.of(stats.getYear(), stats.getQuarter())));
+        assertEquals(expected(orders, order -> List.of(order.getCreatedAt().getYear(),
+                        SellerSalesStatsService.weekOfYear(order.getCreatedAt().toLocalDate()))),
+                actual(orderService.getStats(seller.getId(), "weekly", null, null),
+                        stats -> List.of(stats.getYear(), stats.getWeek())));
+
+        List<Order> january = orders.stream()
+                .filter(order -> order.getCreatedAt().getYear() == 2025 && order.getCreatedAt().getMonthValue() == 1)
+                .toList();
+        assertEquals(expected(january, order -> List.of(2025, 1)),
+                actual(orderService.getStats(seller.getId(), "monthly", 2025, 1),
+                        stats -> List.of(stats.getYear(), stats.getMonth())));
+        assertEquals(expected(january, order -> List.of(2025, 1, order.getCreatedAt().getDayOfMonth())),
+                actual(orderService.getStats(seller.getId(), "daily", 2025, 1),
+                        stats -> List.of(stats.getYear(), stats.getMonth(), stats.getDay())));
+    }
+
+    // H2의 WEEK(date, mode) 대체 함수, 재집계 쿼리는 모드 1만 사용 (H2가 호출하므로 public 클래스에 둠)
+    public static class H2Functions {
+        public static Integer mysqlWeek(Timestamp date, Integer mode) {
+            return date == null ? null : SellerSalesStatsService.weekOfYear(date.toLocalDateTime().toLocalDate());
+        }
+    }
+
+    // 주문별로 (수량 합, 주문 금액 한 번) 합산
+    private Map<List<Integer>, List<Integer>> expected(List<Order> orders, Function<Order, List<Integer>> key) {
+        Map<List<Integer>, List<Integer>> totals = new TreeMap<>(this::compareKeys);
+        for (Order order : orders) {
+            int quantity = order.getOrderItems().stream().mapToInt(OrderItem::getQuantity).sum();
+            totals.merge(key.apply(order), List.of(quantity, order.getTotalAmount()),
+                    (a, b) -> List.of(a.get(0) + b.get(0), a.get(1) + b.get(1)));
+        }
+        return totals;
+    }
+
+    private Map<List<Integer>, List<Integer>> actual(List<StatsDto> stats, Function<StatsDto, List<Integer>> key) {
+        Map<List<Integer>, List<Integer>> totals = new TreeMap<>(this::compareKeys);
+        for (StatsDto row : stats) {
+            assertNull(totals.put(key.apply(row), List.of(row.getCount(), row.getTotalAmount())), "같은 구간이 두 번 조회됨");
+        }
+        return totals;
+    }
+
+    private int compareKeys(List<Integer> a, List<Integer> b) {
+        for (int i = 0; i < Math.min(a.size(), b.size()); i++) {
+            int compared = Integer.compare(a.get(i), b.get(i));
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return Integer.compare(a.size(), b.size());
+    }
+
+    private int quarter(Order order) {
+        return order.getCreatedAt().get(IsoFields.QUARTER_OF_YEAR);
+    }
+
+    // 판매자의 일별 집계 (날짜 -> [수량, 금액])
+    private Map<LocalDate, List<Long>> dailyTotals(Seller target) {
+        entityManager.clear();
+        return entityManager.createQuery("SELECT d FROM SellerSalesDaily d WHERE d.sellerId = :sellerId", SellerSalesDaily.class)
+                .setParameter("sellerId", target.getId())
+                .getResultList().stream()
+                .collect(Collectors.toMap(SellerSalesDaily::getSalesDate,
+                        daily -> List.of(daily.getQuantity(), daily.getTotalAmount())));
+    }
+
+    private SellerSalesDaily findDaily(Seller target, LocalDate salesDate) {
+        return entityManager.createQuery("SELECT d FROM SellerSalesDaily d " +
+                        "WHERE d.sellerId = :sellerId AND d.salesDate = :salesDate", SellerSalesDaily.class)
+                .setParameter("sellerId", target.getId())
+                .setParameter("salesDate", salesDate)
+                .getSingleResult();
+    }
+
+    // 생성 시각은 @CreationTimestamp로 채워지므로 저장 후 원하는 시각으로 바꿈
+    private Order createOrder(Seller target, Character status, LocalDateTime createdAt, int totalAmount, int... quantities) {
+        Order order = Order.builder()
+                .customer(customer)
+                .seller(target)
+                .orderNumber("STATS-" + (++orderSequence))
+                .totalAmount(totalAmount)
+                .usedPoints(0)
+                .isDelivery('N')
+                .isReivewed('N')
+                .orderStatus(status)
+                .build();
+        entityManager.persist(order);
+        for (int quantity : quantities) {
+            OrderItem orderItem = OrderItem.builder()
+                    .order(order)
+                    .product(product)
+                    .quantity(quantity)
+                    .discountRate(0)
+                    .unitPrice(1000)
+                    .build();
+            entityManager.persist(orderItem);
+            order.getOrderItems().add(orderItem);
+        }
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE orders SET created_at = :createdAt WHERE or_id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", order.getId())
+                .executeUpdate();
+        entityManager.refresh(order);
+        return order;
+    }
+
+    private Seller createSeller(String email, String businessNumber) {
+        Seller target = Seller.builder()
+                .businessNumber(businessNumber)
+                .email(email)
+                .password("Test123!@")
+                .storeName("통계테스트")
+                .phone("01012345678")
+                .address("대구광역시")
+                .operatingHours("09:00-21:00")
+                .deliveryAvailable('N')
+                .rating(0F)
+                .pickupTime("30분")
+                .isOpen('1')
+                .status('1')
+                .build();
+        entityManager.persist(target);
+        return target;
+    }
+}
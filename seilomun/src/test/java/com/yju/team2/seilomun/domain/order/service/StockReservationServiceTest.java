@@ -0,0 +1,228 @@
+package com.yju.team2.seilomun.domain.order.service;
+
+import com.yju.team2.seilomun.domain.order.entity.Order;
+import com.yju.team2.seilomun.domain.order.entity.OrderItem;
+import com.yju.team2.seilomun.domain.order.repository.OrderItemRepository;
+import com.yju.team2.seilomun.domain.order.repository.OrderRepository;
+import com.yju.team2.seilomun.domain.order.repository.StockReservationRepository;
+import com.yju.team2.seilomun.domain.product.entity.Product;
+import com.yju.team2.seilomun.domain.product.repository.ProductRepository;
+import com.yju.team2.seilomun.domain.product.service.ProductIndexService;
+import com.yju.team2.seilomun.domain.seller.entity.Seller;
+import com.yju.team2.seilomun.domain.seller.repository.SellerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({StockReservationService.class, StockReservationServiceTest.MetricsConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StockReservationServiceTest {
+
+    private static final int STOCK = 20;
+    private static final int BUYERS = 200;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private SellerRepository sellerRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 검색 인덱스 변경 기록은 Elasticsearch 연동 쪽 관심사
+    @MockitoBean
+    private ProductIndexService productIndexService;
+
+    private TransactionTemplate transactionTemplate;
+    private Seller seller;
+    private Product product;
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        stockReservationRepository.deleteAll();
+        orderItemRepository.deleteAll();
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        sellerRepository.deleteAll();
+
+        seller = sellerRepository.save(Seller.builder()
+                .businessNumber("1234567890")
+                .email("stock@seller.com")
+                .password("Test123!@")
+                .storeName("재고테스트")
+                .phone("01012345678")
+                .address("대구광역시")
+                .operatingHours("09:00-21:00")
+                .deliveryAvailable('N')
+                .rating(0F)
+                .pickupTime("30분")
+                .isOpen('1')
+                .status('1')
+                .build());
+
+        product = productRepository.save(Product.builder()
+                .name("임박특가 도시락")
+                .originalPrice(5000)
+                .stockQuantity(STOCK)
+                .expiryDate(LocalDateTime.now().plusDays(1))
+                .status('T')
+                .maxDiscountRate(50)
+                .minDiscountRate(10)
+                .seller(seller)
+                .build());
+    }
+
+    @Test
+    @DisplayName("동시에 여러 주문이 재고를 예약해도 초과 판매되지 않는다")
+    void reserve_WithHighParallelism_ShouldNeverOversell() throws Exception {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < BUYERS; i++) {
+            orders.add(createOrder("STOCK" + i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (Order order : orders) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            stockReservationService.reserve(order, orderItemRepository.findByOrder(order)));
+                    reserved.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        Product result = productRepository.findById(product.getId()).orElseThrow();
+        assertEquals(STOCK, reserved.get());
+        assertEquals(BUYERS - STOCK, rejected.get());
+        assertEquals(0, result.getStockQuantity());
+        assertEquals('E', result.getStatus());
+        assertEquals(STOCK, stockReservationRepository.count());
+        assertEquals(BUYERS - STOCK, meterRegistry.get("stock.reservation.contention").counter().count());
+        assertNull(meterRegistry.find("stock.reservation.latency").tagKeys("productId").timer());
+    }
+
+    @Test
+    @DisplayName("판매 중지/만료된 상품은 재고가 남아 있어도 예약되지 않는다")
+    void reserve_StoppedOrExpiredProduct_ShouldBeRejected() {
+        for (Character status : List.of('0', 'X')) {
+            transactionTemplate.executeWithoutResult(tx -> {
+                Product stored = productRepository.findById(product.getId()).orElseThrow();
+                stored.updateStatus(status);
+            });
+            Order order = createOrder("STOCKSTOP" + status);
+
+            assertThrows(IllegalArgumentException.class, () -> transactionTemplate.executeWithoutResult(tx ->
+                    stockReservationService.reserve(order, orderItemRepository.findByOrder(order))));
+
+            Product result = productRepository.findById(product.getId()).orElseThrow();
+            assertEquals(STOCK, result.getStockQuantity());
+            assertEquals(status, result.getStatus());
+        }
+        assertEquals(0, stockReservationRepository.count());
+    }
+
+    @Test
+    @DisplayName("확정된 예약을 여러 번 복구해도 재고는 한 번만 돌아온다")
+    void compensate_CalledTwice_ShouldRestoreOnce() {
+        Order order = createOrder("STOCKONCE");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<OrderItem> orderItems = orderItemRepository.findByOrder(order);
+            stockReservationService.reserve(order, orderItems);
+            stockReservationService.commit(order, orderItems);
+        });
+        assertEquals(STOCK - 1, productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+
+        for (int i = 0; i < 2; i++) {
+            transactionTemplate.executeWithoutResult(status ->
+                    stockReservationService.compensate(order, orderItemRepository.findByOrder(order)));
+        }
+
+        Product result = productRepository.findById(product.getId()).orElseThrow();
+        assertEquals(STOCK, result.getStockQuantity());
+        assertEquals('T', result.getStatus());
+    }
+
+    private Order createOrder(String orderNumber) {
+        Order order = orderRepository.save(Order.builder()
+                .seller(seller)
+                .orderNumber(orderNumber)
+                .totalAmount(4500)
+                .usedPoints(0)
+                .isDelivery('N')
+                .deliveryStatus('N')
+                .deliveryFee(0)
+                .isReivewed('N')
+                .orderStatus('N')
+                .build());
+        orderItemRepository.save(OrderItem.builder()
+                .order(order)
+                .product(product)
+                .quantity(1)
+                .discountRate(10)
+                .unitPrice(4500)
+                .build());
+        return order;
+    }
+}
@@ -0,0 +1,123 @@
+package com.yju.team2.seilomun.domain.product.service;
+
+import com.yju.team2.seilomun.domain.product.dto.ProductPricingRow;
+import com.yju.team2.seilomun.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class DiscountPricingEngineTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private DiscountPricingEngine discountPricingEngine;
+
+    @Test
+    @DisplayName("밀리초 계산 결과가 ChronoUnit 기반 기존 계산식과 같다")
+    void calculateDiscountRate_ShouldMatchChronoUnitFormula() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 5, 1, 9, 30);
+        for (int expiryDays = 1; expiryDays <= 30; expiryDays++) {
+            LocalDateTime expiryDate = createdAt.plusDays(expiryDays).plusHours(5);
+            for (int hours = 0; hours <= expiryDays * 24 + 12; hours += 7) {
+                LocalDateTime now = createdAt.plusHours(hours);
+                assertEquals(chronoUnitRate(createdAt, expiryDate, 10, 60, now),
+                        DiscountPricingEngine.calculateDiscountRate(createdAt, expiryDate, 10, 60, now),
+                        "expiryDays=" + expiryDays + ", hours=" + hours);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷의 상품은 일괄 계산되고, 없는 상품은 UNKNOWN")
+    void priceAll_ShouldUseSnapshot() {
+        LocalDateTime now = LocalDateTime.now();
+        given(productRepository.findPricingRows()).willReturn(List.of(
+                new ProductPricingRow(3L, now.minusDays(1), now.plusDays(1), 10, 50, 10000),
+                new ProductPricingRow(1L, now, now.plusDays(1), null, null, 5000)));
+        discountPricingEngine.reload();
+
+        DiscountPricingEngine.Prices prices = discountPricingEngine.priceAll(new long[]{1L, 2L, 3L});
+
+        assertArrayEquals(new int[]{0, DiscountPricingEngine.UNKNOWN, 50}, prices.discountRates());
+        assertArrayEquals(new int[]{5000, DiscountPricingEngine.UNKNOWN, 5000}, prices.discountedPrices());
+    }
+
+    @Test
+    @DisplayName("상품 변경 시 해당 상품만 스냅샷에 추가/제거된다")
+    void refresh_ShouldInsertAndRemove() {
+        LocalDateTime now = LocalDateTime.now();
+        given(productRepository.findPricingRows()).willReturn(List.of(
+                new ProductPricingRow(1L, now, now.plusDays(1), 10, 30, 1000),
+                new ProductPricingRow(5L, now, now.plusDays(1), 10, 30, 1000)));
+        discountPricingEngine.reload();
+
+        given(productRepository.findPricingRowById(3L))
+                .willReturn(Optional.of(new ProductPricingRow(3L, now, now.plusDays(1), 20, 40, 2000)));
+        discountPricingEngine.refresh(3L);
+        given(productRepository.findPricingRowById(1L)).willReturn(Optional.empty());
+        discountPricingEngine.refresh(1L);
+
+        assertFalse(discountPricingEngine.contains(1L));
+        assertEquals(40, discountPricingEngine.discountRate(3L));
+        assertEquals(1200, discountPricingEngine.discountedPrice(3L));
+        assertEquals(30, discountPricingEngine.discountRate(5L));
+        assertEquals(2, discountPricingEngine.size());
+    }
+
+    @Test
+    @DisplayName("다음 변경 시각 직전까지는 할인율이 그대로이고, 그 시각에 바뀐다")
+    void nextDiscountChange_ShouldPointToNextRateStep() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 5, 1, 9, 30);
+        LocalDateTime expiryDate = createdAt.plusDays(10).plusHours(5);
+        for (int hours = 0; hours <= 11 * 24; hours += 5) {
+            LocalDateTime now = createdAt.plusHours(hours);
+            int currentRate = DiscountPricingEngine.calculateDiscountRate(createdAt, expiryDate, 10, 60, now);
+            LocalDateTime changeAt = DiscountPricingEngine.nextDiscountChange(createdAt, expiryDate, 10, 60, now);
+
+            if (changeAt == null) {
+                assertEquals(currentRate, DiscountPricingEngine.calculateDiscountRate(
+                        createdAt, expiryDate, 10, 60, now.plusYears(1)), "hours=" + hours);
+                continue;
+            }
+            assertTrue(changeAt.isAfter(now), "hours=" + hours);
+            assertEquals(currentRate, DiscountPricingEngine.calculateDiscountRate(
+                    createdAt, expiryDate, 10, 60, changeAt.minusNanos(1_000_000)), "hours=" + hours);
+            assertNotEquals(currentRate, DiscountPricingEngine.calculateDiscountRate(
+                    createdAt, expiryDate, 10, 60, changeAt), "hours=" + hours);
+        }
+        // 기간이 3일 이하면 처음부터 최대 할인율로 고정
+        assertNull(DiscountPricingEngine.nextDiscountChange(createdAt, createdAt.plusDays(2), 10, 60, createdAt));
+    }
+
+    // 기존 ProductDiscountService 계산식
+    private int chronoUnitRate(LocalDateTime createdAt, LocalDateTime expiryDate, int min, int max, LocalDateTime now) {
+        if (now.isAfter(expiryDate)) {
+            return max;
+        }
+        long totalDays = ChronoUnit.DAYS.between(createdAt, expiryDate);
+        if (totalDays <= 0) {
+            return max;
+        }
+        long remainingDays = Math.max(0, ChronoUnit.DAYS.between(now, expiryDate));
+        if (totalDays <= 3) {
+            return max;
+        }
+        double progressRatio = 1.0 - ((double) remainingDays / (double) totalDays);
+        int interpolatedRate = (int) Math.round(min + (max - min) * progressRatio);
+        return Math.max(min, Math.min(max, interpolatedRate));
+    }
+}
@@ -0,0 +1,172 @@
+package com.yju.team2.seilomun.domain.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yju.team2.seilomun.domain.product.dto.DiscountInfo;
+import com.yju.team2.seilomun.domain.product.dto.ProductPricingRow;
+import com.yju.team2.seilomun.domain.product.event.ProductPricingChangedEvent;
+import com.yju.team2.seilomun.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ProductDiscountServiceTest {
+
+    private static final Long PRODUCT_ID = 7L;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private DiscountPricingEngine discountPricingEngine;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private ProductDiscountService productDiscountService;
+
+    @BeforeEach
+    void setUp() {
+        productDiscountService = new ProductDiscountService(productRepository, redisTemplate, objectMapper, discountPricingEngine);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("캐시 값의 버전이 현재 버전과 같으면 계산하지 않는다")
+    void getDiscountInfo_WithCurrentVersion_ShouldHitCache() throws Exception {
+        given(valueOperations.multiGet(anyList())).willReturn(List.of(entry(3L, 40), "3"));
+
+        DiscountInfo discountInfo = productDiscountService.getDiscountInfo(PRODUCT_ID);
+
+        assertEquals(40, discountInfo.getDiscountRate());
+        verify(discountPricingEngine, never()).discountRate(PRODUCT_ID);
+    }
+
+    @Test
+    @DisplayName("무효화로 버전이 올라가면 이전 캐시 값은 미스로 처리되어 다시 계산한다")
+    void getDiscountInfo_WithStaleVersion_ShouldRecalculate() throws Exception {
+        given(valueOperations.multiGet(anyList())).willReturn(List.of(entry(3L, 40), "4"));
+        given(discountPricingEngine.originalPrice(PRODUCT_ID)).willReturn(10000);
+        given(discountPricingEngine.discountRate(PRODUCT_ID)).willReturn(20);
+
+        DiscountInfo discountInfo = productDiscountService.getDiscountInfo(PRODUCT_ID);
+
+        assertEquals(20, discountInfo.getDiscountRate());
+        assertEquals(8000, discountInfo.getDiscountedPrice());
+        assertEquals(4L, discountInfo.getVersion());
+    }
+
+    @Test
+    @DisplayName("같은 상품에 동시에 캐시 미스가 나도 계산은 한 번만 한다")
+    void getDiscountInfo_ConcurrentMisses_ShouldCalculateOnce() throws Exception {
+        int callers = 8;
+        AtomicInteger calculations = new AtomicInteger();
+        CountDownLatch allMissed = new CountDownLatch(callers);
+        given(valueOperations.multiGet(anyList())).willAnswer(invocation -> {
+            allMissed.countDown();
+            return Arrays.asList(null, null);
+        });
+        given(discountPricingEngine.originalPrice(PRODUCT_ID)).willReturn(10000);
+        given(discountPricingEngine.discountRate(PRODUCT_ID)).willAnswer(invocation -> {
+            calculations.incrementAndGet();
+            // 모든 요청이 캐시 미스를 본 뒤에 계산이 끝나도록 대기
+            allMissed.await(5, TimeUnit.SECONDS);
+            Thread.sleep(100);
+            return 30;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        List<Future<DiscountInfo>> futures = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            futures.add(executor.submit(() -> productDiscountService.getDiscountInfo(PRODUCT_ID)));
+        }
+        for (Future<DiscountInfo> future : futures) {
+            assertEquals(30, future.get(10, TimeUnit.SECONDS).getDiscountRate());
+        }
+        executor.shutdown();
+
+        assertEquals(1, calculations.get());
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 상품 가격이 바뀌면 이 서버의 이전 스냅샷 값이 새 버전으로 캐시되지 않는다")
+    void getDiscountInfo_AfterChangeOnOtherNode_ShouldNotCacheStalePrice() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        // 기간이 3일 이하라서 항상 최대 할인율(20%), 가격만 10000 -> 6000으로 바뀜
+        ProductPricingRow before = new ProductPricingRow(PRODUCT_ID, now.minusDays(1), now.plusDays(1), 10, 20, 10000);
+        ProductPricingRow after = new ProductPricingRow(PRODUCT_ID, now.minusDays(1), now.plusDays(1), 10, 20, 6000);
+        given(productRepository.findPricingRows()).willReturn(List.of(before));
+        given(productRepository.findPricingRowById(PRODUCT_ID)).willReturn(Optional.of(after));
+
+        // 두 서버가 같은 시점의 스냅샷을 들고 있음
+        DiscountPricingEngine engineA = new DiscountPricingEngine(productRepository);
+        DiscountPricingEngine engineB = new DiscountPricingEngine(productRepository);
+        engineA.reload();
+        engineB.reload();
+        ProductDiscountService nodeA = new ProductDiscountService(productRepository, redisTemplate, objectMapper, engineA);
+        ProductDiscountService nodeB = new ProductDiscountService(productRepository, redisTemplate, objectMapper, engineB);
+
+        // A 서버에서 가격 수정 커밋 -> A 스냅샷 갱신 후 버전 1로 올림
+        nodeA.onPricingChanged(new ProductPricingChangedEvent(PRODUCT_ID));
+        assertEquals(6000, engineA.originalPrice(PRODUCT_ID));
+        assertEquals(10000, engineB.originalPrice(PRODUCT_ID));
+
+        // B 서버가 새 버전에서 캐시 미스
+        given(valueOperations.multiGet(anyList())).willReturn(Arrays.asList(null, "1"));
+        DiscountInfo discountInfo = nodeB.getDiscountInfo(PRODUCT_ID);
+
+        assertEquals(6000, discountInfo.getOriginalPrice());
+        assertEquals(4800, discountInfo.getDiscountedPrice());
+        assertEquals(1L, discountInfo.getVersion());
+
+        ArgumentCaptor<Object> cachedValue = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).execute(any(), eq(List.of("pricing:v1:{7}", "pricing:v1:{7}:version")),
+                eq("1"), cachedValue.capture(), any());
+        DiscountInfo cached = objectMapper.readValue((String) cachedValue.getValue(), DiscountInfo.class);
+        assertEquals(6000, cached.getOriginalPrice());
+        assertEquals(1L, cached.getVersion());
+
+        // 같은 버전에서는 다시 DB를 읽지 않음 (A 수정 1번 + B 버전 확인 1번)
+        nodeB.getDiscountInfo(PRODUCT_ID);
+        verify(productRepository, times(2)).findPricingRowById(PRODUCT_ID);
+    }
+
+    private String entry(Long version, int discountRate) throws Exception {
+        return objectMapper.writeValueAsString(DiscountInfo.builder()
+                .productId(PRODUCT_ID)
+                .originalPrice(10000)
+                .discountRate(discountRate)
+                .discountedPrice(10000 * (100 - discountRate) / 100)
+                .calculatedAt(LocalDateTime.now())
+                .version(version)
+                .build());
+    }
+}
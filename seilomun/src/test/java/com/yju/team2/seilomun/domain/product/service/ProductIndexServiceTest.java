@@ -0,0 +1,242 @@
+package com.yju.team2.seilomun.domain.product.service;
+
+import com.yju.team2.seilomun.common.job.ClusterJobRunner;
+import com.yju.team2.seilomun.domain.product.dto.ProductIndexRow;
+import com.yju.team2.seilomun.domain.product.entity.ProductDocument;
+import com.yju.team2.seilomun.domain.product.entity.ProductIndexChange;
+import com.yju.team2.seilomun.domain.product.repository.ProductIndexChangeRepository;
+import com.yju.team2.seilomun.domain.product.repository.ProductPhotoRepository;
+import com.yju.team2.seilomun.domain.product.repository.ProductRepository;
+import com.yju.team2.seilomun.domain.search.service.ProductSearchService;
+import com.yju.team2.seilomun.domain.search.service.SearchIndexRebuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductIndexServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductPhotoRepository productPhotoRepository;
+
+    @Mock
+    private ProductIndexChangeRepository productIndexChangeRepository;
+
+    @Mock
+    private ProductSearchService productSearchService;
+
+    @Mock
+    private ClusterJobRunner clusterJobRunner;
+
+    @Mock
+    private SearchIndexRebuilder searchIndexRebuilder;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ProductIndexService productIndexService;
+
+    @BeforeEach
+    void setUp() {
+        productIndexService = new ProductIndexService(productRepository, productPhotoRepository,
+                productIndexChangeRepository, productSearchService, clusterJobRunner, searchIndexRebuilder,
+                transactionTemplate, meterRegistry, redisTemplate);
+        productIndexService.registerMetrics();
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("같은 상품의 변경은 하나로 합쳐 전체 문서, 부분 업데이트, 삭제로 나눠 반영한다")
+    void sync_ShouldCoalesceChangesPerProduct() {
+        runTransactionCallbacks();
+        given(productIndexChangeRepository.findBatchForUpdate(anyInt(), any(LocalDateTime.class))).willReturn(List.of(
+                change(1L, 1L, ProductIndexService.SALE),
+                change(2L, 1L, ProductIndexService.SALE),
+                change(3L, 2L, ProductIndexService.SALE),
+                change(4L, 2L, ProductIndexService.FULL),
+                change(5L, 3L, ProductIndexService.FULL),
+                change(6L, 3L, ProductIndexService.DELETED),
+                // 품절되어 더 이상 검색에 노출하지 않는 상품
+                change(7L, 4L, ProductIndexService.SALE)));
+        given(productRepository.lockIdsByIdIn(anyCollection())).willReturn(List.of(1L, 2L, 4L));
+        given(productRepository.findIndexRowsByIdIn(anyCollection())).willReturn(List.of(
+                row(1L, '1'), row(2L, 'T'), row(4L, 'E')));
+        given(productPhotoRepository.findFirstPhotoUrlsByProductIdIn(anyCollection())).willReturn(List.of());
+
+        int synced = productIndexService.sync();
+
+        assertEquals(7, synced);
+        verify(productIndexChangeRepository).updateClaimedUntil(eq(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L)),
+                any(LocalDateTime.class));
+        verify(productSearchService).indexProductDocuments(argThat(documents -> ids(documents).equals(List.of("2"))));
+        verify(productSearchService).updateSaleFields(argThat(documents -> ids(documents).equals(List.of("1"))));
+        verify(productSearchService).deleteProductDocuments(List.of("3", "4"));
+
+        ArgumentCaptor<List<Long>> deleted = ArgumentCaptor.forClass(List.class);
+        verify(productIndexChangeRepository).deleteByIdIn(deleted.capture());
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L), deleted.getValue());
+        assertEquals(4, meterRegistry.get("search.index.synced").counter().count());
+        assertEquals(0, meterRegistry.get("search.index.lag.seconds").gauge().value());
+
+        // 색인한 상품은 다음 할인율 변경 시각으로 등록, 인덱스에서 빠진 상품은 제거
+        verify(zSetOperations).add(eq("search:index:discount-timeline"), argThat(steps -> steps.size() == 2));
+        verify(zSetOperations).remove("search:index:discount-timeline", "3", "4");
+    }
+
+    @Test
+    @DisplayName("할인율 변경 시각이 된 상품은 판매 정보 변경으로 기록하고 타임라인에서 뺀다")
+    void sync_DueDiscountSteps_ShouldRecordSaleChanges() {
+        given(zSetOperations.rangeByScore(eq("search:index:discount-timeline"), anyDouble(), anyDouble(), anyLong(), anyLong()))
+                .willReturn(Set.of("7"));
+        given(transactionTemplate.execute(any())).willReturn(null);
+
+        productIndexService.sync();
+
+        verify(productIndexChangeRepository).saveAll(argThat((List<ProductIndexChange> changes) -> changes.size() == 1
+                && changes.get(0).getProductId() == 7L
+                && ProductIndexService.SALE.equals(changes.get(0).getChangeType())));
+        verify(zSetOperations).remove("search:index:discount-timeline", "7");
+    }
+
+    @Test
+    @DisplayName("Elasticsearch 요청은 선점 트랜잭션이 끝난 뒤 보내고, 기록 삭제는 그 뒤 별도 트랜잭션에서 한다")
+    void sync_ShouldCallElasticsearchOutsideClaimTransaction() {
+        boolean[] inTransaction = new boolean[1];
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+            inTransaction[0] = true;
+            try {
+                return invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null);
+            } finally {
+                inTransaction[0] = false;
+            }
+        });
+        willAnswer(invocation -> {
+            inTransaction[0] = true;
+            try {
+                invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            } finally {
+                inTransaction[0] = false;
+            }
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        given(productIndexChangeRepository.findBatchForUpdate(anyInt(), any(LocalDateTime.class)))
+                .willReturn(List.of(change(1L, 1L, ProductIndexService.FULL)));
+        given(productRepository.lockIdsByIdIn(anyCollection())).willReturn(List.of(1L));
+        given(productRepository.findIndexRowsByIdIn(anyCollection())).willReturn(List.of(row(1L, '1')));
+        given(productPhotoRepository.findFirstPhotoUrlsByProductIdIn(anyCollection())).willReturn(List.of());
+        willAnswer(invocation -> {
+            assertFalse(inTransaction[0], "Elasticsearch 요청 중에 트랜잭션이 열려 있음");
+            return null;
+        }).given(productSearchService).indexProductDocuments(anyList());
+        willAnswer(invocation -> {
+            assertTrue(inTransaction[0], "기록 삭제가 트랜잭션 밖에서 실행됨");
+            return 1;
+        }).given(productIndexChangeRepository).deleteByIdIn(anyCollection());
+
+        assertEquals(1, productIndexService.sync());
+
+        InOrder inOrder = inOrder(productIndexChangeRepository, productSearchService);
+        inOrder.verify(productIndexChangeRepository).updateClaimedUntil(eq(List.of(1L)), any(LocalDateTime.class));
+        inOrder.verify(productSearchService).indexProductDocuments(anyList());
+        inOrder.verify(productIndexChangeRepository).deleteByIdIn(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("다른 서버가 선점 중인 상품의 기록은 선점하지 않고 남겨 두어 같은 상품 문서를 두 서버가 쓰지 않게 한다")
+    void sync_WithProductLockedElsewhere_ShouldLeaveItsChanges() {
+        runTransactionCallbacks();
+        given(productIndexChangeRepository.findBatchForUpdate(anyInt(), any(LocalDateTime.class))).willReturn(List.of(
+                change(1L, 1L, ProductIndexService.SALE),
+                change(2L, 2L, ProductIndexService.FULL),
+                change(3L, 1L, ProductIndexService.FULL)));
+        // 상품 2는 다른 서버가 잠그고 있음
+        given(productRepository.lockIdsByIdIn(Set.of(1L, 2L))).willReturn(List.of(1L));
+        given(productRepository.findIndexRowsByIdIn(Set.of(1L, 2L))).willReturn(List.of(row(1L, '1'), row(2L, '1')));
+        given(productPhotoRepository.findFirstPhotoUrlsByProductIdIn(anyCollection())).willReturn(List.of());
+
+        assertEquals(2, productIndexService.sync());
+
+        verify(productIndexChangeRepository).updateClaimedUntil(eq(List.of(1L, 3L)), any(LocalDateTime.class));
+        verify(productSearchService).indexProductDocuments(argThat(documents -> ids(documents).equals(List.of("1"))));
+        verify(productSearchService).updateSaleFields(List.of());
+        verify(productSearchService).deleteProductDocuments(List.of());
+        verify(productIndexChangeRepository).deleteByIdIn(List.of(1L, 3L));
+    }
+
+    @Test
+    @DisplayName("Elasticsearch 반영이 실패하면 기록을 지우지 않고 선점을 풀어 다음 동기화에서 다시 시도한다")
+    void sync_WhenElasticsearchFails_ShouldReleaseClaims() {
+        runTransactionCallbacks();
+        given(productIndexChangeRepository.findBatchForUpdate(anyInt(), any(LocalDateTime.class)))
+                .willReturn(List.of(change(1L, 1L, ProductIndexService.DELETED)));
+        given(productRepository.findIndexRowsByIdIn(anyCollection())).willReturn(List.of());
+        willThrow(new IllegalStateException("bulk 실패")).given(productSearchService).deleteProductDocuments(anyList());
+
+        assertThrows(IllegalStateException.class, () -> productIndexService.sync());
+
+        verify(productIndexChangeRepository).updateClaimedUntil(List.of(1L), null);
+        verify(productIndexChangeRepository, never()).deleteByIdIn(anyCollection());
+    }
+
+    // 트랜잭션 템플릿에 넘긴 작업을 바로 실행
+    private void runTransactionCallbacks() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private List<String> ids(List<ProductDocument> documents) {
+        return documents.stream().map(ProductDocument::getId).toList();
+    }
+
+    private ProductIndexChange change(Long id, Long productId, Character changeType) {
+        return ProductIndexChange.builder()
+                .id(id)
+                .productId(productId)
+                .changeType(changeType)
+                .build();
+    }
+
+    private ProductIndexRow row(Long productId, Character status) {
+        return new ProductIndexRow(productId, "상품" + productId, "설명", 1000, 5, status,
+                1L, 1L, LocalDateTime.now(), LocalDateTime.now().plusDays(10), 10, 50, 4.5f);
+    }
+}
@@ -0,0 +1,113 @@
+package com.yju.team2.seilomun.domain.product.service;
+
+import com.yju.team2.seilomun.domain.notification.service.NotificationOutboxService;
+import com.yju.team2.seilomun.domain.product.entity.Product;
+import com.yju.team2.seilomun.domain.product.entity.ProductTransition;
+import com.yju.team2.seilomun.domain.product.repository.ProductRepository;
+import com.yju.team2.seilomun.domain.product.repository.ProductTransitionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductLifecycleServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductTransitionRepository productTransitionRepository;
+
+    @Mock
+    private ProductIndexService productIndexService;
+
+    @Mock
+    private NotificationOutboxService notificationOutboxService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ProductLifecycleService productLifecycleService;
+
+    @Test
+    @DisplayName("예정 시각이 지난 전환만 같은 상태끼리 묶어 한 번에 반영한다")
+    void processDueTransitions_ShouldBulkUpdateCrossedProducts() {
+        LocalDateTime now = LocalDateTime.now();
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        given(productTransitionRepository.findDueForUpdate(any(), anyInt())).willReturn(List.of(
+                transition(1L, 1L, 'X'),
+                transition(2L, 2L, 'T'),
+                transition(3L, 3L, 'T'),
+                // 유통기한이 연장된 상품
+                transition(4L, 4L, 'X')));
+        given(productRepository.findAllForUpdateByIdIn(anyCollection())).willReturn(List.of(
+                product(1L, '1', now.minusMinutes(1)),
+                product(2L, '1', now.plusDays(2)),
+                product(3L, 'E', now.plusDays(2)),
+                product(4L, '1', now.plusDays(10))));
+
+        int processed = productLifecycleService.processDueTransitions();
+
+        assertEquals(4, processed);
+        verify(productRepository).updateStatusByIdIn(List.of(1L), 'X');
+        verify(productRepository).updateStatusByIdIn(List.of(2L), 'T');
+        verify(productRepository, times(2)).updateStatusByIdIn(anyCollection(), anyChar());
+        verify(productTransitionRepository).markDone(eq(List.of(1L, 2L, 3L, 4L)), any());
+        // 실제로 상태가 바뀐 상품만 검색 인덱스 동기화 대상으로 기록
+        verify(productIndexService).recordAll(argThat(productIds -> productIds.size() == 2
+                && productIds.containsAll(List.of(1L, 2L))), eq(ProductIndexService.SALE));
+    }
+
+    @Test
+    @DisplayName("재고가 생긴 품절 상품은 유통기한에 맞는 상태로 돌아간다")
+    void resolveStatus_ShouldFollowExpiryAndStock() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertEquals('T', productLifecycleService.resolveStatus(product(1L, 'E', now.plusDays(1)), now));
+        assertEquals('1', productLifecycleService.resolveStatus(product(1L, 'E', now.plusDays(10)), now));
+        assertEquals('X', productLifecycleService.resolveStatus(product(1L, '1', now.minusDays(1)), now));
+        assertEquals('0', productLifecycleService.resolveStatus(product(1L, '0', now.plusDays(10)), now));
+    }
+
+    private ProductTransition transition(Long id, Long productId, Character targetStatus) {
+        return ProductTransition.builder()
+                .id(id)
+                .productId(productId)
+                .targetStatus(targetStatus)
+                .dueAt(LocalDateTime.now().minusSeconds(1))
+                .status('P')
+                .build();
+    }
+
+    private Product product(Long id, Character status, LocalDateTime expiryDate) {
+        return Product.builder()
+                .id(id)
+                .name("상품" + id)
+                .originalPrice(1000)
+                .stockQuantity(5)
+                .status(status)
+                .expiryDate(expiryDate)
+                .minDiscountRate(10)
+                .maxDiscountRate(50)
+                .build();
+    }
+}
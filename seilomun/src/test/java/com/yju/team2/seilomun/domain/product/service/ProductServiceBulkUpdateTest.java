@@ -0,0 +1,141 @@
+package com.yju.team2.seilomun.domain.product.service;
+
+import com.yju.team2.seilomun.domain.notification.service.NotificationOutboxService;
+import com.yju.team2.seilomun.domain.product.dto.ProductBulkUpdateDto;
+import com.yju.team2.seilomun.domain.product.dto.ProductBulkUpdateItemDto;
+import com.yju.team2.seilomun.domain.product.entity.Product;
+import com.yju.team2.seilomun.domain.product.repository.ProductRepository;
+import com.yju.team2.seilomun.domain.seller.entity.Seller;
+import com.yju.team2.seilomun.domain.seller.repository.SellerRepository;
+import com.yju.team2.seilomun.domain.upload.service.AWSS3UploadService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@Import({ProductService.class, ProductLifecycleService.class})
+class ProductServiceBulkUpdateTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private SellerRepository sellerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private ProductIndexService productIndexService;
+
+    @MockitoBean
+    private ProductDiscountService productDiscountService;
+
+    @MockitoBean
+    private NotificationOutboxService notificationOutboxService;
+
+    @MockitoBean
+    private AWSS3UploadService awsS3UploadService;
+
+    private Product soldOut;
+    private Product onSale;
+    private Product stopped;
+    private Product otherSellers;
+
+    @BeforeEach
+    void setUp() {
+        Seller seller = sellerRepository.save(seller("bulk@seller.com", "1234567890"));
+        Seller other = sellerRepository.save(seller("other@seller.com", "0987654321"));
+
+        soldOut = productRepository.save(product(seller, 0, 5000, 'E'));
+        onSale = productRepository.save(product(seller, 10, 5000, '1'));
+        stopped = productRepository.save(product(seller, 10, 5000, '1'));
+        otherSellers = productRepository.save(product(other, 10, 5000, '1'));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("재고/가격/판매 상태를 한 번에 바꾸고 상태는 재고에 맞게 보정한다")
+    void bulkUpdateProducts_ShouldApplyChangesPerProduct() {
+        int updated = productService.bulkUpdateProducts(new ProductBulkUpdateDto(List.of(
+                ProductBulkUpdateItemDto.builder().productId(soldOut.getId()).stockQuantity(5).build(),
+                ProductBulkUpdateItemDto.builder().productId(onSale.getId()).originalPrice(4000).build(),
+                ProductBulkUpdateItemDto.builder().productId(stopped.getId()).status('0').build())),
+                "bulk@seller.com");
+        entityManager.clear();
+
+        assertEquals(3, updated);
+        Product restocked = productRepository.findById(soldOut.getId()).orElseThrow();
+        assertEquals(5, restocked.getStockQuantity());
+        assertEquals('1', restocked.getStatus());
+        Product repriced = productRepository.findById(onSale.getId()).orElseThrow();
+        assertEquals(4000, repriced.getOriginalPrice());
+        assertEquals(10, repriced.getStockQuantity());
+        assertEquals('1', repriced.getStatus());
+        assertEquals('0', productRepository.findById(stopped.getId()).orElseThrow().getStatus());
+
+        // 상태가 바뀐 두 상품만 알림 (판매자, 좋아요, 장바구니)
+        verify(notificationOutboxService, times(6)).enqueue(any());
+        verify(productIndexService).recordAll(argThat(productIds -> productIds.size() == 3), eq(ProductIndexService.SALE));
+    }
+
+    @Test
+    @DisplayName("다른 판매자의 상품이 섞여 있으면 아무것도 바꾸지 않는다")
+    void bulkUpdateProducts_WithOtherSellersProduct_ShouldReject() {
+        ProductBulkUpdateDto request = new ProductBulkUpdateDto(List.of(
+                ProductBulkUpdateItemDto.builder().productId(onSale.getId()).stockQuantity(1).build(),
+                ProductBulkUpdateItemDto.builder().productId(otherSellers.getId()).stockQuantity(1).build()));
+
+        assertThrows(IllegalArgumentException.class, () -> productService.bulkUpdateProducts(request, "bulk@seller.com"));
+        entityManager.clear();
+
+        assertEquals(10, productRepository.findById(onSale.getId()).orElseThrow().getStockQuantity());
+        verify(productIndexService, never()).recordAll(anyCollection(), any());
+    }
+
+    private Seller seller(String email, String businessNumber) {
+        return Seller.builder()
+                .businessNumber(businessNumber)
+                .email(email)
+                .password("Test123!@")
+                .storeName("일괄수정테스트")
+                .phone("01012345678")
+                .address("대구광역시")
+                .operatingHours("09:00-21:00")
+                .deliveryAvailable('N')
+                .rating(0F)
+                .pickupTime("30분")
+                .isOpen('1')
+                .status('1')
+                .build();
+    }
+
+    private Product product(Seller seller, int stockQuantity, int originalPrice, Character status) {
+        return Product.builder()
+                .name("마감 도시락")
+                .originalPrice(originalPrice)
+                .stockQuantity(stockQuantity)
+                .expiryDate(LocalDateTime.now().plusDays(10))
+                .status(status)
+                .maxDiscountRate(50)
+                .minDiscountRate(10)
+                .seller(seller)
+                .build();
+    }
+}
@@ -0,0 +1,183 @@
+package com.yju.team2.seilomun.domain.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yju.team2.seilomun.domain.notification.entity.NotificationPhoto;
+import com.yju.team2.seilomun.domain.notification.service.NotificationOutboxService;
+import com.yju.team2.seilomun.domain.product.dto.ProductDto;
+import com.yju.team2.seilomun.domain.product.entity.Product;
+import com.yju.team2.seilomun.domain.product.entity.ProductCategory;
+import com.yju.team2.seilomun.domain.product.entity.ProductPhoto;
+import com.yju.team2.seilomun.domain.seller.dto.SellerInformationDto;
+import com.yju.team2.seilomun.domain.seller.dto.SellerPhotoDto;
+import com.yju.team2.seilomun.domain.seller.entity.DeliveryFee;
+import com.yju.team2.seilomun.domain.seller.entity.Seller;
+import com.yju.team2.seilomun.domain.seller.entity.SellerCategoryEntity;
+import com.yju.team2.seilomun.domain.seller.entity.SellerPhoto;
+import com.yju.team2.seilomun.domain.seller.enums.SellerCategory;
+import com.yju.team2.seilomun.domain.upload.service.AWSS3UploadService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ProductService.class, ProductDiscountService.class, ProductServiceProductsTest.JacksonConfig.class})
+class ProductServiceProductsTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // 할인 캐시는 항상 미스로 두고 프로젝션 값으로 계산되는지 확인
+    @MockitoBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    @MockitoBean
+    private ValueOperations<String, String> valueOperations;
+
+    @MockitoBean
+    private DiscountPricingEngine discountPricingEngine;
+
+    // 상품 조회와 관계없는 협력 객체
+    @MockitoBean
+    private ProductIndexService productIndexService;
+
+    @MockitoBean
+    private ProductLifecycleService productLifecycleService;
+
+    @MockitoBean
+    private NotificationOutboxService notificationOutboxService;
+
+    @MockitoBean
+    private AWSS3UploadService awsS3UploadService;
+
+    private Statistics statistics;
+    private SellerCategoryEntity sellerCategory;
+    private ProductCategory productCategory;
+
+    @TestConfiguration
+    static class JacksonConfig {
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().findAndRegisterModules();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(anyList())).willAnswer(invocation ->
+                Arrays.asList(new String[invocation.<List<String>>getArgument(0).size()]));
+
+        sellerCategory = SellerCategoryEntity.builder().categoryName(SellerCategory.BAKERY).build();
+        entityManager.persist(sellerCategory);
+        productCategory = ProductCategory.builder().categoryName("빵").build();
+        entityManager.persist(productCategory);
+    }
+
+    @Test
+    @DisplayName("매장 상품 수와 상관없이 상품 목록 조회 쿼리 수가 같다")
+    void getProducts_QueryCount_ShouldNotDependOnProductCount() {
+        Seller smallStore = createStore("small@seller.com", "1111111111", 2);
+        Seller largeStore = createStore("large@seller.com", "2222222222", 20);
+
+        long smallStoreQueries = countQueries(smallStore.getId(), 2);
+        long largeStoreQueries = countQueries(largeStore.getId(), 20);
+
+        assertEquals(smallStoreQueries, largeStoreQueries);
+        // 상품 1 + 상품 사진 1 + 가게 정보(카테고리/배달비) 1 + 가게 사진 1 + 공지 사진 1
+        assertTrue(largeStoreQueries <= 5, "상품 목록 조회 쿼리 수: " + largeStoreQueries);
+    }
+
+    @Test
+    @DisplayName("상품 상세의 가게 정보는 추가 지연 로딩 없이 배달비, 가게 사진, 공지 사진, 카테고리를 모두 담는다")
+    void getProductById_ShouldIncludeStoreInfoWithoutLazyLoading() {
+        Seller store = createStore("detail@seller.com", "3333333333", 1);
+        Long productId = store.getProducts().get(0).getId();
+        entityManager.clear();
+        statistics.clear();
+
+        ProductDto product = productService.getProductById(productId);
+        long queries = statistics.getPrepareStatementCount();
+
+        SellerInformationDto storeInfo = product.getSeller();
+        assertEquals(sellerCategory.getId(), storeInfo.getCategoryId());
+        assertEquals(2, storeInfo.getDeliveryFeeDtos().size());
+        assertEquals(List.of("store.png"), storeInfo.getSellerPhotoUrls().stream().map(SellerPhotoDto::getPhotoUrl).toList());
+        assertEquals(List.of("notice.png"), storeInfo.getNotificationPhotos().stream().map(SellerPhotoDto::getPhotoUrl).toList());
+        assertEquals(statistics.getPrepareStatementCount(), queries, "DTO 조립 후 지연 로딩이 일어남");
+        assertTrue(queries <= 5, "상품 상세 조회 쿼리 수: " + queries);
+    }
+
+    private long countQueries(Long sellerId, int expectedSize) {
+        entityManager.clear();
+        statistics.clear();
+        List<ProductDto> products = productService.getProducts(sellerId);
+        assertEquals(expectedSize, products.size());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Seller createStore(String email, String businessNumber, int productCount) {
+        Seller seller = Seller.builder()
+                .businessNumber(businessNumber)
+                .email(email)
+                .password("Test123!@")
+                .storeName("목록테스트")
+                .phone("01012345678")
+                .address("대구광역시")
+                .operatingHours("09:00-21:00")
+                .deliveryAvailable('Y')
+                .rating(0F)
+                .pickupTime("30분")
+                .isOpen('1')
+                .status('1')
+                .sellerCategory(sellerCategory)
+                .build();
+        entityManager.persist(seller);
+        entityManager.persist(DeliveryFee.builder().ordersMoney(0).deliveryTip(3000).seller(seller).build());
+        entityManager.persist(DeliveryFee.builder().ordersMoney(20000).deliveryTip(0).seller(seller).build());
+        entityManager.persist(SellerPhoto.builder().photoUrl("store.png").seller(seller).build());
+        entityManager.persist(NotificationPhoto.builder().photoUrl("notice.png").seller(seller).build());
+
+        for (int i = 0; i < productCount; i++) {
+            Product product = Product.builder()
+                    .name("목록상품" + i)
+                    .originalPrice(1000 * (i + 1))
+                    .stockQuantity(10)
+                    .createdAt(LocalDateTime.now())
+                    .expiryDate(LocalDateTime.now().plusDays(5))
+                    .status('1')
+                    .maxDiscountRate(30)
+                    .minDiscountRate(10)
+                    .seller(seller)
+                    .productCategory(productCategory)
+                    .build();
+            entityManager.persist(product);
+            entityManager.persist(ProductPhoto.builder().photoUrl("product" + i + ".png").product(product).build());
+            seller.getProducts().add(product);
+        }
+        entityManager.flush();
+        return seller;
+    }
+}
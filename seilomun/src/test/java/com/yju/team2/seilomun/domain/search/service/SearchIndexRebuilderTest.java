@@ -0,0 +1,213 @@
+package com.yju.team2.seilomun.domain.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.ElasticsearchIndicesClient;
+import co.elastic.clients.elasticsearch.indices.GetIndexResponse;
+import co.elastic.clients.elasticsearch.indices.IndexState;
+import com.yju.team2.seilomun.domain.product.entity.ProductDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchIndexRebuilderTest {
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private ElasticsearchClient elasticsearchClient;
+
+    @Mock
+    private ElasticsearchIndicesClient indicesClient;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private IndexOperations documentOps;
+
+    @Mock
+    private IndexOperations newIndexOps;
+
+    @Mock
+    private IndexOperations aliasOps;
+
+    @Mock
+    private IndexOperations oldIndexOps;
+
+    private SearchIndexRebuilder searchIndexRebuilder;
+
+    @BeforeEach
+    void setUp() {
+        searchIndexRebuilder = new SearchIndexRebuilder(elasticsearchOperations, elasticsearchClient, redisTemplate);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenExistingIndices() throws Exception {
+        given(elasticsearchClient.indices()).willReturn(indicesClient);
+
+        // products_v1(롤백용), products_v2(현재 별칭 대상)가 있는 상태
+        GetIndexResponse indices = mock(GetIndexResponse.class);
+        Map<String, IndexState> states = new HashMap<>();
+        states.put("products_v1", mock(IndexState.class));
+        states.put("products_v2", mock(IndexState.class));
+        given(indices.result()).willReturn(states);
+        given(indicesClient.get(any(Function.class))).willReturn(indices);
+
+        given(elasticsearchOperations.indexOps(ProductDocument.class)).willReturn(documentOps);
+        given(documentOps.createSettings(ProductDocument.class)).willReturn(new Settings());
+        given(documentOps.createMapping(ProductDocument.class)).willReturn(Document.create());
+        given(elasticsearchOperations.indexOps(any(IndexCoordinates.class))).willAnswer(invocation ->
+                switch (invocation.<IndexCoordinates>getArgument(0).getIndexName()) {
+                    case "products_v3" -> newIndexOps;
+                    case "products" -> aliasOps;
+                    default -> oldIndexOps;
+                });
+    }
+
+    @Test
+    @DisplayName("청크를 끝까지 읽어 새 버전 인덱스에 bulk로 넣고 별칭을 교체한다")
+    void rebuild_ShouldStreamChunksAndSwapAlias() throws Exception {
+        givenExistingIndices();
+        given(aliasOps.getAliases("products")).willReturn(Map.of("products_v2", Set.of()));
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.members("search:index:changed:products_v3")).willReturn(Set.of());
+        AtomicInteger loads = new AtomicInteger();
+
+        int indexed = searchIndexRebuilder.rebuild("products", ProductDocument.class, lastId -> {
+            loads.incrementAndGet();
+            if (lastId >= 30) {
+                return new SearchIndexRebuilder.Chunk<>(List.of(), lastId);
+            }
+            List<ProductDocument> documents = new ArrayList<>();
+            for (long id = lastId + 1; id <= lastId + 10; id++) {
+                documents.add(ProductDocument.builder().id(String.valueOf(id)).build());
+            }
+            return new SearchIndexRebuilder.Chunk<>(documents, lastId + 10);
+        }, ids -> Map.of());
+
+        assertEquals(30, indexed);
+        assertEquals(4, loads.get());
+        verify(newIndexOps).create(any(Settings.class), any(Document.class));
+        verify(elasticsearchOperations, times(3)).save(anyList(),
+                argThat((IndexCoordinates index) -> "products_v3".equals(index.getIndexName())));
+        verify(newIndexOps).refresh();
+
+        ArgumentCaptor<AliasActions> actions = ArgumentCaptor.forClass(AliasActions.class);
+        verify(aliasOps).alias(actions.capture());
+        assertEquals(2, actions.getValue().getActions().size());
+
+        // 직전 버전(v2)은 롤백용으로 남기고 그 이전(v1)만 삭제
+        verify(oldIndexOps, times(1)).delete();
+        verify(newIndexOps, never()).delete();
+        verify(valueOperations).set(eq("search:index:building:products"), eq("products_v3"), any());
+        verify(redisTemplate).delete("search:index:building:products");
+        verify(redisTemplate).delete("search:index:changed:products_v3");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("적재 중에 바뀐 문서는 교체 전에 DB 값으로 다시 쓰고, 그 사이 삭제된 문서는 새 인덱스에서 지운다")
+    void rebuild_WithChangesDuringLoad_ShouldReplayBeforeSwap() throws Exception {
+        givenExistingIndices();
+        given(aliasOps.getAliases("products")).willReturn(Map.of("products_v2", Set.of()));
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        // 적재 중에 1번은 수정, 2번은 삭제됨 (청크에는 둘 다 변경 전 값으로 들어 있음)
+        given(setOperations.members("search:index:changed:products_v3")).willReturn(Set.of("1", "2"));
+        ProductDocument updated = ProductDocument.builder().id("1").name("수정됨").build();
+        // 청크는 List, 다시 쓰는 문서는 Map의 값으로 넘어감
+        List<String> events = new ArrayList<>();
+        given(elasticsearchOperations.save(any(Iterable.class), any(IndexCoordinates.class))).willAnswer(invocation -> {
+            events.add(invocation.getArgument(0) instanceof List ? "bulk" : "replay");
+            return invocation.getArgument(0);
+        });
+        willAnswer(invocation -> events.add("swap")).given(aliasOps).alias(any());
+
+        searchIndexRebuilder.rebuild("products", ProductDocument.class, lastId -> lastId == 0
+                        ? new SearchIndexRebuilder.Chunk<>(List.of(
+                                ProductDocument.builder().id("1").name("수정 전").build(),
+                                ProductDocument.builder().id("2").build()), 2L)
+                        : new SearchIndexRebuilder.Chunk<>(List.of(), lastId),
+                ids -> {
+                    assertEquals(List.of(1L, 2L), ids);
+                    return Map.of(1L, updated);
+                });
+
+        // 청크를 다 쓴 뒤 수정된 문서를 다시 쓰고, 삭제된 문서를 지운 다음 별칭 교체
+        assertEquals(List.of("bulk", "replay", "swap"), events);
+        ArgumentCaptor<Iterable<ProductDocument>> saved = ArgumentCaptor.forClass(Iterable.class);
+        verify(elasticsearchOperations, times(2)).save(saved.capture(),
+                argThat((IndexCoordinates index) -> "products_v3".equals(index.getIndexName())));
+        assertSame(updated, saved.getAllValues().get(1).iterator().next());
+        verify(elasticsearchOperations).delete(eq("2"), argThat((IndexCoordinates index) -> "products_v3".equals(index.getIndexName())));
+    }
+
+    @Test
+    @DisplayName("bulk 요청이 실패하면 새 인덱스를 지우고 별칭은 그대로 둔다")
+    void rebuild_BulkFailure_ShouldKeepAlias() throws Exception {
+        givenExistingIndices();
+        given(elasticsearchOperations.save(anyList(), any(IndexCoordinates.class)))
+                .willThrow(new IllegalStateException("bulk 실패"));
+
+        assertThrows(IllegalStateException.class, () ->
+                searchIndexRebuilder.rebuild("products", ProductDocument.class, lastId -> lastId == 0
+                        ? new SearchIndexRebuilder.Chunk<>(List.of(ProductDocument.builder().id("1").build()), 1L)
+                        : new SearchIndexRebuilder.Chunk<>(List.of(), lastId), ids -> Map.of()));
+
+        verify(newIndexOps).delete();
+        verify(aliasOps, never()).alias(any());
+        verify(redisTemplate).delete("search:index:building:products");
+    }
+
+    @Test
+    @DisplayName("재생성 중에는 개별 변경을 별칭과 새 인덱스 양쪽에 쓰고 변경한 문서 ID를 기록한다")
+    void writeTargets_WhileBuilding_ShouldIncludeNewIndex() {
+        given(valueOperations.get("search:index:building:products")).willReturn("products_v3");
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+
+        List<IndexCoordinates> targets = searchIndexRebuilder.writeTargets("products", List.of("7", "8"));
+
+        assertEquals(List.of("products", "products_v3"), targets.stream().map(IndexCoordinates::getIndexName).toList());
+        verify(setOperations).add("search:index:changed:products_v3", "7", "8");
+    }
+
+    @Test
+    @DisplayName("재생성 중이 아니면 별칭에만 쓰고 아무것도 기록하지 않는다")
+    void writeTargets_NotBuilding_ShouldUseAliasOnly() {
+        List<IndexCoordinates> targets = searchIndexRebuilder.writeTargets("products", List.of("7"));
+
+        assertEquals(List.of("products"), targets.stream().map(IndexCoordinates::getIndexName).toList());
+        verify(redisTemplate, never()).opsForSet();
+    }
+}